@@ -7,6 +7,8 @@
 package com.MAVLink;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import com.MAVLink.Messages.MAVLinkPayload;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.standard.CRC;
@@ -31,16 +33,65 @@ import com.MAVLink.common.*;
 * The minimum packet length is 8 bytes for acknowledgement packets without payload
 * The maximum packet length is 263 bytes for full payload
 *
+* MAVLink 2 packets start with 0xFD and have 10 bytes header: STX, LENGTH,
+* INCOMPAT_FLAGS, COMPAT_FLAGS, SEQ, SYSID, COMPID and 3 bytes of MSGID (low
+* byte first). Trailing zero bytes of the payload are not transmitted, so
+* LENGTH is the length of the truncated payload. Signed packets have 13 bytes
+* signature after the checksum.
+*
 */
 public class MAVLinkPacket implements Serializable {
     private static final long serialVersionUID = 2095947771227815314L;
 
     public static final int MAVLINK_STX = 254;
 
+    public static final int MAVLINK_STX_MAVLINK2 = 253;
+
+    /**
+    * Number of bytes preceding the payload: STX, LENGTH, SEQ, SYSID, COMPID, MSGID
+    */
+    public static final int HEADER_LENGTH = 6;
+
+    /**
+    * Number of checksum bytes following the payload
+    */
+    public static final int CHECKSUM_LENGTH = 2;
+
+    /**
+    * Maximum length of encoded packet
+    */
+    public static final int MAX_PACKET_LENGTH = HEADER_LENGTH + MAVLinkPayload.MAX_PAYLOAD_SIZE + CHECKSUM_LENGTH;
+
+    /**
+    * Number of bytes preceding the payload in MAVLink 2 packet: STX, LENGTH,
+    * INCOMPAT_FLAGS, COMPAT_FLAGS, SEQ, SYSID, COMPID, MSGID (3 bytes)
+    */
+    public static final int HEADER_LENGTH_MAVLINK2 = 10;
+
+    /**
+    * Length of MAVLink 2 packet signature
+    */
+    public static final int SIGNATURE_LENGTH = 13;
+
+    /**
+    * Incompatibility flag set for signed MAVLink 2 packets
+    */
+    public static final int MAVLINK_IFLAG_SIGNED = 0x01;
+
+    /**
+    * Maximum length of MAVLink 2 packet including signature
+    */
+    public static final int MAX_PACKET_LENGTH_MAVLINK2 = HEADER_LENGTH_MAVLINK2 + MAVLinkPayload.MAX_PAYLOAD_SIZE + CHECKSUM_LENGTH + SIGNATURE_LENGTH;
+
+    /**
+    * Payload lengths of the known messages indexed by message id, -1 for unknown messages
+    */
+    private static final int[] MAVLINK_MESSAGE_LENGTHS = {9, 31, 12, -1, 14, 28, 3, 32, -1, -1, -1, 6, -1, -1, -1, -1, -1, -1, -1, -1, 20, 2, 25, 23, 30, 101, 22, 26, 16, 14, 28, 32, 28, 28, 22, 22, 21, 6, 6, 37, 4, 4, 2, 2, 4, 2, 2, 3, 13, 12, 37, 4, -1, -1, 27, 25, -1, -1, -1, -1, -1, 72, 26, 181, 225, 42, 6, 4, -1, 11, 18, -1, -1, 37, 20, 35, 33, 3, -1, -1, -1, 22, 39, 37, 53, 51, 53, 51, -1, 28, 56, 42, 33, 81, -1, -1, -1, -1, -1, -1, 26, 32, 32, 20, 32, 62, 44, 64, 84, 9, 254, 16, 12, 36, 44, 64, 22, 6, 14, 12, 97, 2, 2, 113, 35, 6, 79, 35, 35, 22, 13, 255, 14, 18, 43, 8, 22, 14, 36, 43, 41, 32, 243, 14, 93, -1, 100, 36, 60, 30, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 42, 40, 63, 182, 40, -1, -1, -1, -1, -1, -1, 32, 52, 53, 6, 2, 38, 19, 254, 36, 30, 18, 18, 51, 9, -1};
+
     /**
     * Message length. NOT counting STX, LENGTH, SEQ, SYSID, COMPID, MSGID, CRC1 and CRC2
     */
-    public final int len;
+    public int len;
 
     /**
     * Message sequence
@@ -65,6 +116,21 @@ public class MAVLinkPacket implements Serializable {
     */
     public int msgid;
 
+    /**
+    * True for MAVLink 2 packets.
+    */
+    public boolean isMavlink2;
+
+    /**
+    * MAVLink 2 flags that must be understood for the packet to be processed.
+    */
+    public int incompatFlags;
+
+    /**
+    * MAVLink 2 flags that can be ignored if not understood.
+    */
+    public int compatFlags;
+
     /**
     * Data of the message, depends on the message id.
     */
@@ -78,11 +144,76 @@ public class MAVLinkPacket implements Serializable {
     */
     public CRC crc;
 
+    /**
+    * Pool the packet was acquired from, null for not pooled packets.
+    */
+    transient MAVLinkPacketPool pool;
+
+    /**
+    * Set while the packet is idle in the pool.
+    */
+    transient boolean pooled;
+
+    /**
+    * Message decoded by unpack() and the payload modification count it was decoded from.
+    */
+    private transient volatile MAVLinkMessage unpacked;
+    private transient int unpackedModCount;
+
     public MAVLinkPacket(int payloadLength){
         len = payloadLength;
         payload = new MAVLinkPayload(payloadLength);
     }
 
+    /**
+    * Creates packet with the specified payload.
+    *
+    * @param payloadLength Message length
+    * @param payload Payload of the message
+    */
+    public MAVLinkPacket(int payloadLength, MAVLinkPayload payload){
+        len = payloadLength;
+        this.payload = payload;
+    }
+
+    /**
+    * Returns a pooled packet to its pool. Does nothing for packets that were
+    * not acquired from a pool. The packet must not be used after it is released.
+    */
+    public void release() {
+        if (pool != null) {
+            pool.release(this);
+        }
+    }
+
+    /**
+    * Creates a not pooled copy of this packet that owns its payload data.
+    *
+    * @return Copy of this packet
+    */
+    public MAVLinkPacket copy() {
+        MAVLinkPacket packet = new MAVLinkPacket(len);
+        packet.seq = seq;
+        packet.sysid = sysid;
+        packet.compid = compid;
+        packet.msgid = msgid;
+        packet.isMavlink2 = isMavlink2;
+        packet.incompatFlags = incompatFlags;
+        packet.compatFlags = compatFlags;
+
+        final ByteBuffer data = payload.getData();
+        final int payloadSize = payload.size();
+        if (data.hasArray()) {
+            packet.payload.getData().put(data.array(), data.arrayOffset(), payloadSize);
+        } else {
+            for (int j = 0; j < payloadSize; j++) {
+                packet.payload.add(data.get(j));
+            }
+        }
+
+        return packet;
+    }
+
     /**
     * Check if the size of the Payload is equal to the "len" byte
     */
@@ -94,6 +225,10 @@ public class MAVLinkPacket implements Serializable {
     * Update CRC for this packet.
     */
     public void generateCRC(){
+        generateCRC(isMavlink2 ? payload.size() : len);
+    }
+
+    private void generateCRC(int length) {
         if(crc == null){
             crc = new CRC();
         }
@@ -101,18 +236,30 @@ public class MAVLinkPacket implements Serializable {
             crc.start_checksum();
         }
         
-        crc.update_checksum(len);
+        crc.update_checksum(length);
+        if (isMavlink2) {
+            crc.update_checksum(incompatFlags);
+            crc.update_checksum(compatFlags);
+        }
         crc.update_checksum(seq);
         crc.update_checksum(sysid);
         crc.update_checksum(compid);
         crc.update_checksum(msgid);
+        if (isMavlink2) {
+            crc.update_checksum(msgid >>> 8);
+            crc.update_checksum(msgid >>> 16);
+        }
 
-        payload.resetIndex();
-
-        final int payloadSize = payload.size();
-        for (int i = 0; i < payloadSize; i++) {
-            crc.update_checksum(payload.getByte());
+        ByteBuffer data = payload.getData();
+        if (data.hasArray()) {
+            crc.update(data.array(), data.arrayOffset(), Math.min(length, payload.size()));
+        } else {
+            ByteBuffer slice = data.duplicate();
+            slice.flip();
+            slice.limit(Math.min(length, payload.size()));
+            crc.update(slice);
         }
+
         crc.finish_checksum(msgid);
     }
 
@@ -122,448 +269,873 @@ public class MAVLinkPacket implements Serializable {
     * @return Array with bytes to be transmitted
     */
     public byte[] encodePacket() {
-        byte[] buffer = new byte[6 + len + 2];
-        
-        int i = 0;
-        buffer[i++] = (byte) MAVLINK_STX;
-        buffer[i++] = (byte) len;
-        buffer[i++] = (byte) seq;
-        buffer[i++] = (byte) sysid;
-        buffer[i++] = (byte) compid;
-        buffer[i++] = (byte) msgid;
+        byte[] buffer = new byte[getEncodedLength()];
+        encodeTo(ByteBuffer.wrap(buffer));
+        return buffer;
+    }
 
-        final int payloadSize = payload.size();
-        for (int j = 0; j < payloadSize; j++) {
-            buffer[i++] = payload.payload.get(j);
+    /**
+    * Encode this packet for transmission into the specified buffer. The packet
+    * is written at the current buffer position and the position is advanced
+    * by the encoded length.
+    *
+    * @param dst Buffer to write the packet to
+    * @return Number of bytes written
+    * @throws BufferOverflowException if the buffer does not have enough space remaining
+    */
+    public int encodeTo(ByteBuffer dst) {
+        final int length = getEncodedLength();
+        if (dst.remaining() < length) {
+            throw new BufferOverflowException();
         }
 
-        generateCRC();
-        buffer[i++] = (byte) (crc.getLSB());
-        buffer[i++] = (byte) (crc.getMSB());
-        return buffer;
+        final int payloadSize;
+        if (isMavlink2) {
+            payloadSize = getTruncatedLength();
+            dst.put((byte) MAVLINK_STX_MAVLINK2);
+            dst.put((byte) payloadSize);
+            dst.put((byte) incompatFlags);
+            dst.put((byte) compatFlags);
+            dst.put((byte) seq);
+            dst.put((byte) sysid);
+            dst.put((byte) compid);
+            dst.put((byte) msgid);
+            dst.put((byte) (msgid >>> 8));
+            dst.put((byte) (msgid >>> 16));
+            generateCRC(payloadSize);
+        } else {
+            payloadSize = payload.size();
+            dst.put((byte) MAVLINK_STX);
+            dst.put((byte) len);
+            dst.put((byte) seq);
+            dst.put((byte) sysid);
+            dst.put((byte) compid);
+            dst.put((byte) msgid);
+            generateCRC(len);
+        }
+
+        final ByteBuffer data = payload.getData();
+        if (data.hasArray()) {
+            dst.put(data.array(), data.arrayOffset(), payloadSize);
+        } else {
+            for (int j = 0; j < payloadSize; j++) {
+                dst.put(data.get(j));
+            }
+        }
+
+        dst.put((byte) (crc.getLSB()));
+        dst.put((byte) (crc.getMSB()));
+        return length;
+    }
+
+    /**
+    * Returns length of this packet encoded for transmission.
+    */
+    public int getEncodedLength() {
+        if (isMavlink2) {
+            return HEADER_LENGTH_MAVLINK2 + getTruncatedLength() + CHECKSUM_LENGTH;
+        }
+
+        return HEADER_LENGTH + payload.size() + CHECKSUM_LENGTH;
+    }
+
+    /**
+    * Returns length of the payload without trailing zero bytes. The first
+    * byte of the payload is never truncated.
+    */
+    private int getTruncatedLength() {
+        final ByteBuffer data = payload.getData();
+        int length = payload.size();
+        while (length > 1 && data.get(length - 1) == 0) {
+            length--;
+        }
+        return length;
+    }
+
+    /**
+    * Returns payload length of the specified message.
+    *
+    * @param msgid Message id
+    * @return Payload length or -1 if the message is not known
+    */
+    public static int getMessageLength(int msgid) {
+        if (msgid < 0 || msgid >= MAVLINK_MESSAGE_LENGTHS.length) {
+            return -1;
+        }
+
+        return MAVLINK_MESSAGE_LENGTHS[msgid];
     }
 
     /**
-    * Unpack the data in this packet and return a MAVLink message
+    * Returns MAVLink 1 version of this packet. The payload truncated by
+    * MAVLink 2 is padded with zeros to the full message length.
+    *
+    * @return This packet if it is MAVLink 1 packet, or the converted copy
+    * @throws IllegalStateException if the message cannot be sent by MAVLink 1
+    */
+    public MAVLinkPacket toMavlink1() {
+        if (!isMavlink2) {
+            return this;
+        }
+
+        if (msgid > 255 || incompatFlags != 0) {
+            throw new IllegalStateException("The packet cannot be converted to MAVLink 1.");
+        }
+
+        final int length = Math.max(getMessageLength(msgid), payload.size());
+
+        MAVLinkPacket packet = new MAVLinkPacket(length);
+        packet.seq = seq;
+        packet.sysid = sysid;
+        packet.compid = compid;
+        packet.msgid = msgid;
+        final ByteBuffer data = payload.getData();
+        for (int j = 0; j < length; j++) {
+            packet.payload.add(j < payload.size() ? data.get(j) : 0);
+        }
+
+        return packet;
+    }
+
+    /**
+    * Returns MAVLink 2 version of this packet. Trailing zero bytes of the
+    * payload are truncated when the packet is encoded.
+    *
+    * @return This packet if it is MAVLink 2 packet, or the converted copy
+    */
+    public MAVLinkPacket toMavlink2() {
+        if (isMavlink2) {
+            return this;
+        }
+
+        MAVLinkPacket packet = copy();
+        packet.isMavlink2 = true;
+        return packet;
+    }
+
+    /**
+    * Unpack the data in this packet and return a MAVLink message.
+    *
+    * The decoded message is cached in the packet, so repeated calls return
+    * the same instance until the header fields or the payload are modified
+    * by the payload methods. The returned message is shared by all the callers
+    * and must not be modified.
     *
     * @return MAVLink message decoded from this packet
     */
     public MAVLinkMessage unpack() {
-        switch (msgid) {
-                    
-                             
-            case msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT:
-                return  new msg_heartbeat(this);
-                 
-            case msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS:
-                return  new msg_sys_status(this);
-                 
-            case msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME:
-                return  new msg_system_time(this);
-                 
-            case msg_ping.MAVLINK_MSG_ID_PING:
-                return  new msg_ping(this);
-                 
-            case msg_change_operator_control.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL:
-                return  new msg_change_operator_control(this);
-                 
-            case msg_change_operator_control_ack.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK:
-                return  new msg_change_operator_control_ack(this);
-                 
-            case msg_auth_key.MAVLINK_MSG_ID_AUTH_KEY:
-                return  new msg_auth_key(this);
-                 
-            case msg_set_mode.MAVLINK_MSG_ID_SET_MODE:
-                return  new msg_set_mode(this);
-                 
-            case msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ:
-                return  new msg_param_request_read(this);
-                 
-            case msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST:
-                return  new msg_param_request_list(this);
-                 
-            case msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE:
-                return  new msg_param_value(this);
-                 
-            case msg_param_set.MAVLINK_MSG_ID_PARAM_SET:
-                return  new msg_param_set(this);
-                 
-            case msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT:
-                return  new msg_gps_raw_int(this);
-                 
-            case msg_gps_status.MAVLINK_MSG_ID_GPS_STATUS:
-                return  new msg_gps_status(this);
-                 
-            case msg_scaled_imu.MAVLINK_MSG_ID_SCALED_IMU:
-                return  new msg_scaled_imu(this);
-                 
-            case msg_raw_imu.MAVLINK_MSG_ID_RAW_IMU:
-                return  new msg_raw_imu(this);
-                 
-            case msg_raw_pressure.MAVLINK_MSG_ID_RAW_PRESSURE:
-                return  new msg_raw_pressure(this);
-                 
-            case msg_scaled_pressure.MAVLINK_MSG_ID_SCALED_PRESSURE:
-                return  new msg_scaled_pressure(this);
-                 
-            case msg_attitude.MAVLINK_MSG_ID_ATTITUDE:
-                return  new msg_attitude(this);
-                 
-            case msg_attitude_quaternion.MAVLINK_MSG_ID_ATTITUDE_QUATERNION:
-                return  new msg_attitude_quaternion(this);
-                 
-            case msg_local_position_ned.MAVLINK_MSG_ID_LOCAL_POSITION_NED:
-                return  new msg_local_position_ned(this);
-                 
-            case msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT:
-                return  new msg_global_position_int(this);
-                 
-            case msg_rc_channels_scaled.MAVLINK_MSG_ID_RC_CHANNELS_SCALED:
-                return  new msg_rc_channels_scaled(this);
-                 
-            case msg_rc_channels_raw.MAVLINK_MSG_ID_RC_CHANNELS_RAW:
-                return  new msg_rc_channels_raw(this);
-                 
-            case msg_servo_output_raw.MAVLINK_MSG_ID_SERVO_OUTPUT_RAW:
-                return  new msg_servo_output_raw(this);
-                 
-            case msg_mission_request_partial_list.MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST:
-                return  new msg_mission_request_partial_list(this);
-                 
-            case msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST:
-                return  new msg_mission_write_partial_list(this);
-                 
-            case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM:
-                return  new msg_mission_item(this);
-                 
-            case msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST:
-                return  new msg_mission_request(this);
-                 
-            case msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT:
-                return  new msg_mission_set_current(this);
-                 
-            case msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT:
-                return  new msg_mission_current(this);
-                 
-            case msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST:
-                return  new msg_mission_request_list(this);
-                 
-            case msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT:
-                return  new msg_mission_count(this);
-                 
-            case msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL:
-                return  new msg_mission_clear_all(this);
-                 
-            case msg_mission_item_reached.MAVLINK_MSG_ID_MISSION_ITEM_REACHED:
-                return  new msg_mission_item_reached(this);
-                 
-            case msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK:
-                return  new msg_mission_ack(this);
-                 
-            case msg_set_gps_global_origin.MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN:
-                return  new msg_set_gps_global_origin(this);
-                 
-            case msg_gps_global_origin.MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN:
-                return  new msg_gps_global_origin(this);
-                 
-            case msg_param_map_rc.MAVLINK_MSG_ID_PARAM_MAP_RC:
-                return  new msg_param_map_rc(this);
-                 
-            case msg_mission_request_int.MAVLINK_MSG_ID_MISSION_REQUEST_INT:
-                return  new msg_mission_request_int(this);
-                 
-            case msg_safety_set_allowed_area.MAVLINK_MSG_ID_SAFETY_SET_ALLOWED_AREA:
-                return  new msg_safety_set_allowed_area(this);
-                 
-            case msg_safety_allowed_area.MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA:
-                return  new msg_safety_allowed_area(this);
-                 
-            case msg_attitude_quaternion_cov.MAVLINK_MSG_ID_ATTITUDE_QUATERNION_COV:
-                return  new msg_attitude_quaternion_cov(this);
-                 
-            case msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT:
-                return  new msg_nav_controller_output(this);
-                 
-            case msg_global_position_int_cov.MAVLINK_MSG_ID_GLOBAL_POSITION_INT_COV:
-                return  new msg_global_position_int_cov(this);
-                 
-            case msg_local_position_ned_cov.MAVLINK_MSG_ID_LOCAL_POSITION_NED_COV:
-                return  new msg_local_position_ned_cov(this);
-                 
-            case msg_rc_channels.MAVLINK_MSG_ID_RC_CHANNELS:
-                return  new msg_rc_channels(this);
-                 
-            case msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM:
-                return  new msg_request_data_stream(this);
-                 
-            case msg_data_stream.MAVLINK_MSG_ID_DATA_STREAM:
-                return  new msg_data_stream(this);
-                 
-            case msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL:
-                return  new msg_manual_control(this);
-                 
-            case msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE:
-                return  new msg_rc_channels_override(this);
-                 
-            case msg_mission_item_int.MAVLINK_MSG_ID_MISSION_ITEM_INT:
-                return  new msg_mission_item_int(this);
-                 
-            case msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD:
-                return  new msg_vfr_hud(this);
-                 
-            case msg_command_int.MAVLINK_MSG_ID_COMMAND_INT:
-                return  new msg_command_int(this);
-                 
-            case msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG:
-                return  new msg_command_long(this);
-                 
-            case msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK:
-                return  new msg_command_ack(this);
-                 
-            case msg_manual_setpoint.MAVLINK_MSG_ID_MANUAL_SETPOINT:
-                return  new msg_manual_setpoint(this);
-                 
-            case msg_set_attitude_target.MAVLINK_MSG_ID_SET_ATTITUDE_TARGET:
-                return  new msg_set_attitude_target(this);
-                 
-            case msg_attitude_target.MAVLINK_MSG_ID_ATTITUDE_TARGET:
-                return  new msg_attitude_target(this);
-                 
-            case msg_set_position_target_local_ned.MAVLINK_MSG_ID_SET_POSITION_TARGET_LOCAL_NED:
-                return  new msg_set_position_target_local_ned(this);
-                 
-            case msg_position_target_local_ned.MAVLINK_MSG_ID_POSITION_TARGET_LOCAL_NED:
-                return  new msg_position_target_local_ned(this);
-                 
-            case msg_set_position_target_global_int.MAVLINK_MSG_ID_SET_POSITION_TARGET_GLOBAL_INT:
-                return  new msg_set_position_target_global_int(this);
-                 
-            case msg_position_target_global_int.MAVLINK_MSG_ID_POSITION_TARGET_GLOBAL_INT:
-                return  new msg_position_target_global_int(this);
-                 
-            case msg_local_position_ned_system_global_offset.MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET:
-                return  new msg_local_position_ned_system_global_offset(this);
-                 
-            case msg_hil_state.MAVLINK_MSG_ID_HIL_STATE:
-                return  new msg_hil_state(this);
-                 
-            case msg_hil_controls.MAVLINK_MSG_ID_HIL_CONTROLS:
-                return  new msg_hil_controls(this);
-                 
-            case msg_hil_rc_inputs_raw.MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW:
-                return  new msg_hil_rc_inputs_raw(this);
-                 
-            case msg_hil_actuator_controls.MAVLINK_MSG_ID_HIL_ACTUATOR_CONTROLS:
-                return  new msg_hil_actuator_controls(this);
-                 
-            case msg_optical_flow.MAVLINK_MSG_ID_OPTICAL_FLOW:
-                return  new msg_optical_flow(this);
-                 
-            case msg_global_vision_position_estimate.MAVLINK_MSG_ID_GLOBAL_VISION_POSITION_ESTIMATE:
-                return  new msg_global_vision_position_estimate(this);
-                 
-            case msg_vision_position_estimate.MAVLINK_MSG_ID_VISION_POSITION_ESTIMATE:
-                return  new msg_vision_position_estimate(this);
-                 
-            case msg_vision_speed_estimate.MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE:
-                return  new msg_vision_speed_estimate(this);
-                 
-            case msg_vicon_position_estimate.MAVLINK_MSG_ID_VICON_POSITION_ESTIMATE:
-                return  new msg_vicon_position_estimate(this);
-                 
-            case msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU:
-                return  new msg_highres_imu(this);
-                 
-            case msg_optical_flow_rad.MAVLINK_MSG_ID_OPTICAL_FLOW_RAD:
-                return  new msg_optical_flow_rad(this);
-                 
-            case msg_hil_sensor.MAVLINK_MSG_ID_HIL_SENSOR:
-                return  new msg_hil_sensor(this);
-                 
-            case msg_sim_state.MAVLINK_MSG_ID_SIM_STATE:
-                return  new msg_sim_state(this);
-                 
-            case msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS:
-                return  new msg_radio_status(this);
-                 
-            case msg_file_transfer_protocol.MAVLINK_MSG_ID_FILE_TRANSFER_PROTOCOL:
-                return  new msg_file_transfer_protocol(this);
-                 
-            case msg_timesync.MAVLINK_MSG_ID_TIMESYNC:
-                return  new msg_timesync(this);
-                 
-            case msg_camera_trigger.MAVLINK_MSG_ID_CAMERA_TRIGGER:
-                return  new msg_camera_trigger(this);
-                 
-            case msg_hil_gps.MAVLINK_MSG_ID_HIL_GPS:
-                return  new msg_hil_gps(this);
-                 
-            case msg_hil_optical_flow.MAVLINK_MSG_ID_HIL_OPTICAL_FLOW:
-                return  new msg_hil_optical_flow(this);
-                 
-            case msg_hil_state_quaternion.MAVLINK_MSG_ID_HIL_STATE_QUATERNION:
-                return  new msg_hil_state_quaternion(this);
-                 
-            case msg_scaled_imu2.MAVLINK_MSG_ID_SCALED_IMU2:
-                return  new msg_scaled_imu2(this);
-                 
-            case msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST:
-                return  new msg_log_request_list(this);
-                 
-            case msg_log_entry.MAVLINK_MSG_ID_LOG_ENTRY:
-                return  new msg_log_entry(this);
-                 
-            case msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA:
-                return  new msg_log_request_data(this);
-                 
-            case msg_log_data.MAVLINK_MSG_ID_LOG_DATA:
-                return  new msg_log_data(this);
-                 
-            case msg_log_erase.MAVLINK_MSG_ID_LOG_ERASE:
-                return  new msg_log_erase(this);
-                 
-            case msg_log_request_end.MAVLINK_MSG_ID_LOG_REQUEST_END:
-                return  new msg_log_request_end(this);
-                 
-            case msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA:
-                return  new msg_gps_inject_data(this);
-                 
-            case msg_gps2_raw.MAVLINK_MSG_ID_GPS2_RAW:
-                return  new msg_gps2_raw(this);
-                 
-            case msg_power_status.MAVLINK_MSG_ID_POWER_STATUS:
-                return  new msg_power_status(this);
-                 
-            case msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL:
-                return  new msg_serial_control(this);
-                 
-            case msg_gps_rtk.MAVLINK_MSG_ID_GPS_RTK:
-                return  new msg_gps_rtk(this);
-                 
-            case msg_gps2_rtk.MAVLINK_MSG_ID_GPS2_RTK:
-                return  new msg_gps2_rtk(this);
-                 
-            case msg_scaled_imu3.MAVLINK_MSG_ID_SCALED_IMU3:
-                return  new msg_scaled_imu3(this);
-                 
-            case msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE:
-                return  new msg_data_transmission_handshake(this);
-                 
-            case msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA:
-                return  new msg_encapsulated_data(this);
-                 
-            case msg_distance_sensor.MAVLINK_MSG_ID_DISTANCE_SENSOR:
-                return  new msg_distance_sensor(this);
-                 
-            case msg_terrain_request.MAVLINK_MSG_ID_TERRAIN_REQUEST:
-                return  new msg_terrain_request(this);
-                 
-            case msg_terrain_data.MAVLINK_MSG_ID_TERRAIN_DATA:
-                return  new msg_terrain_data(this);
-                 
-            case msg_terrain_check.MAVLINK_MSG_ID_TERRAIN_CHECK:
-                return  new msg_terrain_check(this);
-                 
-            case msg_terrain_report.MAVLINK_MSG_ID_TERRAIN_REPORT:
-                return  new msg_terrain_report(this);
-                 
-            case msg_scaled_pressure2.MAVLINK_MSG_ID_SCALED_PRESSURE2:
-                return  new msg_scaled_pressure2(this);
-                 
-            case msg_att_pos_mocap.MAVLINK_MSG_ID_ATT_POS_MOCAP:
-                return  new msg_att_pos_mocap(this);
-                 
-            case msg_set_actuator_control_target.MAVLINK_MSG_ID_SET_ACTUATOR_CONTROL_TARGET:
-                return  new msg_set_actuator_control_target(this);
-                 
-            case msg_actuator_control_target.MAVLINK_MSG_ID_ACTUATOR_CONTROL_TARGET:
-                return  new msg_actuator_control_target(this);
-                 
-            case msg_altitude.MAVLINK_MSG_ID_ALTITUDE:
-                return  new msg_altitude(this);
-                 
-            case msg_resource_request.MAVLINK_MSG_ID_RESOURCE_REQUEST:
-                return  new msg_resource_request(this);
-                 
-            case msg_scaled_pressure3.MAVLINK_MSG_ID_SCALED_PRESSURE3:
-                return  new msg_scaled_pressure3(this);
-                 
-            case msg_follow_target.MAVLINK_MSG_ID_FOLLOW_TARGET:
-                return  new msg_follow_target(this);
-                 
-            case msg_control_system_state.MAVLINK_MSG_ID_CONTROL_SYSTEM_STATE:
-                return  new msg_control_system_state(this);
-                 
-            case msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS:
-                return  new msg_battery_status(this);
-                 
-            case msg_autopilot_version.MAVLINK_MSG_ID_AUTOPILOT_VERSION:
-                return  new msg_autopilot_version(this);
-                 
-            case msg_landing_target.MAVLINK_MSG_ID_LANDING_TARGET:
-                return  new msg_landing_target(this);
-                 
-            case msg_estimator_status.MAVLINK_MSG_ID_ESTIMATOR_STATUS:
-                return  new msg_estimator_status(this);
-                 
-            case msg_wind_cov.MAVLINK_MSG_ID_WIND_COV:
-                return  new msg_wind_cov(this);
-                 
-            case msg_gps_input.MAVLINK_MSG_ID_GPS_INPUT:
-                return  new msg_gps_input(this);
-                 
-            case msg_gps_rtcm_data.MAVLINK_MSG_ID_GPS_RTCM_DATA:
-                return  new msg_gps_rtcm_data(this);
-                 
-            case msg_high_latency.MAVLINK_MSG_ID_HIGH_LATENCY:
-                return  new msg_high_latency(this);
-                 
-            case msg_vibration.MAVLINK_MSG_ID_VIBRATION:
-                return  new msg_vibration(this);
-                 
-            case msg_home_position.MAVLINK_MSG_ID_HOME_POSITION:
-                return  new msg_home_position(this);
-                 
-            case msg_set_home_position.MAVLINK_MSG_ID_SET_HOME_POSITION:
-                return  new msg_set_home_position(this);
-                 
-            case msg_message_interval.MAVLINK_MSG_ID_MESSAGE_INTERVAL:
-                return  new msg_message_interval(this);
-                 
-            case msg_extended_sys_state.MAVLINK_MSG_ID_EXTENDED_SYS_STATE:
-                return  new msg_extended_sys_state(this);
-                 
-            case msg_adsb_vehicle.MAVLINK_MSG_ID_ADSB_VEHICLE:
-                return  new msg_adsb_vehicle(this);
-                 
-            case msg_collision.MAVLINK_MSG_ID_COLLISION:
-                return  new msg_collision(this);
-                 
-            case msg_v2_extension.MAVLINK_MSG_ID_V2_EXTENSION:
-                return  new msg_v2_extension(this);
-                 
-            case msg_memory_vect.MAVLINK_MSG_ID_MEMORY_VECT:
-                return  new msg_memory_vect(this);
-                 
-            case msg_debug_vect.MAVLINK_MSG_ID_DEBUG_VECT:
-                return  new msg_debug_vect(this);
-                 
-            case msg_named_value_float.MAVLINK_MSG_ID_NAMED_VALUE_FLOAT:
-                return  new msg_named_value_float(this);
-                 
-            case msg_named_value_int.MAVLINK_MSG_ID_NAMED_VALUE_INT:
-                return  new msg_named_value_int(this);
-                 
-            case msg_statustext.MAVLINK_MSG_ID_STATUSTEXT:
-                return  new msg_statustext(this);
-                 
-            case msg_debug.MAVLINK_MSG_ID_DEBUG:
-                return  new msg_debug(this);
-            
-            
-            default:
-                return null;
+        MAVLinkMessage msg = unpacked;
+        final int modCount = payload.getModCount();
+
+        if (msg != null && unpackedModCount == modCount &&
+            msg.msgid == msgid && msg.sysid == sysid && msg.compid == compid) {
+            return msg;
         }
+
+        MessageFactory factory = (msgid >= 0 && msgid < FACTORIES.length) ? FACTORIES[msgid] : null;
+        if (factory == null) {
+            return null;
+        }
+
+        msg = factory.create(this);
+        unpackedModCount = modCount;
+        unpacked = msg;
+        return msg;
+    }
+
+    /**
+    * Creates MAVLink message of a specific type from packet.
+    */
+    public interface MessageFactory {
+        MAVLinkMessage create(MAVLinkPacket packet);
+    }
+
+    /**
+    * Message factories indexed by message id
+    */
+    private static final MessageFactory[] FACTORIES = new MessageFactory[256];
+
+    static {
+        FACTORIES[msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_heartbeat(packet);
+            }
+        };
+        FACTORIES[msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_sys_status(packet);
+            }
+        };
+        FACTORIES[msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_system_time(packet);
+            }
+        };
+        FACTORIES[msg_ping.MAVLINK_MSG_ID_PING] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_ping(packet);
+            }
+        };
+        FACTORIES[msg_change_operator_control.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_change_operator_control(packet);
+            }
+        };
+        FACTORIES[msg_change_operator_control_ack.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_change_operator_control_ack(packet);
+            }
+        };
+        FACTORIES[msg_auth_key.MAVLINK_MSG_ID_AUTH_KEY] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_auth_key(packet);
+            }
+        };
+        FACTORIES[msg_set_mode.MAVLINK_MSG_ID_SET_MODE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_set_mode(packet);
+            }
+        };
+        FACTORIES[msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_param_request_read(packet);
+            }
+        };
+        FACTORIES[msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_param_request_list(packet);
+            }
+        };
+        FACTORIES[msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_param_value(packet);
+            }
+        };
+        FACTORIES[msg_param_set.MAVLINK_MSG_ID_PARAM_SET] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_param_set(packet);
+            }
+        };
+        FACTORIES[msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_gps_raw_int(packet);
+            }
+        };
+        FACTORIES[msg_gps_status.MAVLINK_MSG_ID_GPS_STATUS] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_gps_status(packet);
+            }
+        };
+        FACTORIES[msg_scaled_imu.MAVLINK_MSG_ID_SCALED_IMU] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_scaled_imu(packet);
+            }
+        };
+        FACTORIES[msg_raw_imu.MAVLINK_MSG_ID_RAW_IMU] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_raw_imu(packet);
+            }
+        };
+        FACTORIES[msg_raw_pressure.MAVLINK_MSG_ID_RAW_PRESSURE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_raw_pressure(packet);
+            }
+        };
+        FACTORIES[msg_scaled_pressure.MAVLINK_MSG_ID_SCALED_PRESSURE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_scaled_pressure(packet);
+            }
+        };
+        FACTORIES[msg_attitude.MAVLINK_MSG_ID_ATTITUDE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_attitude(packet);
+            }
+        };
+        FACTORIES[msg_attitude_quaternion.MAVLINK_MSG_ID_ATTITUDE_QUATERNION] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_attitude_quaternion(packet);
+            }
+        };
+        FACTORIES[msg_local_position_ned.MAVLINK_MSG_ID_LOCAL_POSITION_NED] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_local_position_ned(packet);
+            }
+        };
+        FACTORIES[msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_global_position_int(packet);
+            }
+        };
+        FACTORIES[msg_rc_channels_scaled.MAVLINK_MSG_ID_RC_CHANNELS_SCALED] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_rc_channels_scaled(packet);
+            }
+        };
+        FACTORIES[msg_rc_channels_raw.MAVLINK_MSG_ID_RC_CHANNELS_RAW] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_rc_channels_raw(packet);
+            }
+        };
+        FACTORIES[msg_servo_output_raw.MAVLINK_MSG_ID_SERVO_OUTPUT_RAW] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_servo_output_raw(packet);
+            }
+        };
+        FACTORIES[msg_mission_request_partial_list.MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_request_partial_list(packet);
+            }
+        };
+        FACTORIES[msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_write_partial_list(packet);
+            }
+        };
+        FACTORIES[msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_item(packet);
+            }
+        };
+        FACTORIES[msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_request(packet);
+            }
+        };
+        FACTORIES[msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_set_current(packet);
+            }
+        };
+        FACTORIES[msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_current(packet);
+            }
+        };
+        FACTORIES[msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_request_list(packet);
+            }
+        };
+        FACTORIES[msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_count(packet);
+            }
+        };
+        FACTORIES[msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_clear_all(packet);
+            }
+        };
+        FACTORIES[msg_mission_item_reached.MAVLINK_MSG_ID_MISSION_ITEM_REACHED] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_item_reached(packet);
+            }
+        };
+        FACTORIES[msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_ack(packet);
+            }
+        };
+        FACTORIES[msg_set_gps_global_origin.MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_set_gps_global_origin(packet);
+            }
+        };
+        FACTORIES[msg_gps_global_origin.MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_gps_global_origin(packet);
+            }
+        };
+        FACTORIES[msg_param_map_rc.MAVLINK_MSG_ID_PARAM_MAP_RC] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_param_map_rc(packet);
+            }
+        };
+        FACTORIES[msg_mission_request_int.MAVLINK_MSG_ID_MISSION_REQUEST_INT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_request_int(packet);
+            }
+        };
+        FACTORIES[msg_safety_set_allowed_area.MAVLINK_MSG_ID_SAFETY_SET_ALLOWED_AREA] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_safety_set_allowed_area(packet);
+            }
+        };
+        FACTORIES[msg_safety_allowed_area.MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_safety_allowed_area(packet);
+            }
+        };
+        FACTORIES[msg_attitude_quaternion_cov.MAVLINK_MSG_ID_ATTITUDE_QUATERNION_COV] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_attitude_quaternion_cov(packet);
+            }
+        };
+        FACTORIES[msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_nav_controller_output(packet);
+            }
+        };
+        FACTORIES[msg_global_position_int_cov.MAVLINK_MSG_ID_GLOBAL_POSITION_INT_COV] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_global_position_int_cov(packet);
+            }
+        };
+        FACTORIES[msg_local_position_ned_cov.MAVLINK_MSG_ID_LOCAL_POSITION_NED_COV] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_local_position_ned_cov(packet);
+            }
+        };
+        FACTORIES[msg_rc_channels.MAVLINK_MSG_ID_RC_CHANNELS] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_rc_channels(packet);
+            }
+        };
+        FACTORIES[msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_request_data_stream(packet);
+            }
+        };
+        FACTORIES[msg_data_stream.MAVLINK_MSG_ID_DATA_STREAM] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_data_stream(packet);
+            }
+        };
+        FACTORIES[msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_manual_control(packet);
+            }
+        };
+        FACTORIES[msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_rc_channels_override(packet);
+            }
+        };
+        FACTORIES[msg_mission_item_int.MAVLINK_MSG_ID_MISSION_ITEM_INT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_mission_item_int(packet);
+            }
+        };
+        FACTORIES[msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_vfr_hud(packet);
+            }
+        };
+        FACTORIES[msg_command_int.MAVLINK_MSG_ID_COMMAND_INT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_command_int(packet);
+            }
+        };
+        FACTORIES[msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_command_long(packet);
+            }
+        };
+        FACTORIES[msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_command_ack(packet);
+            }
+        };
+        FACTORIES[msg_manual_setpoint.MAVLINK_MSG_ID_MANUAL_SETPOINT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_manual_setpoint(packet);
+            }
+        };
+        FACTORIES[msg_set_attitude_target.MAVLINK_MSG_ID_SET_ATTITUDE_TARGET] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_set_attitude_target(packet);
+            }
+        };
+        FACTORIES[msg_attitude_target.MAVLINK_MSG_ID_ATTITUDE_TARGET] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_attitude_target(packet);
+            }
+        };
+        FACTORIES[msg_set_position_target_local_ned.MAVLINK_MSG_ID_SET_POSITION_TARGET_LOCAL_NED] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_set_position_target_local_ned(packet);
+            }
+        };
+        FACTORIES[msg_position_target_local_ned.MAVLINK_MSG_ID_POSITION_TARGET_LOCAL_NED] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_position_target_local_ned(packet);
+            }
+        };
+        FACTORIES[msg_set_position_target_global_int.MAVLINK_MSG_ID_SET_POSITION_TARGET_GLOBAL_INT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_set_position_target_global_int(packet);
+            }
+        };
+        FACTORIES[msg_position_target_global_int.MAVLINK_MSG_ID_POSITION_TARGET_GLOBAL_INT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_position_target_global_int(packet);
+            }
+        };
+        FACTORIES[msg_local_position_ned_system_global_offset.MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_local_position_ned_system_global_offset(packet);
+            }
+        };
+        FACTORIES[msg_hil_state.MAVLINK_MSG_ID_HIL_STATE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_hil_state(packet);
+            }
+        };
+        FACTORIES[msg_hil_controls.MAVLINK_MSG_ID_HIL_CONTROLS] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_hil_controls(packet);
+            }
+        };
+        FACTORIES[msg_hil_rc_inputs_raw.MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_hil_rc_inputs_raw(packet);
+            }
+        };
+        FACTORIES[msg_hil_actuator_controls.MAVLINK_MSG_ID_HIL_ACTUATOR_CONTROLS] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_hil_actuator_controls(packet);
+            }
+        };
+        FACTORIES[msg_optical_flow.MAVLINK_MSG_ID_OPTICAL_FLOW] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_optical_flow(packet);
+            }
+        };
+        FACTORIES[msg_global_vision_position_estimate.MAVLINK_MSG_ID_GLOBAL_VISION_POSITION_ESTIMATE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_global_vision_position_estimate(packet);
+            }
+        };
+        FACTORIES[msg_vision_position_estimate.MAVLINK_MSG_ID_VISION_POSITION_ESTIMATE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_vision_position_estimate(packet);
+            }
+        };
+        FACTORIES[msg_vision_speed_estimate.MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_vision_speed_estimate(packet);
+            }
+        };
+        FACTORIES[msg_vicon_position_estimate.MAVLINK_MSG_ID_VICON_POSITION_ESTIMATE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_vicon_position_estimate(packet);
+            }
+        };
+        FACTORIES[msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_highres_imu(packet);
+            }
+        };
+        FACTORIES[msg_optical_flow_rad.MAVLINK_MSG_ID_OPTICAL_FLOW_RAD] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_optical_flow_rad(packet);
+            }
+        };
+        FACTORIES[msg_hil_sensor.MAVLINK_MSG_ID_HIL_SENSOR] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_hil_sensor(packet);
+            }
+        };
+        FACTORIES[msg_sim_state.MAVLINK_MSG_ID_SIM_STATE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_sim_state(packet);
+            }
+        };
+        FACTORIES[msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_radio_status(packet);
+            }
+        };
+        FACTORIES[msg_file_transfer_protocol.MAVLINK_MSG_ID_FILE_TRANSFER_PROTOCOL] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_file_transfer_protocol(packet);
+            }
+        };
+        FACTORIES[msg_timesync.MAVLINK_MSG_ID_TIMESYNC] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_timesync(packet);
+            }
+        };
+        FACTORIES[msg_camera_trigger.MAVLINK_MSG_ID_CAMERA_TRIGGER] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_camera_trigger(packet);
+            }
+        };
+        FACTORIES[msg_hil_gps.MAVLINK_MSG_ID_HIL_GPS] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_hil_gps(packet);
+            }
+        };
+        FACTORIES[msg_hil_optical_flow.MAVLINK_MSG_ID_HIL_OPTICAL_FLOW] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_hil_optical_flow(packet);
+            }
+        };
+        FACTORIES[msg_hil_state_quaternion.MAVLINK_MSG_ID_HIL_STATE_QUATERNION] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_hil_state_quaternion(packet);
+            }
+        };
+        FACTORIES[msg_scaled_imu2.MAVLINK_MSG_ID_SCALED_IMU2] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_scaled_imu2(packet);
+            }
+        };
+        FACTORIES[msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_log_request_list(packet);
+            }
+        };
+        FACTORIES[msg_log_entry.MAVLINK_MSG_ID_LOG_ENTRY] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_log_entry(packet);
+            }
+        };
+        FACTORIES[msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_log_request_data(packet);
+            }
+        };
+        FACTORIES[msg_log_data.MAVLINK_MSG_ID_LOG_DATA] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_log_data(packet);
+            }
+        };
+        FACTORIES[msg_log_erase.MAVLINK_MSG_ID_LOG_ERASE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_log_erase(packet);
+            }
+        };
+        FACTORIES[msg_log_request_end.MAVLINK_MSG_ID_LOG_REQUEST_END] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_log_request_end(packet);
+            }
+        };
+        FACTORIES[msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_gps_inject_data(packet);
+            }
+        };
+        FACTORIES[msg_gps2_raw.MAVLINK_MSG_ID_GPS2_RAW] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_gps2_raw(packet);
+            }
+        };
+        FACTORIES[msg_power_status.MAVLINK_MSG_ID_POWER_STATUS] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_power_status(packet);
+            }
+        };
+        FACTORIES[msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_serial_control(packet);
+            }
+        };
+        FACTORIES[msg_gps_rtk.MAVLINK_MSG_ID_GPS_RTK] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_gps_rtk(packet);
+            }
+        };
+        FACTORIES[msg_gps2_rtk.MAVLINK_MSG_ID_GPS2_RTK] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_gps2_rtk(packet);
+            }
+        };
+        FACTORIES[msg_scaled_imu3.MAVLINK_MSG_ID_SCALED_IMU3] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_scaled_imu3(packet);
+            }
+        };
+        FACTORIES[msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_data_transmission_handshake(packet);
+            }
+        };
+        FACTORIES[msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_encapsulated_data(packet);
+            }
+        };
+        FACTORIES[msg_distance_sensor.MAVLINK_MSG_ID_DISTANCE_SENSOR] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_distance_sensor(packet);
+            }
+        };
+        FACTORIES[msg_terrain_request.MAVLINK_MSG_ID_TERRAIN_REQUEST] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_terrain_request(packet);
+            }
+        };
+        FACTORIES[msg_terrain_data.MAVLINK_MSG_ID_TERRAIN_DATA] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_terrain_data(packet);
+            }
+        };
+        FACTORIES[msg_terrain_check.MAVLINK_MSG_ID_TERRAIN_CHECK] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_terrain_check(packet);
+            }
+        };
+        FACTORIES[msg_terrain_report.MAVLINK_MSG_ID_TERRAIN_REPORT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_terrain_report(packet);
+            }
+        };
+        FACTORIES[msg_scaled_pressure2.MAVLINK_MSG_ID_SCALED_PRESSURE2] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_scaled_pressure2(packet);
+            }
+        };
+        FACTORIES[msg_att_pos_mocap.MAVLINK_MSG_ID_ATT_POS_MOCAP] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_att_pos_mocap(packet);
+            }
+        };
+        FACTORIES[msg_set_actuator_control_target.MAVLINK_MSG_ID_SET_ACTUATOR_CONTROL_TARGET] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_set_actuator_control_target(packet);
+            }
+        };
+        FACTORIES[msg_actuator_control_target.MAVLINK_MSG_ID_ACTUATOR_CONTROL_TARGET] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_actuator_control_target(packet);
+            }
+        };
+        FACTORIES[msg_altitude.MAVLINK_MSG_ID_ALTITUDE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_altitude(packet);
+            }
+        };
+        FACTORIES[msg_resource_request.MAVLINK_MSG_ID_RESOURCE_REQUEST] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_resource_request(packet);
+            }
+        };
+        FACTORIES[msg_scaled_pressure3.MAVLINK_MSG_ID_SCALED_PRESSURE3] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_scaled_pressure3(packet);
+            }
+        };
+        FACTORIES[msg_follow_target.MAVLINK_MSG_ID_FOLLOW_TARGET] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_follow_target(packet);
+            }
+        };
+        FACTORIES[msg_control_system_state.MAVLINK_MSG_ID_CONTROL_SYSTEM_STATE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_control_system_state(packet);
+            }
+        };
+        FACTORIES[msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_battery_status(packet);
+            }
+        };
+        FACTORIES[msg_autopilot_version.MAVLINK_MSG_ID_AUTOPILOT_VERSION] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_autopilot_version(packet);
+            }
+        };
+        FACTORIES[msg_landing_target.MAVLINK_MSG_ID_LANDING_TARGET] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_landing_target(packet);
+            }
+        };
+        FACTORIES[msg_estimator_status.MAVLINK_MSG_ID_ESTIMATOR_STATUS] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_estimator_status(packet);
+            }
+        };
+        FACTORIES[msg_wind_cov.MAVLINK_MSG_ID_WIND_COV] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_wind_cov(packet);
+            }
+        };
+        FACTORIES[msg_gps_input.MAVLINK_MSG_ID_GPS_INPUT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_gps_input(packet);
+            }
+        };
+        FACTORIES[msg_gps_rtcm_data.MAVLINK_MSG_ID_GPS_RTCM_DATA] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_gps_rtcm_data(packet);
+            }
+        };
+        FACTORIES[msg_high_latency.MAVLINK_MSG_ID_HIGH_LATENCY] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_high_latency(packet);
+            }
+        };
+        FACTORIES[msg_vibration.MAVLINK_MSG_ID_VIBRATION] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_vibration(packet);
+            }
+        };
+        FACTORIES[msg_home_position.MAVLINK_MSG_ID_HOME_POSITION] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_home_position(packet);
+            }
+        };
+        FACTORIES[msg_set_home_position.MAVLINK_MSG_ID_SET_HOME_POSITION] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_set_home_position(packet);
+            }
+        };
+        FACTORIES[msg_message_interval.MAVLINK_MSG_ID_MESSAGE_INTERVAL] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_message_interval(packet);
+            }
+        };
+        FACTORIES[msg_extended_sys_state.MAVLINK_MSG_ID_EXTENDED_SYS_STATE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_extended_sys_state(packet);
+            }
+        };
+        FACTORIES[msg_adsb_vehicle.MAVLINK_MSG_ID_ADSB_VEHICLE] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_adsb_vehicle(packet);
+            }
+        };
+        FACTORIES[msg_collision.MAVLINK_MSG_ID_COLLISION] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_collision(packet);
+            }
+        };
+        FACTORIES[msg_v2_extension.MAVLINK_MSG_ID_V2_EXTENSION] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_v2_extension(packet);
+            }
+        };
+        FACTORIES[msg_memory_vect.MAVLINK_MSG_ID_MEMORY_VECT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_memory_vect(packet);
+            }
+        };
+        FACTORIES[msg_debug_vect.MAVLINK_MSG_ID_DEBUG_VECT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_debug_vect(packet);
+            }
+        };
+        FACTORIES[msg_named_value_float.MAVLINK_MSG_ID_NAMED_VALUE_FLOAT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_named_value_float(packet);
+            }
+        };
+        FACTORIES[msg_named_value_int.MAVLINK_MSG_ID_NAMED_VALUE_INT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_named_value_int(packet);
+            }
+        };
+        FACTORIES[msg_statustext.MAVLINK_MSG_ID_STATUSTEXT] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_statustext(packet);
+            }
+        };
+        FACTORIES[msg_debug.MAVLINK_MSG_ID_DEBUG] = new MessageFactory() {
+            public MAVLinkMessage create(MAVLinkPacket packet) {
+                return new msg_debug(packet);
+            }
+        };
     }
 
 }
@@ -0,0 +1,184 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+package com.MAVLink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.MAVLink.Messages.MAVLinkPayload;
+
+/**
+ * Bounded pool of recyclable MAVLink packets.
+ *
+ * Pooled packets have payload buffers of the maximum payload size, so any
+ * packet can be reused for any message. A packet acquired from the pool must
+ * be returned by {@link MAVLinkPacket#release()} once it is not used anymore.
+ * Packets released when the pool is full are left to the garbage collector.
+ *
+ * With leak detection enabled the pool tracks the acquired packets and the
+ * stack traces of their acquisition. Leak detection is enabled by default
+ * when assertions are enabled for the MAVLink classes (-ea).
+ *
+ * The pool is thread-safe.
+ */
+public class MAVLinkPacketPool {
+
+    private final int capacity;
+    private final ConcurrentLinkedQueue<MAVLinkPacket> idle = new ConcurrentLinkedQueue<MAVLinkPacket>();
+    private final AtomicInteger idleCount = new AtomicInteger(0);
+
+    // Acquired packets mapped to acquisition stack traces, null if leak detection is disabled
+    private final Map<MAVLinkPacket, Throwable> outstanding;
+
+    /**
+     * Creates pool with leak detection enabled if assertions are enabled.
+     *
+     * @param capacity maximum number of idle packets kept in the pool
+     */
+    public MAVLinkPacketPool(int capacity) {
+        this(capacity, MAVLinkPacketPool.class.desiredAssertionStatus());
+    }
+
+    /**
+     * Creates pool.
+     *
+     * @param capacity maximum number of idle packets kept in the pool
+     * @param leakDetection if true, the pool tracks acquired packets
+     */
+    public MAVLinkPacketPool(int capacity, boolean leakDetection) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid pool capacity.");
+        }
+
+        this.capacity = capacity;
+
+        if (leakDetection) {
+            outstanding = Collections.synchronizedMap(new IdentityHashMap<MAVLinkPacket, Throwable>());
+        } else {
+            outstanding = null;
+        }
+    }
+
+    /**
+     * Takes an idle packet from the pool or creates a new one if the pool is
+     * empty. The returned packet has empty payload and zero header fields.
+     *
+     * @param payloadLength message length
+     * @return packet owned by the caller until it is released
+     */
+    public MAVLinkPacket acquire(int payloadLength) {
+        MAVLinkPacket packet = idle.poll();
+
+        if (packet != null) {
+            idleCount.decrementAndGet();
+            packet.payload.clear();
+        } else {
+            packet = new MAVLinkPacket(payloadLength, new MAVLinkPayload(MAVLinkPayload.MAX_PAYLOAD_SIZE));
+            packet.pool = this;
+        }
+
+        synchronized (packet) {
+            packet.pooled = false;
+        }
+
+        packet.len = payloadLength;
+        packet.seq = 0;
+        packet.sysid = 0;
+        packet.compid = 0;
+        packet.msgid = 0;
+        packet.isMavlink2 = false;
+        packet.incompatFlags = 0;
+        packet.compatFlags = 0;
+
+        if (outstanding != null) {
+            outstanding.put(packet, new Throwable("Packet acquired from the pool"));
+        }
+
+        return packet;
+    }
+
+    /**
+     * Returns the packet to the pool.
+     *
+     * @throws IllegalStateException if the packet was already released
+     * @throws IllegalArgumentException if the packet belongs to another pool
+     */
+    void release(MAVLinkPacket packet) {
+        if (packet.pool != this) {
+            throw new IllegalArgumentException("Packet does not belong to the pool.");
+        }
+
+        synchronized (packet) {
+            if (packet.pooled) {
+                throw new IllegalStateException("Packet is already released.");
+            }
+
+            packet.pooled = true;
+        }
+
+        if (outstanding != null) {
+            outstanding.remove(packet);
+        }
+
+        if (idleCount.incrementAndGet() <= capacity) {
+            idle.offer(packet);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns maximum number of idle packets kept in the pool.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns number of idle packets in the pool.
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * Returns true if the pool tracks acquired packets.
+     */
+    public boolean isLeakDetectionEnabled() {
+        return outstanding != null;
+    }
+
+    /**
+     * Returns number of acquired packets that were not released yet, or -1
+     * if leak detection is disabled.
+     */
+    public int getOutstandingCount() {
+        return outstanding != null ? outstanding.size() : -1;
+    }
+
+    /**
+     * Returns acquisition stack traces of the packets that were not released
+     * yet. The list is empty if leak detection is disabled.
+     */
+    public List<Throwable> getLeaks() {
+        List<Throwable> leaks = new ArrayList<Throwable>();
+
+        if (outstanding != null) {
+            synchronized (outstanding) {
+                leaks.addAll(outstanding.values());
+            }
+        }
+
+        return leaks;
+    }
+
+}
@@ -0,0 +1,470 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+package com.MAVLink.Messages;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.MAVLink.MAVLinkPacket;
+
+/**
+ * Streaming JSON reader used by the generated {@link MAVLinkMessage#readJSON}
+ * methods. Reads the values directly from the JSON text into the message
+ * fields without building any intermediate maps.
+ *
+ * Null numeric values are read as zeros or NaN for floating point fields.
+ */
+public class MAVLinkJSONReader {
+
+    private static final int NAME_CACHE_SIZE = 1024;
+
+    // Canonical instances of the recently read names. Reading a cached name
+    // allocates nothing and the generated switch statements compare it by
+    // reference. Races between readers only cause cache misses.
+    private static final String[] names = new String[NAME_CACHE_SIZE];
+
+    private final String in;
+    private final int length;
+    private int pos = 0;
+
+    public MAVLinkJSONReader(CharSequence in) {
+        this.in = in.toString();
+        this.length = this.in.length();
+    }
+
+    /**
+     * Deserializes MAVLink message of the specified type from a JSON string.
+     *
+     * @param msgid MAVLink message id
+     * @param json JSON object with the message fields
+     * @return MAVLink message or null if the message id is not supported
+     * @throws IOException if the JSON text is malformed
+     */
+    public static MAVLinkMessage fromJSON(int msgid, CharSequence json) throws IOException {
+        if (MAVLinkPacket.getMessageLength(msgid) < 0) {
+            return null;
+        }
+
+        // Payload of an empty packet reads as zeros
+        MAVLinkPacket packet = new MAVLinkPacket(0);
+        packet.msgid = msgid;
+
+        MAVLinkMessage msg = packet.unpack();
+        if (msg != null) {
+            msg.readJSON(new MAVLinkJSONReader(json));
+        }
+
+        return msg;
+    }
+
+    public void beginObject() throws IOException {
+        expect('{');
+    }
+
+    public void endObject() throws IOException {
+        expect('}');
+    }
+
+    public void beginArray() throws IOException {
+        expect('[');
+    }
+
+    public void endArray() throws IOException {
+        expect(']');
+    }
+
+    /**
+     * Returns true if the current object or array has more elements.
+     */
+    public boolean hasNext() throws IOException {
+        char c = peek();
+        if (c == ',') {
+            pos++;
+            peek();
+            return true;
+        }
+        return c != '}' && c != ']';
+    }
+
+    public String nextName() throws IOException {
+        if (peek() != '"') {
+            throw error("Name expected");
+        }
+
+        pos++;
+
+        int start = pos;
+        int hash = 0;
+        while (pos < length && in.charAt(pos) != '"' && in.charAt(pos) != '\\') {
+            hash = 31 * hash + in.charAt(pos++);
+        }
+
+        String name;
+        if (pos < length && in.charAt(pos) == '"') {
+            name = cachedName(start, pos - start, hash);
+            pos++;
+        } else {
+            // Escaped names are not cached
+            pos = start - 1;
+            name = nextString();
+        }
+
+        expect(':');
+        return name;
+    }
+
+    public String nextString() throws IOException {
+        if (peek() == 'n') {
+            literal("null");
+            return null;
+        }
+
+        expect('"');
+
+        int start = pos;
+        while (pos < length && in.charAt(pos) != '"' && in.charAt(pos) != '\\') {
+            pos++;
+        }
+
+        if (pos < length && in.charAt(pos) == '"') {
+            return in.substring(start, pos++);
+        }
+
+        StringBuilder sb = new StringBuilder().append(in, start, pos);
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return sb.toString();
+            } else if (c == '\\') {
+                sb.append(unescape());
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+
+    /**
+     * Reads a string into zero padded char array.
+     */
+    public void nextString(byte[] value) throws IOException {
+        String str = nextString();
+        int len = str != null ? Math.min(str.length(), value.length) : 0;
+
+        for (int i = 0; i < len; i++) {
+            value[i] = (byte) str.charAt(i);
+        }
+
+        for (int i = len; i < value.length; i++) {
+            value[i] = 0;
+        }
+    }
+
+    public long nextLong() throws IOException {
+        if (peek() == 'n') {
+            literal("null");
+            return 0;
+        }
+
+        int start = pos;
+        boolean negative = false;
+        long value = 0;
+
+        if (pos < length && in.charAt(pos) == '-') {
+            negative = true;
+            pos++;
+        }
+
+        while (pos < length) {
+            char c = in.charAt(pos);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                pos++;
+            } else if (c == '.' || c == 'e' || c == 'E') {
+                // Not an integer literal
+                pos = start;
+                return (long) nextDouble();
+            } else {
+                break;
+            }
+        }
+
+        if (pos == start || (negative && pos == start + 1)) {
+            throw error("Number expected");
+        }
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * Reads uint64_t value into a signed long.
+     */
+    public long nextUnsignedLong() throws IOException {
+        // Values above Long.MAX_VALUE wrap around the same way as in the payload
+        return nextLong();
+    }
+
+    public int nextInt() throws IOException {
+        return (int) nextLong();
+    }
+
+    public double nextDouble() throws IOException {
+        if (peek() == 'n') {
+            literal("null");
+            return Double.NaN;
+        }
+
+        int start = pos;
+        try {
+            return Double.parseDouble(number());
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("Number expected");
+        }
+    }
+
+    public float nextFloat() throws IOException {
+        if (peek() == 'n') {
+            literal("null");
+            return Float.NaN;
+        }
+
+        int start = pos;
+        try {
+            return Float.parseFloat(number());
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("Number expected");
+        }
+    }
+
+    public void nextArray(byte[] value) throws IOException {
+        beginArray();
+        for (int i = 0; hasNext(); i++) {
+            long v = nextLong();
+            if (i < value.length) {
+                value[i] = (byte) v;
+            }
+        }
+        endArray();
+    }
+
+    public void nextArray(short[] value) throws IOException {
+        beginArray();
+        for (int i = 0; hasNext(); i++) {
+            long v = nextLong();
+            if (i < value.length) {
+                value[i] = (short) v;
+            }
+        }
+        endArray();
+    }
+
+    public void nextArray(int[] value) throws IOException {
+        beginArray();
+        for (int i = 0; hasNext(); i++) {
+            long v = nextLong();
+            if (i < value.length) {
+                value[i] = (int) v;
+            }
+        }
+        endArray();
+    }
+
+    public void nextArray(float[] value) throws IOException {
+        beginArray();
+        for (int i = 0; hasNext(); i++) {
+            float v = nextFloat();
+            if (i < value.length) {
+                value[i] = v;
+            }
+        }
+        endArray();
+    }
+
+    /**
+     * Reads the next value as String, Long, Double, Boolean, List, Map or null.
+     * Used where the message type is not known, the generated message readers
+     * do not need it.
+     */
+    public Object nextValue() throws IOException {
+        char c = peek();
+        switch (c) {
+        case '{': {
+            Map<String, Object> map = new LinkedHashMap<String, Object>();
+            beginObject();
+            while (hasNext()) {
+                String name = nextName();
+                map.put(name, nextValue());
+            }
+            endObject();
+            return map;
+        }
+        case '[': {
+            List<Object> list = new ArrayList<Object>();
+            beginArray();
+            while (hasNext()) {
+                list.add(nextValue());
+            }
+            endArray();
+            return list;
+        }
+        case '"':
+            return nextString();
+        case 't':
+            literal("true");
+            return Boolean.TRUE;
+        case 'f':
+            literal("false");
+            return Boolean.FALSE;
+        case 'n':
+            literal("null");
+            return null;
+        default:
+            int start = pos;
+            String number = number();
+            try {
+                if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+                    return Long.valueOf(number);
+                }
+                return Double.valueOf(number);
+            } catch (NumberFormatException e) {
+                pos = start;
+                throw error("Value expected");
+            }
+        }
+    }
+
+    /**
+     * Skips the next value including nested objects and arrays.
+     */
+    public void skipValue() throws IOException {
+        char c = peek();
+        switch (c) {
+        case '{':
+            beginObject();
+            while (hasNext()) {
+                nextName();
+                skipValue();
+            }
+            endObject();
+            break;
+        case '[':
+            beginArray();
+            while (hasNext()) {
+                skipValue();
+            }
+            endArray();
+            break;
+        case '"':
+            nextString();
+            break;
+        case 't':
+            literal("true");
+            break;
+        case 'f':
+            literal("false");
+            break;
+        case 'n':
+            literal("null");
+            break;
+        default:
+            nextDouble();
+        }
+    }
+
+    private String cachedName(int start, int len, int hash) {
+        int slot = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+        String name = names[slot];
+
+        if (name != null && name.length() == len && in.regionMatches(start, name, 0, len)) {
+            return name;
+        }
+
+        name = in.substring(start, start + len);
+        names[slot] = name;
+        return name;
+    }
+
+    private String number() {
+        int start = pos;
+        while (pos < length && "+-0123456789.eE".indexOf(in.charAt(pos)) >= 0) {
+            pos++;
+        }
+        return in.substring(start, pos);
+    }
+
+    private char unescape() throws IOException {
+        char c = next();
+        switch (c) {
+        case 'b':
+            return '\b';
+        case 'f':
+            return '\f';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 't':
+            return '\t';
+        case 'u':
+            if (pos + 4 > length) {
+                throw error("Invalid escape sequence");
+            }
+            try {
+                char u = (char) Integer.parseInt(in.substring(pos, pos + 4), 16);
+                pos += 4;
+                return u;
+            } catch (NumberFormatException e) {
+                throw error("Invalid escape sequence");
+            }
+        default:
+            return c;
+        }
+    }
+
+    private void literal(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (next() != literal.charAt(i)) {
+                throw error("'" + literal + "' expected");
+            }
+        }
+    }
+
+    private void expect(char c) throws IOException {
+        if (peek() != c) {
+            throw error("'" + c + "' expected");
+        }
+        pos++;
+    }
+
+    private char next() throws IOException {
+        if (pos >= length) {
+            throw error("Unexpected end of JSON text");
+        }
+        return in.charAt(pos++);
+    }
+
+    // Skips whitespaces and returns the next character without consuming it
+    private char peek() throws IOException {
+        while (pos < length) {
+            char c = in.charAt(pos);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return c;
+            }
+            pos++;
+        }
+        throw error("Unexpected end of JSON text");
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + " at position " + pos + ".");
+    }
+
+}
@@ -0,0 +1,261 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+package com.MAVLink.Messages;
+
+/**
+ * Streaming JSON writer used by the generated {@link MAVLinkMessage#writeJSON}
+ * methods. Appends the JSON text directly to a {@link StringBuilder} without
+ * building any intermediate objects.
+ *
+ * Non-finite floating point values are written as null.
+ */
+public class MAVLinkJSONWriter {
+
+    private static final int MAX_DEPTH = 32;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final StringBuilder out;
+
+    // true if the value at the nesting level is the first one in the object or array
+    private final boolean[] first = new boolean[MAX_DEPTH];
+    private int depth = 0;
+
+    // true if a name was written and its value is expected
+    private boolean afterName = false;
+
+    public MAVLinkJSONWriter() {
+        this(new StringBuilder(256));
+    }
+
+    public MAVLinkJSONWriter(StringBuilder out) {
+        this.out = out;
+    }
+
+    /**
+     * Serializes the message into a JSON string.
+     *
+     * @param msg MAVLink message
+     * @return JSON object with the message fields
+     */
+    public static String toJSON(MAVLinkMessage msg) {
+        MAVLinkJSONWriter writer = new MAVLinkJSONWriter();
+        msg.writeJSON(writer);
+        return writer.toString();
+    }
+
+    public StringBuilder getBuffer() {
+        return out;
+    }
+
+    /**
+     * Clears the buffer so the writer can be reused.
+     */
+    public void reset() {
+        out.setLength(0);
+        depth = 0;
+        afterName = false;
+    }
+
+    public MAVLinkJSONWriter beginObject() {
+        return open('{');
+    }
+
+    public MAVLinkJSONWriter endObject() {
+        return close('}');
+    }
+
+    public MAVLinkJSONWriter beginArray() {
+        return open('[');
+    }
+
+    public MAVLinkJSONWriter endArray() {
+        return close(']');
+    }
+
+    /**
+     * Writes the name of the next object member. The name is written as is,
+     * so it must not contain characters that require escaping.
+     */
+    public MAVLinkJSONWriter name(String name) {
+        separator();
+        out.append('"').append(name).append("\":");
+        afterName = true;
+        return this;
+    }
+
+    public MAVLinkJSONWriter value(long value) {
+        separator();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Writes uint64_t value stored in a signed long.
+     */
+    public MAVLinkJSONWriter unsignedValue(long value) {
+        if (value >= 0) {
+            return value(value);
+        }
+
+        separator();
+        long quotient = (value >>> 1) / 5;
+        out.append(quotient).append(value - quotient * 10);
+        return this;
+    }
+
+    public MAVLinkJSONWriter value(float value) {
+        separator();
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            out.append("null");
+        } else {
+            out.append(value);
+        }
+        return this;
+    }
+
+    public MAVLinkJSONWriter value(double value) {
+        separator();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append("null");
+        } else {
+            out.append(value);
+        }
+        return this;
+    }
+
+    public MAVLinkJSONWriter value(String value) {
+        separator();
+        if (value == null) {
+            out.append("null");
+        } else {
+            string(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes zero terminated char array as a string.
+     */
+    public MAVLinkJSONWriter stringValue(byte[] value) {
+        separator();
+        out.append('"');
+        for (int i = 0; i < value.length && value[i] != 0; i++) {
+            char c = (char) (value[i] & 0xFF);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                out.append(c);
+            } else {
+                escape(c);
+            }
+        }
+        out.append('"');
+        return this;
+    }
+
+    public MAVLinkJSONWriter value(byte[] value) {
+        beginArray();
+        for (int i = 0; i < value.length; i++) {
+            value(value[i]);
+        }
+        return endArray();
+    }
+
+    public MAVLinkJSONWriter value(short[] value) {
+        beginArray();
+        for (int i = 0; i < value.length; i++) {
+            value(value[i]);
+        }
+        return endArray();
+    }
+
+    public MAVLinkJSONWriter value(int[] value) {
+        beginArray();
+        for (int i = 0; i < value.length; i++) {
+            value(value[i]);
+        }
+        return endArray();
+    }
+
+    public MAVLinkJSONWriter value(float[] value) {
+        beginArray();
+        for (int i = 0; i < value.length; i++) {
+            value(value[i]);
+        }
+        return endArray();
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+
+    private MAVLinkJSONWriter open(char c) {
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("JSON nesting is too deep.");
+        }
+        separator();
+        out.append(c);
+        first[depth++] = true;
+        return this;
+    }
+
+    private MAVLinkJSONWriter close(char c) {
+        if (depth == 0) {
+            throw new IllegalStateException("No JSON object or array to close.");
+        }
+        depth--;
+        out.append(c);
+        return this;
+    }
+
+    private void separator() {
+        if (afterName) {
+            afterName = false;
+        } else if (depth > 0) {
+            if (first[depth - 1]) {
+                first[depth - 1] = false;
+            } else {
+                out.append(',');
+            }
+        }
+    }
+
+    private void string(String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            escape(value.charAt(i));
+        }
+        out.append('"');
+    }
+
+    private void escape(char c) {
+        switch (c) {
+        case '"':
+            out.append("\\\"");
+            break;
+        case '\\':
+            out.append("\\\\");
+            break;
+        case '\n':
+            out.append("\\n");
+            break;
+        case '\r':
+            out.append("\\r");
+            break;
+        case '\t':
+            out.append("\\t");
+            break;
+        default:
+            if (c < 0x20) {
+                out.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+}
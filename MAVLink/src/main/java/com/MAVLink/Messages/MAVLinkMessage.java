@@ -6,6 +6,7 @@
 
 package com.MAVLink.Messages;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 import com.MAVLink.MAVLinkPacket;
@@ -24,5 +25,17 @@ public abstract class MAVLinkMessage implements Serializable {
     public int msgid;
     public abstract MAVLinkPacket pack();
     public abstract void unpack(MAVLinkPayload payload);
+
+    /**
+     * Writes the message fields as a JSON object.
+     */
+    public abstract void writeJSON(MAVLinkJSONWriter writer);
+
+    /**
+     * Reads the message fields from a JSON object.
+     *
+     * @throws IOException if the JSON text is malformed
+     */
+    public abstract void readJSON(MAVLinkJSONReader reader) throws IOException;
 }
     
\ No newline at end of file
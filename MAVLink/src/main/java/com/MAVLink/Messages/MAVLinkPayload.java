@@ -26,6 +26,9 @@ public class MAVLinkPayload {
     public final ByteBuffer payload;
     public int index;
 
+    // Incremented by the methods modifying the payload data
+    private int modCount = 0;
+
     public MAVLinkPayload(int payloadSize) {
        if(payloadSize > MAX_PAYLOAD_SIZE) {
             payload = ByteBuffer.allocate(MAX_PAYLOAD_SIZE);
@@ -34,6 +37,16 @@ public class MAVLinkPayload {
         }
     }
 
+    /**
+     * Creates payload backed by the specified buffer. The payload size is the
+     * buffer position.
+     *
+     * @param buffer Buffer with the payload data
+     */
+    public MAVLinkPayload(ByteBuffer buffer) {
+        payload = buffer;
+    }
+
     public ByteBuffer getData() {
         return payload;
     }
@@ -44,72 +57,69 @@ public class MAVLinkPayload {
 
     public void add(byte c) {
         payload.put(c);
+        modCount++;
+    }
+
+    /**
+     * Returns number of modifications made by the payload methods. Writes
+     * made directly to the buffer returned by {@link #getData()} are not
+     * counted.
+     */
+    public int getModCount() {
+        return modCount;
     }
 
     public void resetIndex() {
         index = 0;
     }
 
+    /**
+     * Clears the payload data so the payload can be reused.
+     */
+    public void clear() {
+        payload.clear();
+        index = 0;
+        modCount++;
+    }
+
     public byte getByte() {
-        byte result = 0;
-        result |= (payload.get(index + 0) & 0xFF);
+        byte result = getByte(index);
         index += 1;
         return result;
     }
 
     public short getUnsignedByte(){
-        short result = 0;
-        result |= payload.get(index + 0) & 0xFF;
+        short result = getUnsignedByte(index);
         index+= 1;
         return result; 
     }
 
     public short getShort() {
-        short result = 0;
-        result |= (payload.get(index + 1) & 0xFF) << 8;
-        result |= (payload.get(index + 0) & 0xFF);
+        short result = getShort(index);
         index += 2;
         return result;
     }
 
     public int getUnsignedShort(){
-        int result = 0;
-        result |= (payload.get(index + 1) & 0xFF) << 8;
-        result |= (payload.get(index + 0) & 0xFF);
+        int result = getUnsignedShort(index);
         index += 2;
         return result;
     }
 
     public int getInt() {
-        int result = 0;
-        result |= (payload.get(index + 3) & 0xFF) << 24;
-        result |= (payload.get(index + 2) & 0xFF) << 16;
-        result |= (payload.get(index + 1) & 0xFF) << 8;
-        result |= (payload.get(index + 0) & 0xFF);
+        int result = getInt(index);
         index += 4;
         return result;
     }
 
     public long getUnsignedInt(){
-        long result = 0;
-        result |= (payload.get(index + 3) & 0xFFL) << 24;
-        result |= (payload.get(index + 2) & 0xFFL) << 16;
-        result |= (payload.get(index + 1) & 0xFFL) << 8;
-        result |= (payload.get(index + 0) & 0xFFL);
+        long result = getUnsignedInt(index);
         index += 4;
         return result;
     }
 
     public long getLong() {
-        long result = 0;
-        result |= (payload.get(index + 7) & 0xFFL) << 56;
-        result |= (payload.get(index + 6) & 0xFFL) << 48;
-        result |= (payload.get(index + 5) & 0xFFL) << 40;
-        result |= (payload.get(index + 4) & 0xFFL) << 32;
-        result |= (payload.get(index + 3) & 0xFFL) << 24;
-        result |= (payload.get(index + 2) & 0xFFL) << 16;
-        result |= (payload.get(index + 1) & 0xFFL) << 8;
-        result |= (payload.get(index + 0) & 0xFFL);
+        long result = getLong(index);
         index += 8;
         return result;
     }
@@ -135,6 +145,73 @@ public class MAVLinkPayload {
     public float getFloat() {
         return Float.intBitsToFloat(getInt());
     }
+
+    /*
+     * Absolute getters read the field at the specified payload offset and do
+     * not change the index. They are used by the message views. Bytes beyond
+     * the payload size read as zeros, which restores the trailing zeros
+     * truncated by MAVLink 2.
+     */
+
+    private byte get(int offset) {
+        return offset < payload.position() ? payload.get(offset) : 0;
+    }
+
+    public byte getByte(int offset) {
+        return get(offset);
+    }
+
+    public short getUnsignedByte(int offset) {
+        return (short) (get(offset) & 0xFF);
+    }
+
+    public short getShort(int offset) {
+        short result = 0;
+        result |= (get(offset + 1) & 0xFF) << 8;
+        result |= (get(offset + 0) & 0xFF);
+        return result;
+    }
+
+    public int getUnsignedShort(int offset) {
+        int result = 0;
+        result |= (get(offset + 1) & 0xFF) << 8;
+        result |= (get(offset + 0) & 0xFF);
+        return result;
+    }
+
+    public int getInt(int offset) {
+        int result = 0;
+        result |= (get(offset + 3) & 0xFF) << 24;
+        result |= (get(offset + 2) & 0xFF) << 16;
+        result |= (get(offset + 1) & 0xFF) << 8;
+        result |= (get(offset + 0) & 0xFF);
+        return result;
+    }
+
+    public long getUnsignedInt(int offset) {
+        return getInt(offset) & 0xFFFFFFFFL;
+    }
+
+    public long getLong(int offset) {
+        long result = 0;
+        result |= (get(offset + 7) & 0xFFL) << 56;
+        result |= (get(offset + 6) & 0xFFL) << 48;
+        result |= (get(offset + 5) & 0xFFL) << 40;
+        result |= (get(offset + 4) & 0xFFL) << 32;
+        result |= (get(offset + 3) & 0xFFL) << 24;
+        result |= (get(offset + 2) & 0xFFL) << 16;
+        result |= (get(offset + 1) & 0xFFL) << 8;
+        result |= (get(offset + 0) & 0xFFL);
+        return result;
+    }
+
+    public long getUnsignedLong(int offset) {
+        return getLong(offset);
+    }
+
+    public float getFloat(int offset) {
+        return Float.intBitsToFloat(getInt(offset));
+    }
     
     public void putByte(byte data) {
         add(data);
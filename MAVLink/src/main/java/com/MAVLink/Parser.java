@@ -6,25 +6,78 @@
 
 package com.MAVLink;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkPayload;
 import com.MAVLink.Messages.MAVLinkStats;
+import com.MAVLink.standard.CRC;
 
+/**
+ * MAVLink packets parser.
+ *
+ * All the parsing state, including partially received packets and stats, is
+ * kept in the parser instance. Parser is not thread-safe: an instance must be
+ * confined to one thread at a time, typically by using one parser per
+ * connection or message source. Distinct instances may be used concurrently
+ * without any synchronization.
+ *
+ * By default every decoded packet is a new object owned by the caller. In
+ * pooled mode (see {@link #setPacketPool(MAVLinkPacketPool)}) packets are taken
+ * from the pool and the consumer releases them by {@link MAVLinkPacket#release()}.
+ * In zero-copy mode (see {@link #setZeroCopy(boolean)}) the packets passed to
+ * {@link PacketHandler} are views of the parser's receive buffer valid only
+ * until the handler returns.
+ */
 public class Parser {
 
+    /**
+     * Receives packets decoded by {@link Parser#parse(ByteBuffer, PacketHandler)}.
+     */
+    public interface PacketHandler {
+        void onPacket(MAVLinkPacket packet);
+    }
+
+    private static final int HEADER_LENGTH = MAVLinkPacket.HEADER_LENGTH;
+    private static final int HEADER_LENGTH_MAVLINK2 = MAVLinkPacket.HEADER_LENGTH_MAVLINK2;
+    private static final int CHECKSUM_LENGTH = MAVLinkPacket.CHECKSUM_LENGTH;
+
     /**
      * States from the parsing state machine
      */
     enum MAV_states {
-        MAVLINK_PARSE_STATE_UNINIT, MAVLINK_PARSE_STATE_IDLE, MAVLINK_PARSE_STATE_GOT_STX, MAVLINK_PARSE_STATE_GOT_LENGTH, MAVLINK_PARSE_STATE_GOT_SEQ, MAVLINK_PARSE_STATE_GOT_SYSID, MAVLINK_PARSE_STATE_GOT_COMPID, MAVLINK_PARSE_STATE_GOT_MSGID, MAVLINK_PARSE_STATE_GOT_CRC1, MAVLINK_PARSE_STATE_GOT_PAYLOAD
+        MAVLINK_PARSE_STATE_UNINIT, MAVLINK_PARSE_STATE_IDLE, MAVLINK_PARSE_STATE_GOT_STX, MAVLINK_PARSE_STATE_GOT_LENGTH, MAVLINK_PARSE_STATE_GOT_INCOMPAT_FLAGS, MAVLINK_PARSE_STATE_GOT_COMPAT_FLAGS, MAVLINK_PARSE_STATE_GOT_SEQ, MAVLINK_PARSE_STATE_GOT_SYSID, MAVLINK_PARSE_STATE_GOT_COMPID, MAVLINK_PARSE_STATE_GOT_MSGID1, MAVLINK_PARSE_STATE_GOT_MSGID2, MAVLINK_PARSE_STATE_GOT_MSGID, MAVLINK_PARSE_STATE_GOT_CRC1, MAVLINK_PARSE_STATE_GOT_PAYLOAD, MAVLINK_PARSE_STATE_SIGNATURE
     }
 
-    MAV_states state = MAV_states.MAVLINK_PARSE_STATE_UNINIT;
+    private MAV_states state = MAV_states.MAVLINK_PARSE_STATE_UNINIT;
 
-    static boolean msg_received;
+    private boolean msg_received;
+
+    // Set if the last start sign received by mavlink_parse_char() was MAVLink 2 start sign
+    private boolean mavlink2;
+
+    // Number of signature bytes to skip
+    private int signatureRemaining;
 
     public MAVLinkStats stats;
     private MAVLinkPacket m;
 
+    // Partially received frame kept between parse(ByteBuffer) calls
+    private final byte[] frame = new byte[MAVLinkPacket.MAX_PACKET_LENGTH_MAVLINK2];
+    private int frameLength = 0;
+    private final CRC frameCrc = new CRC();
+
+    private MAVLinkPacketPool pool = null;
+
+    // Packets with payload sliced from the frame buffer, null if zero-copy mode is off
+    private MAVLinkPacket view = null;
+    private MAVLinkPacket view2 = null;
+
+    // Marks valid frames that cannot be processed
+    private static final MAVLinkPacket UNSUPPORTED = new MAVLinkPacket(0);
+
     public Parser() {
         this(false);
     }
@@ -33,11 +86,55 @@ public class Parser {
         stats = new MAVLinkStats(ignoreRadioPacketStats);
     }
 
+    /**
+     * Sets pool the decoded packets are taken from.
+     *
+     * @param pool
+     *            Packet pool or null to allocate new packets
+     */
+    public void setPacketPool(MAVLinkPacketPool pool) {
+        this.pool = pool;
+    }
+
+    public MAVLinkPacketPool getPacketPool() {
+        return pool;
+    }
+
+    /**
+     * Enables or disables zero-copy mode of
+     * {@link #parse(ByteBuffer, PacketHandler)}. In zero-copy mode the same
+     * packet instance with payload backed by the parser's receive buffer is
+     * passed to the handler for every decoded frame. The packet must not be
+     * used after the handler returns; call {@link MAVLinkPacket#copy()} to
+     * retain it.
+     *
+     * @param zeroCopy
+     *            true to enable zero-copy mode
+     */
+    public void setZeroCopy(boolean zeroCopy) {
+        if (zeroCopy) {
+            ByteBuffer slice = ByteBuffer.wrap(frame, HEADER_LENGTH, MAVLinkPayload.MAX_PAYLOAD_SIZE).slice();
+            view = new MAVLinkPacket(0, new MAVLinkPayload(slice));
+            slice = ByteBuffer.wrap(frame, HEADER_LENGTH_MAVLINK2, MAVLinkPayload.MAX_PAYLOAD_SIZE).slice();
+            view2 = new MAVLinkPacket(0, new MAVLinkPayload(slice));
+            view2.isMavlink2 = true;
+        } else {
+            view = null;
+            view2 = null;
+        }
+    }
+
+    public boolean isZeroCopy() {
+        return view != null;
+    }
+
     /**
      * This is a convenience function which handles the complete MAVLink
      * parsing. the function will parse one byte at a time and return the
      * complete packet once it could be successfully decoded. Checksum and other
-     * failures will be silently ignored.
+     * failures will be silently ignored. Both MAVLink 1 and MAVLink 2 packets
+     * are accepted, MAVLink 2 packets with incompatibility flags set (signed
+     * packets) are dropped.
      * 
      * @param c
      *            The char to parse
@@ -49,7 +146,7 @@ public class Parser {
         case MAVLINK_PARSE_STATE_UNINIT:
         case MAVLINK_PARSE_STATE_IDLE:
 
-            if (c == MAVLinkPacket.MAVLINK_STX) {
+            if (isStx(c)) {
                 state = MAV_states.MAVLINK_PARSE_STATE_GOT_STX;
             }
             break;
@@ -59,12 +156,28 @@ public class Parser {
                 msg_received = false;
                 state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
             } else {
-                m = new MAVLinkPacket(c);
+                m = newPacket(c);
+                m.isMavlink2 = mavlink2;
                 state = MAV_states.MAVLINK_PARSE_STATE_GOT_LENGTH;
             }
             break;
 
         case MAVLINK_PARSE_STATE_GOT_LENGTH:
+            if (m.isMavlink2) {
+                m.incompatFlags = c;
+                state = MAV_states.MAVLINK_PARSE_STATE_GOT_INCOMPAT_FLAGS;
+            } else {
+                m.seq = c;
+                state = MAV_states.MAVLINK_PARSE_STATE_GOT_SEQ;
+            }
+            break;
+
+        case MAVLINK_PARSE_STATE_GOT_INCOMPAT_FLAGS:
+            m.compatFlags = c;
+            state = MAV_states.MAVLINK_PARSE_STATE_GOT_COMPAT_FLAGS;
+            break;
+
+        case MAVLINK_PARSE_STATE_GOT_COMPAT_FLAGS:
             m.seq = c;
             state = MAV_states.MAVLINK_PARSE_STATE_GOT_SEQ;
             break;
@@ -81,7 +194,27 @@ public class Parser {
 
         case MAVLINK_PARSE_STATE_GOT_COMPID:
             m.msgid = c;
-            if (m.len == 0) {
+            if (m.isMavlink2) {
+                state = MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID1;
+            } else if (m.len == 0) {
+                state = MAV_states.MAVLINK_PARSE_STATE_GOT_PAYLOAD;
+            } else {
+                state = MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID;
+            }
+            break;
+
+        case MAVLINK_PARSE_STATE_GOT_MSGID1:
+            m.msgid |= c << 8;
+            state = MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID2;
+            break;
+
+        case MAVLINK_PARSE_STATE_GOT_MSGID2:
+            m.msgid |= c << 16;
+            if (m.msgid > 255) {
+                // CRC_EXTRA of the message is not known, wait for the next start sign
+                m.release();
+                state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
+            } else if (m.len == 0) {
                 state = MAV_states.MAVLINK_PARSE_STATE_GOT_PAYLOAD;
             } else {
                 state = MAV_states.MAVLINK_PARSE_STATE_GOT_MSGID;
@@ -101,11 +234,12 @@ public class Parser {
             if (c != m.crc.getLSB()) {
                 msg_received = false;
                 state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
-                if (c == MAVLinkPacket.MAVLINK_STX) {
+                if (isStx(c)) {
                     state = MAV_states.MAVLINK_PARSE_STATE_GOT_STX;
                     m.crc.start_checksum();
                 }
                 stats.crcError();
+                m.release();
             } else {
                 state = MAV_states.MAVLINK_PARSE_STATE_GOT_CRC1;
             }
@@ -116,11 +250,20 @@ public class Parser {
             if (c != m.crc.getMSB()) {
                 msg_received = false;
                 state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
-                if (c == MAVLinkPacket.MAVLINK_STX) {
+                if (isStx(c)) {
                     state = MAV_states.MAVLINK_PARSE_STATE_GOT_STX;
                     m.crc.start_checksum();
                 }
                 stats.crcError();
+                m.release();
+            } else if (m.incompatFlags != 0) {
+                // Valid packet that cannot be processed
+                m.release();
+                state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
+                if ((m.incompatFlags & MAVLinkPacket.MAVLINK_IFLAG_SIGNED) != 0) {
+                    signatureRemaining = MAVLinkPacket.SIGNATURE_LENGTH;
+                    state = MAV_states.MAVLINK_PARSE_STATE_SIGNATURE;
+                }
             } else { // Successfully received the message
                 stats.newPacket(m);
                 msg_received = true;
@@ -129,6 +272,12 @@ public class Parser {
 
             break;
 
+        case MAVLINK_PARSE_STATE_SIGNATURE:
+            if (--signatureRemaining == 0) {
+                state = MAV_states.MAVLINK_PARSE_STATE_IDLE;
+            }
+            break;
+
         }
         if (msg_received) {
             return m;
@@ -137,4 +286,245 @@ public class Parser {
         }
     }
 
+    private boolean isStx(int c) {
+        if (c == MAVLinkPacket.MAVLINK_STX) {
+            mavlink2 = false;
+            return true;
+        }
+
+        if (c == MAVLinkPacket.MAVLINK_STX_MAVLINK2) {
+            mavlink2 = true;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Decodes all the complete packets available in the buffer. The bytes of
+     * an incomplete packet at the end of the buffer are retained by the
+     * parser and the packet is completed by the subsequent calls. Checksum
+     * failures are counted in stats and the parser resynchronizes on the
+     * next start sign. Both MAVLink 1 and MAVLink 2 packets are accepted,
+     * MAVLink 2 packets with incompatibility flags set (signed packets) are
+     * dropped.
+     *
+     * @param src
+     *            Buffer with received bytes. All the remaining bytes are consumed.
+     * @param handler
+     *            Handler called for each successfully decoded packet
+     */
+    public void parse(ByteBuffer src, PacketHandler handler) {
+        while (true) {
+            if (frameLength == 0) {
+                if (!skipToStx(src)) {
+                    return;
+                }
+                frame[frameLength++] = src.get();
+            }
+
+            final boolean v2 = (frame[0] & 0xFF) == MAVLinkPacket.MAVLINK_STX_MAVLINK2;
+            final int headerLength = v2 ? HEADER_LENGTH_MAVLINK2 : HEADER_LENGTH;
+
+            int required = headerLength;
+            if (frameLength >= headerLength) {
+                required = headerLength + (frame[1] & 0xFF) + CHECKSUM_LENGTH;
+                if (v2 && (frame[2] & MAVLinkPacket.MAVLINK_IFLAG_SIGNED) != 0) {
+                    required += MAVLinkPacket.SIGNATURE_LENGTH;
+                }
+            }
+
+            if (frameLength < required) {
+                int n = Math.min(required - frameLength, src.remaining());
+                src.get(frame, frameLength, n);
+                frameLength += n;
+
+                if (frameLength < required) {
+                    return;
+                }
+
+                if (required == headerLength) {
+                    // The header is complete, continue with payload and checksum.
+                    continue;
+                }
+            }
+
+            MAVLinkPacket packet = v2 ? decodeFrame2() : decodeFrame();
+
+            if (packet == UNSUPPORTED) {
+                // Valid frame that cannot be processed
+                discard(required);
+            } else if (packet != null) {
+                // The frame is retained until the handler returns, so
+                // zero-copy packets can refer to it.
+                try {
+                    stats.newPacket(packet);
+                    handler.onPacket(packet);
+                } finally {
+                    discard(required);
+                }
+            } else {
+                stats.crcError();
+                // Drop the start sign of the rejected frame
+                discard(1);
+            }
+        }
+    }
+
+    /**
+     * Decodes all the complete packets available in the buffer.
+     *
+     * @param src
+     *            Buffer with received bytes. All the remaining bytes are consumed.
+     * @return List of decoded packets, empty if no packets were completed
+     * @throws IllegalStateException
+     *            if zero-copy mode is enabled
+     */
+    public List<MAVLinkPacket> parse(ByteBuffer src) {
+        if (view != null) {
+            throw new IllegalStateException("Zero-copy packets cannot be collected.");
+        }
+
+        final List<MAVLinkPacket> packets = new ArrayList<MAVLinkPacket>();
+
+        parse(src, new PacketHandler() {
+            @Override
+            public void onPacket(MAVLinkPacket packet) {
+                packets.add(packet);
+            }
+        });
+
+        return packets;
+    }
+
+    /**
+     * Skips the buffer bytes up to the next start sign.
+     *
+     * @return true if the buffer is positioned on start sign
+     */
+    private static boolean skipToStx(ByteBuffer src) {
+        int pos = src.position();
+        final int limit = src.limit();
+
+        while (pos < limit) {
+            final int c = src.get(pos) & 0xFF;
+            if (c == MAVLinkPacket.MAVLINK_STX || c == MAVLinkPacket.MAVLINK_STX_MAVLINK2) {
+                src.position(pos);
+                return true;
+            }
+            pos++;
+        }
+
+        src.position(limit);
+        return false;
+    }
+
+    /**
+     * Verifies checksum of the complete frame and builds the packet.
+     *
+     * @return Decoded packet or null if checksum does not match
+     */
+    private MAVLinkPacket decodeFrame() {
+        final int len = frame[1] & 0xFF;
+        final int msgid = frame[5] & 0xFF;
+
+        frameCrc.start_checksum();
+        frameCrc.update(frame, 1, HEADER_LENGTH - 1 + len);
+        frameCrc.finish_checksum(msgid);
+
+        if ((frame[HEADER_LENGTH + len] & 0xFF) != frameCrc.getLSB() ||
+            (frame[HEADER_LENGTH + len + 1] & 0xFF) != frameCrc.getMSB()) {
+            return null;
+        }
+
+        MAVLinkPacket packet;
+        if (view != null) {
+            packet = view;
+            packet.len = len;
+            packet.payload.clear();
+            packet.payload.getData().position(len);
+        } else {
+            packet = newPacket(len);
+            packet.payload.getData().put(frame, HEADER_LENGTH, len);
+        }
+
+        packet.seq = frame[2] & 0xFF;
+        packet.sysid = frame[3] & 0xFF;
+        packet.compid = frame[4] & 0xFF;
+        packet.msgid = msgid;
+        return packet;
+    }
+
+    /**
+     * Verifies checksum of the complete MAVLink 2 frame and builds the packet.
+     *
+     * @return Decoded packet, null if checksum does not match or UNSUPPORTED
+     *         if the packet cannot be processed
+     */
+    private MAVLinkPacket decodeFrame2() {
+        final int len = frame[1] & 0xFF;
+        final int incompatFlags = frame[2] & 0xFF;
+        final int msgid = (frame[7] & 0xFF) | ((frame[8] & 0xFF) << 8) | ((frame[9] & 0xFF) << 16);
+
+        if (msgid > 255) {
+            // CRC_EXTRA of the message is not known
+            return null;
+        }
+
+        frameCrc.start_checksum();
+        frameCrc.update(frame, 1, HEADER_LENGTH_MAVLINK2 - 1 + len);
+        frameCrc.finish_checksum(msgid);
+
+        if ((frame[HEADER_LENGTH_MAVLINK2 + len] & 0xFF) != frameCrc.getLSB() ||
+            (frame[HEADER_LENGTH_MAVLINK2 + len + 1] & 0xFF) != frameCrc.getMSB()) {
+            return null;
+        }
+
+        if (incompatFlags != 0) {
+            return UNSUPPORTED;
+        }
+
+        MAVLinkPacket packet;
+        if (view2 != null) {
+            packet = view2;
+            packet.len = len;
+            packet.payload.clear();
+            packet.payload.getData().position(len);
+        } else {
+            packet = newPacket(len);
+            packet.isMavlink2 = true;
+            packet.payload.getData().put(frame, HEADER_LENGTH_MAVLINK2, len);
+        }
+
+        packet.incompatFlags = incompatFlags;
+        packet.compatFlags = frame[3] & 0xFF;
+        packet.seq = frame[4] & 0xFF;
+        packet.sysid = frame[5] & 0xFF;
+        packet.compid = frame[6] & 0xFF;
+        packet.msgid = msgid;
+        return packet;
+    }
+
+    private MAVLinkPacket newPacket(int len) {
+        return pool != null ? pool.acquire(len) : new MAVLinkPacket(len);
+    }
+
+    /**
+     * Drops the specified number of bytes from the beginning of the frame
+     * buffer and restarts parsing from the next start sign found in the
+     * already received bytes.
+     */
+    private void discard(int count) {
+        for (int i = count; i < frameLength; i++) {
+            final int c = frame[i] & 0xFF;
+            if (c == MAVLinkPacket.MAVLINK_STX || c == MAVLinkPacket.MAVLINK_STX_MAVLINK2) {
+                System.arraycopy(frame, i, frame, 0, frameLength - i);
+                frameLength -= i;
+                return;
+            }
+        }
+
+        frameLength = 0;
+    }
+
 }
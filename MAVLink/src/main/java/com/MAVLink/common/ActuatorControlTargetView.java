@@ -0,0 +1,52 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE ACTUATOR_CONTROL_TARGET VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Set the vehicle attitude and body angular rates.
+*
+* Read-only view of the ACTUATOR_CONTROL_TARGET message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_actuator_control_target}
+* object.
+*/
+public final class ActuatorControlTargetView {
+
+    public static final int MAVLINK_MSG_ID_ACTUATOR_CONTROL_TARGET = msg_actuator_control_target.MAVLINK_MSG_ID_ACTUATOR_CONTROL_TARGET;
+    public static final int MAVLINK_MSG_LENGTH = msg_actuator_control_target.MAVLINK_MSG_LENGTH;
+
+    private ActuatorControlTargetView() {
+    }
+      
+    /**
+    * Timestamp (micros since boot or Unix epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Actuator controls. Normed to -1..+1 where 0 is neutral position. Throttle for single rotation direction motors is 0..1, negative range for reverse direction. Standard mapping for attitude controls (group 0): (index 0-7): roll, pitch, yaw, throttle, flaps, spoilers, airbrakes, landing gear. Load a pass-through mixer to repurpose them as generic outputs.
+    *
+    * @param index element index, 0 to 7
+    */
+    public static float controls(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 8) {
+            throw new IndexOutOfBoundsException("Invalid controls index: " + index);
+        }
+        return payload.getFloat(8 + index * 4);
+    }
+      
+    /**
+    * Actuator group. The "_mlx" indicates this is a multi-instance message and a MAVLink parser should use this field to difference between instances.
+    */
+    public static short group_mlx(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(40);
+    }
+
+}
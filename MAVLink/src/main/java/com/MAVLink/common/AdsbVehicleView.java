@@ -0,0 +1,137 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE ADSB_VEHICLE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The location and information of an ADSB vehicle
+*
+* Read-only view of the ADSB_VEHICLE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_adsb_vehicle}
+* object.
+*/
+public final class AdsbVehicleView {
+
+    public static final int MAVLINK_MSG_ID_ADSB_VEHICLE = msg_adsb_vehicle.MAVLINK_MSG_ID_ADSB_VEHICLE;
+    public static final int MAVLINK_MSG_LENGTH = msg_adsb_vehicle.MAVLINK_MSG_LENGTH;
+
+    private AdsbVehicleView() {
+    }
+      
+    /**
+    * ICAO address
+    */
+    public static long ICAO_address(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Latitude, expressed as degrees * 1E7
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Longitude, expressed as degrees * 1E7
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * Altitude(ASL) in millimeters
+    */
+    public static int altitude(MAVLinkPayload payload) {
+        return payload.getInt(12);
+    }
+      
+    /**
+    * Course over ground in centidegrees
+    */
+    public static int heading(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(16);
+    }
+      
+    /**
+    * The horizontal velocity in centimeters/second
+    */
+    public static int hor_velocity(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(18);
+    }
+      
+    /**
+    * The vertical velocity in centimeters/second, positive is up
+    */
+    public static short ver_velocity(MAVLinkPayload payload) {
+        return payload.getShort(20);
+    }
+      
+    /**
+    * Flags to indicate various statuses including valid data fields
+    */
+    public static int flags(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(22);
+    }
+      
+    /**
+    * Squawk code
+    */
+    public static int squawk(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(24);
+    }
+      
+    /**
+    * Type from ADSB_ALTITUDE_TYPE enum
+    */
+    public static short altitude_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(26);
+    }
+      
+    /**
+    * The callsign, 8+null
+    *
+    * @param index element index, 0 to 8
+    */
+    public static byte callsign(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 9) {
+            throw new IndexOutOfBoundsException("Invalid callsign index: " + index);
+        }
+        return payload.getByte(27 + index * 1);
+    }
+
+    /**
+    * Gets the message, formated as a string
+    */
+    public static String getCallsign(MAVLinkPayload payload) {
+        StringBuilder result = new StringBuilder(9);
+        for (int i = 0; i < 9; i++) {
+            byte c = payload.getByte(27 + i);
+            if (c != 0)
+                result.append((char) c);
+            else
+                break;
+        }
+        return result.toString();
+    }
+      
+    /**
+    * Type from ADSB_EMITTER_TYPE enum
+    */
+    public static short emitter_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(36);
+    }
+      
+    /**
+    * Time since last communication in seconds
+    */
+    public static short tslc(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(37);
+    }
+
+}
@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE ALTITUDE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The current system altitude.
+*
+* Read-only view of the ALTITUDE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_altitude}
+* object.
+*/
+public final class AltitudeView {
+
+    public static final int MAVLINK_MSG_ID_ALTITUDE = msg_altitude.MAVLINK_MSG_ID_ALTITUDE;
+    public static final int MAVLINK_MSG_LENGTH = msg_altitude.MAVLINK_MSG_LENGTH;
+
+    private AltitudeView() {
+    }
+      
+    /**
+    * Timestamp (micros since boot or Unix epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * This altitude measure is initialized on system boot and monotonic (it is never reset, but represents the local altitude change). The only guarantee on this field is that it will never be reset and is consistent within a flight. The recommended value for this field is the uncorrected barometric altitude at boot time. This altitude will also drift and vary between flights.
+    */
+    public static float altitude_monotonic(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * This altitude measure is strictly above mean sea level and might be non-monotonic (it might reset on events like GPS lock or when a new QNH value is set). It should be the altitude to which global altitude waypoints are compared to. Note that it is *not* the GPS altitude, however, most GPS modules already output AMSL by default and not the WGS84 altitude.
+    */
+    public static float altitude_amsl(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * This is the local altitude in the local coordinate frame. It is not the altitude above home, but in reference to the coordinate origin (0, 0, 0). It is up-positive.
+    */
+    public static float altitude_local(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * This is the altitude above the home position. It resets on each change of the current home position.
+    */
+    public static float altitude_relative(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * This is the altitude above terrain. It might be fed by a terrain database or an altimeter. Values smaller than -1000 should be interpreted as unknown.
+    */
+    public static float altitude_terrain(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * This is not the altitude, but the clear space below the system according to the fused clearance estimate. It generally should max out at the maximum range of e.g. the laser altimeter. It is generally a moving target. A negative value indicates no measurement available.
+    */
+    public static float bottom_clearance(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+
+}
@@ -0,0 +1,66 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE ATT_POS_MOCAP VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Motion capture attitude and position
+*
+* Read-only view of the ATT_POS_MOCAP message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_att_pos_mocap}
+* object.
+*/
+public final class AttPosMocapView {
+
+    public static final int MAVLINK_MSG_ID_ATT_POS_MOCAP = msg_att_pos_mocap.MAVLINK_MSG_ID_ATT_POS_MOCAP;
+    public static final int MAVLINK_MSG_LENGTH = msg_att_pos_mocap.MAVLINK_MSG_LENGTH;
+
+    private AttPosMocapView() {
+    }
+      
+    /**
+    * Timestamp (micros since boot or Unix epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Attitude quaternion (w, x, y, z order, zero-rotation is 1, 0, 0, 0)
+    *
+    * @param index element index, 0 to 3
+    */
+    public static float q(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("Invalid q index: " + index);
+        }
+        return payload.getFloat(8 + index * 4);
+    }
+      
+    /**
+    * X position in meters (NED)
+    */
+    public static float x(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Y position in meters (NED)
+    */
+    public static float y(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Z position in meters (NED)
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+
+}
@@ -0,0 +1,78 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE ATTITUDE_QUATERNION_COV VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right), expressed as quaternion. Quaternion order is w, x, y, z and a zero rotation would be expressed as (1 0 0 0).
+*
+* Read-only view of the ATTITUDE_QUATERNION_COV message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_attitude_quaternion_cov}
+* object.
+*/
+public final class AttitudeQuaternionCovView {
+
+    public static final int MAVLINK_MSG_ID_ATTITUDE_QUATERNION_COV = msg_attitude_quaternion_cov.MAVLINK_MSG_ID_ATTITUDE_QUATERNION_COV;
+    public static final int MAVLINK_MSG_LENGTH = msg_attitude_quaternion_cov.MAVLINK_MSG_LENGTH;
+
+    private AttitudeQuaternionCovView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since system boot or since UNIX epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Quaternion components, w, x, y, z (1 0 0 0 is the null-rotation)
+    *
+    * @param index element index, 0 to 3
+    */
+    public static float q(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("Invalid q index: " + index);
+        }
+        return payload.getFloat(8 + index * 4);
+    }
+      
+    /**
+    * Roll angular speed (rad/s)
+    */
+    public static float rollspeed(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Pitch angular speed (rad/s)
+    */
+    public static float pitchspeed(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Yaw angular speed (rad/s)
+    */
+    public static float yawspeed(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Attitude covariance
+    *
+    * @param index element index, 0 to 8
+    */
+    public static float covariance(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 9) {
+            throw new IndexOutOfBoundsException("Invalid covariance index: " + index);
+        }
+        return payload.getFloat(36 + index * 4);
+    }
+
+}
@@ -0,0 +1,82 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE ATTITUDE_QUATERNION VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right), expressed as quaternion. Quaternion order is w, x, y, z and a zero rotation would be expressed as (1 0 0 0).
+*
+* Read-only view of the ATTITUDE_QUATERNION message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_attitude_quaternion}
+* object.
+*/
+public final class AttitudeQuaternionView {
+
+    public static final int MAVLINK_MSG_ID_ATTITUDE_QUATERNION = msg_attitude_quaternion.MAVLINK_MSG_ID_ATTITUDE_QUATERNION;
+    public static final int MAVLINK_MSG_LENGTH = msg_attitude_quaternion.MAVLINK_MSG_LENGTH;
+
+    private AttitudeQuaternionView() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Quaternion component 1, w (1 in null-rotation)
+    */
+    public static float q1(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Quaternion component 2, x (0 in null-rotation)
+    */
+    public static float q2(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Quaternion component 3, y (0 in null-rotation)
+    */
+    public static float q3(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Quaternion component 4, z (0 in null-rotation)
+    */
+    public static float q4(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Roll angular speed (rad/s)
+    */
+    public static float rollspeed(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Pitch angular speed (rad/s)
+    */
+    public static float pitchspeed(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Yaw angular speed (rad/s)
+    */
+    public static float yawspeed(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+
+}
@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE ATTITUDE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right).
+*
+* Read-only view of the ATTITUDE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_attitude}
+* object.
+*/
+public final class AttitudeView {
+
+    public static final int MAVLINK_MSG_ID_ATTITUDE = msg_attitude.MAVLINK_MSG_ID_ATTITUDE;
+    public static final int MAVLINK_MSG_LENGTH = msg_attitude.MAVLINK_MSG_LENGTH;
+
+    private AttitudeView() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Roll angle (rad, -pi..+pi)
+    */
+    public static float roll(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Pitch angle (rad, -pi..+pi)
+    */
+    public static float pitch(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Yaw angle (rad, -pi..+pi)
+    */
+    public static float yaw(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Roll angular speed (rad/s)
+    */
+    public static float rollspeed(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Pitch angular speed (rad/s)
+    */
+    public static float pitchspeed(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Yaw angular speed (rad/s)
+    */
+    public static float yawspeed(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+
+}
@@ -0,0 +1,53 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE AUTH_KEY VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Emit an encrypted signature / key identifying this system. PLEASE NOTE: This protocol has been kept simple, so transmitting the key requires an encrypted channel for true safety.
+*
+* Read-only view of the AUTH_KEY message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_auth_key}
+* object.
+*/
+public final class AuthKeyView {
+
+    public static final int MAVLINK_MSG_ID_AUTH_KEY = msg_auth_key.MAVLINK_MSG_ID_AUTH_KEY;
+    public static final int MAVLINK_MSG_LENGTH = msg_auth_key.MAVLINK_MSG_LENGTH;
+
+    private AuthKeyView() {
+    }
+      
+    /**
+    * key
+    *
+    * @param index element index, 0 to 31
+    */
+    public static byte key(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 32) {
+            throw new IndexOutOfBoundsException("Invalid key index: " + index);
+        }
+        return payload.getByte(0 + index * 1);
+    }
+
+    /**
+    * Gets the message, formated as a string
+    */
+    public static String getKey(MAVLinkPayload payload) {
+        StringBuilder result = new StringBuilder(32);
+        for (int i = 0; i < 32; i++) {
+            byte c = payload.getByte(0 + i);
+            if (c != 0)
+                result.append((char) c);
+            else
+                break;
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,118 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE AUTOPILOT_VERSION VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Version and capability of autopilot software
+*
+* Read-only view of the AUTOPILOT_VERSION message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_autopilot_version}
+* object.
+*/
+public final class AutopilotVersionView {
+
+    public static final int MAVLINK_MSG_ID_AUTOPILOT_VERSION = msg_autopilot_version.MAVLINK_MSG_ID_AUTOPILOT_VERSION;
+    public static final int MAVLINK_MSG_LENGTH = msg_autopilot_version.MAVLINK_MSG_LENGTH;
+
+    private AutopilotVersionView() {
+    }
+      
+    /**
+    * bitmask of capabilities (see MAV_PROTOCOL_CAPABILITY enum)
+    */
+    public static long capabilities(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * UID if provided by hardware
+    */
+    public static long uid(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(8);
+    }
+      
+    /**
+    * Firmware version number
+    */
+    public static long flight_sw_version(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(16);
+    }
+      
+    /**
+    * Middleware version number
+    */
+    public static long middleware_sw_version(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(20);
+    }
+      
+    /**
+    * Operating system version number
+    */
+    public static long os_sw_version(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(24);
+    }
+      
+    /**
+    * HW / board version (last 8 bytes should be silicon ID, if any)
+    */
+    public static long board_version(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(28);
+    }
+      
+    /**
+    * ID of the board vendor
+    */
+    public static int vendor_id(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(32);
+    }
+      
+    /**
+    * ID of the product
+    */
+    public static int product_id(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(34);
+    }
+      
+    /**
+    * Custom version field, commonly the first 8 bytes of the git hash. This is not an unique identifier, but should allow to identify the commit using the main version number even for very large code bases.
+    *
+    * @param index element index, 0 to 7
+    */
+    public static short flight_custom_version(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 8) {
+            throw new IndexOutOfBoundsException("Invalid flight_custom_version index: " + index);
+        }
+        return payload.getUnsignedByte(36 + index * 1);
+    }
+      
+    /**
+    * Custom version field, commonly the first 8 bytes of the git hash. This is not an unique identifier, but should allow to identify the commit using the main version number even for very large code bases.
+    *
+    * @param index element index, 0 to 7
+    */
+    public static short middleware_custom_version(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 8) {
+            throw new IndexOutOfBoundsException("Invalid middleware_custom_version index: " + index);
+        }
+        return payload.getUnsignedByte(44 + index * 1);
+    }
+      
+    /**
+    * Custom version field, commonly the first 8 bytes of the git hash. This is not an unique identifier, but should allow to identify the commit using the main version number even for very large code bases.
+    *
+    * @param index element index, 0 to 7
+    */
+    public static short os_custom_version(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 8) {
+            throw new IndexOutOfBoundsException("Invalid os_custom_version index: " + index);
+        }
+        return payload.getUnsignedByte(52 + index * 1);
+    }
+
+}
@@ -0,0 +1,94 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE BATTERY_STATUS VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Battery information
+*
+* Read-only view of the BATTERY_STATUS message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_battery_status}
+* object.
+*/
+public final class BatteryStatusView {
+
+    public static final int MAVLINK_MSG_ID_BATTERY_STATUS = msg_battery_status.MAVLINK_MSG_ID_BATTERY_STATUS;
+    public static final int MAVLINK_MSG_LENGTH = msg_battery_status.MAVLINK_MSG_LENGTH;
+
+    private BatteryStatusView() {
+    }
+      
+    /**
+    * Consumed charge, in milliampere hours (1 = 1 mAh), -1: autopilot does not provide mAh consumption estimate
+    */
+    public static int current_consumed(MAVLinkPayload payload) {
+        return payload.getInt(0);
+    }
+      
+    /**
+    * Consumed energy, in 100*Joules (intergrated U*I*dt)  (1 = 100 Joule), -1: autopilot does not provide energy consumption estimate
+    */
+    public static int energy_consumed(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Temperature of the battery in centi-degrees celsius. INT16_MAX for unknown temperature.
+    */
+    public static short temperature(MAVLinkPayload payload) {
+        return payload.getShort(8);
+    }
+      
+    /**
+    * Battery voltage of cells, in millivolts (1 = 1 millivolt). Cells above the valid cell count for this battery should have the UINT16_MAX value.
+    *
+    * @param index element index, 0 to 9
+    */
+    public static int voltages(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 10) {
+            throw new IndexOutOfBoundsException("Invalid voltages index: " + index);
+        }
+        return payload.getUnsignedShort(10 + index * 2);
+    }
+      
+    /**
+    * Battery current, in 10*milliamperes (1 = 10 milliampere), -1: autopilot does not measure the current
+    */
+    public static short current_battery(MAVLinkPayload payload) {
+        return payload.getShort(30);
+    }
+      
+    /**
+    * Battery ID
+    */
+    public static short id(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(32);
+    }
+      
+    /**
+    * Function of the battery
+    */
+    public static short battery_function(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(33);
+    }
+      
+    /**
+    * Type (chemistry) of the battery
+    */
+    public static short type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(34);
+    }
+      
+    /**
+    * Remaining battery energy: (0%: 0, 100%: 100), -1: autopilot does not estimate the remaining battery
+    */
+    public static byte battery_remaining(MAVLinkPayload payload) {
+        return payload.getByte(35);
+    }
+
+}
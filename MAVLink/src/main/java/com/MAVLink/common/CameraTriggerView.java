@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE CAMERA_TRIGGER VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Camera-IMU triggering and synchronisation message.
+*
+* Read-only view of the CAMERA_TRIGGER message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_camera_trigger}
+* object.
+*/
+public final class CameraTriggerView {
+
+    public static final int MAVLINK_MSG_ID_CAMERA_TRIGGER = msg_camera_trigger.MAVLINK_MSG_ID_CAMERA_TRIGGER;
+    public static final int MAVLINK_MSG_LENGTH = msg_camera_trigger.MAVLINK_MSG_LENGTH;
+
+    private CameraTriggerView() {
+    }
+      
+    /**
+    * Timestamp for the image frame in microseconds
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Image frame sequence
+    */
+    public static long seq(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(8);
+    }
+
+}
@@ -0,0 +1,47 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE CHANGE_OPERATOR_CONTROL_ACK VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Accept / deny control of this MAV
+*
+* Read-only view of the CHANGE_OPERATOR_CONTROL_ACK message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_change_operator_control_ack}
+* object.
+*/
+public final class ChangeOperatorControlAckView {
+
+    public static final int MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK = msg_change_operator_control_ack.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL_ACK;
+    public static final int MAVLINK_MSG_LENGTH = msg_change_operator_control_ack.MAVLINK_MSG_LENGTH;
+
+    private ChangeOperatorControlAckView() {
+    }
+      
+    /**
+    * ID of the GCS this message 
+    */
+    public static short gcs_system_id(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * 0: request control of this MAV, 1: Release control of this MAV
+    */
+    public static short control_request(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+      
+    /**
+    * 0: ACK, 1: NACK: Wrong passkey, 2: NACK: Unsupported passkey encryption method, 3: NACK: Already under control
+    */
+    public static short ack(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+
+}
@@ -0,0 +1,74 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE CHANGE_OPERATOR_CONTROL VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Request to control this MAV
+*
+* Read-only view of the CHANGE_OPERATOR_CONTROL message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_change_operator_control}
+* object.
+*/
+public final class ChangeOperatorControlView {
+
+    public static final int MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL = msg_change_operator_control.MAVLINK_MSG_ID_CHANGE_OPERATOR_CONTROL;
+    public static final int MAVLINK_MSG_LENGTH = msg_change_operator_control.MAVLINK_MSG_LENGTH;
+
+    private ChangeOperatorControlView() {
+    }
+      
+    /**
+    * System the GCS requests control for
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * 0: request control of this MAV, 1: Release control of this MAV
+    */
+    public static short control_request(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+      
+    /**
+    * 0: key as plaintext, 1-255: future, different hashing/encryption variants. The GCS should in general use the safest mode possible initially and then gradually move down the encryption level if it gets a NACK message indicating an encryption mismatch.
+    */
+    public static short version(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * Password / Key, depending on version plaintext or encrypted. 25 or less characters, NULL terminated. The characters may involve A-Z, a-z, 0-9, and "!?,.-"
+    *
+    * @param index element index, 0 to 24
+    */
+    public static byte passkey(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 25) {
+            throw new IndexOutOfBoundsException("Invalid passkey index: " + index);
+        }
+        return payload.getByte(3 + index * 1);
+    }
+
+    /**
+    * Gets the message, formated as a string
+    */
+    public static String getPasskey(MAVLinkPayload payload) {
+        StringBuilder result = new StringBuilder(25);
+        for (int i = 0; i < 25; i++) {
+            byte c = payload.getByte(3 + i);
+            if (c != 0)
+                result.append((char) c);
+            else
+                break;
+        }
+        return result.toString();
+    }
+
+}
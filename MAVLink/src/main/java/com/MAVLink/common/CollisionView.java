@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE COLLISION VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Information about a potential collision
+*
+* Read-only view of the COLLISION message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_collision}
+* object.
+*/
+public final class CollisionView {
+
+    public static final int MAVLINK_MSG_ID_COLLISION = msg_collision.MAVLINK_MSG_ID_COLLISION;
+    public static final int MAVLINK_MSG_LENGTH = msg_collision.MAVLINK_MSG_LENGTH;
+
+    private CollisionView() {
+    }
+      
+    /**
+    * Unique identifier, domain based on src field
+    */
+    public static long id(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Estimated time until collision occurs (seconds)
+    */
+    public static float time_to_minimum_delta(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Closest vertical distance in meters between vehicle and object
+    */
+    public static float altitude_minimum_delta(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Closest horizontal distance in meteres between vehicle and object
+    */
+    public static float horizontal_minimum_delta(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Collision data source
+    */
+    public static short src(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(16);
+    }
+      
+    /**
+    * Action that is being taken to avoid this collision
+    */
+    public static short action(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(17);
+    }
+      
+    /**
+    * How concerned the aircraft is about this collision
+    */
+    public static short threat_level(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(18);
+    }
+
+}
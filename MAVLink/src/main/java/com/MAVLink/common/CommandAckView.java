@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE COMMAND_ACK VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Report status of a command. Includes feedback wether the command was executed.
+*
+* Read-only view of the COMMAND_ACK message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_command_ack}
+* object.
+*/
+public final class CommandAckView {
+
+    public static final int MAVLINK_MSG_ID_COMMAND_ACK = msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK;
+    public static final int MAVLINK_MSG_LENGTH = msg_command_ack.MAVLINK_MSG_LENGTH;
+
+    private CommandAckView() {
+    }
+      
+    /**
+    * Command ID, as defined by MAV_CMD enum.
+    */
+    public static int command(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * See MAV_RESULT enum
+    */
+    public static short result(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+
+}
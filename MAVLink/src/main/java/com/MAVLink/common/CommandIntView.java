@@ -0,0 +1,117 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE COMMAND_INT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Message encoding a command with parameters as scaled integers. Scaling depends on the actual command value.
+*
+* Read-only view of the COMMAND_INT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_command_int}
+* object.
+*/
+public final class CommandIntView {
+
+    public static final int MAVLINK_MSG_ID_COMMAND_INT = msg_command_int.MAVLINK_MSG_ID_COMMAND_INT;
+    public static final int MAVLINK_MSG_LENGTH = msg_command_int.MAVLINK_MSG_LENGTH;
+
+    private CommandIntView() {
+    }
+      
+    /**
+    * PARAM1, see MAV_CMD enum
+    */
+    public static float param1(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * PARAM2, see MAV_CMD enum
+    */
+    public static float param2(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * PARAM3, see MAV_CMD enum
+    */
+    public static float param3(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * PARAM4, see MAV_CMD enum
+    */
+    public static float param4(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * PARAM5 / local: x position in meters * 1e4, global: latitude in degrees * 10^7
+    */
+    public static int x(MAVLinkPayload payload) {
+        return payload.getInt(16);
+    }
+      
+    /**
+    * PARAM6 / local: y position in meters * 1e4, global: longitude in degrees * 10^7
+    */
+    public static int y(MAVLinkPayload payload) {
+        return payload.getInt(20);
+    }
+      
+    /**
+    * PARAM7 / z position: global: altitude in meters (relative or absolute, depending on frame.
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * The scheduled action for the mission item. see MAV_CMD in common.xml MAVLink specs
+    */
+    public static int command(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(28);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(30);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(31);
+    }
+      
+    /**
+    * The coordinate system of the COMMAND. see MAV_FRAME in mavlink_types.h
+    */
+    public static short frame(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(32);
+    }
+      
+    /**
+    * false:0, true:1
+    */
+    public static short current(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(33);
+    }
+      
+    /**
+    * autocontinue to next wp
+    */
+    public static short autocontinue(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(34);
+    }
+
+}
@@ -0,0 +1,103 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE COMMAND_LONG VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Send a command with up to seven parameters to the MAV
+*
+* Read-only view of the COMMAND_LONG message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_command_long}
+* object.
+*/
+public final class CommandLongView {
+
+    public static final int MAVLINK_MSG_ID_COMMAND_LONG = msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG;
+    public static final int MAVLINK_MSG_LENGTH = msg_command_long.MAVLINK_MSG_LENGTH;
+
+    private CommandLongView() {
+    }
+      
+    /**
+    * Parameter 1, as defined by MAV_CMD enum.
+    */
+    public static float param1(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * Parameter 2, as defined by MAV_CMD enum.
+    */
+    public static float param2(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Parameter 3, as defined by MAV_CMD enum.
+    */
+    public static float param3(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Parameter 4, as defined by MAV_CMD enum.
+    */
+    public static float param4(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Parameter 5, as defined by MAV_CMD enum.
+    */
+    public static float param5(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Parameter 6, as defined by MAV_CMD enum.
+    */
+    public static float param6(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Parameter 7, as defined by MAV_CMD enum.
+    */
+    public static float param7(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Command ID, as defined by MAV_CMD enum.
+    */
+    public static int command(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(28);
+    }
+      
+    /**
+    * System which should execute the command
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(30);
+    }
+      
+    /**
+    * Component which should execute the command, 0 for all components
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(31);
+    }
+      
+    /**
+    * 0: First transmission of this command. 1-255: Confirmation transmissions (e.g. for kill command)
+    */
+    public static short confirmation(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(32);
+    }
+
+}
@@ -0,0 +1,160 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE CONTROL_SYSTEM_STATE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The smoothed, monotonic system state used to feed the control loops of the system.
+*
+* Read-only view of the CONTROL_SYSTEM_STATE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_control_system_state}
+* object.
+*/
+public final class ControlSystemStateView {
+
+    public static final int MAVLINK_MSG_ID_CONTROL_SYSTEM_STATE = msg_control_system_state.MAVLINK_MSG_ID_CONTROL_SYSTEM_STATE;
+    public static final int MAVLINK_MSG_LENGTH = msg_control_system_state.MAVLINK_MSG_LENGTH;
+
+    private ControlSystemStateView() {
+    }
+      
+    /**
+    * Timestamp (micros since boot or Unix epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * X acceleration in body frame
+    */
+    public static float x_acc(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Y acceleration in body frame
+    */
+    public static float y_acc(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Z acceleration in body frame
+    */
+    public static float z_acc(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * X velocity in body frame
+    */
+    public static float x_vel(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Y velocity in body frame
+    */
+    public static float y_vel(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Z velocity in body frame
+    */
+    public static float z_vel(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * X position in local frame
+    */
+    public static float x_pos(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Y position in local frame
+    */
+    public static float y_pos(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+      
+    /**
+    * Z position in local frame
+    */
+    public static float z_pos(MAVLinkPayload payload) {
+        return payload.getFloat(40);
+    }
+      
+    /**
+    * Airspeed, set to -1 if unknown
+    */
+    public static float airspeed(MAVLinkPayload payload) {
+        return payload.getFloat(44);
+    }
+      
+    /**
+    * Variance of body velocity estimate
+    *
+    * @param index element index, 0 to 2
+    */
+    public static float vel_variance(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("Invalid vel_variance index: " + index);
+        }
+        return payload.getFloat(48 + index * 4);
+    }
+      
+    /**
+    * Variance in local position
+    *
+    * @param index element index, 0 to 2
+    */
+    public static float pos_variance(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("Invalid pos_variance index: " + index);
+        }
+        return payload.getFloat(60 + index * 4);
+    }
+      
+    /**
+    * The attitude, represented as Quaternion
+    *
+    * @param index element index, 0 to 3
+    */
+    public static float q(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("Invalid q index: " + index);
+        }
+        return payload.getFloat(72 + index * 4);
+    }
+      
+    /**
+    * Angular rate in roll axis
+    */
+    public static float roll_rate(MAVLinkPayload payload) {
+        return payload.getFloat(88);
+    }
+      
+    /**
+    * Angular rate in pitch axis
+    */
+    public static float pitch_rate(MAVLinkPayload payload) {
+        return payload.getFloat(92);
+    }
+      
+    /**
+    * Angular rate in yaw axis
+    */
+    public static float yaw_rate(MAVLinkPayload payload) {
+        return payload.getFloat(96);
+    }
+
+}
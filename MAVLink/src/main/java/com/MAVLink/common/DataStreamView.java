@@ -0,0 +1,47 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE DATA_STREAM VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* THIS INTERFACE IS DEPRECATED. USE MESSAGE_INTERVAL INSTEAD.
+*
+* Read-only view of the DATA_STREAM message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_data_stream}
+* object.
+*/
+public final class DataStreamView {
+
+    public static final int MAVLINK_MSG_ID_DATA_STREAM = msg_data_stream.MAVLINK_MSG_ID_DATA_STREAM;
+    public static final int MAVLINK_MSG_LENGTH = msg_data_stream.MAVLINK_MSG_LENGTH;
+
+    private DataStreamView() {
+    }
+      
+    /**
+    * The message rate
+    */
+    public static int message_rate(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * The ID of the requested data stream
+    */
+    public static short stream_id(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * 1 stream is enabled, 0 stream is stopped.
+    */
+    public static short on_off(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(3);
+    }
+
+}
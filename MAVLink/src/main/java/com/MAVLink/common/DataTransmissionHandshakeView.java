@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE DATA_TRANSMISSION_HANDSHAKE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* 
+*
+* Read-only view of the DATA_TRANSMISSION_HANDSHAKE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_data_transmission_handshake}
+* object.
+*/
+public final class DataTransmissionHandshakeView {
+
+    public static final int MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE = msg_data_transmission_handshake.MAVLINK_MSG_ID_DATA_TRANSMISSION_HANDSHAKE;
+    public static final int MAVLINK_MSG_LENGTH = msg_data_transmission_handshake.MAVLINK_MSG_LENGTH;
+
+    private DataTransmissionHandshakeView() {
+    }
+      
+    /**
+    * total data size in bytes (set on ACK only)
+    */
+    public static long size(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Width of a matrix or image
+    */
+    public static int width(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+      
+    /**
+    * Height of a matrix or image
+    */
+    public static int height(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(6);
+    }
+      
+    /**
+    * number of packets beeing sent (set on ACK only)
+    */
+    public static int packets(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * type of requested/acknowledged data (as defined in ENUM DATA_TYPES in mavlink/include/mavlink_types.h)
+    */
+    public static short type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(10);
+    }
+      
+    /**
+    * payload size per packet (normally 253 byte, see DATA field size in message ENCAPSULATED_DATA) (set on ACK only)
+    */
+    public static short payload(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(11);
+    }
+      
+    /**
+    * JPEG quality out of [1,100]
+    */
+    public static short jpg_quality(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(12);
+    }
+
+}
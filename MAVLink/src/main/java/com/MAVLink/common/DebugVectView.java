@@ -0,0 +1,81 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE DEBUG_VECT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* 
+*
+* Read-only view of the DEBUG_VECT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_debug_vect}
+* object.
+*/
+public final class DebugVectView {
+
+    public static final int MAVLINK_MSG_ID_DEBUG_VECT = msg_debug_vect.MAVLINK_MSG_ID_DEBUG_VECT;
+    public static final int MAVLINK_MSG_LENGTH = msg_debug_vect.MAVLINK_MSG_LENGTH;
+
+    private DebugVectView() {
+    }
+      
+    /**
+    * Timestamp
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * x
+    */
+    public static float x(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * y
+    */
+    public static float y(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * z
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Name
+    *
+    * @param index element index, 0 to 9
+    */
+    public static byte name(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 10) {
+            throw new IndexOutOfBoundsException("Invalid name index: " + index);
+        }
+        return payload.getByte(20 + index * 1);
+    }
+
+    /**
+    * Gets the message, formated as a string
+    */
+    public static String getName(MAVLinkPayload payload) {
+        StringBuilder result = new StringBuilder(10);
+        for (int i = 0; i < 10; i++) {
+            byte c = payload.getByte(20 + i);
+            if (c != 0)
+                result.append((char) c);
+            else
+                break;
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,47 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE DEBUG VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Send a debug value. The index is used to discriminate between values. These values show up in the plot of QGroundControl as DEBUG N.
+*
+* Read-only view of the DEBUG message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_debug}
+* object.
+*/
+public final class DebugView {
+
+    public static final int MAVLINK_MSG_ID_DEBUG = msg_debug.MAVLINK_MSG_ID_DEBUG;
+    public static final int MAVLINK_MSG_LENGTH = msg_debug.MAVLINK_MSG_LENGTH;
+
+    private DebugView() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * DEBUG value
+    */
+    public static float value(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * index of debug variable
+    */
+    public static short ind(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(8);
+    }
+
+}
@@ -0,0 +1,82 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE DISTANCE_SENSOR VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* 
+*
+* Read-only view of the DISTANCE_SENSOR message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_distance_sensor}
+* object.
+*/
+public final class DistanceSensorView {
+
+    public static final int MAVLINK_MSG_ID_DISTANCE_SENSOR = msg_distance_sensor.MAVLINK_MSG_ID_DISTANCE_SENSOR;
+    public static final int MAVLINK_MSG_LENGTH = msg_distance_sensor.MAVLINK_MSG_LENGTH;
+
+    private DistanceSensorView() {
+    }
+      
+    /**
+    * Time since system boot
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Minimum distance the sensor can measure in centimeters
+    */
+    public static int min_distance(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+      
+    /**
+    * Maximum distance the sensor can measure in centimeters
+    */
+    public static int max_distance(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(6);
+    }
+      
+    /**
+    * Current distance reading
+    */
+    public static int current_distance(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * Type from MAV_DISTANCE_SENSOR enum.
+    */
+    public static short type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(10);
+    }
+      
+    /**
+    * Onboard ID of the sensor
+    */
+    public static short id(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(11);
+    }
+      
+    /**
+    * Direction the sensor faces from MAV_SENSOR_ORIENTATION enum.
+    */
+    public static short orientation(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(12);
+    }
+      
+    /**
+    * Measurement covariance in centimeters, 0 for unknown / invalid readings
+    */
+    public static short covariance(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(13);
+    }
+
+}
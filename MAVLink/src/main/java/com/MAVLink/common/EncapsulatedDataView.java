@@ -0,0 +1,45 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE ENCAPSULATED_DATA VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* 
+*
+* Read-only view of the ENCAPSULATED_DATA message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_encapsulated_data}
+* object.
+*/
+public final class EncapsulatedDataView {
+
+    public static final int MAVLINK_MSG_ID_ENCAPSULATED_DATA = msg_encapsulated_data.MAVLINK_MSG_ID_ENCAPSULATED_DATA;
+    public static final int MAVLINK_MSG_LENGTH = msg_encapsulated_data.MAVLINK_MSG_LENGTH;
+
+    private EncapsulatedDataView() {
+    }
+      
+    /**
+    * sequence number (starting with 0 on every transmission)
+    */
+    public static int seqnr(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * image data bytes
+    *
+    * @param index element index, 0 to 252
+    */
+    public static short data(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 253) {
+            throw new IndexOutOfBoundsException("Invalid data index: " + index);
+        }
+        return payload.getUnsignedByte(2 + index * 1);
+    }
+
+}
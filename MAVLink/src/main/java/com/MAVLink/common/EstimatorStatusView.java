@@ -0,0 +1,96 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE ESTIMATOR_STATUS VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Estimator status message including flags, innovation test ratios and estimated accuracies. The flags message is an integer bitmask containing information on which EKF outputs are valid. See the ESTIMATOR_STATUS_FLAGS enum definition for further information. The innovaton test ratios show the magnitude of the sensor innovation divided by the innovation check threshold. Under normal operation the innovaton test ratios should be below 0.5 with occasional values up to 1.0. Values greater than 1.0 should be rare under normal operation and indicate that a measurement has been rejected by the filter. The user should be notified if an innovation test ratio greater than 1.0 is recorded. Notifications for values in the range between 0.5 and 1.0 should be optional and controllable by the user.
+*
+* Read-only view of the ESTIMATOR_STATUS message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_estimator_status}
+* object.
+*/
+public final class EstimatorStatusView {
+
+    public static final int MAVLINK_MSG_ID_ESTIMATOR_STATUS = msg_estimator_status.MAVLINK_MSG_ID_ESTIMATOR_STATUS;
+    public static final int MAVLINK_MSG_LENGTH = msg_estimator_status.MAVLINK_MSG_LENGTH;
+
+    private EstimatorStatusView() {
+    }
+      
+    /**
+    * Timestamp (micros since boot or Unix epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Velocity innovation test ratio
+    */
+    public static float vel_ratio(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Horizontal position innovation test ratio
+    */
+    public static float pos_horiz_ratio(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Vertical position innovation test ratio
+    */
+    public static float pos_vert_ratio(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Magnetometer innovation test ratio
+    */
+    public static float mag_ratio(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Height above terrain innovation test ratio
+    */
+    public static float hagl_ratio(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * True airspeed innovation test ratio
+    */
+    public static float tas_ratio(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Horizontal position 1-STD accuracy relative to the EKF local origin (m)
+    */
+    public static float pos_horiz_accuracy(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Vertical position 1-STD accuracy relative to the EKF local origin (m)
+    */
+    public static float pos_vert_accuracy(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+      
+    /**
+    * Integer bitmask indicating which EKF outputs are valid. See definition for ESTIMATOR_STATUS_FLAGS.
+    */
+    public static int flags(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(40);
+    }
+
+}
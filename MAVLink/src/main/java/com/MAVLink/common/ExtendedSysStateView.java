@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE EXTENDED_SYS_STATE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Provides state for additional features
+*
+* Read-only view of the EXTENDED_SYS_STATE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_extended_sys_state}
+* object.
+*/
+public final class ExtendedSysStateView {
+
+    public static final int MAVLINK_MSG_ID_EXTENDED_SYS_STATE = msg_extended_sys_state.MAVLINK_MSG_ID_EXTENDED_SYS_STATE;
+    public static final int MAVLINK_MSG_LENGTH = msg_extended_sys_state.MAVLINK_MSG_LENGTH;
+
+    private ExtendedSysStateView() {
+    }
+      
+    /**
+    * The VTOL state if applicable. Is set to MAV_VTOL_STATE_UNDEFINED if UAV is not in VTOL configuration.
+    */
+    public static short vtol_state(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * The landed state. Is set to MAV_LANDED_STATE_UNDEFINED if landed state is unknown.
+    */
+    public static short landed_state(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+
+}
@@ -0,0 +1,59 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE FILE_TRANSFER_PROTOCOL VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* File transfer message
+*
+* Read-only view of the FILE_TRANSFER_PROTOCOL message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_file_transfer_protocol}
+* object.
+*/
+public final class FileTransferProtocolView {
+
+    public static final int MAVLINK_MSG_ID_FILE_TRANSFER_PROTOCOL = msg_file_transfer_protocol.MAVLINK_MSG_ID_FILE_TRANSFER_PROTOCOL;
+    public static final int MAVLINK_MSG_LENGTH = msg_file_transfer_protocol.MAVLINK_MSG_LENGTH;
+
+    private FileTransferProtocolView() {
+    }
+      
+    /**
+    * Network ID (0 for broadcast)
+    */
+    public static short target_network(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * System ID (0 for broadcast)
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+      
+    /**
+    * Component ID (0 for broadcast)
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * Variable length payload. The length is defined by the remaining message length when subtracting the header and other fields.  The entire content of this block is opaque unless you understand any the encoding message_type.  The particular encoding used can be extension specific and might not always be documented as part of the mavlink specification.
+    *
+    * @param index element index, 0 to 250
+    */
+    public static short payload(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 251) {
+            throw new IndexOutOfBoundsException("Invalid payload index: " + index);
+        }
+        return payload.getUnsignedByte(3 + index * 1);
+    }
+
+}
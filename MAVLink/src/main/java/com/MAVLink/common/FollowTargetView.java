@@ -0,0 +1,128 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE FOLLOW_TARGET VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* current motion information from a designated system
+*
+* Read-only view of the FOLLOW_TARGET message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_follow_target}
+* object.
+*/
+public final class FollowTargetView {
+
+    public static final int MAVLINK_MSG_ID_FOLLOW_TARGET = msg_follow_target.MAVLINK_MSG_ID_FOLLOW_TARGET;
+    public static final int MAVLINK_MSG_LENGTH = msg_follow_target.MAVLINK_MSG_LENGTH;
+
+    private FollowTargetView() {
+    }
+      
+    /**
+    * Timestamp in milliseconds since system boot
+    */
+    public static long timestamp(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * button states or switches of a tracker device
+    */
+    public static long custom_state(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(8);
+    }
+      
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(16);
+    }
+      
+    /**
+    * Longitude (WGS84), in degrees * 1E7
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(20);
+    }
+      
+    /**
+    * AMSL, in meters
+    */
+    public static float alt(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * target velocity (0,0,0) for unknown
+    *
+    * @param index element index, 0 to 2
+    */
+    public static float vel(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("Invalid vel index: " + index);
+        }
+        return payload.getFloat(28 + index * 4);
+    }
+      
+    /**
+    * linear target acceleration (0,0,0) for unknown
+    *
+    * @param index element index, 0 to 2
+    */
+    public static float acc(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("Invalid acc index: " + index);
+        }
+        return payload.getFloat(40 + index * 4);
+    }
+      
+    /**
+    * (1 0 0 0 for unknown)
+    *
+    * @param index element index, 0 to 3
+    */
+    public static float attitude_q(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("Invalid attitude_q index: " + index);
+        }
+        return payload.getFloat(52 + index * 4);
+    }
+      
+    /**
+    * (0 0 0 for unknown)
+    *
+    * @param index element index, 0 to 2
+    */
+    public static float rates(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("Invalid rates index: " + index);
+        }
+        return payload.getFloat(68 + index * 4);
+    }
+      
+    /**
+    * eph epv
+    *
+    * @param index element index, 0 to 2
+    */
+    public static float position_cov(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 3) {
+            throw new IndexOutOfBoundsException("Invalid position_cov index: " + index);
+        }
+        return payload.getFloat(80 + index * 4);
+    }
+      
+    /**
+    * bit positions for tracker reporting capabilities (POS = 0, VEL = 1, ACCEL = 2, ATT + RATES = 3)
+    */
+    public static short est_capabilities(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(92);
+    }
+
+}
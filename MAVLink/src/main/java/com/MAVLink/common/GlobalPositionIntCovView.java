@@ -0,0 +1,101 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE GLOBAL_POSITION_INT_COV VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The filtered global position (e.g. fused GPS and accelerometers). The position is in GPS-frame (right-handed, Z-up). It  is designed as scaled integer message since the resolution of float is not sufficient. NOTE: This message is intended for onboard networks / companion computers and higher-bandwidth links and optimized for accuracy and completeness. Please use the GLOBAL_POSITION_INT message for a minimal subset.
+*
+* Read-only view of the GLOBAL_POSITION_INT_COV message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_global_position_int_cov}
+* object.
+*/
+public final class GlobalPositionIntCovView {
+
+    public static final int MAVLINK_MSG_ID_GLOBAL_POSITION_INT_COV = msg_global_position_int_cov.MAVLINK_MSG_ID_GLOBAL_POSITION_INT_COV;
+    public static final int MAVLINK_MSG_LENGTH = msg_global_position_int_cov.MAVLINK_MSG_LENGTH;
+
+    private GlobalPositionIntCovView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since system boot or since UNIX epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Latitude, expressed as degrees * 1E7
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * Longitude, expressed as degrees * 1E7
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(12);
+    }
+      
+    /**
+    * Altitude in meters, expressed as * 1000 (millimeters), above MSL
+    */
+    public static int alt(MAVLinkPayload payload) {
+        return payload.getInt(16);
+    }
+      
+    /**
+    * Altitude above ground in meters, expressed as * 1000 (millimeters)
+    */
+    public static int relative_alt(MAVLinkPayload payload) {
+        return payload.getInt(20);
+    }
+      
+    /**
+    * Ground X Speed (Latitude), expressed as m/s
+    */
+    public static float vx(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Ground Y Speed (Longitude), expressed as m/s
+    */
+    public static float vy(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Ground Z Speed (Altitude), expressed as m/s
+    */
+    public static float vz(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Covariance matrix (first six entries are the first ROW, next six entries are the second row, etc.)
+    *
+    * @param index element index, 0 to 35
+    */
+    public static float covariance(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 36) {
+            throw new IndexOutOfBoundsException("Invalid covariance index: " + index);
+        }
+        return payload.getFloat(36 + index * 4);
+    }
+      
+    /**
+    * Class id of the estimator this estimate originated from.
+    */
+    public static short estimator_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(180);
+    }
+
+}
@@ -0,0 +1,90 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE GLOBAL_POSITION_INT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The filtered global position (e.g. fused GPS and accelerometers). The position is in GPS-frame (right-handed, Z-up). It
+               is designed as scaled integer message since the resolution of float is not sufficient.
+*
+* Read-only view of the GLOBAL_POSITION_INT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_global_position_int}
+* object.
+*/
+public final class GlobalPositionIntView {
+
+    public static final int MAVLINK_MSG_ID_GLOBAL_POSITION_INT = msg_global_position_int.MAVLINK_MSG_ID_GLOBAL_POSITION_INT;
+    public static final int MAVLINK_MSG_LENGTH = msg_global_position_int.MAVLINK_MSG_LENGTH;
+
+    private GlobalPositionIntView() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Latitude, expressed as degrees * 1E7
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Longitude, expressed as degrees * 1E7
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * Altitude in meters, expressed as * 1000 (millimeters), AMSL (not WGS84 - note that virtually all GPS modules provide the AMSL as well)
+    */
+    public static int alt(MAVLinkPayload payload) {
+        return payload.getInt(12);
+    }
+      
+    /**
+    * Altitude above ground in meters, expressed as * 1000 (millimeters)
+    */
+    public static int relative_alt(MAVLinkPayload payload) {
+        return payload.getInt(16);
+    }
+      
+    /**
+    * Ground X Speed (Latitude, positive north), expressed as m/s * 100
+    */
+    public static short vx(MAVLinkPayload payload) {
+        return payload.getShort(20);
+    }
+      
+    /**
+    * Ground Y Speed (Longitude, positive east), expressed as m/s * 100
+    */
+    public static short vy(MAVLinkPayload payload) {
+        return payload.getShort(22);
+    }
+      
+    /**
+    * Ground Z Speed (Altitude, positive down), expressed as m/s * 100
+    */
+    public static short vz(MAVLinkPayload payload) {
+        return payload.getShort(24);
+    }
+      
+    /**
+    * Vehicle heading (yaw angle) in degrees * 100, 0.0..359.99 degrees. If unknown, set to: UINT16_MAX
+    */
+    public static int hdg(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(26);
+    }
+
+}
@@ -0,0 +1,110 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE GPS2_RAW VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Second GPS data. Coordinate frame is right-handed, Z-axis up (GPS frame).
+*
+* Read-only view of the GPS2_RAW message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_gps2_raw}
+* object.
+*/
+public final class Gps2RawView {
+
+    public static final int MAVLINK_MSG_ID_GPS2_RAW = msg_gps2_raw.MAVLINK_MSG_ID_GPS2_RAW;
+    public static final int MAVLINK_MSG_LENGTH = msg_gps2_raw.MAVLINK_MSG_LENGTH;
+
+    private Gps2RawView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * Longitude (WGS84), in degrees * 1E7
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(12);
+    }
+      
+    /**
+    * Altitude (AMSL, not WGS84), in meters * 1000 (positive for up)
+    */
+    public static int alt(MAVLinkPayload payload) {
+        return payload.getInt(16);
+    }
+      
+    /**
+    * Age of DGPS info
+    */
+    public static long dgps_age(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(20);
+    }
+      
+    /**
+    * GPS HDOP horizontal dilution of position in cm (m*100). If unknown, set to: UINT16_MAX
+    */
+    public static int eph(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(24);
+    }
+      
+    /**
+    * GPS VDOP vertical dilution of position in cm (m*100). If unknown, set to: UINT16_MAX
+    */
+    public static int epv(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(26);
+    }
+      
+    /**
+    * GPS ground speed (m/s * 100). If unknown, set to: UINT16_MAX
+    */
+    public static int vel(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(28);
+    }
+      
+    /**
+    * Course over ground (NOT heading, but direction of movement) in degrees * 100, 0.0..359.99 degrees. If unknown, set to: UINT16_MAX
+    */
+    public static int cog(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(30);
+    }
+      
+    /**
+    * See the GPS_FIX_TYPE enum.
+    */
+    public static short fix_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(32);
+    }
+      
+    /**
+    * Number of satellites visible. If unknown, set to 255
+    */
+    public static short satellites_visible(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(33);
+    }
+      
+    /**
+    * Number of DGPS satellites
+    */
+    public static short dgps_numch(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(34);
+    }
+
+}
@@ -0,0 +1,47 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE GPS_GLOBAL_ORIGIN VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Once the MAV sets a new GPS-Local correspondence, this message announces the origin (0,0,0) position
+*
+* Read-only view of the GPS_GLOBAL_ORIGIN message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_gps_global_origin}
+* object.
+*/
+public final class GpsGlobalOriginView {
+
+    public static final int MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN = msg_gps_global_origin.MAVLINK_MSG_ID_GPS_GLOBAL_ORIGIN;
+    public static final int MAVLINK_MSG_LENGTH = msg_gps_global_origin.MAVLINK_MSG_LENGTH;
+
+    private GpsGlobalOriginView() {
+    }
+      
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public static int latitude(MAVLinkPayload payload) {
+        return payload.getInt(0);
+    }
+      
+    /**
+    * Longitude (WGS84), in degrees * 1E7
+    */
+    public static int longitude(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Altitude (AMSL), in meters * 1000 (positive for up)
+    */
+    public static int altitude(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+
+}
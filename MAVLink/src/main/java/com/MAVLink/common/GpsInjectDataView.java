@@ -0,0 +1,59 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE GPS_INJECT_DATA VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* data for injecting into the onboard GPS (used for DGPS)
+*
+* Read-only view of the GPS_INJECT_DATA message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_gps_inject_data}
+* object.
+*/
+public final class GpsInjectDataView {
+
+    public static final int MAVLINK_MSG_ID_GPS_INJECT_DATA = msg_gps_inject_data.MAVLINK_MSG_ID_GPS_INJECT_DATA;
+    public static final int MAVLINK_MSG_LENGTH = msg_gps_inject_data.MAVLINK_MSG_LENGTH;
+
+    private GpsInjectDataView() {
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+      
+    /**
+    * data length
+    */
+    public static short len(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * raw data (110 is enough for 12 satellites of RTCMv2)
+    *
+    * @param index element index, 0 to 109
+    */
+    public static short data(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 110) {
+            throw new IndexOutOfBoundsException("Invalid data index: " + index);
+        }
+        return payload.getUnsignedByte(3 + index * 1);
+    }
+
+}
@@ -0,0 +1,152 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE GPS_INPUT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* GPS sensor input message.  This is a raw sensor value sent by the GPS. This is NOT the global position estimate of the sytem.
+*
+* Read-only view of the GPS_INPUT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_gps_input}
+* object.
+*/
+public final class GpsInputView {
+
+    public static final int MAVLINK_MSG_ID_GPS_INPUT = msg_gps_input.MAVLINK_MSG_ID_GPS_INPUT;
+    public static final int MAVLINK_MSG_LENGTH = msg_gps_input.MAVLINK_MSG_LENGTH;
+
+    private GpsInputView() {
+    }
+      
+    /**
+    * Timestamp (micros since boot or Unix epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * GPS time (milliseconds from start of GPS week)
+    */
+    public static long time_week_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(8);
+    }
+      
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(12);
+    }
+      
+    /**
+    * Longitude (WGS84), in degrees * 1E7
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(16);
+    }
+      
+    /**
+    * Altitude (AMSL, not WGS84), in m (positive for up)
+    */
+    public static float alt(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * GPS HDOP horizontal dilution of position in m
+    */
+    public static float hdop(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * GPS VDOP vertical dilution of position in m
+    */
+    public static float vdop(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * GPS velocity in m/s in NORTH direction in earth-fixed NED frame
+    */
+    public static float vn(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * GPS velocity in m/s in EAST direction in earth-fixed NED frame
+    */
+    public static float ve(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+      
+    /**
+    * GPS velocity in m/s in DOWN direction in earth-fixed NED frame
+    */
+    public static float vd(MAVLinkPayload payload) {
+        return payload.getFloat(40);
+    }
+      
+    /**
+    * GPS speed accuracy in m/s
+    */
+    public static float speed_accuracy(MAVLinkPayload payload) {
+        return payload.getFloat(44);
+    }
+      
+    /**
+    * GPS horizontal accuracy in m
+    */
+    public static float horiz_accuracy(MAVLinkPayload payload) {
+        return payload.getFloat(48);
+    }
+      
+    /**
+    * GPS vertical accuracy in m
+    */
+    public static float vert_accuracy(MAVLinkPayload payload) {
+        return payload.getFloat(52);
+    }
+      
+    /**
+    * Flags indicating which fields to ignore (see GPS_INPUT_IGNORE_FLAGS enum).  All other fields must be provided.
+    */
+    public static int ignore_flags(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(56);
+    }
+      
+    /**
+    * GPS week number
+    */
+    public static int time_week(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(58);
+    }
+      
+    /**
+    * ID of the GPS for multiple GPS inputs
+    */
+    public static short gps_id(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(60);
+    }
+      
+    /**
+    * 0-1: no fix, 2: 2D fix, 3: 3D fix. 4: 3D with DGPS. 5: 3D with RTK
+    */
+    public static short fix_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(61);
+    }
+      
+    /**
+    * Number of satellites visible.
+    */
+    public static short satellites_visible(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(62);
+    }
+
+}
@@ -0,0 +1,97 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE GPS_RAW_INT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The global position, as returned by the Global Positioning System (GPS). This is
+                NOT the global position estimate of the system, but rather a RAW sensor value. See message GLOBAL_POSITION for the global position estimate. Coordinate frame is right-handed, Z-axis up (GPS frame).
+*
+* Read-only view of the GPS_RAW_INT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_gps_raw_int}
+* object.
+*/
+public final class GpsRawIntView {
+
+    public static final int MAVLINK_MSG_ID_GPS_RAW_INT = msg_gps_raw_int.MAVLINK_MSG_ID_GPS_RAW_INT;
+    public static final int MAVLINK_MSG_LENGTH = msg_gps_raw_int.MAVLINK_MSG_LENGTH;
+
+    private GpsRawIntView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * Longitude (WGS84), in degrees * 1E7
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(12);
+    }
+      
+    /**
+    * Altitude (AMSL, NOT WGS84), in meters * 1000 (positive for up). Note that virtually all GPS modules provide the AMSL altitude in addition to the WGS84 altitude.
+    */
+    public static int alt(MAVLinkPayload payload) {
+        return payload.getInt(16);
+    }
+      
+    /**
+    * GPS HDOP horizontal dilution of position (unitless). If unknown, set to: UINT16_MAX
+    */
+    public static int eph(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(20);
+    }
+      
+    /**
+    * GPS VDOP vertical dilution of position (unitless). If unknown, set to: UINT16_MAX
+    */
+    public static int epv(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(22);
+    }
+      
+    /**
+    * GPS ground speed (m/s * 100). If unknown, set to: UINT16_MAX
+    */
+    public static int vel(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(24);
+    }
+      
+    /**
+    * Course over ground (NOT heading, but direction of movement) in degrees * 100, 0.0..359.99 degrees. If unknown, set to: UINT16_MAX
+    */
+    public static int cog(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(26);
+    }
+      
+    /**
+    * See the GPS_FIX_TYPE enum.
+    */
+    public static short fix_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(28);
+    }
+      
+    /**
+    * Number of satellites visible. If unknown, set to 255
+    */
+    public static short satellites_visible(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(29);
+    }
+
+}
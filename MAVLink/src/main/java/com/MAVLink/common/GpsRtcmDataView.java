@@ -0,0 +1,52 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE GPS_RTCM_DATA VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* WORK IN PROGRESS! RTCM message for injecting into the onboard GPS (used for DGPS)
+*
+* Read-only view of the GPS_RTCM_DATA message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_gps_rtcm_data}
+* object.
+*/
+public final class GpsRtcmDataView {
+
+    public static final int MAVLINK_MSG_ID_GPS_RTCM_DATA = msg_gps_rtcm_data.MAVLINK_MSG_ID_GPS_RTCM_DATA;
+    public static final int MAVLINK_MSG_LENGTH = msg_gps_rtcm_data.MAVLINK_MSG_LENGTH;
+
+    private GpsRtcmDataView() {
+    }
+      
+    /**
+    * LSB: 1 means message is fragmented
+    */
+    public static short flags(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * data length
+    */
+    public static short len(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+      
+    /**
+    * RTCM message (may be fragmented)
+    *
+    * @param index element index, 0 to 179
+    */
+    public static short data(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 180) {
+            throw new IndexOutOfBoundsException("Invalid data index: " + index);
+        }
+        return payload.getUnsignedByte(2 + index * 1);
+    }
+
+}
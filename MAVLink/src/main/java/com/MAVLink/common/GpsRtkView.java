@@ -0,0 +1,117 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE GPS_RTK VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* RTK GPS data. Gives information on the relative baseline calculation the GPS is reporting
+*
+* Read-only view of the GPS_RTK message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_gps_rtk}
+* object.
+*/
+public final class GpsRtkView {
+
+    public static final int MAVLINK_MSG_ID_GPS_RTK = msg_gps_rtk.MAVLINK_MSG_ID_GPS_RTK;
+    public static final int MAVLINK_MSG_LENGTH = msg_gps_rtk.MAVLINK_MSG_LENGTH;
+
+    private GpsRtkView() {
+    }
+      
+    /**
+    * Time since boot of last baseline message received in ms.
+    */
+    public static long time_last_baseline_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * GPS Time of Week of last baseline
+    */
+    public static long tow(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(4);
+    }
+      
+    /**
+    * Current baseline in ECEF x or NED north component in mm.
+    */
+    public static int baseline_a_mm(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * Current baseline in ECEF y or NED east component in mm.
+    */
+    public static int baseline_b_mm(MAVLinkPayload payload) {
+        return payload.getInt(12);
+    }
+      
+    /**
+    * Current baseline in ECEF z or NED down component in mm.
+    */
+    public static int baseline_c_mm(MAVLinkPayload payload) {
+        return payload.getInt(16);
+    }
+      
+    /**
+    * Current estimate of baseline accuracy.
+    */
+    public static long accuracy(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(20);
+    }
+      
+    /**
+    * Current number of integer ambiguity hypotheses.
+    */
+    public static int iar_num_hypotheses(MAVLinkPayload payload) {
+        return payload.getInt(24);
+    }
+      
+    /**
+    * GPS Week Number of last baseline
+    */
+    public static int wn(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(28);
+    }
+      
+    /**
+    * Identification of connected RTK receiver.
+    */
+    public static short rtk_receiver_id(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(30);
+    }
+      
+    /**
+    * GPS-specific health report for RTK data.
+    */
+    public static short rtk_health(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(31);
+    }
+      
+    /**
+    * Rate of baseline messages being received by GPS, in HZ
+    */
+    public static short rtk_rate(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(32);
+    }
+      
+    /**
+    * Current number of sats used for RTK calculation.
+    */
+    public static short nsats(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(33);
+    }
+      
+    /**
+    * Coordinate system of baseline. 0 == ECEF, 1 == NED
+    */
+    public static short baseline_coords_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(34);
+    }
+
+}
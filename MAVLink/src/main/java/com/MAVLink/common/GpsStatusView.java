@@ -0,0 +1,93 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE GPS_STATUS VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The positioning status, as reported by GPS. This message is intended to display status information about each satellite visible to the receiver. See message GLOBAL_POSITION for the global position estimate. This message can contain information for up to 20 satellites.
+*
+* Read-only view of the GPS_STATUS message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_gps_status}
+* object.
+*/
+public final class GpsStatusView {
+
+    public static final int MAVLINK_MSG_ID_GPS_STATUS = msg_gps_status.MAVLINK_MSG_ID_GPS_STATUS;
+    public static final int MAVLINK_MSG_LENGTH = msg_gps_status.MAVLINK_MSG_LENGTH;
+
+    private GpsStatusView() {
+    }
+      
+    /**
+    * Number of satellites visible
+    */
+    public static short satellites_visible(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * Global satellite ID
+    *
+    * @param index element index, 0 to 19
+    */
+    public static short satellite_prn(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 20) {
+            throw new IndexOutOfBoundsException("Invalid satellite_prn index: " + index);
+        }
+        return payload.getUnsignedByte(1 + index * 1);
+    }
+      
+    /**
+    * 0: Satellite not used, 1: used for localization
+    *
+    * @param index element index, 0 to 19
+    */
+    public static short satellite_used(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 20) {
+            throw new IndexOutOfBoundsException("Invalid satellite_used index: " + index);
+        }
+        return payload.getUnsignedByte(21 + index * 1);
+    }
+      
+    /**
+    * Elevation (0: right on top of receiver, 90: on the horizon) of satellite
+    *
+    * @param index element index, 0 to 19
+    */
+    public static short satellite_elevation(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 20) {
+            throw new IndexOutOfBoundsException("Invalid satellite_elevation index: " + index);
+        }
+        return payload.getUnsignedByte(41 + index * 1);
+    }
+      
+    /**
+    * Direction of satellite, 0: 0 deg, 255: 360 deg.
+    *
+    * @param index element index, 0 to 19
+    */
+    public static short satellite_azimuth(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 20) {
+            throw new IndexOutOfBoundsException("Invalid satellite_azimuth index: " + index);
+        }
+        return payload.getUnsignedByte(61 + index * 1);
+    }
+      
+    /**
+    * Signal to noise ratio of satellite
+    *
+    * @param index element index, 0 to 19
+    */
+    public static short satellite_snr(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 20) {
+            throw new IndexOutOfBoundsException("Invalid satellite_snr index: " + index);
+        }
+        return payload.getUnsignedByte(81 + index * 1);
+    }
+
+}
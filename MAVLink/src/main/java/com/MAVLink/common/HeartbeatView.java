@@ -0,0 +1,68 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE HEARTBEAT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The heartbeat message shows that a system is present and responding. The type of the MAV and Autopilot hardware allow the receiving system to treat further messages from this system appropriate (e.g. by laying out the user interface based on the autopilot).
+*
+* Read-only view of the HEARTBEAT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_heartbeat}
+* object.
+*/
+public final class HeartbeatView {
+
+    public static final int MAVLINK_MSG_ID_HEARTBEAT = msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT;
+    public static final int MAVLINK_MSG_LENGTH = msg_heartbeat.MAVLINK_MSG_LENGTH;
+
+    private HeartbeatView() {
+    }
+      
+    /**
+    * A bitfield for use for autopilot-specific flags.
+    */
+    public static long custom_mode(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Type of the MAV (quadrotor, helicopter, etc., up to 15 types, defined in MAV_TYPE ENUM)
+    */
+    public static short type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(4);
+    }
+      
+    /**
+    * Autopilot type / class. defined in MAV_AUTOPILOT ENUM
+    */
+    public static short autopilot(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(5);
+    }
+      
+    /**
+    * System mode bitfield, see MAV_MODE_FLAG ENUM in mavlink/include/mavlink_types.h
+    */
+    public static short base_mode(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(6);
+    }
+      
+    /**
+    * System status flag, see MAV_STATE ENUM
+    */
+    public static short system_status(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(7);
+    }
+      
+    /**
+    * MAVLink version, not writable by user, gets added by protocol because of magic data type: uint8_t_mavlink_version
+    */
+    public static short mavlink_version(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(8);
+    }
+
+}
@@ -0,0 +1,194 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE HIGH_LATENCY VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Message appropriate for high latency connections like Iridium
+*
+* Read-only view of the HIGH_LATENCY message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_high_latency}
+* object.
+*/
+public final class HighLatencyView {
+
+    public static final int MAVLINK_MSG_ID_HIGH_LATENCY = msg_high_latency.MAVLINK_MSG_ID_HIGH_LATENCY;
+    public static final int MAVLINK_MSG_LENGTH = msg_high_latency.MAVLINK_MSG_LENGTH;
+
+    private HighLatencyView() {
+    }
+      
+    /**
+    * A bitfield for use for autopilot-specific flags.
+    */
+    public static long custom_mode(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Latitude, expressed as degrees * 1E7
+    */
+    public static int latitude(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Longitude, expressed as degrees * 1E7
+    */
+    public static int longitude(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * roll (centidegrees)
+    */
+    public static short roll(MAVLinkPayload payload) {
+        return payload.getShort(12);
+    }
+      
+    /**
+    * pitch (centidegrees)
+    */
+    public static short pitch(MAVLinkPayload payload) {
+        return payload.getShort(14);
+    }
+      
+    /**
+    * heading (centidegrees)
+    */
+    public static int heading(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(16);
+    }
+      
+    /**
+    * heading setpoint (centidegrees)
+    */
+    public static short heading_sp(MAVLinkPayload payload) {
+        return payload.getShort(18);
+    }
+      
+    /**
+    * Altitude above mean sea level (meters)
+    */
+    public static short altitude_amsl(MAVLinkPayload payload) {
+        return payload.getShort(20);
+    }
+      
+    /**
+    * Altitude setpoint relative to the home position (meters)
+    */
+    public static short altitude_sp(MAVLinkPayload payload) {
+        return payload.getShort(22);
+    }
+      
+    /**
+    * distance to target (meters)
+    */
+    public static int wp_distance(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(24);
+    }
+      
+    /**
+    * System mode bitfield, see MAV_MODE_FLAG ENUM in mavlink/include/mavlink_types.h
+    */
+    public static short base_mode(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(26);
+    }
+      
+    /**
+    * The landed state. Is set to MAV_LANDED_STATE_UNDEFINED if landed state is unknown.
+    */
+    public static short landed_state(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(27);
+    }
+      
+    /**
+    * throttle (percentage)
+    */
+    public static byte throttle(MAVLinkPayload payload) {
+        return payload.getByte(28);
+    }
+      
+    /**
+    * airspeed (m/s)
+    */
+    public static short airspeed(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(29);
+    }
+      
+    /**
+    * airspeed setpoint (m/s)
+    */
+    public static short airspeed_sp(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(30);
+    }
+      
+    /**
+    * groundspeed (m/s)
+    */
+    public static short groundspeed(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(31);
+    }
+      
+    /**
+    * climb rate (m/s)
+    */
+    public static byte climb_rate(MAVLinkPayload payload) {
+        return payload.getByte(32);
+    }
+      
+    /**
+    * Number of satellites visible. If unknown, set to 255
+    */
+    public static short gps_nsat(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(33);
+    }
+      
+    /**
+    * See the GPS_FIX_TYPE enum.
+    */
+    public static short gps_fix_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(34);
+    }
+      
+    /**
+    * Remaining battery (percentage)
+    */
+    public static short battery_remaining(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(35);
+    }
+      
+    /**
+    * Autopilot temperature (degrees C)
+    */
+    public static byte temperature(MAVLinkPayload payload) {
+        return payload.getByte(36);
+    }
+      
+    /**
+    * Air temperature (degrees C) from airspeed sensor
+    */
+    public static byte temperature_air(MAVLinkPayload payload) {
+        return payload.getByte(37);
+    }
+      
+    /**
+    * failsafe (each bit represents a failsafe where 0=ok, 1=failsafe active (bit0:RC, bit1:batt, bit2:GPS, bit3:GCS, bit4:fence)
+    */
+    public static short failsafe(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(38);
+    }
+      
+    /**
+    * current waypoint number
+    */
+    public static short wp_num(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(39);
+    }
+
+}
@@ -0,0 +1,131 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE HIGHRES_IMU VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The IMU readings in SI units in NED body frame
+*
+* Read-only view of the HIGHRES_IMU message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_highres_imu}
+* object.
+*/
+public final class HighresImuView {
+
+    public static final int MAVLINK_MSG_ID_HIGHRES_IMU = msg_highres_imu.MAVLINK_MSG_ID_HIGHRES_IMU;
+    public static final int MAVLINK_MSG_LENGTH = msg_highres_imu.MAVLINK_MSG_LENGTH;
+
+    private HighresImuView() {
+    }
+      
+    /**
+    * Timestamp (microseconds, synced to UNIX time or since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * X acceleration (m/s^2)
+    */
+    public static float xacc(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Y acceleration (m/s^2)
+    */
+    public static float yacc(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Z acceleration (m/s^2)
+    */
+    public static float zacc(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Angular speed around X axis (rad / sec)
+    */
+    public static float xgyro(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Angular speed around Y axis (rad / sec)
+    */
+    public static float ygyro(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Angular speed around Z axis (rad / sec)
+    */
+    public static float zgyro(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * X Magnetic field (Gauss)
+    */
+    public static float xmag(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Y Magnetic field (Gauss)
+    */
+    public static float ymag(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+      
+    /**
+    * Z Magnetic field (Gauss)
+    */
+    public static float zmag(MAVLinkPayload payload) {
+        return payload.getFloat(40);
+    }
+      
+    /**
+    * Absolute pressure in millibar
+    */
+    public static float abs_pressure(MAVLinkPayload payload) {
+        return payload.getFloat(44);
+    }
+      
+    /**
+    * Differential pressure in millibar
+    */
+    public static float diff_pressure(MAVLinkPayload payload) {
+        return payload.getFloat(48);
+    }
+      
+    /**
+    * Altitude calculated from pressure
+    */
+    public static float pressure_alt(MAVLinkPayload payload) {
+        return payload.getFloat(52);
+    }
+      
+    /**
+    * Temperature in degrees celsius
+    */
+    public static float temperature(MAVLinkPayload payload) {
+        return payload.getFloat(56);
+    }
+      
+    /**
+    * Bitmask for fields that have updated since last message, bit 0 = xacc, bit 12: temperature
+    */
+    public static int fields_updated(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(60);
+    }
+
+}
@@ -0,0 +1,59 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE HIL_ACTUATOR_CONTROLS VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Sent from autopilot to simulation. Hardware in the loop control outputs (replacement for HIL_CONTROLS)
+*
+* Read-only view of the HIL_ACTUATOR_CONTROLS message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_hil_actuator_controls}
+* object.
+*/
+public final class HilActuatorControlsView {
+
+    public static final int MAVLINK_MSG_ID_HIL_ACTUATOR_CONTROLS = msg_hil_actuator_controls.MAVLINK_MSG_ID_HIL_ACTUATOR_CONTROLS;
+    public static final int MAVLINK_MSG_LENGTH = msg_hil_actuator_controls.MAVLINK_MSG_LENGTH;
+
+    private HilActuatorControlsView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Flags as bitfield, reserved for future use.
+    */
+    public static long flags(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(8);
+    }
+      
+    /**
+    * Control outputs -1 .. 1. Channel assignment depends on the simulated hardware.
+    *
+    * @param index element index, 0 to 15
+    */
+    public static float controls(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 16) {
+            throw new IndexOutOfBoundsException("Invalid controls index: " + index);
+        }
+        return payload.getFloat(16 + index * 4);
+    }
+      
+    /**
+    * System mode (MAV_MODE), includes arming state.
+    */
+    public static short mode(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(80);
+    }
+
+}
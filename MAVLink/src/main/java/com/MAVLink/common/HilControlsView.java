@@ -0,0 +1,103 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE HIL_CONTROLS VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Sent from autopilot to simulation. Hardware in the loop control outputs
+*
+* Read-only view of the HIL_CONTROLS message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_hil_controls}
+* object.
+*/
+public final class HilControlsView {
+
+    public static final int MAVLINK_MSG_ID_HIL_CONTROLS = msg_hil_controls.MAVLINK_MSG_ID_HIL_CONTROLS;
+    public static final int MAVLINK_MSG_LENGTH = msg_hil_controls.MAVLINK_MSG_LENGTH;
+
+    private HilControlsView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Control output -1 .. 1
+    */
+    public static float roll_ailerons(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Control output -1 .. 1
+    */
+    public static float pitch_elevator(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Control output -1 .. 1
+    */
+    public static float yaw_rudder(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Throttle 0 .. 1
+    */
+    public static float throttle(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Aux 1, -1 .. 1
+    */
+    public static float aux1(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Aux 2, -1 .. 1
+    */
+    public static float aux2(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Aux 3, -1 .. 1
+    */
+    public static float aux3(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Aux 4, -1 .. 1
+    */
+    public static float aux4(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+      
+    /**
+    * System mode (MAV_MODE)
+    */
+    public static short mode(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(40);
+    }
+      
+    /**
+    * Navigation mode (MAV_NAV_MODE)
+    */
+    public static short nav_mode(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(41);
+    }
+
+}
@@ -0,0 +1,118 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE HIL_GPS VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The global position, as returned by the Global Positioning System (GPS). This is
+                 NOT the global position estimate of the sytem, but rather a RAW sensor value. See message GLOBAL_POSITION for the global position estimate. Coordinate frame is right-handed, Z-axis up (GPS frame).
+*
+* Read-only view of the HIL_GPS message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_hil_gps}
+* object.
+*/
+public final class HilGpsView {
+
+    public static final int MAVLINK_MSG_ID_HIL_GPS = msg_hil_gps.MAVLINK_MSG_ID_HIL_GPS;
+    public static final int MAVLINK_MSG_LENGTH = msg_hil_gps.MAVLINK_MSG_LENGTH;
+
+    private HilGpsView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * Longitude (WGS84), in degrees * 1E7
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(12);
+    }
+      
+    /**
+    * Altitude (AMSL, not WGS84), in meters * 1000 (positive for up)
+    */
+    public static int alt(MAVLinkPayload payload) {
+        return payload.getInt(16);
+    }
+      
+    /**
+    * GPS HDOP horizontal dilution of position in cm (m*100). If unknown, set to: 65535
+    */
+    public static int eph(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(20);
+    }
+      
+    /**
+    * GPS VDOP vertical dilution of position in cm (m*100). If unknown, set to: 65535
+    */
+    public static int epv(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(22);
+    }
+      
+    /**
+    * GPS ground speed (m/s * 100). If unknown, set to: 65535
+    */
+    public static int vel(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(24);
+    }
+      
+    /**
+    * GPS velocity in cm/s in NORTH direction in earth-fixed NED frame
+    */
+    public static short vn(MAVLinkPayload payload) {
+        return payload.getShort(26);
+    }
+      
+    /**
+    * GPS velocity in cm/s in EAST direction in earth-fixed NED frame
+    */
+    public static short ve(MAVLinkPayload payload) {
+        return payload.getShort(28);
+    }
+      
+    /**
+    * GPS velocity in cm/s in DOWN direction in earth-fixed NED frame
+    */
+    public static short vd(MAVLinkPayload payload) {
+        return payload.getShort(30);
+    }
+      
+    /**
+    * Course over ground (NOT heading, but direction of movement) in degrees * 100, 0.0..359.99 degrees. If unknown, set to: 65535
+    */
+    public static int cog(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(32);
+    }
+      
+    /**
+    * 0-1: no fix, 2: 2D fix, 3: 3D fix. Some applications will not use the value of this field unless it is at least two, so always correctly fill in the fix.
+    */
+    public static short fix_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(34);
+    }
+      
+    /**
+    * Number of satellites visible. If unknown, set to 255
+    */
+    public static short satellites_visible(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(35);
+    }
+
+}
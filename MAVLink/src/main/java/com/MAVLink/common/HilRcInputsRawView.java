@@ -0,0 +1,124 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE HIL_RC_INPUTS_RAW VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Sent from simulation to autopilot. The RAW values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*
+* Read-only view of the HIL_RC_INPUTS_RAW message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_hil_rc_inputs_raw}
+* object.
+*/
+public final class HilRcInputsRawView {
+
+    public static final int MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW = msg_hil_rc_inputs_raw.MAVLINK_MSG_ID_HIL_RC_INPUTS_RAW;
+    public static final int MAVLINK_MSG_LENGTH = msg_hil_rc_inputs_raw.MAVLINK_MSG_LENGTH;
+
+    private HilRcInputsRawView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * RC channel 1 value, in microseconds
+    */
+    public static int chan1_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * RC channel 2 value, in microseconds
+    */
+    public static int chan2_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(10);
+    }
+      
+    /**
+    * RC channel 3 value, in microseconds
+    */
+    public static int chan3_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(12);
+    }
+      
+    /**
+    * RC channel 4 value, in microseconds
+    */
+    public static int chan4_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(14);
+    }
+      
+    /**
+    * RC channel 5 value, in microseconds
+    */
+    public static int chan5_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(16);
+    }
+      
+    /**
+    * RC channel 6 value, in microseconds
+    */
+    public static int chan6_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(18);
+    }
+      
+    /**
+    * RC channel 7 value, in microseconds
+    */
+    public static int chan7_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(20);
+    }
+      
+    /**
+    * RC channel 8 value, in microseconds
+    */
+    public static int chan8_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(22);
+    }
+      
+    /**
+    * RC channel 9 value, in microseconds
+    */
+    public static int chan9_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(24);
+    }
+      
+    /**
+    * RC channel 10 value, in microseconds
+    */
+    public static int chan10_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(26);
+    }
+      
+    /**
+    * RC channel 11 value, in microseconds
+    */
+    public static int chan11_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(28);
+    }
+      
+    /**
+    * RC channel 12 value, in microseconds
+    */
+    public static int chan12_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(30);
+    }
+      
+    /**
+    * Receive signal strength indicator, 0: 0%, 255: 100%
+    */
+    public static short rssi(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(32);
+    }
+
+}
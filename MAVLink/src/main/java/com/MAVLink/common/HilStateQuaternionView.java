@@ -0,0 +1,143 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE HIL_STATE_QUATERNION VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Sent from simulation to autopilot, avoids in contrast to HIL_STATE singularities. This packet is useful for high throughput applications such as hardware in the loop simulations.
+*
+* Read-only view of the HIL_STATE_QUATERNION message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_hil_state_quaternion}
+* object.
+*/
+public final class HilStateQuaternionView {
+
+    public static final int MAVLINK_MSG_ID_HIL_STATE_QUATERNION = msg_hil_state_quaternion.MAVLINK_MSG_ID_HIL_STATE_QUATERNION;
+    public static final int MAVLINK_MSG_LENGTH = msg_hil_state_quaternion.MAVLINK_MSG_LENGTH;
+
+    private HilStateQuaternionView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Vehicle attitude expressed as normalized quaternion in w, x, y, z order (with 1 0 0 0 being the null-rotation)
+    *
+    * @param index element index, 0 to 3
+    */
+    public static float attitude_quaternion(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("Invalid attitude_quaternion index: " + index);
+        }
+        return payload.getFloat(8 + index * 4);
+    }
+      
+    /**
+    * Body frame roll / phi angular speed (rad/s)
+    */
+    public static float rollspeed(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Body frame pitch / theta angular speed (rad/s)
+    */
+    public static float pitchspeed(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Body frame yaw / psi angular speed (rad/s)
+    */
+    public static float yawspeed(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Latitude, expressed as * 1E7
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(36);
+    }
+      
+    /**
+    * Longitude, expressed as * 1E7
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(40);
+    }
+      
+    /**
+    * Altitude in meters, expressed as * 1000 (millimeters)
+    */
+    public static int alt(MAVLinkPayload payload) {
+        return payload.getInt(44);
+    }
+      
+    /**
+    * Ground X Speed (Latitude), expressed as m/s * 100
+    */
+    public static short vx(MAVLinkPayload payload) {
+        return payload.getShort(48);
+    }
+      
+    /**
+    * Ground Y Speed (Longitude), expressed as m/s * 100
+    */
+    public static short vy(MAVLinkPayload payload) {
+        return payload.getShort(50);
+    }
+      
+    /**
+    * Ground Z Speed (Altitude), expressed as m/s * 100
+    */
+    public static short vz(MAVLinkPayload payload) {
+        return payload.getShort(52);
+    }
+      
+    /**
+    * Indicated airspeed, expressed as m/s * 100
+    */
+    public static int ind_airspeed(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(54);
+    }
+      
+    /**
+    * True airspeed, expressed as m/s * 100
+    */
+    public static int true_airspeed(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(56);
+    }
+      
+    /**
+    * X acceleration (mg)
+    */
+    public static short xacc(MAVLinkPayload payload) {
+        return payload.getShort(58);
+    }
+      
+    /**
+    * Y acceleration (mg)
+    */
+    public static short yacc(MAVLinkPayload payload) {
+        return payload.getShort(60);
+    }
+      
+    /**
+    * Z acceleration (mg)
+    */
+    public static short zacc(MAVLinkPayload payload) {
+        return payload.getShort(62);
+    }
+
+}
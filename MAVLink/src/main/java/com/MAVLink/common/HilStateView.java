@@ -0,0 +1,138 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE HIL_STATE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* DEPRECATED PACKET! Suffers from missing airspeed fields and singularities due to Euler angles. Please use HIL_STATE_QUATERNION instead. Sent from simulation to autopilot. This packet is useful for high throughput applications such as hardware in the loop simulations.
+*
+* Read-only view of the HIL_STATE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_hil_state}
+* object.
+*/
+public final class HilStateView {
+
+    public static final int MAVLINK_MSG_ID_HIL_STATE = msg_hil_state.MAVLINK_MSG_ID_HIL_STATE;
+    public static final int MAVLINK_MSG_LENGTH = msg_hil_state.MAVLINK_MSG_LENGTH;
+
+    private HilStateView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Roll angle (rad)
+    */
+    public static float roll(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Pitch angle (rad)
+    */
+    public static float pitch(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Yaw angle (rad)
+    */
+    public static float yaw(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Body frame roll / phi angular speed (rad/s)
+    */
+    public static float rollspeed(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Body frame pitch / theta angular speed (rad/s)
+    */
+    public static float pitchspeed(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Body frame yaw / psi angular speed (rad/s)
+    */
+    public static float yawspeed(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Latitude, expressed as * 1E7
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(32);
+    }
+      
+    /**
+    * Longitude, expressed as * 1E7
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(36);
+    }
+      
+    /**
+    * Altitude in meters, expressed as * 1000 (millimeters)
+    */
+    public static int alt(MAVLinkPayload payload) {
+        return payload.getInt(40);
+    }
+      
+    /**
+    * Ground X Speed (Latitude), expressed as m/s * 100
+    */
+    public static short vx(MAVLinkPayload payload) {
+        return payload.getShort(44);
+    }
+      
+    /**
+    * Ground Y Speed (Longitude), expressed as m/s * 100
+    */
+    public static short vy(MAVLinkPayload payload) {
+        return payload.getShort(46);
+    }
+      
+    /**
+    * Ground Z Speed (Altitude), expressed as m/s * 100
+    */
+    public static short vz(MAVLinkPayload payload) {
+        return payload.getShort(48);
+    }
+      
+    /**
+    * X acceleration (mg)
+    */
+    public static short xacc(MAVLinkPayload payload) {
+        return payload.getShort(50);
+    }
+      
+    /**
+    * Y acceleration (mg)
+    */
+    public static short yacc(MAVLinkPayload payload) {
+        return payload.getShort(52);
+    }
+      
+    /**
+    * Z acceleration (mg)
+    */
+    public static short zacc(MAVLinkPayload payload) {
+        return payload.getShort(54);
+    }
+
+}
@@ -0,0 +1,82 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE LANDING_TARGET VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The location of a landing area captured from a downward facing camera
+*
+* Read-only view of the LANDING_TARGET message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_landing_target}
+* object.
+*/
+public final class LandingTargetView {
+
+    public static final int MAVLINK_MSG_ID_LANDING_TARGET = msg_landing_target.MAVLINK_MSG_ID_LANDING_TARGET;
+    public static final int MAVLINK_MSG_LENGTH = msg_landing_target.MAVLINK_MSG_LENGTH;
+
+    private LandingTargetView() {
+    }
+      
+    /**
+    * Timestamp (micros since boot or Unix epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * X-axis angular offset (in radians) of the target from the center of the image
+    */
+    public static float angle_x(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Y-axis angular offset (in radians) of the target from the center of the image
+    */
+    public static float angle_y(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Distance to the target from the vehicle in meters
+    */
+    public static float distance(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Size in radians of target along x-axis
+    */
+    public static float size_x(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Size in radians of target along y-axis
+    */
+    public static float size_y(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * The ID of the target if multiple targets are present
+    */
+    public static short target_num(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(28);
+    }
+      
+    /**
+    * MAV_FRAME enum specifying the whether the following feilds are earth-frame, body-frame, etc.
+    */
+    public static short frame(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(29);
+    }
+
+}
@@ -0,0 +1,115 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE LOCAL_POSITION_NED_COV VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The filtered local position (e.g. fused computer vision and accelerometers). Coordinate frame is right-handed, Z-axis down (aeronautical frame, NED / north-east-down convention)
+*
+* Read-only view of the LOCAL_POSITION_NED_COV message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_local_position_ned_cov}
+* object.
+*/
+public final class LocalPositionNedCovView {
+
+    public static final int MAVLINK_MSG_ID_LOCAL_POSITION_NED_COV = msg_local_position_ned_cov.MAVLINK_MSG_ID_LOCAL_POSITION_NED_COV;
+    public static final int MAVLINK_MSG_LENGTH = msg_local_position_ned_cov.MAVLINK_MSG_LENGTH;
+
+    private LocalPositionNedCovView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since system boot or since UNIX epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * X Position
+    */
+    public static float x(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Y Position
+    */
+    public static float y(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Z Position
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * X Speed (m/s)
+    */
+    public static float vx(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Y Speed (m/s)
+    */
+    public static float vy(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Z Speed (m/s)
+    */
+    public static float vz(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * X Acceleration (m/s^2)
+    */
+    public static float ax(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Y Acceleration (m/s^2)
+    */
+    public static float ay(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+      
+    /**
+    * Z Acceleration (m/s^2)
+    */
+    public static float az(MAVLinkPayload payload) {
+        return payload.getFloat(40);
+    }
+      
+    /**
+    * Covariance matrix upper right triangular (first nine entries are the first ROW, next eight entries are the second row, etc.)
+    *
+    * @param index element index, 0 to 44
+    */
+    public static float covariance(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 45) {
+            throw new IndexOutOfBoundsException("Invalid covariance index: " + index);
+        }
+        return payload.getFloat(44 + index * 4);
+    }
+      
+    /**
+    * Class id of the estimator this estimate originated from.
+    */
+    public static short estimator_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(224);
+    }
+
+}
@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The offset in X, Y, Z and yaw between the LOCAL_POSITION_NED messages of MAV X and the global coordinate frame in NED coordinates. Coordinate frame is right-handed, Z-axis down (aeronautical frame, NED / north-east-down convention)
+*
+* Read-only view of the LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_local_position_ned_system_global_offset}
+* object.
+*/
+public final class LocalPositionNedSystemGlobalOffsetView {
+
+    public static final int MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET = msg_local_position_ned_system_global_offset.MAVLINK_MSG_ID_LOCAL_POSITION_NED_SYSTEM_GLOBAL_OFFSET;
+    public static final int MAVLINK_MSG_LENGTH = msg_local_position_ned_system_global_offset.MAVLINK_MSG_LENGTH;
+
+    private LocalPositionNedSystemGlobalOffsetView() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * X Position
+    */
+    public static float x(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Y Position
+    */
+    public static float y(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Z Position
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Roll
+    */
+    public static float roll(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Pitch
+    */
+    public static float pitch(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Yaw
+    */
+    public static float yaw(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+
+}
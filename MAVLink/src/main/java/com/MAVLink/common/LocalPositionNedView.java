@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE LOCAL_POSITION_NED VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The filtered local position (e.g. fused computer vision and accelerometers). Coordinate frame is right-handed, Z-axis down (aeronautical frame, NED / north-east-down convention)
+*
+* Read-only view of the LOCAL_POSITION_NED message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_local_position_ned}
+* object.
+*/
+public final class LocalPositionNedView {
+
+    public static final int MAVLINK_MSG_ID_LOCAL_POSITION_NED = msg_local_position_ned.MAVLINK_MSG_ID_LOCAL_POSITION_NED;
+    public static final int MAVLINK_MSG_LENGTH = msg_local_position_ned.MAVLINK_MSG_LENGTH;
+
+    private LocalPositionNedView() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * X Position
+    */
+    public static float x(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Y Position
+    */
+    public static float y(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Z Position
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * X Speed
+    */
+    public static float vx(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Y Speed
+    */
+    public static float vy(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Z Speed
+    */
+    public static float vz(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+
+}
@@ -0,0 +1,59 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE LOG_DATA VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Reply to LOG_REQUEST_DATA
+*
+* Read-only view of the LOG_DATA message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_log_data}
+* object.
+*/
+public final class LogDataView {
+
+    public static final int MAVLINK_MSG_ID_LOG_DATA = msg_log_data.MAVLINK_MSG_ID_LOG_DATA;
+    public static final int MAVLINK_MSG_LENGTH = msg_log_data.MAVLINK_MSG_LENGTH;
+
+    private LogDataView() {
+    }
+      
+    /**
+    * Offset into the log
+    */
+    public static long ofs(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Log id (from LOG_ENTRY reply)
+    */
+    public static int id(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+      
+    /**
+    * Number of bytes (zero for end of log)
+    */
+    public static short count(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(6);
+    }
+      
+    /**
+    * log data
+    *
+    * @param index element index, 0 to 89
+    */
+    public static short data(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 90) {
+            throw new IndexOutOfBoundsException("Invalid data index: " + index);
+        }
+        return payload.getUnsignedByte(7 + index * 1);
+    }
+
+}
@@ -0,0 +1,61 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE LOG_ENTRY VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Reply to LOG_REQUEST_LIST
+*
+* Read-only view of the LOG_ENTRY message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_log_entry}
+* object.
+*/
+public final class LogEntryView {
+
+    public static final int MAVLINK_MSG_ID_LOG_ENTRY = msg_log_entry.MAVLINK_MSG_ID_LOG_ENTRY;
+    public static final int MAVLINK_MSG_LENGTH = msg_log_entry.MAVLINK_MSG_LENGTH;
+
+    private LogEntryView() {
+    }
+      
+    /**
+    * UTC timestamp of log in seconds since 1970, or 0 if not available
+    */
+    public static long time_utc(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Size of the log (may be approximate) in bytes
+    */
+    public static long size(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(4);
+    }
+      
+    /**
+    * Log id
+    */
+    public static int id(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * Total number of logs
+    */
+    public static int num_logs(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(10);
+    }
+      
+    /**
+    * High log number
+    */
+    public static int last_log_num(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(12);
+    }
+
+}
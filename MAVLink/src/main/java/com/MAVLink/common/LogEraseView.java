@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE LOG_ERASE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Erase all logs
+*
+* Read-only view of the LOG_ERASE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_log_erase}
+* object.
+*/
+public final class LogEraseView {
+
+    public static final int MAVLINK_MSG_ID_LOG_ERASE = msg_log_erase.MAVLINK_MSG_ID_LOG_ERASE;
+    public static final int MAVLINK_MSG_LENGTH = msg_log_erase.MAVLINK_MSG_LENGTH;
+
+    private LogEraseView() {
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+
+}
@@ -0,0 +1,61 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE LOG_REQUEST_DATA VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Request a chunk of a log
+*
+* Read-only view of the LOG_REQUEST_DATA message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_log_request_data}
+* object.
+*/
+public final class LogRequestDataView {
+
+    public static final int MAVLINK_MSG_ID_LOG_REQUEST_DATA = msg_log_request_data.MAVLINK_MSG_ID_LOG_REQUEST_DATA;
+    public static final int MAVLINK_MSG_LENGTH = msg_log_request_data.MAVLINK_MSG_LENGTH;
+
+    private LogRequestDataView() {
+    }
+      
+    /**
+    * Offset into the log
+    */
+    public static long ofs(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Number of bytes
+    */
+    public static long count(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(4);
+    }
+      
+    /**
+    * Log id (from LOG_ENTRY reply)
+    */
+    public static int id(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(10);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(11);
+    }
+
+}
@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE LOG_REQUEST_END VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Stop log transfer and resume normal logging
+*
+* Read-only view of the LOG_REQUEST_END message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_log_request_end}
+* object.
+*/
+public final class LogRequestEndView {
+
+    public static final int MAVLINK_MSG_ID_LOG_REQUEST_END = msg_log_request_end.MAVLINK_MSG_ID_LOG_REQUEST_END;
+    public static final int MAVLINK_MSG_LENGTH = msg_log_request_end.MAVLINK_MSG_LENGTH;
+
+    private LogRequestEndView() {
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+
+}
@@ -0,0 +1,54 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE LOG_REQUEST_LIST VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Request a list of available logs. On some systems calling this may stop on-board logging until LOG_REQUEST_END is called.
+*
+* Read-only view of the LOG_REQUEST_LIST message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_log_request_list}
+* object.
+*/
+public final class LogRequestListView {
+
+    public static final int MAVLINK_MSG_ID_LOG_REQUEST_LIST = msg_log_request_list.MAVLINK_MSG_ID_LOG_REQUEST_LIST;
+    public static final int MAVLINK_MSG_LENGTH = msg_log_request_list.MAVLINK_MSG_LENGTH;
+
+    private LogRequestListView() {
+    }
+      
+    /**
+    * First log id (0 for first available)
+    */
+    public static int start(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * Last log id (0xffff for last available)
+    */
+    public static int end(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(2);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(4);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(5);
+    }
+
+}
@@ -0,0 +1,68 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MANUAL_CONTROL VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* This message provides an API for manually controlling the vehicle using standard joystick axes nomenclature, along with a joystick-like input device. Unused axes can be disabled an buttons are also transmit as boolean values of their 
+*
+* Read-only view of the MANUAL_CONTROL message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_manual_control}
+* object.
+*/
+public final class ManualControlView {
+
+    public static final int MAVLINK_MSG_ID_MANUAL_CONTROL = msg_manual_control.MAVLINK_MSG_ID_MANUAL_CONTROL;
+    public static final int MAVLINK_MSG_LENGTH = msg_manual_control.MAVLINK_MSG_LENGTH;
+
+    private ManualControlView() {
+    }
+      
+    /**
+    * X-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to forward(1000)-backward(-1000) movement on a joystick and the pitch of a vehicle.
+    */
+    public static short x(MAVLinkPayload payload) {
+        return payload.getShort(0);
+    }
+      
+    /**
+    * Y-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to left(-1000)-right(1000) movement on a joystick and the roll of a vehicle.
+    */
+    public static short y(MAVLinkPayload payload) {
+        return payload.getShort(2);
+    }
+      
+    /**
+    * Z-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to a separate slider movement with maximum being 1000 and minimum being -1000 on a joystick and the thrust of a vehicle. Positive values are positive thrust, negative values are negative thrust.
+    */
+    public static short z(MAVLinkPayload payload) {
+        return payload.getShort(4);
+    }
+      
+    /**
+    * R-axis, normalized to the range [-1000,1000]. A value of INT16_MAX indicates that this axis is invalid. Generally corresponds to a twisting of the joystick, with counter-clockwise being 1000 and clockwise being -1000, and the yaw of a vehicle.
+    */
+    public static short r(MAVLinkPayload payload) {
+        return payload.getShort(6);
+    }
+      
+    /**
+    * A bitfield corresponding to the joystick buttons' current state, 1 for pressed, 0 for released. The lowest bit corresponds to Button 1.
+    */
+    public static int buttons(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * The system to be controlled.
+    */
+    public static short target(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(10);
+    }
+
+}
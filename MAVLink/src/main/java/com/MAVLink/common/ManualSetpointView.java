@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MANUAL_SETPOINT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Setpoint in roll, pitch, yaw and thrust from the operator
+*
+* Read-only view of the MANUAL_SETPOINT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_manual_setpoint}
+* object.
+*/
+public final class ManualSetpointView {
+
+    public static final int MAVLINK_MSG_ID_MANUAL_SETPOINT = msg_manual_setpoint.MAVLINK_MSG_ID_MANUAL_SETPOINT;
+    public static final int MAVLINK_MSG_LENGTH = msg_manual_setpoint.MAVLINK_MSG_LENGTH;
+
+    private ManualSetpointView() {
+    }
+      
+    /**
+    * Timestamp in milliseconds since system boot
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Desired roll rate in radians per second
+    */
+    public static float roll(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Desired pitch rate in radians per second
+    */
+    public static float pitch(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Desired yaw rate in radians per second
+    */
+    public static float yaw(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Collective thrust, normalized to 0 .. 1
+    */
+    public static float thrust(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Flight mode switch position, 0.. 255
+    */
+    public static short mode_switch(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(20);
+    }
+      
+    /**
+    * Override mode switch position, 0.. 255
+    */
+    public static short manual_override_switch(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(21);
+    }
+
+}
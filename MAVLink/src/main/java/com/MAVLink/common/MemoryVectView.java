@@ -0,0 +1,59 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MEMORY_VECT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Send raw controller memory. The use of this message is discouraged for normal packets, but a quite efficient way for testing new messages and getting experimental debug output.
+*
+* Read-only view of the MEMORY_VECT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_memory_vect}
+* object.
+*/
+public final class MemoryVectView {
+
+    public static final int MAVLINK_MSG_ID_MEMORY_VECT = msg_memory_vect.MAVLINK_MSG_ID_MEMORY_VECT;
+    public static final int MAVLINK_MSG_LENGTH = msg_memory_vect.MAVLINK_MSG_LENGTH;
+
+    private MemoryVectView() {
+    }
+      
+    /**
+    * Starting address of the debug variables
+    */
+    public static int address(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * Version code of the type variable. 0=unknown, type ignored and assumed int16_t. 1=as below
+    */
+    public static short ver(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * Type code of the memory variables. for ver = 1: 0=16 x int16_t, 1=16 x uint16_t, 2=16 x Q15, 3=16 x 1Q14
+    */
+    public static short type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(3);
+    }
+      
+    /**
+    * Memory contents at specified address
+    *
+    * @param index element index, 0 to 31
+    */
+    public static byte value(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 32) {
+            throw new IndexOutOfBoundsException("Invalid value index: " + index);
+        }
+        return payload.getByte(4 + index * 1);
+    }
+
+}
@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MESSAGE_INTERVAL VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* This interface replaces DATA_STREAM
+*
+* Read-only view of the MESSAGE_INTERVAL message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_message_interval}
+* object.
+*/
+public final class MessageIntervalView {
+
+    public static final int MAVLINK_MSG_ID_MESSAGE_INTERVAL = msg_message_interval.MAVLINK_MSG_ID_MESSAGE_INTERVAL;
+    public static final int MAVLINK_MSG_LENGTH = msg_message_interval.MAVLINK_MSG_LENGTH;
+
+    private MessageIntervalView() {
+    }
+      
+    /**
+    * The interval between two messages, in microseconds. A value of -1 indicates this stream is disabled, 0 indicates it is not available, > 0 indicates the interval at which it is sent.
+    */
+    public static int interval_us(MAVLinkPayload payload) {
+        return payload.getInt(0);
+    }
+      
+    /**
+    * The ID of the requested MAVLink message. v1.0 is limited to 254 messages.
+    */
+    public static int message_id(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+
+}
@@ -0,0 +1,47 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_ACK VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Ack message during MISSION handling. The type field states if this message is a positive ack (type=0) or if an error happened (type=non-zero).
+*
+* Read-only view of the MISSION_ACK message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_ack}
+* object.
+*/
+public final class MissionAckView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_ACK = msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_ack.MAVLINK_MSG_LENGTH;
+
+    private MissionAckView() {
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+      
+    /**
+    * See MAV_MISSION_RESULT enum
+    */
+    public static short type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+
+}
@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_CLEAR_ALL VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Delete all mission items at once.
+*
+* Read-only view of the MISSION_CLEAR_ALL message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_clear_all}
+* object.
+*/
+public final class MissionClearAllView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_CLEAR_ALL = msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_clear_all.MAVLINK_MSG_LENGTH;
+
+    private MissionClearAllView() {
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+
+}
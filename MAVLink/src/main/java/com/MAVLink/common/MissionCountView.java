@@ -0,0 +1,47 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_COUNT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* This message is emitted as response to MISSION_REQUEST_LIST by the MAV and to initiate a write transaction. The GCS can then request the individual mission item based on the knowledge of the total number of MISSIONs.
+*
+* Read-only view of the MISSION_COUNT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_count}
+* object.
+*/
+public final class MissionCountView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_COUNT = msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_count.MAVLINK_MSG_LENGTH;
+
+    private MissionCountView() {
+    }
+      
+    /**
+    * Number of mission items in the sequence
+    */
+    public static int count(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(3);
+    }
+
+}
@@ -0,0 +1,33 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_CURRENT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Message that announces the sequence number of the current active mission item. The MAV will fly towards this mission item.
+*
+* Read-only view of the MISSION_CURRENT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_current}
+* object.
+*/
+public final class MissionCurrentView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_CURRENT = msg_mission_current.MAVLINK_MSG_ID_MISSION_CURRENT;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_current.MAVLINK_MSG_LENGTH;
+
+    private MissionCurrentView() {
+    }
+      
+    /**
+    * Sequence
+    */
+    public static int seq(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+
+}
@@ -0,0 +1,125 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_ITEM_INT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Message encoding a mission item. This message is emitted to announce
+                the presence of a mission item and to set a mission item on the system. The mission item can be either in x, y, z meters (type: LOCAL) or x:lat, y:lon, z:altitude. Local frame is Z-down, right handed (NED), global frame is Z-up, right handed (ENU). See alsohttp://qgroundcontrol.org/mavlink/waypoint_protocol.
+*
+* Read-only view of the MISSION_ITEM_INT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_item_int}
+* object.
+*/
+public final class MissionItemIntView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_ITEM_INT = msg_mission_item_int.MAVLINK_MSG_ID_MISSION_ITEM_INT;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_item_int.MAVLINK_MSG_LENGTH;
+
+    private MissionItemIntView() {
+    }
+      
+    /**
+    * PARAM1, see MAV_CMD enum
+    */
+    public static float param1(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * PARAM2, see MAV_CMD enum
+    */
+    public static float param2(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * PARAM3, see MAV_CMD enum
+    */
+    public static float param3(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * PARAM4, see MAV_CMD enum
+    */
+    public static float param4(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * PARAM5 / local: x position in meters * 1e4, global: latitude in degrees * 10^7
+    */
+    public static int x(MAVLinkPayload payload) {
+        return payload.getInt(16);
+    }
+      
+    /**
+    * PARAM6 / y position: local: x position in meters * 1e4, global: longitude in degrees *10^7
+    */
+    public static int y(MAVLinkPayload payload) {
+        return payload.getInt(20);
+    }
+      
+    /**
+    * PARAM7 / z position: global: altitude in meters (relative or absolute, depending on frame.
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Waypoint ID (sequence number). Starts at zero. Increases monotonically for each waypoint, no gaps in the sequence (0,1,2,3,4).
+    */
+    public static int seq(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(28);
+    }
+      
+    /**
+    * The scheduled action for the MISSION. see MAV_CMD in common.xml MAVLink specs
+    */
+    public static int command(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(30);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(32);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(33);
+    }
+      
+    /**
+    * The coordinate system of the MISSION. see MAV_FRAME in mavlink_types.h
+    */
+    public static short frame(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(34);
+    }
+      
+    /**
+    * false:0, true:1
+    */
+    public static short current(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(35);
+    }
+      
+    /**
+    * autocontinue to next wp
+    */
+    public static short autocontinue(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(36);
+    }
+
+}
@@ -0,0 +1,33 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_ITEM_REACHED VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* A certain mission item has been reached. The system will either hold this position (or circle on the orbit) or (if the autocontinue on the WP was set) continue to the next MISSION.
+*
+* Read-only view of the MISSION_ITEM_REACHED message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_item_reached}
+* object.
+*/
+public final class MissionItemReachedView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_ITEM_REACHED = msg_mission_item_reached.MAVLINK_MSG_ID_MISSION_ITEM_REACHED;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_item_reached.MAVLINK_MSG_LENGTH;
+
+    private MissionItemReachedView() {
+    }
+      
+    /**
+    * Sequence
+    */
+    public static int seq(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+
+}
@@ -0,0 +1,47 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_REQUEST_INT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Request the information of the mission item with the sequence number seq. The response of the system to this message should be a MISSION_ITEM_INT message. http://qgroundcontrol.org/mavlink/waypoint_protocol
+*
+* Read-only view of the MISSION_REQUEST_INT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_request_int}
+* object.
+*/
+public final class MissionRequestIntView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_REQUEST_INT = msg_mission_request_int.MAVLINK_MSG_ID_MISSION_REQUEST_INT;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_request_int.MAVLINK_MSG_LENGTH;
+
+    private MissionRequestIntView() {
+    }
+      
+    /**
+    * Sequence
+    */
+    public static int seq(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(3);
+    }
+
+}
@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_REQUEST_LIST VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Request the overall list of mission items from the system/component.
+*
+* Read-only view of the MISSION_REQUEST_LIST message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_request_list}
+* object.
+*/
+public final class MissionRequestListView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_REQUEST_LIST = msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_request_list.MAVLINK_MSG_LENGTH;
+
+    private MissionRequestListView() {
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+
+}
@@ -0,0 +1,54 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_REQUEST_PARTIAL_LIST VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Request a partial list of mission items from the system/component. http://qgroundcontrol.org/mavlink/waypoint_protocol. If start and end index are the same, just send one waypoint.
+*
+* Read-only view of the MISSION_REQUEST_PARTIAL_LIST message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_request_partial_list}
+* object.
+*/
+public final class MissionRequestPartialListView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST = msg_mission_request_partial_list.MAVLINK_MSG_ID_MISSION_REQUEST_PARTIAL_LIST;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_request_partial_list.MAVLINK_MSG_LENGTH;
+
+    private MissionRequestPartialListView() {
+    }
+      
+    /**
+    * Start index, 0 by default
+    */
+    public static short start_index(MAVLinkPayload payload) {
+        return payload.getShort(0);
+    }
+      
+    /**
+    * End index, -1 by default (-1: send list to end). Else a valid index of the list
+    */
+    public static short end_index(MAVLinkPayload payload) {
+        return payload.getShort(2);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(4);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(5);
+    }
+
+}
@@ -0,0 +1,47 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_SET_CURRENT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Set the mission item with sequence number seq as current item. This means that the MAV will continue to this mission item on the shortest path (not following the mission items in-between).
+*
+* Read-only view of the MISSION_SET_CURRENT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_set_current}
+* object.
+*/
+public final class MissionSetCurrentView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_SET_CURRENT = msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_set_current.MAVLINK_MSG_LENGTH;
+
+    private MissionSetCurrentView() {
+    }
+      
+    /**
+    * Sequence
+    */
+    public static int seq(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(3);
+    }
+
+}
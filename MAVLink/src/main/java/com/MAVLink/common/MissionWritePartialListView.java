@@ -0,0 +1,54 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE MISSION_WRITE_PARTIAL_LIST VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* This message is sent to the MAV to write a partial list. If start index == end index, only one item will be transmitted / updated. If the start index is NOT 0 and above the current list size, this request should be REJECTED!
+*
+* Read-only view of the MISSION_WRITE_PARTIAL_LIST message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_mission_write_partial_list}
+* object.
+*/
+public final class MissionWritePartialListView {
+
+    public static final int MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST = msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST;
+    public static final int MAVLINK_MSG_LENGTH = msg_mission_write_partial_list.MAVLINK_MSG_LENGTH;
+
+    private MissionWritePartialListView() {
+    }
+      
+    /**
+    * Start index, 0 by default and smaller / equal to the largest index of the current onboard list.
+    */
+    public static short start_index(MAVLinkPayload payload) {
+        return payload.getShort(0);
+    }
+      
+    /**
+    * End index, equal or greater than start index.
+    */
+    public static short end_index(MAVLinkPayload payload) {
+        return payload.getShort(2);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(4);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(5);
+    }
+
+}
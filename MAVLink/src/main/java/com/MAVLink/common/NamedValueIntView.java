@@ -0,0 +1,67 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE NAMED_VALUE_INT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Send a key-value pair as integer. The use of this message is discouraged for normal packets, but a quite efficient way for testing new messages and getting experimental debug output.
+*
+* Read-only view of the NAMED_VALUE_INT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_named_value_int}
+* object.
+*/
+public final class NamedValueIntView {
+
+    public static final int MAVLINK_MSG_ID_NAMED_VALUE_INT = msg_named_value_int.MAVLINK_MSG_ID_NAMED_VALUE_INT;
+    public static final int MAVLINK_MSG_LENGTH = msg_named_value_int.MAVLINK_MSG_LENGTH;
+
+    private NamedValueIntView() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Signed integer value
+    */
+    public static int value(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Name of the debug variable
+    *
+    * @param index element index, 0 to 9
+    */
+    public static byte name(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 10) {
+            throw new IndexOutOfBoundsException("Invalid name index: " + index);
+        }
+        return payload.getByte(8 + index * 1);
+    }
+
+    /**
+    * Gets the message, formated as a string
+    */
+    public static String getName(MAVLinkPayload payload) {
+        StringBuilder result = new StringBuilder(10);
+        for (int i = 0; i < 10; i++) {
+            byte c = payload.getByte(8 + i);
+            if (c != 0)
+                result.append((char) c);
+            else
+                break;
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,82 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE NAV_CONTROLLER_OUTPUT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The state of the fixed wing navigation and position controller.
+*
+* Read-only view of the NAV_CONTROLLER_OUTPUT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_nav_controller_output}
+* object.
+*/
+public final class NavControllerOutputView {
+
+    public static final int MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT = msg_nav_controller_output.MAVLINK_MSG_ID_NAV_CONTROLLER_OUTPUT;
+    public static final int MAVLINK_MSG_LENGTH = msg_nav_controller_output.MAVLINK_MSG_LENGTH;
+
+    private NavControllerOutputView() {
+    }
+      
+    /**
+    * Current desired roll in degrees
+    */
+    public static float nav_roll(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * Current desired pitch in degrees
+    */
+    public static float nav_pitch(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Current altitude error in meters
+    */
+    public static float alt_error(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Current airspeed error in meters/second
+    */
+    public static float aspd_error(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Current crosstrack error on x-y plane in meters
+    */
+    public static float xtrack_error(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Current desired heading in degrees
+    */
+    public static short nav_bearing(MAVLinkPayload payload) {
+        return payload.getShort(20);
+    }
+      
+    /**
+    * Bearing to current MISSION/target in degrees
+    */
+    public static short target_bearing(MAVLinkPayload payload) {
+        return payload.getShort(22);
+    }
+      
+    /**
+    * Distance to active MISSION in meters
+    */
+    public static int wp_dist(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(24);
+    }
+
+}
@@ -0,0 +1,110 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE OPTICAL_FLOW_RAD VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Optical flow from an angular rate flow sensor (e.g. PX4FLOW or mouse sensor)
+*
+* Read-only view of the OPTICAL_FLOW_RAD message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_optical_flow_rad}
+* object.
+*/
+public final class OpticalFlowRadView {
+
+    public static final int MAVLINK_MSG_ID_OPTICAL_FLOW_RAD = msg_optical_flow_rad.MAVLINK_MSG_ID_OPTICAL_FLOW_RAD;
+    public static final int MAVLINK_MSG_LENGTH = msg_optical_flow_rad.MAVLINK_MSG_LENGTH;
+
+    private OpticalFlowRadView() {
+    }
+      
+    /**
+    * Timestamp (microseconds, synced to UNIX time or since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Integration time in microseconds. Divide integrated_x and integrated_y by the integration time to obtain average flow. The integration time also indicates the.
+    */
+    public static long integration_time_us(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(8);
+    }
+      
+    /**
+    * Flow in radians around X axis (Sensor RH rotation about the X axis induces a positive flow. Sensor linear motion along the positive Y axis induces a negative flow.)
+    */
+    public static float integrated_x(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Flow in radians around Y axis (Sensor RH rotation about the Y axis induces a positive flow. Sensor linear motion along the positive X axis induces a positive flow.)
+    */
+    public static float integrated_y(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * RH rotation around X axis (rad)
+    */
+    public static float integrated_xgyro(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * RH rotation around Y axis (rad)
+    */
+    public static float integrated_ygyro(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * RH rotation around Z axis (rad)
+    */
+    public static float integrated_zgyro(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Time in microseconds since the distance was sampled.
+    */
+    public static long time_delta_distance_us(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(32);
+    }
+      
+    /**
+    * Distance to the center of the flow field in meters. Positive value (including zero): distance known. Negative value: Unknown distance.
+    */
+    public static float distance(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+      
+    /**
+    * Temperature * 100 in centi-degrees Celsius
+    */
+    public static short temperature(MAVLinkPayload payload) {
+        return payload.getShort(40);
+    }
+      
+    /**
+    * Sensor ID
+    */
+    public static short sensor_id(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(42);
+    }
+      
+    /**
+    * Optical flow quality / confidence. 0: no valid flow, 255: maximum quality
+    */
+    public static short quality(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(43);
+    }
+
+}
@@ -0,0 +1,82 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE OPTICAL_FLOW VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Optical flow from a flow sensor (e.g. optical mouse sensor)
+*
+* Read-only view of the OPTICAL_FLOW message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_optical_flow}
+* object.
+*/
+public final class OpticalFlowView {
+
+    public static final int MAVLINK_MSG_ID_OPTICAL_FLOW = msg_optical_flow.MAVLINK_MSG_ID_OPTICAL_FLOW;
+    public static final int MAVLINK_MSG_LENGTH = msg_optical_flow.MAVLINK_MSG_LENGTH;
+
+    private OpticalFlowView() {
+    }
+      
+    /**
+    * Timestamp (UNIX)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Flow in meters in x-sensor direction, angular-speed compensated
+    */
+    public static float flow_comp_m_x(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Flow in meters in y-sensor direction, angular-speed compensated
+    */
+    public static float flow_comp_m_y(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Ground distance in meters. Positive value: distance known. Negative value: Unknown distance
+    */
+    public static float ground_distance(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Flow in pixels * 10 in x-sensor direction (dezi-pixels)
+    */
+    public static short flow_x(MAVLinkPayload payload) {
+        return payload.getShort(20);
+    }
+      
+    /**
+    * Flow in pixels * 10 in y-sensor direction (dezi-pixels)
+    */
+    public static short flow_y(MAVLinkPayload payload) {
+        return payload.getShort(22);
+    }
+      
+    /**
+    * Sensor ID
+    */
+    public static short sensor_id(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(24);
+    }
+      
+    /**
+    * Optical flow quality / confidence. 0: bad, 255: maximum quality
+    */
+    public static short quality(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(25);
+    }
+
+}
@@ -0,0 +1,109 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE PARAM_MAP_RC VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Bind a RC channel to a parameter. The parameter should change accoding to the RC channel value.
+*
+* Read-only view of the PARAM_MAP_RC message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_param_map_rc}
+* object.
+*/
+public final class ParamMapRcView {
+
+    public static final int MAVLINK_MSG_ID_PARAM_MAP_RC = msg_param_map_rc.MAVLINK_MSG_ID_PARAM_MAP_RC;
+    public static final int MAVLINK_MSG_LENGTH = msg_param_map_rc.MAVLINK_MSG_LENGTH;
+
+    private ParamMapRcView() {
+    }
+      
+    /**
+    * Initial parameter value
+    */
+    public static float param_value0(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * Scale, maps the RC range [-1, 1] to a parameter value
+    */
+    public static float scale(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Minimum param value. The protocol does not define if this overwrites an onboard minimum value. (Depends on implementation)
+    */
+    public static float param_value_min(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Maximum param value. The protocol does not define if this overwrites an onboard maximum value. (Depends on implementation)
+    */
+    public static float param_value_max(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Parameter index. Send -1 to use the param ID field as identifier (else the param id will be ignored), send -2 to disable any existing map for this rc_channel_index.
+    */
+    public static short param_index(MAVLinkPayload payload) {
+        return payload.getShort(16);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(18);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(19);
+    }
+      
+    /**
+    * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+    *
+    * @param index element index, 0 to 15
+    */
+    public static byte param_id(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 16) {
+            throw new IndexOutOfBoundsException("Invalid param_id index: " + index);
+        }
+        return payload.getByte(20 + index * 1);
+    }
+
+    /**
+    * Gets the message, formated as a string
+    */
+    public static String getParam_Id(MAVLinkPayload payload) {
+        StringBuilder result = new StringBuilder(16);
+        for (int i = 0; i < 16; i++) {
+            byte c = payload.getByte(20 + i);
+            if (c != 0)
+                result.append((char) c);
+            else
+                break;
+        }
+        return result.toString();
+    }
+      
+    /**
+    * Index of parameter RC channel. Not equal to the RC channel id. Typically correpsonds to a potentiometer-knob on the RC.
+    */
+    public static short parameter_rc_channel_index(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(36);
+    }
+
+}
@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE PARAM_REQUEST_LIST VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Request all parameters of this component. After this request, all parameters are emitted.
+*
+* Read-only view of the PARAM_REQUEST_LIST message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_param_request_list}
+* object.
+*/
+public final class ParamRequestListView {
+
+    public static final int MAVLINK_MSG_ID_PARAM_REQUEST_LIST = msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST;
+    public static final int MAVLINK_MSG_LENGTH = msg_param_request_list.MAVLINK_MSG_LENGTH;
+
+    private ParamRequestListView() {
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+
+}
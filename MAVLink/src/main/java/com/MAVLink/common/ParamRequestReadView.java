@@ -0,0 +1,74 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE PARAM_REQUEST_READ VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Request to read the onboard parameter with the param_id string id. Onboard parameters are stored as key[const char*] -> value[float]. This allows to send a parameter to any other component (such as the GCS) without the need of previous knowledge of possible parameter names. Thus the same GCS can store different parameters for different autopilots. See also http://qgroundcontrol.org/parameter_interface for a full documentation of QGroundControl and IMU code.
+*
+* Read-only view of the PARAM_REQUEST_READ message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_param_request_read}
+* object.
+*/
+public final class ParamRequestReadView {
+
+    public static final int MAVLINK_MSG_ID_PARAM_REQUEST_READ = msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ;
+    public static final int MAVLINK_MSG_LENGTH = msg_param_request_read.MAVLINK_MSG_LENGTH;
+
+    private ParamRequestReadView() {
+    }
+      
+    /**
+    * Parameter index. Send -1 to use the param ID field as identifier (else the param id will be ignored)
+    */
+    public static short param_index(MAVLinkPayload payload) {
+        return payload.getShort(0);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(3);
+    }
+      
+    /**
+    * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+    *
+    * @param index element index, 0 to 15
+    */
+    public static byte param_id(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 16) {
+            throw new IndexOutOfBoundsException("Invalid param_id index: " + index);
+        }
+        return payload.getByte(4 + index * 1);
+    }
+
+    /**
+    * Gets the message, formated as a string
+    */
+    public static String getParam_Id(MAVLinkPayload payload) {
+        StringBuilder result = new StringBuilder(16);
+        for (int i = 0; i < 16; i++) {
+            byte c = payload.getByte(4 + i);
+            if (c != 0)
+                result.append((char) c);
+            else
+                break;
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,81 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE PARAM_SET VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Set a parameter value TEMPORARILY to RAM. It will be reset to default on system reboot. Send the ACTION MAV_ACTION_STORAGE_WRITE to PERMANENTLY write the RAM contents to EEPROM. IMPORTANT: The receiving component should acknowledge the new parameter value by sending a param_value message to all communication partners. This will also ensure that multiple GCS all have an up-to-date list of all parameters. If the sending GCS did not receive a PARAM_VALUE message within its timeout time, it should re-send the PARAM_SET message.
+*
+* Read-only view of the PARAM_SET message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_param_set}
+* object.
+*/
+public final class ParamSetView {
+
+    public static final int MAVLINK_MSG_ID_PARAM_SET = msg_param_set.MAVLINK_MSG_ID_PARAM_SET;
+    public static final int MAVLINK_MSG_LENGTH = msg_param_set.MAVLINK_MSG_LENGTH;
+
+    private ParamSetView() {
+    }
+      
+    /**
+    * Onboard parameter value
+    */
+    public static float param_value(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(4);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(5);
+    }
+      
+    /**
+    * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+    *
+    * @param index element index, 0 to 15
+    */
+    public static byte param_id(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 16) {
+            throw new IndexOutOfBoundsException("Invalid param_id index: " + index);
+        }
+        return payload.getByte(6 + index * 1);
+    }
+
+    /**
+    * Gets the message, formated as a string
+    */
+    public static String getParam_Id(MAVLinkPayload payload) {
+        StringBuilder result = new StringBuilder(16);
+        for (int i = 0; i < 16; i++) {
+            byte c = payload.getByte(6 + i);
+            if (c != 0)
+                result.append((char) c);
+            else
+                break;
+        }
+        return result.toString();
+    }
+      
+    /**
+    * Onboard parameter type: see the MAV_PARAM_TYPE enum for supported data types.
+    */
+    public static short param_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(22);
+    }
+
+}
@@ -0,0 +1,81 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE PARAM_VALUE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Emit the value of a onboard parameter. The inclusion of param_count and param_index in the message allows the recipient to keep track of received parameters and allows him to re-request missing parameters after a loss or timeout.
+*
+* Read-only view of the PARAM_VALUE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_param_value}
+* object.
+*/
+public final class ParamValueView {
+
+    public static final int MAVLINK_MSG_ID_PARAM_VALUE = msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE;
+    public static final int MAVLINK_MSG_LENGTH = msg_param_value.MAVLINK_MSG_LENGTH;
+
+    private ParamValueView() {
+    }
+      
+    /**
+    * Onboard parameter value
+    */
+    public static float param_value(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * Total number of onboard parameters
+    */
+    public static int param_count(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+      
+    /**
+    * Index of this onboard parameter
+    */
+    public static int param_index(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(6);
+    }
+      
+    /**
+    * Onboard parameter id, terminated by NULL if the length is less than 16 human-readable chars and WITHOUT null termination (NULL) byte if the length is exactly 16 chars - applications have to provide 16+1 bytes storage if the ID is stored as string
+    *
+    * @param index element index, 0 to 15
+    */
+    public static byte param_id(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 16) {
+            throw new IndexOutOfBoundsException("Invalid param_id index: " + index);
+        }
+        return payload.getByte(8 + index * 1);
+    }
+
+    /**
+    * Gets the message, formated as a string
+    */
+    public static String getParam_Id(MAVLinkPayload payload) {
+        StringBuilder result = new StringBuilder(16);
+        for (int i = 0; i < 16; i++) {
+            byte c = payload.getByte(8 + i);
+            if (c != 0)
+                result.append((char) c);
+            else
+                break;
+        }
+        return result.toString();
+    }
+      
+    /**
+    * Onboard parameter type: see the MAV_PARAM_TYPE enum for supported data types.
+    */
+    public static short param_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(24);
+    }
+
+}
@@ -0,0 +1,54 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE PING VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* A ping message either requesting or responding to a ping. This allows to measure the system latencies, including serial port, radio modem and UDP connections.
+*
+* Read-only view of the PING message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_ping}
+* object.
+*/
+public final class PingView {
+
+    public static final int MAVLINK_MSG_ID_PING = msg_ping.MAVLINK_MSG_ID_PING;
+    public static final int MAVLINK_MSG_LENGTH = msg_ping.MAVLINK_MSG_LENGTH;
+
+    private PingView() {
+    }
+      
+    /**
+    * Unix timestamp in microseconds or since system boot if smaller than MAVLink epoch (1.1.2009)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * PING sequence
+    */
+    public static long seq(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(8);
+    }
+      
+    /**
+    * 0: request ping from all receiving systems, if greater than 0: message is a ping response and number is the system id of the requesting system
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(12);
+    }
+      
+    /**
+    * 0: request ping from all receiving components, if greater than 0: message is a ping response and number is the system id of the requesting system
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(13);
+    }
+
+}
@@ -0,0 +1,124 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE POSITION_TARGET_GLOBAL_INT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Reports the current commanded vehicle position, velocity, and acceleration as specified by the autopilot. This should match the commands sent in SET_POSITION_TARGET_GLOBAL_INT if the vehicle is being controlled this way.
+*
+* Read-only view of the POSITION_TARGET_GLOBAL_INT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_position_target_global_int}
+* object.
+*/
+public final class PositionTargetGlobalIntView {
+
+    public static final int MAVLINK_MSG_ID_POSITION_TARGET_GLOBAL_INT = msg_position_target_global_int.MAVLINK_MSG_ID_POSITION_TARGET_GLOBAL_INT;
+    public static final int MAVLINK_MSG_LENGTH = msg_position_target_global_int.MAVLINK_MSG_LENGTH;
+
+    private PositionTargetGlobalIntView() {
+    }
+      
+    /**
+    * Timestamp in milliseconds since system boot. The rationale for the timestamp in the setpoint is to allow the system to compensate for the transport delay of the setpoint. This allows the system to compensate processing latency.
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * X Position in WGS84 frame in 1e7 * meters
+    */
+    public static int lat_int(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Y Position in WGS84 frame in 1e7 * meters
+    */
+    public static int lon_int(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * Altitude in meters in AMSL altitude, not WGS84 if absolute or relative, above terrain if GLOBAL_TERRAIN_ALT_INT
+    */
+    public static float alt(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * X velocity in NED frame in meter / s
+    */
+    public static float vx(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Y velocity in NED frame in meter / s
+    */
+    public static float vy(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Z velocity in NED frame in meter / s
+    */
+    public static float vz(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * X acceleration or force (if bit 10 of type_mask is set) in NED frame in meter / s^2 or N
+    */
+    public static float afx(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Y acceleration or force (if bit 10 of type_mask is set) in NED frame in meter / s^2 or N
+    */
+    public static float afy(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Z acceleration or force (if bit 10 of type_mask is set) in NED frame in meter / s^2 or N
+    */
+    public static float afz(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+      
+    /**
+    * yaw setpoint in rad
+    */
+    public static float yaw(MAVLinkPayload payload) {
+        return payload.getFloat(40);
+    }
+      
+    /**
+    * yaw rate setpoint in rad/s
+    */
+    public static float yaw_rate(MAVLinkPayload payload) {
+        return payload.getFloat(44);
+    }
+      
+    /**
+    * Bitmask to indicate which dimensions should be ignored by the vehicle: a value of 0b0000000000000000 or 0b0000001000000000 indicates that none of the setpoint dimensions should be ignored. If bit 10 is set the floats afx afy afz should be interpreted as force instead of acceleration. Mapping: bit 1: x, bit 2: y, bit 3: z, bit 4: vx, bit 5: vy, bit 6: vz, bit 7: ax, bit 8: ay, bit 9: az, bit 10: is force setpoint, bit 11: yaw, bit 12: yaw rate
+    */
+    public static int type_mask(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(48);
+    }
+      
+    /**
+    * Valid options are: MAV_FRAME_GLOBAL_INT = 5, MAV_FRAME_GLOBAL_RELATIVE_ALT_INT = 6, MAV_FRAME_GLOBAL_TERRAIN_ALT_INT = 11
+    */
+    public static short coordinate_frame(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(50);
+    }
+
+}
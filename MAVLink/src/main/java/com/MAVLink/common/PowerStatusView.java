@@ -0,0 +1,47 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE POWER_STATUS VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Power supply status
+*
+* Read-only view of the POWER_STATUS message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_power_status}
+* object.
+*/
+public final class PowerStatusView {
+
+    public static final int MAVLINK_MSG_ID_POWER_STATUS = msg_power_status.MAVLINK_MSG_ID_POWER_STATUS;
+    public static final int MAVLINK_MSG_LENGTH = msg_power_status.MAVLINK_MSG_LENGTH;
+
+    private PowerStatusView() {
+    }
+      
+    /**
+    * 5V rail voltage in millivolts
+    */
+    public static int Vcc(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * servo rail voltage in millivolts
+    */
+    public static int Vservo(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(2);
+    }
+      
+    /**
+    * power supply status flags (see MAV_POWER_STATUS enum)
+    */
+    public static int flags(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+
+}
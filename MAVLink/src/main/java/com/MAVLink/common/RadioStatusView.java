@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE RADIO_STATUS VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Status generated by radio and injected into MAVLink stream.
+*
+* Read-only view of the RADIO_STATUS message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_radio_status}
+* object.
+*/
+public final class RadioStatusView {
+
+    public static final int MAVLINK_MSG_ID_RADIO_STATUS = msg_radio_status.MAVLINK_MSG_ID_RADIO_STATUS;
+    public static final int MAVLINK_MSG_LENGTH = msg_radio_status.MAVLINK_MSG_LENGTH;
+
+    private RadioStatusView() {
+    }
+      
+    /**
+    * Receive errors
+    */
+    public static int rxerrors(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * Count of error corrected packets
+    */
+    public static int fixed(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(2);
+    }
+      
+    /**
+    * Local signal strength
+    */
+    public static short rssi(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(4);
+    }
+      
+    /**
+    * Remote signal strength
+    */
+    public static short remrssi(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(5);
+    }
+      
+    /**
+    * Remaining free buffer space in percent.
+    */
+    public static short txbuf(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(6);
+    }
+      
+    /**
+    * Background noise level
+    */
+    public static short noise(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(7);
+    }
+      
+    /**
+    * Remote background noise level
+    */
+    public static short remnoise(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(8);
+    }
+
+}
@@ -0,0 +1,96 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE RAW_IMU VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The RAW IMU readings for the usual 9DOF sensor setup. This message should always contain the true raw values without any scaling to allow data capture and system debugging.
+*
+* Read-only view of the RAW_IMU message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_raw_imu}
+* object.
+*/
+public final class RawImuView {
+
+    public static final int MAVLINK_MSG_ID_RAW_IMU = msg_raw_imu.MAVLINK_MSG_ID_RAW_IMU;
+    public static final int MAVLINK_MSG_LENGTH = msg_raw_imu.MAVLINK_MSG_LENGTH;
+
+    private RawImuView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * X acceleration (raw)
+    */
+    public static short xacc(MAVLinkPayload payload) {
+        return payload.getShort(8);
+    }
+      
+    /**
+    * Y acceleration (raw)
+    */
+    public static short yacc(MAVLinkPayload payload) {
+        return payload.getShort(10);
+    }
+      
+    /**
+    * Z acceleration (raw)
+    */
+    public static short zacc(MAVLinkPayload payload) {
+        return payload.getShort(12);
+    }
+      
+    /**
+    * Angular speed around X axis (raw)
+    */
+    public static short xgyro(MAVLinkPayload payload) {
+        return payload.getShort(14);
+    }
+      
+    /**
+    * Angular speed around Y axis (raw)
+    */
+    public static short ygyro(MAVLinkPayload payload) {
+        return payload.getShort(16);
+    }
+      
+    /**
+    * Angular speed around Z axis (raw)
+    */
+    public static short zgyro(MAVLinkPayload payload) {
+        return payload.getShort(18);
+    }
+      
+    /**
+    * X Magnetic field (raw)
+    */
+    public static short xmag(MAVLinkPayload payload) {
+        return payload.getShort(20);
+    }
+      
+    /**
+    * Y Magnetic field (raw)
+    */
+    public static short ymag(MAVLinkPayload payload) {
+        return payload.getShort(22);
+    }
+      
+    /**
+    * Z Magnetic field (raw)
+    */
+    public static short zmag(MAVLinkPayload payload) {
+        return payload.getShort(24);
+    }
+
+}
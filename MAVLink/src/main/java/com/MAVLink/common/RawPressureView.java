@@ -0,0 +1,61 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE RAW_PRESSURE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The RAW pressure readings for the typical setup of one absolute pressure and one differential pressure sensor. The sensor values should be the raw, UNSCALED ADC values.
+*
+* Read-only view of the RAW_PRESSURE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_raw_pressure}
+* object.
+*/
+public final class RawPressureView {
+
+    public static final int MAVLINK_MSG_ID_RAW_PRESSURE = msg_raw_pressure.MAVLINK_MSG_ID_RAW_PRESSURE;
+    public static final int MAVLINK_MSG_LENGTH = msg_raw_pressure.MAVLINK_MSG_LENGTH;
+
+    private RawPressureView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since UNIX epoch or microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Absolute pressure (raw)
+    */
+    public static short press_abs(MAVLinkPayload payload) {
+        return payload.getShort(8);
+    }
+      
+    /**
+    * Differential pressure 1 (raw, 0 if nonexistant)
+    */
+    public static short press_diff1(MAVLinkPayload payload) {
+        return payload.getShort(10);
+    }
+      
+    /**
+    * Differential pressure 2 (raw, 0 if nonexistant)
+    */
+    public static short press_diff2(MAVLinkPayload payload) {
+        return payload.getShort(12);
+    }
+      
+    /**
+    * Raw Temperature measurement (raw)
+    */
+    public static short temperature(MAVLinkPayload payload) {
+        return payload.getShort(14);
+    }
+
+}
@@ -0,0 +1,96 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE RC_CHANNELS_OVERRIDE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The RAW values of the RC channels sent to the MAV to override info received from the RC radio. A value of UINT16_MAX means no change to that channel. A value of 0 means control of that channel should be released back to the RC radio. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*
+* Read-only view of the RC_CHANNELS_OVERRIDE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_rc_channels_override}
+* object.
+*/
+public final class RcChannelsOverrideView {
+
+    public static final int MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE = msg_rc_channels_override.MAVLINK_MSG_ID_RC_CHANNELS_OVERRIDE;
+    public static final int MAVLINK_MSG_LENGTH = msg_rc_channels_override.MAVLINK_MSG_LENGTH;
+
+    private RcChannelsOverrideView() {
+    }
+      
+    /**
+    * RC channel 1 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public static int chan1_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * RC channel 2 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public static int chan2_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(2);
+    }
+      
+    /**
+    * RC channel 3 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public static int chan3_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+      
+    /**
+    * RC channel 4 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public static int chan4_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(6);
+    }
+      
+    /**
+    * RC channel 5 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public static int chan5_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * RC channel 6 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public static int chan6_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(10);
+    }
+      
+    /**
+    * RC channel 7 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public static int chan7_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(12);
+    }
+      
+    /**
+    * RC channel 8 value, in microseconds. A value of UINT16_MAX means to ignore this field.
+    */
+    public static int chan8_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(14);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(16);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(17);
+    }
+
+}
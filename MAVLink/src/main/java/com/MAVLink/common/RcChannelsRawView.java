@@ -0,0 +1,103 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE RC_CHANNELS_RAW VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The RAW values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*
+* Read-only view of the RC_CHANNELS_RAW message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_rc_channels_raw}
+* object.
+*/
+public final class RcChannelsRawView {
+
+    public static final int MAVLINK_MSG_ID_RC_CHANNELS_RAW = msg_rc_channels_raw.MAVLINK_MSG_ID_RC_CHANNELS_RAW;
+    public static final int MAVLINK_MSG_LENGTH = msg_rc_channels_raw.MAVLINK_MSG_LENGTH;
+
+    private RcChannelsRawView() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * RC channel 1 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan1_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+      
+    /**
+    * RC channel 2 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan2_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(6);
+    }
+      
+    /**
+    * RC channel 3 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan3_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * RC channel 4 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan4_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(10);
+    }
+      
+    /**
+    * RC channel 5 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan5_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(12);
+    }
+      
+    /**
+    * RC channel 6 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan6_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(14);
+    }
+      
+    /**
+    * RC channel 7 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan7_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(16);
+    }
+      
+    /**
+    * RC channel 8 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan8_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(18);
+    }
+      
+    /**
+    * Servo output port (set of 8 outputs = 1 port). Most MAVs will just use one, but this allows for more than 8 servos.
+    */
+    public static short port(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(20);
+    }
+      
+    /**
+    * Receive signal strength indicator, 0: 0%, 100: 100%, 255: invalid/unknown.
+    */
+    public static short rssi(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(21);
+    }
+
+}
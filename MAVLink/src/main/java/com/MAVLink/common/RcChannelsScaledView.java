@@ -0,0 +1,103 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE RC_CHANNELS_SCALED VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The scaled values of the RC channels received. (-100%) -10000, (0%) 0, (100%) 10000. Channels that are inactive should be set to UINT16_MAX.
+*
+* Read-only view of the RC_CHANNELS_SCALED message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_rc_channels_scaled}
+* object.
+*/
+public final class RcChannelsScaledView {
+
+    public static final int MAVLINK_MSG_ID_RC_CHANNELS_SCALED = msg_rc_channels_scaled.MAVLINK_MSG_ID_RC_CHANNELS_SCALED;
+    public static final int MAVLINK_MSG_LENGTH = msg_rc_channels_scaled.MAVLINK_MSG_LENGTH;
+
+    private RcChannelsScaledView() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * RC channel 1 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public static short chan1_scaled(MAVLinkPayload payload) {
+        return payload.getShort(4);
+    }
+      
+    /**
+    * RC channel 2 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public static short chan2_scaled(MAVLinkPayload payload) {
+        return payload.getShort(6);
+    }
+      
+    /**
+    * RC channel 3 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public static short chan3_scaled(MAVLinkPayload payload) {
+        return payload.getShort(8);
+    }
+      
+    /**
+    * RC channel 4 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public static short chan4_scaled(MAVLinkPayload payload) {
+        return payload.getShort(10);
+    }
+      
+    /**
+    * RC channel 5 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public static short chan5_scaled(MAVLinkPayload payload) {
+        return payload.getShort(12);
+    }
+      
+    /**
+    * RC channel 6 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public static short chan6_scaled(MAVLinkPayload payload) {
+        return payload.getShort(14);
+    }
+      
+    /**
+    * RC channel 7 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public static short chan7_scaled(MAVLinkPayload payload) {
+        return payload.getShort(16);
+    }
+      
+    /**
+    * RC channel 8 value scaled, (-100%) -10000, (0%) 0, (100%) 10000, (invalid) INT16_MAX.
+    */
+    public static short chan8_scaled(MAVLinkPayload payload) {
+        return payload.getShort(18);
+    }
+      
+    /**
+    * Servo output port (set of 8 outputs = 1 port). Most MAVs will just use one, but this allows for more than 8 servos.
+    */
+    public static short port(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(20);
+    }
+      
+    /**
+    * Receive signal strength indicator, 0: 0%, 100: 100%, 255: invalid/unknown.
+    */
+    public static short rssi(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(21);
+    }
+
+}
@@ -0,0 +1,173 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE RC_CHANNELS VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The PPM values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*
+* Read-only view of the RC_CHANNELS message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_rc_channels}
+* object.
+*/
+public final class RcChannelsView {
+
+    public static final int MAVLINK_MSG_ID_RC_CHANNELS = msg_rc_channels.MAVLINK_MSG_ID_RC_CHANNELS;
+    public static final int MAVLINK_MSG_LENGTH = msg_rc_channels.MAVLINK_MSG_LENGTH;
+
+    private RcChannelsView() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * RC channel 1 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan1_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+      
+    /**
+    * RC channel 2 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan2_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(6);
+    }
+      
+    /**
+    * RC channel 3 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan3_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * RC channel 4 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan4_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(10);
+    }
+      
+    /**
+    * RC channel 5 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan5_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(12);
+    }
+      
+    /**
+    * RC channel 6 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan6_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(14);
+    }
+      
+    /**
+    * RC channel 7 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan7_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(16);
+    }
+      
+    /**
+    * RC channel 8 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan8_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(18);
+    }
+      
+    /**
+    * RC channel 9 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan9_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(20);
+    }
+      
+    /**
+    * RC channel 10 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan10_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(22);
+    }
+      
+    /**
+    * RC channel 11 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan11_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(24);
+    }
+      
+    /**
+    * RC channel 12 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan12_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(26);
+    }
+      
+    /**
+    * RC channel 13 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan13_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(28);
+    }
+      
+    /**
+    * RC channel 14 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan14_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(30);
+    }
+      
+    /**
+    * RC channel 15 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan15_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(32);
+    }
+      
+    /**
+    * RC channel 16 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan16_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(34);
+    }
+      
+    /**
+    * RC channel 17 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan17_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(36);
+    }
+      
+    /**
+    * RC channel 18 value, in microseconds. A value of UINT16_MAX implies the channel is unused.
+    */
+    public static int chan18_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(38);
+    }
+      
+    /**
+    * Total number of RC channels being received. This can be larger than 18, indicating that more channels are available but not given in this message. This value should be 0 when no RC channels are available.
+    */
+    public static short chancount(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(40);
+    }
+      
+    /**
+    * Receive signal strength indicator, 0: 0%, 100: 100%, 255: invalid/unknown.
+    */
+    public static short rssi(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(41);
+    }
+
+}
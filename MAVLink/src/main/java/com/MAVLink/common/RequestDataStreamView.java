@@ -0,0 +1,61 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE REQUEST_DATA_STREAM VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* THIS INTERFACE IS DEPRECATED. USE SET_MESSAGE_INTERVAL INSTEAD.
+*
+* Read-only view of the REQUEST_DATA_STREAM message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_request_data_stream}
+* object.
+*/
+public final class RequestDataStreamView {
+
+    public static final int MAVLINK_MSG_ID_REQUEST_DATA_STREAM = msg_request_data_stream.MAVLINK_MSG_ID_REQUEST_DATA_STREAM;
+    public static final int MAVLINK_MSG_LENGTH = msg_request_data_stream.MAVLINK_MSG_LENGTH;
+
+    private RequestDataStreamView() {
+    }
+      
+    /**
+    * The requested message rate
+    */
+    public static int req_message_rate(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * The target requested to send the message stream.
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * The target requested to send the message stream.
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(3);
+    }
+      
+    /**
+    * The ID of the requested data stream
+    */
+    public static short req_stream_id(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(4);
+    }
+      
+    /**
+    * 1 to start sending, 0 to stop sending.
+    */
+    public static short start_stop(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(5);
+    }
+
+}
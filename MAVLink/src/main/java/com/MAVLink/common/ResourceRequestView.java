@@ -0,0 +1,71 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE RESOURCE_REQUEST VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The autopilot is requesting a resource (file, binary, other type of data)
+*
+* Read-only view of the RESOURCE_REQUEST message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_resource_request}
+* object.
+*/
+public final class ResourceRequestView {
+
+    public static final int MAVLINK_MSG_ID_RESOURCE_REQUEST = msg_resource_request.MAVLINK_MSG_ID_RESOURCE_REQUEST;
+    public static final int MAVLINK_MSG_LENGTH = msg_resource_request.MAVLINK_MSG_LENGTH;
+
+    private ResourceRequestView() {
+    }
+      
+    /**
+    * Request ID. This ID should be re-used when sending back URI contents
+    */
+    public static short request_id(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * The type of requested URI. 0 = a file via URL. 1 = a UAVCAN binary
+    */
+    public static short uri_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(1);
+    }
+      
+    /**
+    * The requested unique resource identifier (URI). It is not necessarily a straight domain name (depends on the URI type enum)
+    *
+    * @param index element index, 0 to 119
+    */
+    public static short uri(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 120) {
+            throw new IndexOutOfBoundsException("Invalid uri index: " + index);
+        }
+        return payload.getUnsignedByte(2 + index * 1);
+    }
+      
+    /**
+    * The way the autopilot wants to receive the URI. 0 = MAVLink FTP. 1 = binary stream.
+    */
+    public static short transfer_type(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(122);
+    }
+      
+    /**
+    * The storage path the autopilot wants the URI to be stored in. Will only be valid if the transfer_type has a storage associated (e.g. MAVLink FTP).
+    *
+    * @param index element index, 0 to 119
+    */
+    public static short storage(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 120) {
+            throw new IndexOutOfBoundsException("Invalid storage index: " + index);
+        }
+        return payload.getUnsignedByte(123 + index * 1);
+    }
+
+}
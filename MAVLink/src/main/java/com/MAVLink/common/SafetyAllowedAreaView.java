@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SAFETY_ALLOWED_AREA VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Read out the safety zone the MAV currently assumes.
+*
+* Read-only view of the SAFETY_ALLOWED_AREA message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_safety_allowed_area}
+* object.
+*/
+public final class SafetyAllowedAreaView {
+
+    public static final int MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA = msg_safety_allowed_area.MAVLINK_MSG_ID_SAFETY_ALLOWED_AREA;
+    public static final int MAVLINK_MSG_LENGTH = msg_safety_allowed_area.MAVLINK_MSG_LENGTH;
+
+    private SafetyAllowedAreaView() {
+    }
+      
+    /**
+    * x position 1 / Latitude 1
+    */
+    public static float p1x(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * y position 1 / Longitude 1
+    */
+    public static float p1y(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * z position 1 / Altitude 1
+    */
+    public static float p1z(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * x position 2 / Latitude 2
+    */
+    public static float p2x(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * y position 2 / Longitude 2
+    */
+    public static float p2y(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * z position 2 / Altitude 2
+    */
+    public static float p2z(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Coordinate frame, as defined by MAV_FRAME enum in mavlink_types.h. Can be either global, GPS, right-handed with Z axis up or local, right handed, Z axis down.
+    */
+    public static short frame(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(24);
+    }
+
+}
@@ -0,0 +1,89 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SAFETY_SET_ALLOWED_AREA VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Set a safety zone (volume), which is defined by two corners of a cube. This message can be used to tell the MAV which setpoints/MISSIONs to accept and which to reject. Safety areas are often enforced by national or competition regulations.
+*
+* Read-only view of the SAFETY_SET_ALLOWED_AREA message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_safety_set_allowed_area}
+* object.
+*/
+public final class SafetySetAllowedAreaView {
+
+    public static final int MAVLINK_MSG_ID_SAFETY_SET_ALLOWED_AREA = msg_safety_set_allowed_area.MAVLINK_MSG_ID_SAFETY_SET_ALLOWED_AREA;
+    public static final int MAVLINK_MSG_LENGTH = msg_safety_set_allowed_area.MAVLINK_MSG_LENGTH;
+
+    private SafetySetAllowedAreaView() {
+    }
+      
+    /**
+    * x position 1 / Latitude 1
+    */
+    public static float p1x(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * y position 1 / Longitude 1
+    */
+    public static float p1y(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * z position 1 / Altitude 1
+    */
+    public static float p1z(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * x position 2 / Latitude 2
+    */
+    public static float p2x(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * y position 2 / Longitude 2
+    */
+    public static float p2y(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * z position 2 / Altitude 2
+    */
+    public static float p2z(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(24);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(25);
+    }
+      
+    /**
+    * Coordinate frame, as defined by MAV_FRAME enum in mavlink_types.h. Can be either global, GPS, right-handed with Z axis up or local, right handed, Z axis down.
+    */
+    public static short frame(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(26);
+    }
+
+}
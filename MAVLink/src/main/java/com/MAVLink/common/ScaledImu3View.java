@@ -0,0 +1,96 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SCALED_IMU3 VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The RAW IMU readings for 3rd 9DOF sensor setup. This message should contain the scaled values to the described units
+*
+* Read-only view of the SCALED_IMU3 message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_scaled_imu3}
+* object.
+*/
+public final class ScaledImu3View {
+
+    public static final int MAVLINK_MSG_ID_SCALED_IMU3 = msg_scaled_imu3.MAVLINK_MSG_ID_SCALED_IMU3;
+    public static final int MAVLINK_MSG_LENGTH = msg_scaled_imu3.MAVLINK_MSG_LENGTH;
+
+    private ScaledImu3View() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * X acceleration (mg)
+    */
+    public static short xacc(MAVLinkPayload payload) {
+        return payload.getShort(4);
+    }
+      
+    /**
+    * Y acceleration (mg)
+    */
+    public static short yacc(MAVLinkPayload payload) {
+        return payload.getShort(6);
+    }
+      
+    /**
+    * Z acceleration (mg)
+    */
+    public static short zacc(MAVLinkPayload payload) {
+        return payload.getShort(8);
+    }
+      
+    /**
+    * Angular speed around X axis (millirad /sec)
+    */
+    public static short xgyro(MAVLinkPayload payload) {
+        return payload.getShort(10);
+    }
+      
+    /**
+    * Angular speed around Y axis (millirad /sec)
+    */
+    public static short ygyro(MAVLinkPayload payload) {
+        return payload.getShort(12);
+    }
+      
+    /**
+    * Angular speed around Z axis (millirad /sec)
+    */
+    public static short zgyro(MAVLinkPayload payload) {
+        return payload.getShort(14);
+    }
+      
+    /**
+    * X Magnetic field (milli tesla)
+    */
+    public static short xmag(MAVLinkPayload payload) {
+        return payload.getShort(16);
+    }
+      
+    /**
+    * Y Magnetic field (milli tesla)
+    */
+    public static short ymag(MAVLinkPayload payload) {
+        return payload.getShort(18);
+    }
+      
+    /**
+    * Z Magnetic field (milli tesla)
+    */
+    public static short zmag(MAVLinkPayload payload) {
+        return payload.getShort(20);
+    }
+
+}
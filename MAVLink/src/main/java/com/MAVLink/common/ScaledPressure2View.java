@@ -0,0 +1,54 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SCALED_PRESSURE2 VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Barometer readings for 2nd barometer
+*
+* Read-only view of the SCALED_PRESSURE2 message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_scaled_pressure2}
+* object.
+*/
+public final class ScaledPressure2View {
+
+    public static final int MAVLINK_MSG_ID_SCALED_PRESSURE2 = msg_scaled_pressure2.MAVLINK_MSG_ID_SCALED_PRESSURE2;
+    public static final int MAVLINK_MSG_LENGTH = msg_scaled_pressure2.MAVLINK_MSG_LENGTH;
+
+    private ScaledPressure2View() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Absolute pressure (hectopascal)
+    */
+    public static float press_abs(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Differential pressure 1 (hectopascal)
+    */
+    public static float press_diff(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Temperature measurement (0.01 degrees celsius)
+    */
+    public static short temperature(MAVLinkPayload payload) {
+        return payload.getShort(12);
+    }
+
+}
@@ -0,0 +1,54 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SCALED_PRESSURE3 VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Barometer readings for 3rd barometer
+*
+* Read-only view of the SCALED_PRESSURE3 message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_scaled_pressure3}
+* object.
+*/
+public final class ScaledPressure3View {
+
+    public static final int MAVLINK_MSG_ID_SCALED_PRESSURE3 = msg_scaled_pressure3.MAVLINK_MSG_ID_SCALED_PRESSURE3;
+    public static final int MAVLINK_MSG_LENGTH = msg_scaled_pressure3.MAVLINK_MSG_LENGTH;
+
+    private ScaledPressure3View() {
+    }
+      
+    /**
+    * Timestamp (milliseconds since system boot)
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Absolute pressure (hectopascal)
+    */
+    public static float press_abs(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Differential pressure 1 (hectopascal)
+    */
+    public static float press_diff(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Temperature measurement (0.01 degrees celsius)
+    */
+    public static short temperature(MAVLinkPayload payload) {
+        return payload.getShort(12);
+    }
+
+}
@@ -0,0 +1,73 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SERIAL_CONTROL VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Control a serial port. This can be used for raw access to an onboard serial peripheral such as a GPS or telemetry radio. It is designed to make it possible to update the devices firmware via MAVLink messages or change the devices settings. A message with zero bytes can be used to change just the baudrate.
+*
+* Read-only view of the SERIAL_CONTROL message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_serial_control}
+* object.
+*/
+public final class SerialControlView {
+
+    public static final int MAVLINK_MSG_ID_SERIAL_CONTROL = msg_serial_control.MAVLINK_MSG_ID_SERIAL_CONTROL;
+    public static final int MAVLINK_MSG_LENGTH = msg_serial_control.MAVLINK_MSG_LENGTH;
+
+    private SerialControlView() {
+    }
+      
+    /**
+    * Baudrate of transfer. Zero means no change.
+    */
+    public static long baudrate(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Timeout for reply data in milliseconds
+    */
+    public static int timeout(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+      
+    /**
+    * See SERIAL_CONTROL_DEV enum
+    */
+    public static short device(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(6);
+    }
+      
+    /**
+    * See SERIAL_CONTROL_FLAG enum
+    */
+    public static short flags(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(7);
+    }
+      
+    /**
+    * how many bytes in this transfer
+    */
+    public static short count(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(8);
+    }
+      
+    /**
+    * serial data
+    *
+    * @param index element index, 0 to 69
+    */
+    public static short data(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 70) {
+            throw new IndexOutOfBoundsException("Invalid data index: " + index);
+        }
+        return payload.getUnsignedByte(9 + index * 1);
+    }
+
+}
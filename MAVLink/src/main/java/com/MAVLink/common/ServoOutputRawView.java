@@ -0,0 +1,96 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SERVO_OUTPUT_RAW VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The RAW values of the servo outputs (for RC input from the remote, use the RC_CHANNELS messages). The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%.
+*
+* Read-only view of the SERVO_OUTPUT_RAW message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_servo_output_raw}
+* object.
+*/
+public final class ServoOutputRawView {
+
+    public static final int MAVLINK_MSG_ID_SERVO_OUTPUT_RAW = msg_servo_output_raw.MAVLINK_MSG_ID_SERVO_OUTPUT_RAW;
+    public static final int MAVLINK_MSG_LENGTH = msg_servo_output_raw.MAVLINK_MSG_LENGTH;
+
+    private ServoOutputRawView() {
+    }
+      
+    /**
+    * Timestamp (microseconds since system boot)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Servo output 1 value, in microseconds
+    */
+    public static int servo1_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(4);
+    }
+      
+    /**
+    * Servo output 2 value, in microseconds
+    */
+    public static int servo2_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(6);
+    }
+      
+    /**
+    * Servo output 3 value, in microseconds
+    */
+    public static int servo3_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * Servo output 4 value, in microseconds
+    */
+    public static int servo4_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(10);
+    }
+      
+    /**
+    * Servo output 5 value, in microseconds
+    */
+    public static int servo5_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(12);
+    }
+      
+    /**
+    * Servo output 6 value, in microseconds
+    */
+    public static int servo6_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(14);
+    }
+      
+    /**
+    * Servo output 7 value, in microseconds
+    */
+    public static int servo7_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(16);
+    }
+      
+    /**
+    * Servo output 8 value, in microseconds
+    */
+    public static int servo8_raw(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(18);
+    }
+      
+    /**
+    * Servo output port (set of 8 outputs = 1 port). Most MAVs will just use one, but this allows to encode more than 8 servos.
+    */
+    public static short port(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(20);
+    }
+
+}
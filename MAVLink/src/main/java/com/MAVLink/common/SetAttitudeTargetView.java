@@ -0,0 +1,94 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SET_ATTITUDE_TARGET VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Sets a desired vehicle attitude. Used by an external controller to command the vehicle (manual controller or other system).
+*
+* Read-only view of the SET_ATTITUDE_TARGET message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_set_attitude_target}
+* object.
+*/
+public final class SetAttitudeTargetView {
+
+    public static final int MAVLINK_MSG_ID_SET_ATTITUDE_TARGET = msg_set_attitude_target.MAVLINK_MSG_ID_SET_ATTITUDE_TARGET;
+    public static final int MAVLINK_MSG_LENGTH = msg_set_attitude_target.MAVLINK_MSG_LENGTH;
+
+    private SetAttitudeTargetView() {
+    }
+      
+    /**
+    * Timestamp in milliseconds since system boot
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Attitude quaternion (w, x, y, z order, zero-rotation is 1, 0, 0, 0)
+    *
+    * @param index element index, 0 to 3
+    */
+    public static float q(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("Invalid q index: " + index);
+        }
+        return payload.getFloat(4 + index * 4);
+    }
+      
+    /**
+    * Body roll rate in radians per second
+    */
+    public static float body_roll_rate(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Body roll rate in radians per second
+    */
+    public static float body_pitch_rate(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Body roll rate in radians per second
+    */
+    public static float body_yaw_rate(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Collective thrust, normalized to 0 .. 1 (-1 .. 1 for vehicles capable of reverse trust)
+    */
+    public static float thrust(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(36);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(37);
+    }
+      
+    /**
+    * Mappings: If any of these bits are set, the corresponding input should be ignored: bit 1: body roll rate, bit 2: body pitch rate, bit 3: body yaw rate. bit 4-bit 6: reserved, bit 7: throttle, bit 8: attitude
+    */
+    public static short type_mask(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(38);
+    }
+
+}
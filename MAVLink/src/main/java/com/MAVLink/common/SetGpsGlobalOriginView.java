@@ -0,0 +1,54 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SET_GPS_GLOBAL_ORIGIN VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* As local waypoints exist, the global MISSION reference allows to transform between the local coordinate frame and the global (GPS) coordinate frame. This can be necessary when e.g. in- and outdoor settings are connected and the MAV should move from in- to outdoor.
+*
+* Read-only view of the SET_GPS_GLOBAL_ORIGIN message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_set_gps_global_origin}
+* object.
+*/
+public final class SetGpsGlobalOriginView {
+
+    public static final int MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN = msg_set_gps_global_origin.MAVLINK_MSG_ID_SET_GPS_GLOBAL_ORIGIN;
+    public static final int MAVLINK_MSG_LENGTH = msg_set_gps_global_origin.MAVLINK_MSG_LENGTH;
+
+    private SetGpsGlobalOriginView() {
+    }
+      
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public static int latitude(MAVLinkPayload payload) {
+        return payload.getInt(0);
+    }
+      
+    /**
+    * Longitude (WGS84, in degrees * 1E7
+    */
+    public static int longitude(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Altitude (AMSL), in meters * 1000 (positive for up)
+    */
+    public static int altitude(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(12);
+    }
+
+}
@@ -0,0 +1,108 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SET_HOME_POSITION VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The position the system will return to and land on. The position is set automatically by the system during the takeoff in case it was not explicitely set by the operator before or after. The global and local positions encode the position in the respective coordinate frames, while the q parameter encodes the orientation of the surface. Under normal conditions it describes the heading and terrain slope, which can be used by the aircraft to adjust the approach. The approach 3D vector describes the point to which the system should fly in normal flight mode and then perform a landing sequence along the vector.
+*
+* Read-only view of the SET_HOME_POSITION message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_set_home_position}
+* object.
+*/
+public final class SetHomePositionView {
+
+    public static final int MAVLINK_MSG_ID_SET_HOME_POSITION = msg_set_home_position.MAVLINK_MSG_ID_SET_HOME_POSITION;
+    public static final int MAVLINK_MSG_LENGTH = msg_set_home_position.MAVLINK_MSG_LENGTH;
+
+    private SetHomePositionView() {
+    }
+      
+    /**
+    * Latitude (WGS84), in degrees * 1E7
+    */
+    public static int latitude(MAVLinkPayload payload) {
+        return payload.getInt(0);
+    }
+      
+    /**
+    * Longitude (WGS84, in degrees * 1E7
+    */
+    public static int longitude(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Altitude (AMSL), in meters * 1000 (positive for up)
+    */
+    public static int altitude(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * Local X position of this position in the local coordinate frame
+    */
+    public static float x(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Local Y position of this position in the local coordinate frame
+    */
+    public static float y(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Local Z position of this position in the local coordinate frame
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * World to surface normal and heading transformation of the takeoff position. Used to indicate the heading and slope of the ground
+    *
+    * @param index element index, 0 to 3
+    */
+    public static float q(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 4) {
+            throw new IndexOutOfBoundsException("Invalid q index: " + index);
+        }
+        return payload.getFloat(24 + index * 4);
+    }
+      
+    /**
+    * Local X position of the end of the approach vector. Multicopters should set this position based on their takeoff path. Grass-landing fixed wing aircraft should set it the same way as multicopters. Runway-landing fixed wing aircraft should set it to the opposite direction of the takeoff, assuming the takeoff happened from the threshold / touchdown zone.
+    */
+    public static float approach_x(MAVLinkPayload payload) {
+        return payload.getFloat(40);
+    }
+      
+    /**
+    * Local Y position of the end of the approach vector. Multicopters should set this position based on their takeoff path. Grass-landing fixed wing aircraft should set it the same way as multicopters. Runway-landing fixed wing aircraft should set it to the opposite direction of the takeoff, assuming the takeoff happened from the threshold / touchdown zone.
+    */
+    public static float approach_y(MAVLinkPayload payload) {
+        return payload.getFloat(44);
+    }
+      
+    /**
+    * Local Z position of the end of the approach vector. Multicopters should set this position based on their takeoff path. Grass-landing fixed wing aircraft should set it the same way as multicopters. Runway-landing fixed wing aircraft should set it to the opposite direction of the takeoff, assuming the takeoff happened from the threshold / touchdown zone.
+    */
+    public static float approach_z(MAVLinkPayload payload) {
+        return payload.getFloat(48);
+    }
+      
+    /**
+    * System ID.
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(52);
+    }
+
+}
@@ -0,0 +1,47 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SET_MODE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* THIS INTERFACE IS DEPRECATED. USE COMMAND_LONG with MAV_CMD_DO_SET_MODE INSTEAD. Set the system mode, as defined by enum MAV_MODE. There is no target component id as the mode is by definition for the overall aircraft, not only for one component.
+*
+* Read-only view of the SET_MODE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_set_mode}
+* object.
+*/
+public final class SetModeView {
+
+    public static final int MAVLINK_MSG_ID_SET_MODE = msg_set_mode.MAVLINK_MSG_ID_SET_MODE;
+    public static final int MAVLINK_MSG_LENGTH = msg_set_mode.MAVLINK_MSG_LENGTH;
+
+    private SetModeView() {
+    }
+      
+    /**
+    * The new autopilot-specific mode. This field can be ignored by an autopilot.
+    */
+    public static long custom_mode(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * The system setting the mode
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(4);
+    }
+      
+    /**
+    * The new base mode
+    */
+    public static short base_mode(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(5);
+    }
+
+}
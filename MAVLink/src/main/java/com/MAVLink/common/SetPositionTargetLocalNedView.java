@@ -0,0 +1,138 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SET_POSITION_TARGET_LOCAL_NED VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Sets a desired vehicle position in a local north-east-down coordinate frame. Used by an external controller to command the vehicle (manual controller or other system).
+*
+* Read-only view of the SET_POSITION_TARGET_LOCAL_NED message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_set_position_target_local_ned}
+* object.
+*/
+public final class SetPositionTargetLocalNedView {
+
+    public static final int MAVLINK_MSG_ID_SET_POSITION_TARGET_LOCAL_NED = msg_set_position_target_local_ned.MAVLINK_MSG_ID_SET_POSITION_TARGET_LOCAL_NED;
+    public static final int MAVLINK_MSG_LENGTH = msg_set_position_target_local_ned.MAVLINK_MSG_LENGTH;
+
+    private SetPositionTargetLocalNedView() {
+    }
+      
+    /**
+    * Timestamp in milliseconds since system boot
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * X Position in NED frame in meters
+    */
+    public static float x(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Y Position in NED frame in meters
+    */
+    public static float y(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Z Position in NED frame in meters (note, altitude is negative in NED)
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * X velocity in NED frame in meter / s
+    */
+    public static float vx(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Y velocity in NED frame in meter / s
+    */
+    public static float vy(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Z velocity in NED frame in meter / s
+    */
+    public static float vz(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * X acceleration or force (if bit 10 of type_mask is set) in NED frame in meter / s^2 or N
+    */
+    public static float afx(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Y acceleration or force (if bit 10 of type_mask is set) in NED frame in meter / s^2 or N
+    */
+    public static float afy(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Z acceleration or force (if bit 10 of type_mask is set) in NED frame in meter / s^2 or N
+    */
+    public static float afz(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+      
+    /**
+    * yaw setpoint in rad
+    */
+    public static float yaw(MAVLinkPayload payload) {
+        return payload.getFloat(40);
+    }
+      
+    /**
+    * yaw rate setpoint in rad/s
+    */
+    public static float yaw_rate(MAVLinkPayload payload) {
+        return payload.getFloat(44);
+    }
+      
+    /**
+    * Bitmask to indicate which dimensions should be ignored by the vehicle: a value of 0b0000000000000000 or 0b0000001000000000 indicates that none of the setpoint dimensions should be ignored. If bit 10 is set the floats afx afy afz should be interpreted as force instead of acceleration. Mapping: bit 1: x, bit 2: y, bit 3: z, bit 4: vx, bit 5: vy, bit 6: vz, bit 7: ax, bit 8: ay, bit 9: az, bit 10: is force setpoint, bit 11: yaw, bit 12: yaw rate
+    */
+    public static int type_mask(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(48);
+    }
+      
+    /**
+    * System ID
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(50);
+    }
+      
+    /**
+    * Component ID
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(51);
+    }
+      
+    /**
+    * Valid options are: MAV_FRAME_LOCAL_NED = 1, MAV_FRAME_LOCAL_OFFSET_NED = 7, MAV_FRAME_BODY_NED = 8, MAV_FRAME_BODY_OFFSET_NED = 9
+    */
+    public static short coordinate_frame(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(52);
+    }
+
+}
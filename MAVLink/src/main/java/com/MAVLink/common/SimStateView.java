@@ -0,0 +1,173 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SIM_STATE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Status of simulation environment, if used
+*
+* Read-only view of the SIM_STATE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_sim_state}
+* object.
+*/
+public final class SimStateView {
+
+    public static final int MAVLINK_MSG_ID_SIM_STATE = msg_sim_state.MAVLINK_MSG_ID_SIM_STATE;
+    public static final int MAVLINK_MSG_LENGTH = msg_sim_state.MAVLINK_MSG_LENGTH;
+
+    private SimStateView() {
+    }
+      
+    /**
+    * True attitude quaternion component 1, w (1 in null-rotation)
+    */
+    public static float q1(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * True attitude quaternion component 2, x (0 in null-rotation)
+    */
+    public static float q2(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * True attitude quaternion component 3, y (0 in null-rotation)
+    */
+    public static float q3(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * True attitude quaternion component 4, z (0 in null-rotation)
+    */
+    public static float q4(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Attitude roll expressed as Euler angles, not recommended except for human-readable outputs
+    */
+    public static float roll(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Attitude pitch expressed as Euler angles, not recommended except for human-readable outputs
+    */
+    public static float pitch(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Attitude yaw expressed as Euler angles, not recommended except for human-readable outputs
+    */
+    public static float yaw(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * X acceleration m/s/s
+    */
+    public static float xacc(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Y acceleration m/s/s
+    */
+    public static float yacc(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Z acceleration m/s/s
+    */
+    public static float zacc(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+      
+    /**
+    * Angular speed around X axis rad/s
+    */
+    public static float xgyro(MAVLinkPayload payload) {
+        return payload.getFloat(40);
+    }
+      
+    /**
+    * Angular speed around Y axis rad/s
+    */
+    public static float ygyro(MAVLinkPayload payload) {
+        return payload.getFloat(44);
+    }
+      
+    /**
+    * Angular speed around Z axis rad/s
+    */
+    public static float zgyro(MAVLinkPayload payload) {
+        return payload.getFloat(48);
+    }
+      
+    /**
+    * Latitude in degrees
+    */
+    public static float lat(MAVLinkPayload payload) {
+        return payload.getFloat(52);
+    }
+      
+    /**
+    * Longitude in degrees
+    */
+    public static float lon(MAVLinkPayload payload) {
+        return payload.getFloat(56);
+    }
+      
+    /**
+    * Altitude in meters
+    */
+    public static float alt(MAVLinkPayload payload) {
+        return payload.getFloat(60);
+    }
+      
+    /**
+    * Horizontal position standard deviation
+    */
+    public static float std_dev_horz(MAVLinkPayload payload) {
+        return payload.getFloat(64);
+    }
+      
+    /**
+    * Vertical position standard deviation
+    */
+    public static float std_dev_vert(MAVLinkPayload payload) {
+        return payload.getFloat(68);
+    }
+      
+    /**
+    * True velocity in m/s in NORTH direction in earth-fixed NED frame
+    */
+    public static float vn(MAVLinkPayload payload) {
+        return payload.getFloat(72);
+    }
+      
+    /**
+    * True velocity in m/s in EAST direction in earth-fixed NED frame
+    */
+    public static float ve(MAVLinkPayload payload) {
+        return payload.getFloat(76);
+    }
+      
+    /**
+    * True velocity in m/s in DOWN direction in earth-fixed NED frame
+    */
+    public static float vd(MAVLinkPayload payload) {
+        return payload.getFloat(80);
+    }
+
+}
@@ -0,0 +1,60 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE STATUSTEXT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Status text message. These messages are printed in yellow in the COMM console of QGroundControl. WARNING: They consume quite some bandwidth, so use only for important status and error messages. If implemented wisely, these messages are buffered on the MCU and sent only at a limited rate (e.g. 10 Hz).
+*
+* Read-only view of the STATUSTEXT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_statustext}
+* object.
+*/
+public final class StatustextView {
+
+    public static final int MAVLINK_MSG_ID_STATUSTEXT = msg_statustext.MAVLINK_MSG_ID_STATUSTEXT;
+    public static final int MAVLINK_MSG_LENGTH = msg_statustext.MAVLINK_MSG_LENGTH;
+
+    private StatustextView() {
+    }
+      
+    /**
+    * Severity of status. Relies on the definitions within RFC-5424. See enum MAV_SEVERITY.
+    */
+    public static short severity(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(0);
+    }
+      
+    /**
+    * Status text message, without null termination character
+    *
+    * @param index element index, 0 to 49
+    */
+    public static byte text(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 50) {
+            throw new IndexOutOfBoundsException("Invalid text index: " + index);
+        }
+        return payload.getByte(1 + index * 1);
+    }
+
+    /**
+    * Gets the message, formated as a string
+    */
+    public static String getText(MAVLinkPayload payload) {
+        StringBuilder result = new StringBuilder(50);
+        for (int i = 0; i < 50; i++) {
+            byte c = payload.getByte(1 + i);
+            if (c != 0)
+                result.append((char) c);
+            else
+                break;
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,117 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SYS_STATUS VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The general system state. If the system is following the MAVLink standard, the system state is mainly defined by three orthogonal states/modes: The system mode, which is either LOCKED (motors shut down and locked), MANUAL (system under RC control), GUIDED (system with autonomous position control, position setpoint controlled manually) or AUTO (system guided by path/waypoint planner). The NAV_MODE defined the current flight state: LIFTOFF (often an open-loop maneuver), LANDING, WAYPOINTS or VECTOR. This represents the internal navigation state machine. The system status shows wether the system is currently active or not and if an emergency occured. During the CRITICAL and EMERGENCY states the MAV is still considered to be active, but should start emergency procedures autonomously. After a failure occured it should first move from active to critical to allow manual intervention and then move to emergency after a certain timeout.
+*
+* Read-only view of the SYS_STATUS message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_sys_status}
+* object.
+*/
+public final class SysStatusView {
+
+    public static final int MAVLINK_MSG_ID_SYS_STATUS = msg_sys_status.MAVLINK_MSG_ID_SYS_STATUS;
+    public static final int MAVLINK_MSG_LENGTH = msg_sys_status.MAVLINK_MSG_LENGTH;
+
+    private SysStatusView() {
+    }
+      
+    /**
+    * Bitmask showing which onboard controllers and sensors are present. Value of 0: not present. Value of 1: present. Indices defined by ENUM MAV_SYS_STATUS_SENSOR
+    */
+    public static long onboard_control_sensors_present(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(0);
+    }
+      
+    /**
+    * Bitmask showing which onboard controllers and sensors are enabled:  Value of 0: not enabled. Value of 1: enabled. Indices defined by ENUM MAV_SYS_STATUS_SENSOR
+    */
+    public static long onboard_control_sensors_enabled(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(4);
+    }
+      
+    /**
+    * Bitmask showing which onboard controllers and sensors are operational or have an error:  Value of 0: not enabled. Value of 1: enabled. Indices defined by ENUM MAV_SYS_STATUS_SENSOR
+    */
+    public static long onboard_control_sensors_health(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(8);
+    }
+      
+    /**
+    * Maximum usage in percent of the mainloop time, (0%: 0, 100%: 1000) should be always below 1000
+    */
+    public static int load(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(12);
+    }
+      
+    /**
+    * Battery voltage, in millivolts (1 = 1 millivolt)
+    */
+    public static int voltage_battery(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(14);
+    }
+      
+    /**
+    * Battery current, in 10*milliamperes (1 = 10 milliampere), -1: autopilot does not measure the current
+    */
+    public static short current_battery(MAVLinkPayload payload) {
+        return payload.getShort(16);
+    }
+      
+    /**
+    * Communication drops in percent, (0%: 0, 100%: 10'000), (UART, I2C, SPI, CAN), dropped packets on all links (packets that were corrupted on reception on the MAV)
+    */
+    public static int drop_rate_comm(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(18);
+    }
+      
+    /**
+    * Communication errors (UART, I2C, SPI, CAN), dropped packets on all links (packets that were corrupted on reception on the MAV)
+    */
+    public static int errors_comm(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(20);
+    }
+      
+    /**
+    * Autopilot-specific errors
+    */
+    public static int errors_count1(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(22);
+    }
+      
+    /**
+    * Autopilot-specific errors
+    */
+    public static int errors_count2(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(24);
+    }
+      
+    /**
+    * Autopilot-specific errors
+    */
+    public static int errors_count3(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(26);
+    }
+      
+    /**
+    * Autopilot-specific errors
+    */
+    public static int errors_count4(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(28);
+    }
+      
+    /**
+    * Remaining battery energy: (0%: 0, 100%: 100), -1: autopilot estimate the remaining battery
+    */
+    public static byte battery_remaining(MAVLinkPayload payload) {
+        return payload.getByte(30);
+    }
+
+}
@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE SYSTEM_TIME VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* The system time is the time of the master clock, typically the computer clock of the main onboard computer.
+*
+* Read-only view of the SYSTEM_TIME message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_system_time}
+* object.
+*/
+public final class SystemTimeView {
+
+    public static final int MAVLINK_MSG_ID_SYSTEM_TIME = msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME;
+    public static final int MAVLINK_MSG_LENGTH = msg_system_time.MAVLINK_MSG_LENGTH;
+
+    private SystemTimeView() {
+    }
+      
+    /**
+    * Timestamp of the master clock in microseconds since UNIX epoch.
+    */
+    public static long time_unix_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Timestamp of the component clock since boot time in milliseconds.
+    */
+    public static long time_boot_ms(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(8);
+    }
+
+}
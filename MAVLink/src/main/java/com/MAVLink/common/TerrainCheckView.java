@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE TERRAIN_CHECK VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Request that the vehicle report terrain height at the given location. Used by GCS to check if vehicle has all terrain data needed for a mission.
+*
+* Read-only view of the TERRAIN_CHECK message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_terrain_check}
+* object.
+*/
+public final class TerrainCheckView {
+
+    public static final int MAVLINK_MSG_ID_TERRAIN_CHECK = msg_terrain_check.MAVLINK_MSG_ID_TERRAIN_CHECK;
+    public static final int MAVLINK_MSG_LENGTH = msg_terrain_check.MAVLINK_MSG_LENGTH;
+
+    private TerrainCheckView() {
+    }
+      
+    /**
+    * Latitude (degrees *10^7)
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(0);
+    }
+      
+    /**
+    * Longitude (degrees *10^7)
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+
+}
@@ -0,0 +1,66 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE TERRAIN_DATA VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Terrain data sent from GCS. The lat/lon and grid_spacing must be the same as a lat/lon from a TERRAIN_REQUEST
+*
+* Read-only view of the TERRAIN_DATA message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_terrain_data}
+* object.
+*/
+public final class TerrainDataView {
+
+    public static final int MAVLINK_MSG_ID_TERRAIN_DATA = msg_terrain_data.MAVLINK_MSG_ID_TERRAIN_DATA;
+    public static final int MAVLINK_MSG_LENGTH = msg_terrain_data.MAVLINK_MSG_LENGTH;
+
+    private TerrainDataView() {
+    }
+      
+    /**
+    * Latitude of SW corner of first grid (degrees *10^7)
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(0);
+    }
+      
+    /**
+    * Longitude of SW corner of first grid (in degrees *10^7)
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Grid spacing in meters
+    */
+    public static int grid_spacing(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(8);
+    }
+      
+    /**
+    * Terrain data in meters AMSL
+    *
+    * @param index element index, 0 to 15
+    */
+    public static short data(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 16) {
+            throw new IndexOutOfBoundsException("Invalid data index: " + index);
+        }
+        return payload.getShort(10 + index * 2);
+    }
+      
+    /**
+    * bit within the terrain request mask
+    */
+    public static short gridbit(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(42);
+    }
+
+}
@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE TERRAIN_REPORT VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Response from a TERRAIN_CHECK request
+*
+* Read-only view of the TERRAIN_REPORT message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_terrain_report}
+* object.
+*/
+public final class TerrainReportView {
+
+    public static final int MAVLINK_MSG_ID_TERRAIN_REPORT = msg_terrain_report.MAVLINK_MSG_ID_TERRAIN_REPORT;
+    public static final int MAVLINK_MSG_LENGTH = msg_terrain_report.MAVLINK_MSG_LENGTH;
+
+    private TerrainReportView() {
+    }
+      
+    /**
+    * Latitude (degrees *10^7)
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(0);
+    }
+      
+    /**
+    * Longitude (degrees *10^7)
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(4);
+    }
+      
+    /**
+    * Terrain height in meters AMSL
+    */
+    public static float terrain_height(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Current vehicle height above lat/lon terrain height (meters)
+    */
+    public static float current_height(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * grid spacing (zero if terrain at this location unavailable)
+    */
+    public static int spacing(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(16);
+    }
+      
+    /**
+    * Number of 4x4 terrain blocks waiting to be received or read from disk
+    */
+    public static int pending(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(18);
+    }
+      
+    /**
+    * Number of 4x4 terrain blocks in memory
+    */
+    public static int loaded(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(20);
+    }
+
+}
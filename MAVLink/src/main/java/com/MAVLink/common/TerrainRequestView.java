@@ -0,0 +1,54 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE TERRAIN_REQUEST VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Request for terrain data and terrain status
+*
+* Read-only view of the TERRAIN_REQUEST message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_terrain_request}
+* object.
+*/
+public final class TerrainRequestView {
+
+    public static final int MAVLINK_MSG_ID_TERRAIN_REQUEST = msg_terrain_request.MAVLINK_MSG_ID_TERRAIN_REQUEST;
+    public static final int MAVLINK_MSG_LENGTH = msg_terrain_request.MAVLINK_MSG_LENGTH;
+
+    private TerrainRequestView() {
+    }
+      
+    /**
+    * Bitmask of requested 4x4 grids (row major 8x7 array of grids, 56 bits)
+    */
+    public static long mask(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Latitude of SW corner of first grid (degrees *10^7)
+    */
+    public static int lat(MAVLinkPayload payload) {
+        return payload.getInt(8);
+    }
+      
+    /**
+    * Longitude of SW corner of first grid (in degrees *10^7)
+    */
+    public static int lon(MAVLinkPayload payload) {
+        return payload.getInt(12);
+    }
+      
+    /**
+    * Grid spacing in meters
+    */
+    public static int grid_spacing(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(16);
+    }
+
+}
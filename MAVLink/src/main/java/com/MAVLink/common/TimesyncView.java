@@ -0,0 +1,40 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE TIMESYNC VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Time synchronization message.
+*
+* Read-only view of the TIMESYNC message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_timesync}
+* object.
+*/
+public final class TimesyncView {
+
+    public static final int MAVLINK_MSG_ID_TIMESYNC = msg_timesync.MAVLINK_MSG_ID_TIMESYNC;
+    public static final int MAVLINK_MSG_LENGTH = msg_timesync.MAVLINK_MSG_LENGTH;
+
+    private TimesyncView() {
+    }
+      
+    /**
+    * Time sync timestamp 1
+    */
+    public static long tc1(MAVLinkPayload payload) {
+        return payload.getLong(0);
+    }
+      
+    /**
+    * Time sync timestamp 2
+    */
+    public static long ts1(MAVLinkPayload payload) {
+        return payload.getLong(8);
+    }
+
+}
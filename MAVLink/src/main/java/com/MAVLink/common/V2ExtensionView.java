@@ -0,0 +1,66 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE V2_EXTENSION VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Message implementing parts of the V2 payload specs in V1 frames for transitional support.
+*
+* Read-only view of the V2_EXTENSION message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_v2_extension}
+* object.
+*/
+public final class V2ExtensionView {
+
+    public static final int MAVLINK_MSG_ID_V2_EXTENSION = msg_v2_extension.MAVLINK_MSG_ID_V2_EXTENSION;
+    public static final int MAVLINK_MSG_LENGTH = msg_v2_extension.MAVLINK_MSG_LENGTH;
+
+    private V2ExtensionView() {
+    }
+      
+    /**
+    * A code that identifies the software component that understands this message (analogous to usb device classes or mime type strings).  If this code is less than 32768, it is considered a 'registered' protocol extension and the corresponding entry should be added to https://github.com/mavlink/mavlink/extension-message-ids.xml.  Software creators can register blocks of message IDs as needed (useful for GCS specific metadata, etc...). Message_types greater than 32767 are considered local experiments and should not be checked in to any widely distributed codebase.
+    */
+    public static int message_type(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(0);
+    }
+      
+    /**
+    * Network ID (0 for broadcast)
+    */
+    public static short target_network(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(2);
+    }
+      
+    /**
+    * System ID (0 for broadcast)
+    */
+    public static short target_system(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(3);
+    }
+      
+    /**
+    * Component ID (0 for broadcast)
+    */
+    public static short target_component(MAVLinkPayload payload) {
+        return payload.getUnsignedByte(4);
+    }
+      
+    /**
+    * Variable length payload. The length is defined by the remaining message length when subtracting the header and other fields.  The entire content of this block is opaque unless you understand any the encoding message_type.  The particular encoding used can be extension specific and might not always be documented as part of the mavlink specification.
+    *
+    * @param index element index, 0 to 248
+    */
+    public static short payload(MAVLinkPayload payload, int index) {
+        if (index < 0 || index >= 249) {
+            throw new IndexOutOfBoundsException("Invalid payload index: " + index);
+        }
+        return payload.getUnsignedByte(5 + index * 1);
+    }
+
+}
@@ -0,0 +1,68 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE VFR_HUD VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Metrics typically displayed on a HUD for fixed wing aircraft
+*
+* Read-only view of the VFR_HUD message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_vfr_hud}
+* object.
+*/
+public final class VfrHudView {
+
+    public static final int MAVLINK_MSG_ID_VFR_HUD = msg_vfr_hud.MAVLINK_MSG_ID_VFR_HUD;
+    public static final int MAVLINK_MSG_LENGTH = msg_vfr_hud.MAVLINK_MSG_LENGTH;
+
+    private VfrHudView() {
+    }
+      
+    /**
+    * Current airspeed in m/s
+    */
+    public static float airspeed(MAVLinkPayload payload) {
+        return payload.getFloat(0);
+    }
+      
+    /**
+    * Current ground speed in m/s
+    */
+    public static float groundspeed(MAVLinkPayload payload) {
+        return payload.getFloat(4);
+    }
+      
+    /**
+    * Current altitude (MSL), in meters
+    */
+    public static float alt(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Current climb rate in meters/second
+    */
+    public static float climb(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Current heading in degrees, in compass units (0..360, 0=north)
+    */
+    public static short heading(MAVLinkPayload payload) {
+        return payload.getShort(16);
+    }
+      
+    /**
+    * Current throttle setting in integer percent, 0 to 100
+    */
+    public static int throttle(MAVLinkPayload payload) {
+        return payload.getUnsignedShort(18);
+    }
+
+}
@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE VIBRATION VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* Vibration levels and accelerometer clipping
+*
+* Read-only view of the VIBRATION message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_vibration}
+* object.
+*/
+public final class VibrationView {
+
+    public static final int MAVLINK_MSG_ID_VIBRATION = msg_vibration.MAVLINK_MSG_ID_VIBRATION;
+    public static final int MAVLINK_MSG_LENGTH = msg_vibration.MAVLINK_MSG_LENGTH;
+
+    private VibrationView() {
+    }
+      
+    /**
+    * Timestamp (micros since boot or Unix epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Vibration levels on X-axis
+    */
+    public static float vibration_x(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Vibration levels on Y-axis
+    */
+    public static float vibration_y(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Vibration levels on Z-axis
+    */
+    public static float vibration_z(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * first accelerometer clipping count
+    */
+    public static long clipping_0(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(20);
+    }
+      
+    /**
+    * second accelerometer clipping count
+    */
+    public static long clipping_1(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(24);
+    }
+      
+    /**
+    * third accelerometer clipping count
+    */
+    public static long clipping_2(MAVLinkPayload payload) {
+        return payload.getUnsignedInt(28);
+    }
+
+}
@@ -0,0 +1,75 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE VISION_POSITION_ESTIMATE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* 
+*
+* Read-only view of the VISION_POSITION_ESTIMATE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_vision_position_estimate}
+* object.
+*/
+public final class VisionPositionEstimateView {
+
+    public static final int MAVLINK_MSG_ID_VISION_POSITION_ESTIMATE = msg_vision_position_estimate.MAVLINK_MSG_ID_VISION_POSITION_ESTIMATE;
+    public static final int MAVLINK_MSG_LENGTH = msg_vision_position_estimate.MAVLINK_MSG_LENGTH;
+
+    private VisionPositionEstimateView() {
+    }
+      
+    /**
+    * Timestamp (microseconds, synced to UNIX time or since system boot)
+    */
+    public static long usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Global X position
+    */
+    public static float x(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Global Y position
+    */
+    public static float y(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Global Z position
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Roll angle in rad
+    */
+    public static float roll(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Pitch angle in rad
+    */
+    public static float pitch(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * Yaw angle in rad
+    */
+    public static float yaw(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+
+}
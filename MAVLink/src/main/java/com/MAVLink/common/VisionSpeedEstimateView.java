@@ -0,0 +1,54 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE VISION_SPEED_ESTIMATE VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* 
+*
+* Read-only view of the VISION_SPEED_ESTIMATE message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_vision_speed_estimate}
+* object.
+*/
+public final class VisionSpeedEstimateView {
+
+    public static final int MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE = msg_vision_speed_estimate.MAVLINK_MSG_ID_VISION_SPEED_ESTIMATE;
+    public static final int MAVLINK_MSG_LENGTH = msg_vision_speed_estimate.MAVLINK_MSG_LENGTH;
+
+    private VisionSpeedEstimateView() {
+    }
+      
+    /**
+    * Timestamp (microseconds, synced to UNIX time or since system boot)
+    */
+    public static long usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Global X speed
+    */
+    public static float x(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Global Y speed
+    */
+    public static float y(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Global Z speed
+    */
+    public static float z(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+
+}
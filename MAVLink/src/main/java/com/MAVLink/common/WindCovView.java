@@ -0,0 +1,89 @@
+/* AUTO-GENERATED FILE.  DO NOT MODIFY.
+ *
+ * This class was automatically generated by the
+ * java mavlink generator tool. It should not be modified by hand.
+ */
+
+// MESSAGE WIND_COV VIEW
+package com.MAVLink.common;
+import com.MAVLink.Messages.MAVLinkPayload;
+        
+/**
+* 
+*
+* Read-only view of the WIND_COV message payload. Each accessor decodes a single
+* field at its fixed offset, without unpacking the message into a {@link msg_wind_cov}
+* object.
+*/
+public final class WindCovView {
+
+    public static final int MAVLINK_MSG_ID_WIND_COV = msg_wind_cov.MAVLINK_MSG_ID_WIND_COV;
+    public static final int MAVLINK_MSG_LENGTH = msg_wind_cov.MAVLINK_MSG_LENGTH;
+
+    private WindCovView() {
+    }
+      
+    /**
+    * Timestamp (micros since boot or Unix epoch)
+    */
+    public static long time_usec(MAVLinkPayload payload) {
+        return payload.getUnsignedLong(0);
+    }
+      
+    /**
+    * Wind in X (NED) direction in m/s
+    */
+    public static float wind_x(MAVLinkPayload payload) {
+        return payload.getFloat(8);
+    }
+      
+    /**
+    * Wind in Y (NED) direction in m/s
+    */
+    public static float wind_y(MAVLinkPayload payload) {
+        return payload.getFloat(12);
+    }
+      
+    /**
+    * Wind in Z (NED) direction in m/s
+    */
+    public static float wind_z(MAVLinkPayload payload) {
+        return payload.getFloat(16);
+    }
+      
+    /**
+    * Variability of the wind in XY. RMS of a 1 Hz lowpassed wind estimate.
+    */
+    public static float var_horiz(MAVLinkPayload payload) {
+        return payload.getFloat(20);
+    }
+      
+    /**
+    * Variability of the wind in Z. RMS of a 1 Hz lowpassed wind estimate.
+    */
+    public static float var_vert(MAVLinkPayload payload) {
+        return payload.getFloat(24);
+    }
+      
+    /**
+    * AMSL altitude (m) this measurement was taken at
+    */
+    public static float wind_alt(MAVLinkPayload payload) {
+        return payload.getFloat(28);
+    }
+      
+    /**
+    * Horizontal speed 1-STD accuracy
+    */
+    public static float horiz_accuracy(MAVLinkPayload payload) {
+        return payload.getFloat(32);
+    }
+      
+    /**
+    * Vertical speed 1-STD accuracy
+    */
+    public static float vert_accuracy(MAVLinkPayload payload) {
+        return payload.getFloat(36);
+    }
+
+}
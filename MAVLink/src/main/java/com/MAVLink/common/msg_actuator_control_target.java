@@ -6,12 +6,18 @@
 
 // MESSAGE ACTUATOR_CONTROL_TARGET PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Set the vehicle attitude and body angular rates.
+*
+* @see ActuatorControlTargetView
 */
 public class msg_actuator_control_target extends MAVLinkMessage{
 
@@ -80,6 +86,53 @@ public class msg_actuator_control_target extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("controls").value(controls);
+        writer.name("group_mlx").value(group_mlx);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "controls":
+                reader.nextArray(this.controls);
+                break;
+            case "group_mlx":
+                this.group_mlx = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
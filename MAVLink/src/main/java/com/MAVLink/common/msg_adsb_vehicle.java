@@ -6,12 +6,18 @@
 
 // MESSAGE ADSB_VEHICLE PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The location and information of an ADSB vehicle
+*
+* @see AdsbVehicleView
 */
 public class msg_adsb_vehicle extends MAVLinkMessage{
 
@@ -170,6 +176,93 @@ public class msg_adsb_vehicle extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("ICAO_address").value(ICAO_address);
+        writer.name("lat").value(lat);
+        writer.name("lon").value(lon);
+        writer.name("altitude").value(altitude);
+        writer.name("heading").value(heading);
+        writer.name("hor_velocity").value(hor_velocity);
+        writer.name("ver_velocity").value(ver_velocity);
+        writer.name("flags").value(flags);
+        writer.name("squawk").value(squawk);
+        writer.name("altitude_type").value(altitude_type);
+        writer.name("callsign").stringValue(callsign);
+        writer.name("emitter_type").value(emitter_type);
+        writer.name("tslc").value(tslc);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "ICAO_address":
+                this.ICAO_address = reader.nextLong();
+                break;
+            case "lat":
+                this.lat = reader.nextInt();
+                break;
+            case "lon":
+                this.lon = reader.nextInt();
+                break;
+            case "altitude":
+                this.altitude = reader.nextInt();
+                break;
+            case "heading":
+                this.heading = reader.nextInt();
+                break;
+            case "hor_velocity":
+                this.hor_velocity = reader.nextInt();
+                break;
+            case "ver_velocity":
+                this.ver_velocity = (short) reader.nextInt();
+                break;
+            case "flags":
+                this.flags = reader.nextInt();
+                break;
+            case "squawk":
+                this.squawk = reader.nextInt();
+                break;
+            case "altitude_type":
+                this.altitude_type = (short) reader.nextInt();
+                break;
+            case "callsign":
+                reader.nextString(this.callsign);
+                break;
+            case "emitter_type":
+                this.emitter_type = (short) reader.nextInt();
+                break;
+            case "tslc":
+                this.tslc = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
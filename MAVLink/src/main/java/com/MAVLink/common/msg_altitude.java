@@ -6,12 +6,18 @@
 
 // MESSAGE ALTITUDE PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The current system altitude.
+*
+* @see AltitudeView
 */
 public class msg_altitude extends MAVLinkMessage{
 
@@ -108,6 +114,69 @@ public class msg_altitude extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("altitude_monotonic").value(altitude_monotonic);
+        writer.name("altitude_amsl").value(altitude_amsl);
+        writer.name("altitude_local").value(altitude_local);
+        writer.name("altitude_relative").value(altitude_relative);
+        writer.name("altitude_terrain").value(altitude_terrain);
+        writer.name("bottom_clearance").value(bottom_clearance);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "altitude_monotonic":
+                this.altitude_monotonic = reader.nextFloat();
+                break;
+            case "altitude_amsl":
+                this.altitude_amsl = reader.nextFloat();
+                break;
+            case "altitude_local":
+                this.altitude_local = reader.nextFloat();
+                break;
+            case "altitude_relative":
+                this.altitude_relative = reader.nextFloat();
+                break;
+            case "altitude_terrain":
+                this.altitude_terrain = reader.nextFloat();
+                break;
+            case "bottom_clearance":
+                this.bottom_clearance = reader.nextFloat();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
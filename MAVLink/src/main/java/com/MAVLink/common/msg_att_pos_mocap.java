@@ -6,12 +6,18 @@
 
 // MESSAGE ATT_POS_MOCAP PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Motion capture attitude and position
+*
+* @see AttPosMocapView
 */
 public class msg_att_pos_mocap extends MAVLinkMessage{
 
@@ -98,6 +104,61 @@ public class msg_att_pos_mocap extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("q").value(q);
+        writer.name("x").value(x);
+        writer.name("y").value(y);
+        writer.name("z").value(z);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "q":
+                reader.nextArray(this.q);
+                break;
+            case "x":
+                this.x = reader.nextFloat();
+                break;
+            case "y":
+                this.y = reader.nextFloat();
+                break;
+            case "z":
+                this.z = reader.nextFloat();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE ATTITUDE PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right).
+*
+* @see AttitudeView
 */
 public class msg_attitude extends MAVLinkMessage{
 
@@ -108,6 +114,69 @@ public class msg_attitude extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_boot_ms").value(time_boot_ms);
+        writer.name("roll").value(roll);
+        writer.name("pitch").value(pitch);
+        writer.name("yaw").value(yaw);
+        writer.name("rollspeed").value(rollspeed);
+        writer.name("pitchspeed").value(pitchspeed);
+        writer.name("yawspeed").value(yawspeed);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_boot_ms":
+                this.time_boot_ms = reader.nextLong();
+                break;
+            case "roll":
+                this.roll = reader.nextFloat();
+                break;
+            case "pitch":
+                this.pitch = reader.nextFloat();
+                break;
+            case "yaw":
+                this.yaw = reader.nextFloat();
+                break;
+            case "rollspeed":
+                this.rollspeed = reader.nextFloat();
+                break;
+            case "pitchspeed":
+                this.pitchspeed = reader.nextFloat();
+                break;
+            case "yawspeed":
+                this.yawspeed = reader.nextFloat();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
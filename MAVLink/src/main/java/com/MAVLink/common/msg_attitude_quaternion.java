@@ -6,12 +6,18 @@
 
 // MESSAGE ATTITUDE_QUATERNION PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right), expressed as quaternion. Quaternion order is w, x, y, z and a zero rotation would be expressed as (1 0 0 0).
+*
+* @see AttitudeQuaternionView
 */
 public class msg_attitude_quaternion extends MAVLinkMessage{
 
@@ -117,6 +123,73 @@ public class msg_attitude_quaternion extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_boot_ms").value(time_boot_ms);
+        writer.name("q1").value(q1);
+        writer.name("q2").value(q2);
+        writer.name("q3").value(q3);
+        writer.name("q4").value(q4);
+        writer.name("rollspeed").value(rollspeed);
+        writer.name("pitchspeed").value(pitchspeed);
+        writer.name("yawspeed").value(yawspeed);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_boot_ms":
+                this.time_boot_ms = reader.nextLong();
+                break;
+            case "q1":
+                this.q1 = reader.nextFloat();
+                break;
+            case "q2":
+                this.q2 = reader.nextFloat();
+                break;
+            case "q3":
+                this.q3 = reader.nextFloat();
+                break;
+            case "q4":
+                this.q4 = reader.nextFloat();
+                break;
+            case "rollspeed":
+                this.rollspeed = reader.nextFloat();
+                break;
+            case "pitchspeed":
+                this.pitchspeed = reader.nextFloat();
+                break;
+            case "yawspeed":
+                this.yawspeed = reader.nextFloat();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE ATTITUDE_QUATERNION_COV PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The attitude in the aeronautical frame (right-handed, Z-down, X-front, Y-right), expressed as quaternion. Quaternion order is w, x, y, z and a zero rotation would be expressed as (1 0 0 0).
+*
+* @see AttitudeQuaternionCovView
 */
 public class msg_attitude_quaternion_cov extends MAVLinkMessage{
 
@@ -115,6 +121,65 @@ public class msg_attitude_quaternion_cov extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("q").value(q);
+        writer.name("rollspeed").value(rollspeed);
+        writer.name("pitchspeed").value(pitchspeed);
+        writer.name("yawspeed").value(yawspeed);
+        writer.name("covariance").value(covariance);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "q":
+                reader.nextArray(this.q);
+                break;
+            case "rollspeed":
+                this.rollspeed = reader.nextFloat();
+                break;
+            case "pitchspeed":
+                this.pitchspeed = reader.nextFloat();
+                break;
+            case "yawspeed":
+                this.yawspeed = reader.nextFloat();
+                break;
+            case "covariance":
+                reader.nextArray(this.covariance);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
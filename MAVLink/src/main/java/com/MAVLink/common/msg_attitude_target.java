@@ -6,12 +6,18 @@
 
 // MESSAGE ATTITUDE_TARGET PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Reports the current commanded attitude of the vehicle as specified by the autopilot. This should match the commands sent in a SET_ATTITUDE_TARGET message if the vehicle is being controlled this way.
+*
+* @see AttitudeTargetView
 */
 public class msg_attitude_target extends MAVLinkMessage{
 
@@ -116,6 +122,69 @@ public class msg_attitude_target extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_boot_ms").value(time_boot_ms);
+        writer.name("q").value(q);
+        writer.name("body_roll_rate").value(body_roll_rate);
+        writer.name("body_pitch_rate").value(body_pitch_rate);
+        writer.name("body_yaw_rate").value(body_yaw_rate);
+        writer.name("thrust").value(thrust);
+        writer.name("type_mask").value(type_mask);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_boot_ms":
+                this.time_boot_ms = reader.nextLong();
+                break;
+            case "q":
+                reader.nextArray(this.q);
+                break;
+            case "body_roll_rate":
+                this.body_roll_rate = reader.nextFloat();
+                break;
+            case "body_pitch_rate":
+                this.body_pitch_rate = reader.nextFloat();
+                break;
+            case "body_yaw_rate":
+                this.body_yaw_rate = reader.nextFloat();
+                break;
+            case "thrust":
+                this.thrust = reader.nextFloat();
+                break;
+            case "type_mask":
+                this.type_mask = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
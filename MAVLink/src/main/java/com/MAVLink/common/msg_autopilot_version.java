@@ -6,12 +6,18 @@
 
 // MESSAGE AUTOPILOT_VERSION PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Version and capability of autopilot software
+*
+* @see AutopilotVersionView
 */
 public class msg_autopilot_version extends MAVLinkMessage{
 
@@ -168,6 +174,85 @@ public class msg_autopilot_version extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("capabilities").unsignedValue(capabilities);
+        writer.name("uid").unsignedValue(uid);
+        writer.name("flight_sw_version").value(flight_sw_version);
+        writer.name("middleware_sw_version").value(middleware_sw_version);
+        writer.name("os_sw_version").value(os_sw_version);
+        writer.name("board_version").value(board_version);
+        writer.name("vendor_id").value(vendor_id);
+        writer.name("product_id").value(product_id);
+        writer.name("flight_custom_version").value(flight_custom_version);
+        writer.name("middleware_custom_version").value(middleware_custom_version);
+        writer.name("os_custom_version").value(os_custom_version);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "capabilities":
+                this.capabilities = reader.nextUnsignedLong();
+                break;
+            case "uid":
+                this.uid = reader.nextUnsignedLong();
+                break;
+            case "flight_sw_version":
+                this.flight_sw_version = reader.nextLong();
+                break;
+            case "middleware_sw_version":
+                this.middleware_sw_version = reader.nextLong();
+                break;
+            case "os_sw_version":
+                this.os_sw_version = reader.nextLong();
+                break;
+            case "board_version":
+                this.board_version = reader.nextLong();
+                break;
+            case "vendor_id":
+                this.vendor_id = reader.nextInt();
+                break;
+            case "product_id":
+                this.product_id = reader.nextInt();
+                break;
+            case "flight_custom_version":
+                reader.nextArray(this.flight_custom_version);
+                break;
+            case "middleware_custom_version":
+                reader.nextArray(this.middleware_custom_version);
+                break;
+            case "os_custom_version":
+                reader.nextArray(this.os_custom_version);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
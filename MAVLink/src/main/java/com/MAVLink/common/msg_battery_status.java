@@ -6,12 +6,18 @@
 
 // MESSAGE BATTERY_STATUS PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Battery information
+*
+* @see BatteryStatusView
 */
 public class msg_battery_status extends MAVLinkMessage{
 
@@ -134,6 +140,77 @@ public class msg_battery_status extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("current_consumed").value(current_consumed);
+        writer.name("energy_consumed").value(energy_consumed);
+        writer.name("temperature").value(temperature);
+        writer.name("voltages").value(voltages);
+        writer.name("current_battery").value(current_battery);
+        writer.name("id").value(id);
+        writer.name("battery_function").value(battery_function);
+        writer.name("type").value(type);
+        writer.name("battery_remaining").value(battery_remaining);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "current_consumed":
+                this.current_consumed = reader.nextInt();
+                break;
+            case "energy_consumed":
+                this.energy_consumed = reader.nextInt();
+                break;
+            case "temperature":
+                this.temperature = (short) reader.nextInt();
+                break;
+            case "voltages":
+                reader.nextArray(this.voltages);
+                break;
+            case "current_battery":
+                this.current_battery = (short) reader.nextInt();
+                break;
+            case "id":
+                this.id = (short) reader.nextInt();
+                break;
+            case "battery_function":
+                this.battery_function = (short) reader.nextInt();
+                break;
+            case "type":
+                this.type = (short) reader.nextInt();
+                break;
+            case "battery_remaining":
+                this.battery_remaining = (byte) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE CHANGE_OPERATOR_CONTROL PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Request to control this MAV
+*
+* @see ChangeOperatorControlView
 */
 public class msg_change_operator_control extends MAVLinkMessage{
 
@@ -89,6 +95,57 @@ public class msg_change_operator_control extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("target_system").value(target_system);
+        writer.name("control_request").value(control_request);
+        writer.name("version").value(version);
+        writer.name("passkey").stringValue(passkey);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "target_system":
+                this.target_system = (short) reader.nextInt();
+                break;
+            case "control_request":
+                this.control_request = (short) reader.nextInt();
+                break;
+            case "version":
+                this.version = (short) reader.nextInt();
+                break;
+            case "passkey":
+                reader.nextString(this.passkey);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE CHANGE_OPERATOR_CONTROL_ACK PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Accept / deny control of this MAV
+*
+* @see ChangeOperatorControlAckView
 */
 public class msg_change_operator_control_ack extends MAVLinkMessage{
 
@@ -72,6 +78,53 @@ public class msg_change_operator_control_ack extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("gcs_system_id").value(gcs_system_id);
+        writer.name("control_request").value(control_request);
+        writer.name("ack").value(ack);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "gcs_system_id":
+                this.gcs_system_id = (short) reader.nextInt();
+                break;
+            case "control_request":
+                this.control_request = (short) reader.nextInt();
+                break;
+            case "ack":
+                this.ack = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE COLLISION PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Information about a potential collision
+*
+* @see CollisionView
 */
 public class msg_collision extends MAVLinkMessage{
 
@@ -108,6 +114,69 @@ public class msg_collision extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("id").value(id);
+        writer.name("time_to_minimum_delta").value(time_to_minimum_delta);
+        writer.name("altitude_minimum_delta").value(altitude_minimum_delta);
+        writer.name("horizontal_minimum_delta").value(horizontal_minimum_delta);
+        writer.name("src").value(src);
+        writer.name("action").value(action);
+        writer.name("threat_level").value(threat_level);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "id":
+                this.id = reader.nextLong();
+                break;
+            case "time_to_minimum_delta":
+                this.time_to_minimum_delta = reader.nextFloat();
+                break;
+            case "altitude_minimum_delta":
+                this.altitude_minimum_delta = reader.nextFloat();
+                break;
+            case "horizontal_minimum_delta":
+                this.horizontal_minimum_delta = reader.nextFloat();
+                break;
+            case "src":
+                this.src = (short) reader.nextInt();
+                break;
+            case "action":
+                this.action = (short) reader.nextInt();
+                break;
+            case "threat_level":
+                this.threat_level = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE COMMAND_LONG PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Send a command with up to seven parameters to the MAV
+*
+* @see CommandLongView
 */
 public class msg_command_long extends MAVLinkMessage{
 
@@ -144,6 +150,85 @@ public class msg_command_long extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("param1").value(param1);
+        writer.name("param2").value(param2);
+        writer.name("param3").value(param3);
+        writer.name("param4").value(param4);
+        writer.name("param5").value(param5);
+        writer.name("param6").value(param6);
+        writer.name("param7").value(param7);
+        writer.name("command").value(command);
+        writer.name("target_system").value(target_system);
+        writer.name("target_component").value(target_component);
+        writer.name("confirmation").value(confirmation);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "param1":
+                this.param1 = reader.nextFloat();
+                break;
+            case "param2":
+                this.param2 = reader.nextFloat();
+                break;
+            case "param3":
+                this.param3 = reader.nextFloat();
+                break;
+            case "param4":
+                this.param4 = reader.nextFloat();
+                break;
+            case "param5":
+                this.param5 = reader.nextFloat();
+                break;
+            case "param6":
+                this.param6 = reader.nextFloat();
+                break;
+            case "param7":
+                this.param7 = reader.nextFloat();
+                break;
+            case "command":
+                this.command = reader.nextInt();
+                break;
+            case "target_system":
+                this.target_system = (short) reader.nextInt();
+                break;
+            case "target_component":
+                this.target_component = (short) reader.nextInt();
+                break;
+            case "confirmation":
+                this.confirmation = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE CONTROL_SYSTEM_STATE PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The smoothed, monotonic system state used to feed the control loops of the system.
+*
+* @see ControlSystemStateView
 */
 public class msg_control_system_state extends MAVLinkMessage{
 
@@ -222,6 +228,109 @@ public class msg_control_system_state extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("x_acc").value(x_acc);
+        writer.name("y_acc").value(y_acc);
+        writer.name("z_acc").value(z_acc);
+        writer.name("x_vel").value(x_vel);
+        writer.name("y_vel").value(y_vel);
+        writer.name("z_vel").value(z_vel);
+        writer.name("x_pos").value(x_pos);
+        writer.name("y_pos").value(y_pos);
+        writer.name("z_pos").value(z_pos);
+        writer.name("airspeed").value(airspeed);
+        writer.name("vel_variance").value(vel_variance);
+        writer.name("pos_variance").value(pos_variance);
+        writer.name("q").value(q);
+        writer.name("roll_rate").value(roll_rate);
+        writer.name("pitch_rate").value(pitch_rate);
+        writer.name("yaw_rate").value(yaw_rate);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "x_acc":
+                this.x_acc = reader.nextFloat();
+                break;
+            case "y_acc":
+                this.y_acc = reader.nextFloat();
+                break;
+            case "z_acc":
+                this.z_acc = reader.nextFloat();
+                break;
+            case "x_vel":
+                this.x_vel = reader.nextFloat();
+                break;
+            case "y_vel":
+                this.y_vel = reader.nextFloat();
+                break;
+            case "z_vel":
+                this.z_vel = reader.nextFloat();
+                break;
+            case "x_pos":
+                this.x_pos = reader.nextFloat();
+                break;
+            case "y_pos":
+                this.y_pos = reader.nextFloat();
+                break;
+            case "z_pos":
+                this.z_pos = reader.nextFloat();
+                break;
+            case "airspeed":
+                this.airspeed = reader.nextFloat();
+                break;
+            case "vel_variance":
+                reader.nextArray(this.vel_variance);
+                break;
+            case "pos_variance":
+                reader.nextArray(this.pos_variance);
+                break;
+            case "q":
+                reader.nextArray(this.q);
+                break;
+            case "roll_rate":
+                this.roll_rate = reader.nextFloat();
+                break;
+            case "pitch_rate":
+                this.pitch_rate = reader.nextFloat();
+                break;
+            case "yaw_rate":
+                this.yaw_rate = reader.nextFloat();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
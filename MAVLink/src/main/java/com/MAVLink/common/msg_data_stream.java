@@ -6,12 +6,18 @@
 
 // MESSAGE DATA_STREAM PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * THIS INTERFACE IS DEPRECATED. USE MESSAGE_INTERVAL INSTEAD.
+*
+* @see DataStreamView
 */
 public class msg_data_stream extends MAVLinkMessage{
 
@@ -72,6 +78,53 @@ public class msg_data_stream extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("message_rate").value(message_rate);
+        writer.name("stream_id").value(stream_id);
+        writer.name("on_off").value(on_off);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "message_rate":
+                this.message_rate = reader.nextInt();
+                break;
+            case "stream_id":
+                this.stream_id = (short) reader.nextInt();
+                break;
+            case "on_off":
+                this.on_off = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
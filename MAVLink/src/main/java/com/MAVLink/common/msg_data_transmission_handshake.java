@@ -6,12 +6,18 @@
 
 // MESSAGE DATA_TRANSMISSION_HANDSHAKE PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * 
+*
+* @see DataTransmissionHandshakeView
 */
 public class msg_data_transmission_handshake extends MAVLinkMessage{
 
@@ -108,6 +114,69 @@ public class msg_data_transmission_handshake extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("size").value(size);
+        writer.name("width").value(width);
+        writer.name("height").value(height);
+        writer.name("packets").value(packets);
+        writer.name("type").value(type);
+        writer.name("payload").value(payload);
+        writer.name("jpg_quality").value(jpg_quality);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "size":
+                this.size = reader.nextLong();
+                break;
+            case "width":
+                this.width = reader.nextInt();
+                break;
+            case "height":
+                this.height = reader.nextInt();
+                break;
+            case "packets":
+                this.packets = reader.nextInt();
+                break;
+            case "type":
+                this.type = (short) reader.nextInt();
+                break;
+            case "payload":
+                this.payload = (short) reader.nextInt();
+                break;
+            case "jpg_quality":
+                this.jpg_quality = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
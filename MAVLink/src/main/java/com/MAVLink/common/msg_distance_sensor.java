@@ -6,12 +6,18 @@
 
 // MESSAGE DISTANCE_SENSOR PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * 
+*
+* @see DistanceSensorView
 */
 public class msg_distance_sensor extends MAVLinkMessage{
 
@@ -117,6 +123,73 @@ public class msg_distance_sensor extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_boot_ms").value(time_boot_ms);
+        writer.name("min_distance").value(min_distance);
+        writer.name("max_distance").value(max_distance);
+        writer.name("current_distance").value(current_distance);
+        writer.name("type").value(type);
+        writer.name("id").value(id);
+        writer.name("orientation").value(orientation);
+        writer.name("covariance").value(covariance);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_boot_ms":
+                this.time_boot_ms = reader.nextLong();
+                break;
+            case "min_distance":
+                this.min_distance = reader.nextInt();
+                break;
+            case "max_distance":
+                this.max_distance = reader.nextInt();
+                break;
+            case "current_distance":
+                this.current_distance = reader.nextInt();
+                break;
+            case "type":
+                this.type = (short) reader.nextInt();
+                break;
+            case "id":
+                this.id = (short) reader.nextInt();
+                break;
+            case "orientation":
+                this.orientation = (short) reader.nextInt();
+                break;
+            case "covariance":
+                this.covariance = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
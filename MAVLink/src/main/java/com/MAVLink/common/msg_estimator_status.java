@@ -6,12 +6,18 @@
 
 // MESSAGE ESTIMATOR_STATUS PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Estimator status message including flags, innovation test ratios and estimated accuracies. The flags message is an integer bitmask containing information on which EKF outputs are valid. See the ESTIMATOR_STATUS_FLAGS enum definition for further information. The innovaton test ratios show the magnitude of the sensor innovation divided by the innovation check threshold. Under normal operation the innovaton test ratios should be below 0.5 with occasional values up to 1.0. Values greater than 1.0 should be rare under normal operation and indicate that a measurement has been rejected by the filter. The user should be notified if an innovation test ratio greater than 1.0 is recorded. Notifications for values in the range between 0.5 and 1.0 should be optional and controllable by the user.
+*
+* @see EstimatorStatusView
 */
 public class msg_estimator_status extends MAVLinkMessage{
 
@@ -135,6 +141,81 @@ public class msg_estimator_status extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("vel_ratio").value(vel_ratio);
+        writer.name("pos_horiz_ratio").value(pos_horiz_ratio);
+        writer.name("pos_vert_ratio").value(pos_vert_ratio);
+        writer.name("mag_ratio").value(mag_ratio);
+        writer.name("hagl_ratio").value(hagl_ratio);
+        writer.name("tas_ratio").value(tas_ratio);
+        writer.name("pos_horiz_accuracy").value(pos_horiz_accuracy);
+        writer.name("pos_vert_accuracy").value(pos_vert_accuracy);
+        writer.name("flags").value(flags);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "vel_ratio":
+                this.vel_ratio = reader.nextFloat();
+                break;
+            case "pos_horiz_ratio":
+                this.pos_horiz_ratio = reader.nextFloat();
+                break;
+            case "pos_vert_ratio":
+                this.pos_vert_ratio = reader.nextFloat();
+                break;
+            case "mag_ratio":
+                this.mag_ratio = reader.nextFloat();
+                break;
+            case "hagl_ratio":
+                this.hagl_ratio = reader.nextFloat();
+                break;
+            case "tas_ratio":
+                this.tas_ratio = reader.nextFloat();
+                break;
+            case "pos_horiz_accuracy":
+                this.pos_horiz_accuracy = reader.nextFloat();
+                break;
+            case "pos_vert_accuracy":
+                this.pos_vert_accuracy = reader.nextFloat();
+                break;
+            case "flags":
+                this.flags = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
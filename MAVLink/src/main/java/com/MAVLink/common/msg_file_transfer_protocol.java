@@ -6,12 +6,18 @@
 
 // MESSAGE FILE_TRANSFER_PROTOCOL PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * File transfer message
+*
+* @see FileTransferProtocolView
 */
 public class msg_file_transfer_protocol extends MAVLinkMessage{
 
@@ -89,6 +95,57 @@ public class msg_file_transfer_protocol extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("target_network").value(target_network);
+        writer.name("target_system").value(target_system);
+        writer.name("target_component").value(target_component);
+        writer.name("payload").value(payload);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "target_network":
+                this.target_network = (short) reader.nextInt();
+                break;
+            case "target_system":
+                this.target_system = (short) reader.nextInt();
+                break;
+            case "target_component":
+                this.target_component = (short) reader.nextInt();
+                break;
+            case "payload":
+                reader.nextArray(this.payload);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE FOLLOW_TARGET PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * current motion information from a designated system
+*
+* @see FollowTargetView
 */
 public class msg_follow_target extends MAVLinkMessage{
 
@@ -184,6 +190,85 @@ public class msg_follow_target extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("timestamp").unsignedValue(timestamp);
+        writer.name("custom_state").unsignedValue(custom_state);
+        writer.name("lat").value(lat);
+        writer.name("lon").value(lon);
+        writer.name("alt").value(alt);
+        writer.name("vel").value(vel);
+        writer.name("acc").value(acc);
+        writer.name("attitude_q").value(attitude_q);
+        writer.name("rates").value(rates);
+        writer.name("position_cov").value(position_cov);
+        writer.name("est_capabilities").value(est_capabilities);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "timestamp":
+                this.timestamp = reader.nextUnsignedLong();
+                break;
+            case "custom_state":
+                this.custom_state = reader.nextUnsignedLong();
+                break;
+            case "lat":
+                this.lat = reader.nextInt();
+                break;
+            case "lon":
+                this.lon = reader.nextInt();
+                break;
+            case "alt":
+                this.alt = reader.nextFloat();
+                break;
+            case "vel":
+                reader.nextArray(this.vel);
+                break;
+            case "acc":
+                reader.nextArray(this.acc);
+                break;
+            case "attitude_q":
+                reader.nextArray(this.attitude_q);
+                break;
+            case "rates":
+                reader.nextArray(this.rates);
+                break;
+            case "position_cov":
+                reader.nextArray(this.position_cov);
+                break;
+            case "est_capabilities":
+                this.est_capabilities = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,13 +6,19 @@
 
 // MESSAGE GLOBAL_POSITION_INT PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The filtered global position (e.g. fused GPS and accelerometers). The position is in GPS-frame (right-handed, Z-up). It
                is designed as scaled integer message since the resolution of float is not sufficient.
+*
+* @see GlobalPositionIntView
 */
 public class msg_global_position_int extends MAVLinkMessage{
 
@@ -127,6 +133,77 @@ public class msg_global_position_int extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_boot_ms").value(time_boot_ms);
+        writer.name("lat").value(lat);
+        writer.name("lon").value(lon);
+        writer.name("alt").value(alt);
+        writer.name("relative_alt").value(relative_alt);
+        writer.name("vx").value(vx);
+        writer.name("vy").value(vy);
+        writer.name("vz").value(vz);
+        writer.name("hdg").value(hdg);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_boot_ms":
+                this.time_boot_ms = reader.nextLong();
+                break;
+            case "lat":
+                this.lat = reader.nextInt();
+                break;
+            case "lon":
+                this.lon = reader.nextInt();
+                break;
+            case "alt":
+                this.alt = reader.nextInt();
+                break;
+            case "relative_alt":
+                this.relative_alt = reader.nextInt();
+                break;
+            case "vx":
+                this.vx = (short) reader.nextInt();
+                break;
+            case "vy":
+                this.vy = (short) reader.nextInt();
+                break;
+            case "vz":
+                this.vz = (short) reader.nextInt();
+                break;
+            case "hdg":
+                this.hdg = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE GLOBAL_POSITION_INT_COV PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The filtered global position (e.g. fused GPS and accelerometers). The position is in GPS-frame (right-handed, Z-up). It  is designed as scaled integer message since the resolution of float is not sufficient. NOTE: This message is intended for onboard networks / companion computers and higher-bandwidth links and optimized for accuracy and completeness. Please use the GLOBAL_POSITION_INT message for a minimal subset.
+*
+* @see GlobalPositionIntCovView
 */
 public class msg_global_position_int_cov extends MAVLinkMessage{
 
@@ -143,6 +149,81 @@ public class msg_global_position_int_cov extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("lat").value(lat);
+        writer.name("lon").value(lon);
+        writer.name("alt").value(alt);
+        writer.name("relative_alt").value(relative_alt);
+        writer.name("vx").value(vx);
+        writer.name("vy").value(vy);
+        writer.name("vz").value(vz);
+        writer.name("covariance").value(covariance);
+        writer.name("estimator_type").value(estimator_type);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "lat":
+                this.lat = reader.nextInt();
+                break;
+            case "lon":
+                this.lon = reader.nextInt();
+                break;
+            case "alt":
+                this.alt = reader.nextInt();
+                break;
+            case "relative_alt":
+                this.relative_alt = reader.nextInt();
+                break;
+            case "vx":
+                this.vx = reader.nextFloat();
+                break;
+            case "vy":
+                this.vy = reader.nextFloat();
+                break;
+            case "vz":
+                this.vz = reader.nextFloat();
+                break;
+            case "covariance":
+                reader.nextArray(this.covariance);
+                break;
+            case "estimator_type":
+                this.estimator_type = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
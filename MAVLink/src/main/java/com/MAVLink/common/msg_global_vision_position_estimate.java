@@ -6,12 +6,18 @@
 
 // MESSAGE GLOBAL_VISION_POSITION_ESTIMATE PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * 
+*
+* @see GlobalVisionPositionEstimateView
 */
 public class msg_global_vision_position_estimate extends MAVLinkMessage{
 
@@ -108,6 +114,69 @@ public class msg_global_vision_position_estimate extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("usec").unsignedValue(usec);
+        writer.name("x").value(x);
+        writer.name("y").value(y);
+        writer.name("z").value(z);
+        writer.name("roll").value(roll);
+        writer.name("pitch").value(pitch);
+        writer.name("yaw").value(yaw);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "usec":
+                this.usec = reader.nextUnsignedLong();
+                break;
+            case "x":
+                this.x = reader.nextFloat();
+                break;
+            case "y":
+                this.y = reader.nextFloat();
+                break;
+            case "z":
+                this.z = reader.nextFloat();
+                break;
+            case "roll":
+                this.roll = reader.nextFloat();
+                break;
+            case "pitch":
+                this.pitch = reader.nextFloat();
+                break;
+            case "yaw":
+                this.yaw = reader.nextFloat();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE GPS2_RAW PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Second GPS data. Coordinate frame is right-handed, Z-axis up (GPS frame).
+*
+* @see Gps2RawView
 */
 public class msg_gps2_raw extends MAVLinkMessage{
 
@@ -153,6 +159,89 @@ public class msg_gps2_raw extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("lat").value(lat);
+        writer.name("lon").value(lon);
+        writer.name("alt").value(alt);
+        writer.name("dgps_age").value(dgps_age);
+        writer.name("eph").value(eph);
+        writer.name("epv").value(epv);
+        writer.name("vel").value(vel);
+        writer.name("cog").value(cog);
+        writer.name("fix_type").value(fix_type);
+        writer.name("satellites_visible").value(satellites_visible);
+        writer.name("dgps_numch").value(dgps_numch);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "lat":
+                this.lat = reader.nextInt();
+                break;
+            case "lon":
+                this.lon = reader.nextInt();
+                break;
+            case "alt":
+                this.alt = reader.nextInt();
+                break;
+            case "dgps_age":
+                this.dgps_age = reader.nextLong();
+                break;
+            case "eph":
+                this.eph = reader.nextInt();
+                break;
+            case "epv":
+                this.epv = reader.nextInt();
+                break;
+            case "vel":
+                this.vel = reader.nextInt();
+                break;
+            case "cog":
+                this.cog = reader.nextInt();
+                break;
+            case "fix_type":
+                this.fix_type = (short) reader.nextInt();
+                break;
+            case "satellites_visible":
+                this.satellites_visible = (short) reader.nextInt();
+                break;
+            case "dgps_numch":
+                this.dgps_numch = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE GPS_GLOBAL_ORIGIN PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Once the MAV sets a new GPS-Local correspondence, this message announces the origin (0,0,0) position
+*
+* @see GpsGlobalOriginView
 */
 public class msg_gps_global_origin extends MAVLinkMessage{
 
@@ -72,6 +78,53 @@ public class msg_gps_global_origin extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("latitude").value(latitude);
+        writer.name("longitude").value(longitude);
+        writer.name("altitude").value(altitude);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "latitude":
+                this.latitude = reader.nextInt();
+                break;
+            case "longitude":
+                this.longitude = reader.nextInt();
+                break;
+            case "altitude":
+                this.altitude = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE GPS_INPUT PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * GPS sensor input message.  This is a raw sensor value sent by the GPS. This is NOT the global position estimate of the sytem.
+*
+* @see GpsInputView
 */
 public class msg_gps_input extends MAVLinkMessage{
 
@@ -207,6 +213,113 @@ public class msg_gps_input extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("time_week_ms").value(time_week_ms);
+        writer.name("lat").value(lat);
+        writer.name("lon").value(lon);
+        writer.name("alt").value(alt);
+        writer.name("hdop").value(hdop);
+        writer.name("vdop").value(vdop);
+        writer.name("vn").value(vn);
+        writer.name("ve").value(ve);
+        writer.name("vd").value(vd);
+        writer.name("speed_accuracy").value(speed_accuracy);
+        writer.name("horiz_accuracy").value(horiz_accuracy);
+        writer.name("vert_accuracy").value(vert_accuracy);
+        writer.name("ignore_flags").value(ignore_flags);
+        writer.name("time_week").value(time_week);
+        writer.name("gps_id").value(gps_id);
+        writer.name("fix_type").value(fix_type);
+        writer.name("satellites_visible").value(satellites_visible);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "time_week_ms":
+                this.time_week_ms = reader.nextLong();
+                break;
+            case "lat":
+                this.lat = reader.nextInt();
+                break;
+            case "lon":
+                this.lon = reader.nextInt();
+                break;
+            case "alt":
+                this.alt = reader.nextFloat();
+                break;
+            case "hdop":
+                this.hdop = reader.nextFloat();
+                break;
+            case "vdop":
+                this.vdop = reader.nextFloat();
+                break;
+            case "vn":
+                this.vn = reader.nextFloat();
+                break;
+            case "ve":
+                this.ve = reader.nextFloat();
+                break;
+            case "vd":
+                this.vd = reader.nextFloat();
+                break;
+            case "speed_accuracy":
+                this.speed_accuracy = reader.nextFloat();
+                break;
+            case "horiz_accuracy":
+                this.horiz_accuracy = reader.nextFloat();
+                break;
+            case "vert_accuracy":
+                this.vert_accuracy = reader.nextFloat();
+                break;
+            case "ignore_flags":
+                this.ignore_flags = reader.nextInt();
+                break;
+            case "time_week":
+                this.time_week = reader.nextInt();
+                break;
+            case "gps_id":
+                this.gps_id = (short) reader.nextInt();
+                break;
+            case "fix_type":
+                this.fix_type = (short) reader.nextInt();
+                break;
+            case "satellites_visible":
+                this.satellites_visible = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
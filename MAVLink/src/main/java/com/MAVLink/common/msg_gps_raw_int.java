@@ -6,13 +6,19 @@
 
 // MESSAGE GPS_RAW_INT PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The global position, as returned by the Global Positioning System (GPS). This is
                 NOT the global position estimate of the system, but rather a RAW sensor value. See message GLOBAL_POSITION for the global position estimate. Coordinate frame is right-handed, Z-axis up (GPS frame).
+*
+* @see GpsRawIntView
 */
 public class msg_gps_raw_int extends MAVLinkMessage{
 
@@ -136,6 +142,81 @@ public class msg_gps_raw_int extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("lat").value(lat);
+        writer.name("lon").value(lon);
+        writer.name("alt").value(alt);
+        writer.name("eph").value(eph);
+        writer.name("epv").value(epv);
+        writer.name("vel").value(vel);
+        writer.name("cog").value(cog);
+        writer.name("fix_type").value(fix_type);
+        writer.name("satellites_visible").value(satellites_visible);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "lat":
+                this.lat = reader.nextInt();
+                break;
+            case "lon":
+                this.lon = reader.nextInt();
+                break;
+            case "alt":
+                this.alt = reader.nextInt();
+                break;
+            case "eph":
+                this.eph = reader.nextInt();
+                break;
+            case "epv":
+                this.epv = reader.nextInt();
+                break;
+            case "vel":
+                this.vel = reader.nextInt();
+                break;
+            case "cog":
+                this.cog = reader.nextInt();
+                break;
+            case "fix_type":
+                this.fix_type = (short) reader.nextInt();
+                break;
+            case "satellites_visible":
+                this.satellites_visible = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE GPS_RTCM_DATA PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * WORK IN PROGRESS! RTCM message for injecting into the onboard GPS (used for DGPS)
+*
+* @see GpsRtcmDataView
 */
 public class msg_gps_rtcm_data extends MAVLinkMessage{
 
@@ -80,6 +86,53 @@ public class msg_gps_rtcm_data extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("flags").value(flags);
+        writer.name("len").value(len);
+        writer.name("data").value(data);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "flags":
+                this.flags = (short) reader.nextInt();
+                break;
+            case "len":
+                this.len = (short) reader.nextInt();
+                break;
+            case "data":
+                reader.nextArray(this.data);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
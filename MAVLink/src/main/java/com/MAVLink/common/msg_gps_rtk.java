@@ -6,12 +6,18 @@
 
 // MESSAGE GPS_RTK PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * RTK GPS data. Gives information on the relative baseline calculation the GPS is reporting
+*
+* @see GpsRtkView
 */
 public class msg_gps_rtk extends MAVLinkMessage{
 
@@ -162,6 +168,93 @@ public class msg_gps_rtk extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_last_baseline_ms").value(time_last_baseline_ms);
+        writer.name("tow").value(tow);
+        writer.name("baseline_a_mm").value(baseline_a_mm);
+        writer.name("baseline_b_mm").value(baseline_b_mm);
+        writer.name("baseline_c_mm").value(baseline_c_mm);
+        writer.name("accuracy").value(accuracy);
+        writer.name("iar_num_hypotheses").value(iar_num_hypotheses);
+        writer.name("wn").value(wn);
+        writer.name("rtk_receiver_id").value(rtk_receiver_id);
+        writer.name("rtk_health").value(rtk_health);
+        writer.name("rtk_rate").value(rtk_rate);
+        writer.name("nsats").value(nsats);
+        writer.name("baseline_coords_type").value(baseline_coords_type);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_last_baseline_ms":
+                this.time_last_baseline_ms = reader.nextLong();
+                break;
+            case "tow":
+                this.tow = reader.nextLong();
+                break;
+            case "baseline_a_mm":
+                this.baseline_a_mm = reader.nextInt();
+                break;
+            case "baseline_b_mm":
+                this.baseline_b_mm = reader.nextInt();
+                break;
+            case "baseline_c_mm":
+                this.baseline_c_mm = reader.nextInt();
+                break;
+            case "accuracy":
+                this.accuracy = reader.nextLong();
+                break;
+            case "iar_num_hypotheses":
+                this.iar_num_hypotheses = reader.nextInt();
+                break;
+            case "wn":
+                this.wn = reader.nextInt();
+                break;
+            case "rtk_receiver_id":
+                this.rtk_receiver_id = (short) reader.nextInt();
+                break;
+            case "rtk_health":
+                this.rtk_health = (short) reader.nextInt();
+                break;
+            case "rtk_rate":
+                this.rtk_rate = (short) reader.nextInt();
+                break;
+            case "nsats":
+                this.nsats = (short) reader.nextInt();
+                break;
+            case "baseline_coords_type":
+                this.baseline_coords_type = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE GPS_STATUS PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The positioning status, as reported by GPS. This message is intended to display status information about each satellite visible to the receiver. See message GLOBAL_POSITION for the global position estimate. This message can contain information for up to 20 satellites.
+*
+* @see GpsStatusView
 */
 public class msg_gps_status extends MAVLinkMessage{
 
@@ -139,6 +145,65 @@ public class msg_gps_status extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("satellites_visible").value(satellites_visible);
+        writer.name("satellite_prn").value(satellite_prn);
+        writer.name("satellite_used").value(satellite_used);
+        writer.name("satellite_elevation").value(satellite_elevation);
+        writer.name("satellite_azimuth").value(satellite_azimuth);
+        writer.name("satellite_snr").value(satellite_snr);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "satellites_visible":
+                this.satellites_visible = (short) reader.nextInt();
+                break;
+            case "satellite_prn":
+                reader.nextArray(this.satellite_prn);
+                break;
+            case "satellite_used":
+                reader.nextArray(this.satellite_used);
+                break;
+            case "satellite_elevation":
+                reader.nextArray(this.satellite_elevation);
+                break;
+            case "satellite_azimuth":
+                reader.nextArray(this.satellite_azimuth);
+                break;
+            case "satellite_snr":
+                reader.nextArray(this.satellite_snr);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
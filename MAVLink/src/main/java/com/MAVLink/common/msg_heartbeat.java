@@ -6,12 +6,18 @@
 
 // MESSAGE HEARTBEAT PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The heartbeat message shows that a system is present and responding. The type of the MAV and Autopilot hardware allow the receiving system to treat further messages from this system appropriate (e.g. by laying out the user interface based on the autopilot).
+*
+* @see HeartbeatView
 */
 public class msg_heartbeat extends MAVLinkMessage{
 
@@ -99,6 +105,65 @@ public class msg_heartbeat extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("custom_mode").value(custom_mode);
+        writer.name("type").value(type);
+        writer.name("autopilot").value(autopilot);
+        writer.name("base_mode").value(base_mode);
+        writer.name("system_status").value(system_status);
+        writer.name("mavlink_version").value(mavlink_version);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "custom_mode":
+                this.custom_mode = reader.nextLong();
+                break;
+            case "type":
+                this.type = (short) reader.nextInt();
+                break;
+            case "autopilot":
+                this.autopilot = (short) reader.nextInt();
+                break;
+            case "base_mode":
+                this.base_mode = (short) reader.nextInt();
+                break;
+            case "system_status":
+                this.system_status = (short) reader.nextInt();
+                break;
+            case "mavlink_version":
+                this.mavlink_version = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE HIGH_LATENCY PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Message appropriate for high latency connections like Iridium
+*
+* @see HighLatencyView
 */
 public class msg_high_latency extends MAVLinkMessage{
 
@@ -261,6 +267,137 @@ public class msg_high_latency extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("custom_mode").value(custom_mode);
+        writer.name("latitude").value(latitude);
+        writer.name("longitude").value(longitude);
+        writer.name("roll").value(roll);
+        writer.name("pitch").value(pitch);
+        writer.name("heading").value(heading);
+        writer.name("heading_sp").value(heading_sp);
+        writer.name("altitude_amsl").value(altitude_amsl);
+        writer.name("altitude_sp").value(altitude_sp);
+        writer.name("wp_distance").value(wp_distance);
+        writer.name("base_mode").value(base_mode);
+        writer.name("landed_state").value(landed_state);
+        writer.name("throttle").value(throttle);
+        writer.name("airspeed").value(airspeed);
+        writer.name("airspeed_sp").value(airspeed_sp);
+        writer.name("groundspeed").value(groundspeed);
+        writer.name("climb_rate").value(climb_rate);
+        writer.name("gps_nsat").value(gps_nsat);
+        writer.name("gps_fix_type").value(gps_fix_type);
+        writer.name("battery_remaining").value(battery_remaining);
+        writer.name("temperature").value(temperature);
+        writer.name("temperature_air").value(temperature_air);
+        writer.name("failsafe").value(failsafe);
+        writer.name("wp_num").value(wp_num);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "custom_mode":
+                this.custom_mode = reader.nextLong();
+                break;
+            case "latitude":
+                this.latitude = reader.nextInt();
+                break;
+            case "longitude":
+                this.longitude = reader.nextInt();
+                break;
+            case "roll":
+                this.roll = (short) reader.nextInt();
+                break;
+            case "pitch":
+                this.pitch = (short) reader.nextInt();
+                break;
+            case "heading":
+                this.heading = reader.nextInt();
+                break;
+            case "heading_sp":
+                this.heading_sp = (short) reader.nextInt();
+                break;
+            case "altitude_amsl":
+                this.altitude_amsl = (short) reader.nextInt();
+                break;
+            case "altitude_sp":
+                this.altitude_sp = (short) reader.nextInt();
+                break;
+            case "wp_distance":
+                this.wp_distance = reader.nextInt();
+                break;
+            case "base_mode":
+                this.base_mode = (short) reader.nextInt();
+                break;
+            case "landed_state":
+                this.landed_state = (short) reader.nextInt();
+                break;
+            case "throttle":
+                this.throttle = (byte) reader.nextInt();
+                break;
+            case "airspeed":
+                this.airspeed = (short) reader.nextInt();
+                break;
+            case "airspeed_sp":
+                this.airspeed_sp = (short) reader.nextInt();
+                break;
+            case "groundspeed":
+                this.groundspeed = (short) reader.nextInt();
+                break;
+            case "climb_rate":
+                this.climb_rate = (byte) reader.nextInt();
+                break;
+            case "gps_nsat":
+                this.gps_nsat = (short) reader.nextInt();
+                break;
+            case "gps_fix_type":
+                this.gps_fix_type = (short) reader.nextInt();
+                break;
+            case "battery_remaining":
+                this.battery_remaining = (short) reader.nextInt();
+                break;
+            case "temperature":
+                this.temperature = (byte) reader.nextInt();
+                break;
+            case "temperature_air":
+                this.temperature_air = (byte) reader.nextInt();
+                break;
+            case "failsafe":
+                this.failsafe = (short) reader.nextInt();
+                break;
+            case "wp_num":
+                this.wp_num = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE HIGHRES_IMU PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The IMU readings in SI units in NED body frame
+*
+* @see HighresImuView
 */
 public class msg_highres_imu extends MAVLinkMessage{
 
@@ -180,6 +186,101 @@ public class msg_highres_imu extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("xacc").value(xacc);
+        writer.name("yacc").value(yacc);
+        writer.name("zacc").value(zacc);
+        writer.name("xgyro").value(xgyro);
+        writer.name("ygyro").value(ygyro);
+        writer.name("zgyro").value(zgyro);
+        writer.name("xmag").value(xmag);
+        writer.name("ymag").value(ymag);
+        writer.name("zmag").value(zmag);
+        writer.name("abs_pressure").value(abs_pressure);
+        writer.name("diff_pressure").value(diff_pressure);
+        writer.name("pressure_alt").value(pressure_alt);
+        writer.name("temperature").value(temperature);
+        writer.name("fields_updated").value(fields_updated);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "xacc":
+                this.xacc = reader.nextFloat();
+                break;
+            case "yacc":
+                this.yacc = reader.nextFloat();
+                break;
+            case "zacc":
+                this.zacc = reader.nextFloat();
+                break;
+            case "xgyro":
+                this.xgyro = reader.nextFloat();
+                break;
+            case "ygyro":
+                this.ygyro = reader.nextFloat();
+                break;
+            case "zgyro":
+                this.zgyro = reader.nextFloat();
+                break;
+            case "xmag":
+                this.xmag = reader.nextFloat();
+                break;
+            case "ymag":
+                this.ymag = reader.nextFloat();
+                break;
+            case "zmag":
+                this.zmag = reader.nextFloat();
+                break;
+            case "abs_pressure":
+                this.abs_pressure = reader.nextFloat();
+                break;
+            case "diff_pressure":
+                this.diff_pressure = reader.nextFloat();
+                break;
+            case "pressure_alt":
+                this.pressure_alt = reader.nextFloat();
+                break;
+            case "temperature":
+                this.temperature = reader.nextFloat();
+                break;
+            case "fields_updated":
+                this.fields_updated = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE HIL_CONTROLS PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Sent from autopilot to simulation. Hardware in the loop control outputs
+*
+* @see HilControlsView
 */
 public class msg_hil_controls extends MAVLinkMessage{
 
@@ -144,6 +150,85 @@ public class msg_hil_controls extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("roll_ailerons").value(roll_ailerons);
+        writer.name("pitch_elevator").value(pitch_elevator);
+        writer.name("yaw_rudder").value(yaw_rudder);
+        writer.name("throttle").value(throttle);
+        writer.name("aux1").value(aux1);
+        writer.name("aux2").value(aux2);
+        writer.name("aux3").value(aux3);
+        writer.name("aux4").value(aux4);
+        writer.name("mode").value(mode);
+        writer.name("nav_mode").value(nav_mode);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "roll_ailerons":
+                this.roll_ailerons = reader.nextFloat();
+                break;
+            case "pitch_elevator":
+                this.pitch_elevator = reader.nextFloat();
+                break;
+            case "yaw_rudder":
+                this.yaw_rudder = reader.nextFloat();
+                break;
+            case "throttle":
+                this.throttle = reader.nextFloat();
+                break;
+            case "aux1":
+                this.aux1 = reader.nextFloat();
+                break;
+            case "aux2":
+                this.aux2 = reader.nextFloat();
+                break;
+            case "aux3":
+                this.aux3 = reader.nextFloat();
+                break;
+            case "aux4":
+                this.aux4 = reader.nextFloat();
+                break;
+            case "mode":
+                this.mode = (short) reader.nextInt();
+                break;
+            case "nav_mode":
+                this.nav_mode = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE HIL_RC_INPUTS_RAW PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Sent from simulation to autopilot. The RAW values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*
+* @see HilRcInputsRawView
 */
 public class msg_hil_rc_inputs_raw extends MAVLinkMessage{
 
@@ -171,6 +177,97 @@ public class msg_hil_rc_inputs_raw extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("chan1_raw").value(chan1_raw);
+        writer.name("chan2_raw").value(chan2_raw);
+        writer.name("chan3_raw").value(chan3_raw);
+        writer.name("chan4_raw").value(chan4_raw);
+        writer.name("chan5_raw").value(chan5_raw);
+        writer.name("chan6_raw").value(chan6_raw);
+        writer.name("chan7_raw").value(chan7_raw);
+        writer.name("chan8_raw").value(chan8_raw);
+        writer.name("chan9_raw").value(chan9_raw);
+        writer.name("chan10_raw").value(chan10_raw);
+        writer.name("chan11_raw").value(chan11_raw);
+        writer.name("chan12_raw").value(chan12_raw);
+        writer.name("rssi").value(rssi);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "chan1_raw":
+                this.chan1_raw = reader.nextInt();
+                break;
+            case "chan2_raw":
+                this.chan2_raw = reader.nextInt();
+                break;
+            case "chan3_raw":
+                this.chan3_raw = reader.nextInt();
+                break;
+            case "chan4_raw":
+                this.chan4_raw = reader.nextInt();
+                break;
+            case "chan5_raw":
+                this.chan5_raw = reader.nextInt();
+                break;
+            case "chan6_raw":
+                this.chan6_raw = reader.nextInt();
+                break;
+            case "chan7_raw":
+                this.chan7_raw = reader.nextInt();
+                break;
+            case "chan8_raw":
+                this.chan8_raw = reader.nextInt();
+                break;
+            case "chan9_raw":
+                this.chan9_raw = reader.nextInt();
+                break;
+            case "chan10_raw":
+                this.chan10_raw = reader.nextInt();
+                break;
+            case "chan11_raw":
+                this.chan11_raw = reader.nextInt();
+                break;
+            case "chan12_raw":
+                this.chan12_raw = reader.nextInt();
+                break;
+            case "rssi":
+                this.rssi = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE HIL_STATE PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * DEPRECATED PACKET! Suffers from missing airspeed fields and singularities due to Euler angles. Please use HIL_STATE_QUATERNION instead. Sent from simulation to autopilot. This packet is useful for high throughput applications such as hardware in the loop simulations.
+*
+* @see HilStateView
 */
 public class msg_hil_state extends MAVLinkMessage{
 
@@ -189,6 +195,105 @@ public class msg_hil_state extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("roll").value(roll);
+        writer.name("pitch").value(pitch);
+        writer.name("yaw").value(yaw);
+        writer.name("rollspeed").value(rollspeed);
+        writer.name("pitchspeed").value(pitchspeed);
+        writer.name("yawspeed").value(yawspeed);
+        writer.name("lat").value(lat);
+        writer.name("lon").value(lon);
+        writer.name("alt").value(alt);
+        writer.name("vx").value(vx);
+        writer.name("vy").value(vy);
+        writer.name("vz").value(vz);
+        writer.name("xacc").value(xacc);
+        writer.name("yacc").value(yacc);
+        writer.name("zacc").value(zacc);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "roll":
+                this.roll = reader.nextFloat();
+                break;
+            case "pitch":
+                this.pitch = reader.nextFloat();
+                break;
+            case "yaw":
+                this.yaw = reader.nextFloat();
+                break;
+            case "rollspeed":
+                this.rollspeed = reader.nextFloat();
+                break;
+            case "pitchspeed":
+                this.pitchspeed = reader.nextFloat();
+                break;
+            case "yawspeed":
+                this.yawspeed = reader.nextFloat();
+                break;
+            case "lat":
+                this.lat = reader.nextInt();
+                break;
+            case "lon":
+                this.lon = reader.nextInt();
+                break;
+            case "alt":
+                this.alt = reader.nextInt();
+                break;
+            case "vx":
+                this.vx = (short) reader.nextInt();
+                break;
+            case "vy":
+                this.vy = (short) reader.nextInt();
+                break;
+            case "vz":
+                this.vz = (short) reader.nextInt();
+                break;
+            case "xacc":
+                this.xacc = (short) reader.nextInt();
+                break;
+            case "yacc":
+                this.yacc = (short) reader.nextInt();
+                break;
+            case "zacc":
+                this.zacc = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE HOME_POSITION PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * This message can be requested by sending the MAV_CMD_GET_HOME_POSITION command. The position the system will return to and land on. The position is set automatically by the system during the takeoff in case it was not explicitely set by the operator before or after. The position the system will return to and land on. The global and local positions encode the position in the respective coordinate frames, while the q parameter encodes the orientation of the surface. Under normal conditions it describes the heading and terrain slope, which can be used by the aircraft to adjust the approach. The approach 3D vector describes the point to which the system should fly in normal flight mode and then perform a landing sequence along the vector.
+*
+* @see HomePositionView
 */
 public class msg_home_position extends MAVLinkMessage{
 
@@ -143,6 +149,81 @@ public class msg_home_position extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("latitude").value(latitude);
+        writer.name("longitude").value(longitude);
+        writer.name("altitude").value(altitude);
+        writer.name("x").value(x);
+        writer.name("y").value(y);
+        writer.name("z").value(z);
+        writer.name("q").value(q);
+        writer.name("approach_x").value(approach_x);
+        writer.name("approach_y").value(approach_y);
+        writer.name("approach_z").value(approach_z);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "latitude":
+                this.latitude = reader.nextInt();
+                break;
+            case "longitude":
+                this.longitude = reader.nextInt();
+                break;
+            case "altitude":
+                this.altitude = reader.nextInt();
+                break;
+            case "x":
+                this.x = reader.nextFloat();
+                break;
+            case "y":
+                this.y = reader.nextFloat();
+                break;
+            case "z":
+                this.z = reader.nextFloat();
+                break;
+            case "q":
+                reader.nextArray(this.q);
+                break;
+            case "approach_x":
+                this.approach_x = reader.nextFloat();
+                break;
+            case "approach_y":
+                this.approach_y = reader.nextFloat();
+                break;
+            case "approach_z":
+                this.approach_z = reader.nextFloat();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
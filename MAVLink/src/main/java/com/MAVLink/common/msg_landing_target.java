@@ -6,12 +6,18 @@
 
 // MESSAGE LANDING_TARGET PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The location of a landing area captured from a downward facing camera
+*
+* @see LandingTargetView
 */
 public class msg_landing_target extends MAVLinkMessage{
 
@@ -117,6 +123,73 @@ public class msg_landing_target extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("angle_x").value(angle_x);
+        writer.name("angle_y").value(angle_y);
+        writer.name("distance").value(distance);
+        writer.name("size_x").value(size_x);
+        writer.name("size_y").value(size_y);
+        writer.name("target_num").value(target_num);
+        writer.name("frame").value(frame);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "angle_x":
+                this.angle_x = reader.nextFloat();
+                break;
+            case "angle_y":
+                this.angle_y = reader.nextFloat();
+                break;
+            case "distance":
+                this.distance = reader.nextFloat();
+                break;
+            case "size_x":
+                this.size_x = reader.nextFloat();
+                break;
+            case "size_y":
+                this.size_y = reader.nextFloat();
+                break;
+            case "target_num":
+                this.target_num = (short) reader.nextInt();
+                break;
+            case "frame":
+                this.frame = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
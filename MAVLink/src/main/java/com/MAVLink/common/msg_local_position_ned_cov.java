@@ -6,12 +6,18 @@
 
 // MESSAGE LOCAL_POSITION_NED_COV PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The filtered local position (e.g. fused computer vision and accelerometers). Coordinate frame is right-handed, Z-axis down (aeronautical frame, NED / north-east-down convention)
+*
+* @see LocalPositionNedCovView
 */
 public class msg_local_position_ned_cov extends MAVLinkMessage{
 
@@ -161,6 +167,89 @@ public class msg_local_position_ned_cov extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("x").value(x);
+        writer.name("y").value(y);
+        writer.name("z").value(z);
+        writer.name("vx").value(vx);
+        writer.name("vy").value(vy);
+        writer.name("vz").value(vz);
+        writer.name("ax").value(ax);
+        writer.name("ay").value(ay);
+        writer.name("az").value(az);
+        writer.name("covariance").value(covariance);
+        writer.name("estimator_type").value(estimator_type);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "x":
+                this.x = reader.nextFloat();
+                break;
+            case "y":
+                this.y = reader.nextFloat();
+                break;
+            case "z":
+                this.z = reader.nextFloat();
+                break;
+            case "vx":
+                this.vx = reader.nextFloat();
+                break;
+            case "vy":
+                this.vy = reader.nextFloat();
+                break;
+            case "vz":
+                this.vz = reader.nextFloat();
+                break;
+            case "ax":
+                this.ax = reader.nextFloat();
+                break;
+            case "ay":
+                this.ay = reader.nextFloat();
+                break;
+            case "az":
+                this.az = reader.nextFloat();
+                break;
+            case "covariance":
+                reader.nextArray(this.covariance);
+                break;
+            case "estimator_type":
+                this.estimator_type = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
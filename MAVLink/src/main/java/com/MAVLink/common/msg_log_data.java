@@ -6,12 +6,18 @@
 
 // MESSAGE LOG_DATA PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Reply to LOG_REQUEST_DATA
+*
+* @see LogDataView
 */
 public class msg_log_data extends MAVLinkMessage{
 
@@ -89,6 +95,57 @@ public class msg_log_data extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("ofs").value(ofs);
+        writer.name("id").value(id);
+        writer.name("count").value(count);
+        writer.name("data").value(data);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "ofs":
+                this.ofs = reader.nextLong();
+                break;
+            case "id":
+                this.id = reader.nextInt();
+                break;
+            case "count":
+                this.count = (short) reader.nextInt();
+                break;
+            case "data":
+                reader.nextArray(this.data);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
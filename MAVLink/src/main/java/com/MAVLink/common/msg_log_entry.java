@@ -6,12 +6,18 @@
 
 // MESSAGE LOG_ENTRY PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Reply to LOG_REQUEST_LIST
+*
+* @see LogEntryView
 */
 public class msg_log_entry extends MAVLinkMessage{
 
@@ -90,6 +96,61 @@ public class msg_log_entry extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_utc").value(time_utc);
+        writer.name("size").value(size);
+        writer.name("id").value(id);
+        writer.name("num_logs").value(num_logs);
+        writer.name("last_log_num").value(last_log_num);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_utc":
+                this.time_utc = reader.nextLong();
+                break;
+            case "size":
+                this.size = reader.nextLong();
+                break;
+            case "id":
+                this.id = reader.nextInt();
+                break;
+            case "num_logs":
+                this.num_logs = reader.nextInt();
+                break;
+            case "last_log_num":
+                this.last_log_num = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
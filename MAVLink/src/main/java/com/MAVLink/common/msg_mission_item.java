@@ -6,13 +6,19 @@
 
 // MESSAGE MISSION_ITEM PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Message encoding a mission item. This message is emitted to announce
                 the presence of a mission item and to set a mission item on the system. The mission item can be either in x, y, z meters (type: LOCAL) or x:lat, y:lon, z:altitude. Local frame is Z-down, right handed (NED), global frame is Z-up, right handed (ENU). See also http://qgroundcontrol.org/mavlink/waypoint_protocol.
+*
+* @see MissionItemView
 */
 public class msg_mission_item extends MAVLinkMessage{
 
@@ -172,6 +178,97 @@ public class msg_mission_item extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("param1").value(param1);
+        writer.name("param2").value(param2);
+        writer.name("param3").value(param3);
+        writer.name("param4").value(param4);
+        writer.name("x").value(x);
+        writer.name("y").value(y);
+        writer.name("z").value(z);
+        writer.name("seq").value(seq);
+        writer.name("command").value(command);
+        writer.name("target_system").value(target_system);
+        writer.name("target_component").value(target_component);
+        writer.name("frame").value(frame);
+        writer.name("current").value(current);
+        writer.name("autocontinue").value(autocontinue);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "param1":
+                this.param1 = reader.nextFloat();
+                break;
+            case "param2":
+                this.param2 = reader.nextFloat();
+                break;
+            case "param3":
+                this.param3 = reader.nextFloat();
+                break;
+            case "param4":
+                this.param4 = reader.nextFloat();
+                break;
+            case "x":
+                this.x = reader.nextFloat();
+                break;
+            case "y":
+                this.y = reader.nextFloat();
+                break;
+            case "z":
+                this.z = reader.nextFloat();
+                break;
+            case "seq":
+                this.seq = reader.nextInt();
+                break;
+            case "command":
+                this.command = reader.nextInt();
+                break;
+            case "target_system":
+                this.target_system = (short) reader.nextInt();
+                break;
+            case "target_component":
+                this.target_component = (short) reader.nextInt();
+                break;
+            case "frame":
+                this.frame = (short) reader.nextInt();
+                break;
+            case "current":
+                this.current = (short) reader.nextInt();
+                break;
+            case "autocontinue":
+                this.autocontinue = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE NAV_CONTROLLER_OUTPUT PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The state of the fixed wing navigation and position controller.
+*
+* @see NavControllerOutputView
 */
 public class msg_nav_controller_output extends MAVLinkMessage{
 
@@ -117,6 +123,73 @@ public class msg_nav_controller_output extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("nav_roll").value(nav_roll);
+        writer.name("nav_pitch").value(nav_pitch);
+        writer.name("alt_error").value(alt_error);
+        writer.name("aspd_error").value(aspd_error);
+        writer.name("xtrack_error").value(xtrack_error);
+        writer.name("nav_bearing").value(nav_bearing);
+        writer.name("target_bearing").value(target_bearing);
+        writer.name("wp_dist").value(wp_dist);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "nav_roll":
+                this.nav_roll = reader.nextFloat();
+                break;
+            case "nav_pitch":
+                this.nav_pitch = reader.nextFloat();
+                break;
+            case "alt_error":
+                this.alt_error = reader.nextFloat();
+                break;
+            case "aspd_error":
+                this.aspd_error = reader.nextFloat();
+                break;
+            case "xtrack_error":
+                this.xtrack_error = reader.nextFloat();
+                break;
+            case "nav_bearing":
+                this.nav_bearing = (short) reader.nextInt();
+                break;
+            case "target_bearing":
+                this.target_bearing = (short) reader.nextInt();
+                break;
+            case "wp_dist":
+                this.wp_dist = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
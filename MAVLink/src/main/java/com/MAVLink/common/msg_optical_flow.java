@@ -6,12 +6,18 @@
 
 // MESSAGE OPTICAL_FLOW PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Optical flow from a flow sensor (e.g. optical mouse sensor)
+*
+* @see OpticalFlowView
 */
 public class msg_optical_flow extends MAVLinkMessage{
 
@@ -117,6 +123,73 @@ public class msg_optical_flow extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("flow_comp_m_x").value(flow_comp_m_x);
+        writer.name("flow_comp_m_y").value(flow_comp_m_y);
+        writer.name("ground_distance").value(ground_distance);
+        writer.name("flow_x").value(flow_x);
+        writer.name("flow_y").value(flow_y);
+        writer.name("sensor_id").value(sensor_id);
+        writer.name("quality").value(quality);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "flow_comp_m_x":
+                this.flow_comp_m_x = reader.nextFloat();
+                break;
+            case "flow_comp_m_y":
+                this.flow_comp_m_y = reader.nextFloat();
+                break;
+            case "ground_distance":
+                this.ground_distance = reader.nextFloat();
+                break;
+            case "flow_x":
+                this.flow_x = (short) reader.nextInt();
+                break;
+            case "flow_y":
+                this.flow_y = (short) reader.nextInt();
+                break;
+            case "sensor_id":
+                this.sensor_id = (short) reader.nextInt();
+                break;
+            case "quality":
+                this.quality = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
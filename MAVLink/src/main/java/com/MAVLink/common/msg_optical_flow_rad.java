@@ -6,12 +6,18 @@
 
 // MESSAGE OPTICAL_FLOW_RAD PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Optical flow from an angular rate flow sensor (e.g. PX4FLOW or mouse sensor)
+*
+* @see OpticalFlowRadView
 */
 public class msg_optical_flow_rad extends MAVLinkMessage{
 
@@ -153,6 +159,89 @@ public class msg_optical_flow_rad extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("integration_time_us").value(integration_time_us);
+        writer.name("integrated_x").value(integrated_x);
+        writer.name("integrated_y").value(integrated_y);
+        writer.name("integrated_xgyro").value(integrated_xgyro);
+        writer.name("integrated_ygyro").value(integrated_ygyro);
+        writer.name("integrated_zgyro").value(integrated_zgyro);
+        writer.name("time_delta_distance_us").value(time_delta_distance_us);
+        writer.name("distance").value(distance);
+        writer.name("temperature").value(temperature);
+        writer.name("sensor_id").value(sensor_id);
+        writer.name("quality").value(quality);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "integration_time_us":
+                this.integration_time_us = reader.nextLong();
+                break;
+            case "integrated_x":
+                this.integrated_x = reader.nextFloat();
+                break;
+            case "integrated_y":
+                this.integrated_y = reader.nextFloat();
+                break;
+            case "integrated_xgyro":
+                this.integrated_xgyro = reader.nextFloat();
+                break;
+            case "integrated_ygyro":
+                this.integrated_ygyro = reader.nextFloat();
+                break;
+            case "integrated_zgyro":
+                this.integrated_zgyro = reader.nextFloat();
+                break;
+            case "time_delta_distance_us":
+                this.time_delta_distance_us = reader.nextLong();
+                break;
+            case "distance":
+                this.distance = reader.nextFloat();
+                break;
+            case "temperature":
+                this.temperature = (short) reader.nextInt();
+                break;
+            case "sensor_id":
+                this.sensor_id = (short) reader.nextInt();
+                break;
+            case "quality":
+                this.quality = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
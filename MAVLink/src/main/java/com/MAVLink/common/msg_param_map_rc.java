@@ -6,12 +6,18 @@
 
 // MESSAGE PARAM_MAP_RC PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Bind a RC channel to a parameter. The parameter should change accoding to the RC channel value.
+*
+* @see ParamMapRcView
 */
 public class msg_param_map_rc extends MAVLinkMessage{
 
@@ -134,6 +140,77 @@ public class msg_param_map_rc extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("param_value0").value(param_value0);
+        writer.name("scale").value(scale);
+        writer.name("param_value_min").value(param_value_min);
+        writer.name("param_value_max").value(param_value_max);
+        writer.name("param_index").value(param_index);
+        writer.name("target_system").value(target_system);
+        writer.name("target_component").value(target_component);
+        writer.name("param_id").stringValue(param_id);
+        writer.name("parameter_rc_channel_index").value(parameter_rc_channel_index);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "param_value0":
+                this.param_value0 = reader.nextFloat();
+                break;
+            case "scale":
+                this.scale = reader.nextFloat();
+                break;
+            case "param_value_min":
+                this.param_value_min = reader.nextFloat();
+                break;
+            case "param_value_max":
+                this.param_value_max = reader.nextFloat();
+                break;
+            case "param_index":
+                this.param_index = (short) reader.nextInt();
+                break;
+            case "target_system":
+                this.target_system = (short) reader.nextInt();
+                break;
+            case "target_component":
+                this.target_component = (short) reader.nextInt();
+                break;
+            case "param_id":
+                reader.nextString(this.param_id);
+                break;
+            case "parameter_rc_channel_index":
+                this.parameter_rc_channel_index = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
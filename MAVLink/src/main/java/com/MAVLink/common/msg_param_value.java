@@ -6,12 +6,18 @@
 
 // MESSAGE PARAM_VALUE PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Emit the value of a onboard parameter. The inclusion of param_count and param_index in the message allows the recipient to keep track of received parameters and allows him to re-request missing parameters after a loss or timeout.
+*
+* @see ParamValueView
 */
 public class msg_param_value extends MAVLinkMessage{
 
@@ -98,6 +104,61 @@ public class msg_param_value extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("param_value").value(param_value);
+        writer.name("param_count").value(param_count);
+        writer.name("param_index").value(param_index);
+        writer.name("param_id").stringValue(param_id);
+        writer.name("param_type").value(param_type);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "param_value":
+                this.param_value = reader.nextFloat();
+                break;
+            case "param_count":
+                this.param_count = reader.nextInt();
+                break;
+            case "param_index":
+                this.param_index = reader.nextInt();
+                break;
+            case "param_id":
+                reader.nextString(this.param_id);
+                break;
+            case "param_type":
+                this.param_type = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE POSITION_TARGET_LOCAL_NED PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Reports the current commanded vehicle position, velocity, and acceleration as specified by the autopilot. This should match the commands sent in SET_POSITION_TARGET_LOCAL_NED if the vehicle is being controlled this way.
+*
+* @see PositionTargetLocalNedView
 */
 public class msg_position_target_local_ned extends MAVLinkMessage{
 
@@ -171,6 +177,97 @@ public class msg_position_target_local_ned extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_boot_ms").value(time_boot_ms);
+        writer.name("x").value(x);
+        writer.name("y").value(y);
+        writer.name("z").value(z);
+        writer.name("vx").value(vx);
+        writer.name("vy").value(vy);
+        writer.name("vz").value(vz);
+        writer.name("afx").value(afx);
+        writer.name("afy").value(afy);
+        writer.name("afz").value(afz);
+        writer.name("yaw").value(yaw);
+        writer.name("yaw_rate").value(yaw_rate);
+        writer.name("type_mask").value(type_mask);
+        writer.name("coordinate_frame").value(coordinate_frame);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_boot_ms":
+                this.time_boot_ms = reader.nextLong();
+                break;
+            case "x":
+                this.x = reader.nextFloat();
+                break;
+            case "y":
+                this.y = reader.nextFloat();
+                break;
+            case "z":
+                this.z = reader.nextFloat();
+                break;
+            case "vx":
+                this.vx = reader.nextFloat();
+                break;
+            case "vy":
+                this.vy = reader.nextFloat();
+                break;
+            case "vz":
+                this.vz = reader.nextFloat();
+                break;
+            case "afx":
+                this.afx = reader.nextFloat();
+                break;
+            case "afy":
+                this.afy = reader.nextFloat();
+                break;
+            case "afz":
+                this.afz = reader.nextFloat();
+                break;
+            case "yaw":
+                this.yaw = reader.nextFloat();
+                break;
+            case "yaw_rate":
+                this.yaw_rate = reader.nextFloat();
+                break;
+            case "type_mask":
+                this.type_mask = reader.nextInt();
+                break;
+            case "coordinate_frame":
+                this.coordinate_frame = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
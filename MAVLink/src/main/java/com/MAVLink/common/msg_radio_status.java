@@ -6,12 +6,18 @@
 
 // MESSAGE RADIO_STATUS PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Status generated by radio and injected into MAVLink stream.
+*
+* @see RadioStatusView
 */
 public class msg_radio_status extends MAVLinkMessage{
 
@@ -108,6 +114,69 @@ public class msg_radio_status extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("rxerrors").value(rxerrors);
+        writer.name("fixed").value(fixed);
+        writer.name("rssi").value(rssi);
+        writer.name("remrssi").value(remrssi);
+        writer.name("txbuf").value(txbuf);
+        writer.name("noise").value(noise);
+        writer.name("remnoise").value(remnoise);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "rxerrors":
+                this.rxerrors = reader.nextInt();
+                break;
+            case "fixed":
+                this.fixed = reader.nextInt();
+                break;
+            case "rssi":
+                this.rssi = (short) reader.nextInt();
+                break;
+            case "remrssi":
+                this.remrssi = (short) reader.nextInt();
+                break;
+            case "txbuf":
+                this.txbuf = (short) reader.nextInt();
+                break;
+            case "noise":
+                this.noise = (short) reader.nextInt();
+                break;
+            case "remnoise":
+                this.remnoise = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
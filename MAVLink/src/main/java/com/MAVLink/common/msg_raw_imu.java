@@ -6,12 +6,18 @@
 
 // MESSAGE RAW_IMU PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The RAW IMU readings for the usual 9DOF sensor setup. This message should always contain the true raw values without any scaling to allow data capture and system debugging.
+*
+* @see RawImuView
 */
 public class msg_raw_imu extends MAVLinkMessage{
 
@@ -135,6 +141,81 @@ public class msg_raw_imu extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("xacc").value(xacc);
+        writer.name("yacc").value(yacc);
+        writer.name("zacc").value(zacc);
+        writer.name("xgyro").value(xgyro);
+        writer.name("ygyro").value(ygyro);
+        writer.name("zgyro").value(zgyro);
+        writer.name("xmag").value(xmag);
+        writer.name("ymag").value(ymag);
+        writer.name("zmag").value(zmag);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "xacc":
+                this.xacc = (short) reader.nextInt();
+                break;
+            case "yacc":
+                this.yacc = (short) reader.nextInt();
+                break;
+            case "zacc":
+                this.zacc = (short) reader.nextInt();
+                break;
+            case "xgyro":
+                this.xgyro = (short) reader.nextInt();
+                break;
+            case "ygyro":
+                this.ygyro = (short) reader.nextInt();
+                break;
+            case "zgyro":
+                this.zgyro = (short) reader.nextInt();
+                break;
+            case "xmag":
+                this.xmag = (short) reader.nextInt();
+                break;
+            case "ymag":
+                this.ymag = (short) reader.nextInt();
+                break;
+            case "zmag":
+                this.zmag = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE RC_CHANNELS PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The PPM values of the RC channels received. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*
+* @see RcChannelsView
 */
 public class msg_rc_channels extends MAVLinkMessage{
 
@@ -234,6 +240,125 @@ public class msg_rc_channels extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_boot_ms").value(time_boot_ms);
+        writer.name("chan1_raw").value(chan1_raw);
+        writer.name("chan2_raw").value(chan2_raw);
+        writer.name("chan3_raw").value(chan3_raw);
+        writer.name("chan4_raw").value(chan4_raw);
+        writer.name("chan5_raw").value(chan5_raw);
+        writer.name("chan6_raw").value(chan6_raw);
+        writer.name("chan7_raw").value(chan7_raw);
+        writer.name("chan8_raw").value(chan8_raw);
+        writer.name("chan9_raw").value(chan9_raw);
+        writer.name("chan10_raw").value(chan10_raw);
+        writer.name("chan11_raw").value(chan11_raw);
+        writer.name("chan12_raw").value(chan12_raw);
+        writer.name("chan13_raw").value(chan13_raw);
+        writer.name("chan14_raw").value(chan14_raw);
+        writer.name("chan15_raw").value(chan15_raw);
+        writer.name("chan16_raw").value(chan16_raw);
+        writer.name("chan17_raw").value(chan17_raw);
+        writer.name("chan18_raw").value(chan18_raw);
+        writer.name("chancount").value(chancount);
+        writer.name("rssi").value(rssi);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_boot_ms":
+                this.time_boot_ms = reader.nextLong();
+                break;
+            case "chan1_raw":
+                this.chan1_raw = reader.nextInt();
+                break;
+            case "chan2_raw":
+                this.chan2_raw = reader.nextInt();
+                break;
+            case "chan3_raw":
+                this.chan3_raw = reader.nextInt();
+                break;
+            case "chan4_raw":
+                this.chan4_raw = reader.nextInt();
+                break;
+            case "chan5_raw":
+                this.chan5_raw = reader.nextInt();
+                break;
+            case "chan6_raw":
+                this.chan6_raw = reader.nextInt();
+                break;
+            case "chan7_raw":
+                this.chan7_raw = reader.nextInt();
+                break;
+            case "chan8_raw":
+                this.chan8_raw = reader.nextInt();
+                break;
+            case "chan9_raw":
+                this.chan9_raw = reader.nextInt();
+                break;
+            case "chan10_raw":
+                this.chan10_raw = reader.nextInt();
+                break;
+            case "chan11_raw":
+                this.chan11_raw = reader.nextInt();
+                break;
+            case "chan12_raw":
+                this.chan12_raw = reader.nextInt();
+                break;
+            case "chan13_raw":
+                this.chan13_raw = reader.nextInt();
+                break;
+            case "chan14_raw":
+                this.chan14_raw = reader.nextInt();
+                break;
+            case "chan15_raw":
+                this.chan15_raw = reader.nextInt();
+                break;
+            case "chan16_raw":
+                this.chan16_raw = reader.nextInt();
+                break;
+            case "chan17_raw":
+                this.chan17_raw = reader.nextInt();
+                break;
+            case "chan18_raw":
+                this.chan18_raw = reader.nextInt();
+                break;
+            case "chancount":
+                this.chancount = (short) reader.nextInt();
+                break;
+            case "rssi":
+                this.rssi = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE RC_CHANNELS_OVERRIDE PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The RAW values of the RC channels sent to the MAV to override info received from the RC radio. A value of UINT16_MAX means no change to that channel. A value of 0 means control of that channel should be released back to the RC radio. The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%. Individual receivers/transmitters might violate this specification.
+*
+* @see RcChannelsOverrideView
 */
 public class msg_rc_channels_override extends MAVLinkMessage{
 
@@ -135,6 +141,81 @@ public class msg_rc_channels_override extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("chan1_raw").value(chan1_raw);
+        writer.name("chan2_raw").value(chan2_raw);
+        writer.name("chan3_raw").value(chan3_raw);
+        writer.name("chan4_raw").value(chan4_raw);
+        writer.name("chan5_raw").value(chan5_raw);
+        writer.name("chan6_raw").value(chan6_raw);
+        writer.name("chan7_raw").value(chan7_raw);
+        writer.name("chan8_raw").value(chan8_raw);
+        writer.name("target_system").value(target_system);
+        writer.name("target_component").value(target_component);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "chan1_raw":
+                this.chan1_raw = reader.nextInt();
+                break;
+            case "chan2_raw":
+                this.chan2_raw = reader.nextInt();
+                break;
+            case "chan3_raw":
+                this.chan3_raw = reader.nextInt();
+                break;
+            case "chan4_raw":
+                this.chan4_raw = reader.nextInt();
+                break;
+            case "chan5_raw":
+                this.chan5_raw = reader.nextInt();
+                break;
+            case "chan6_raw":
+                this.chan6_raw = reader.nextInt();
+                break;
+            case "chan7_raw":
+                this.chan7_raw = reader.nextInt();
+                break;
+            case "chan8_raw":
+                this.chan8_raw = reader.nextInt();
+                break;
+            case "target_system":
+                this.target_system = (short) reader.nextInt();
+                break;
+            case "target_component":
+                this.target_component = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
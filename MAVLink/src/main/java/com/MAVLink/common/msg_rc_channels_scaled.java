@@ -6,12 +6,18 @@
 
 // MESSAGE RC_CHANNELS_SCALED PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The scaled values of the RC channels received. (-100%) -10000, (0%) 0, (100%) 10000. Channels that are inactive should be set to UINT16_MAX.
+*
+* @see RcChannelsScaledView
 */
 public class msg_rc_channels_scaled extends MAVLinkMessage{
 
@@ -144,6 +150,85 @@ public class msg_rc_channels_scaled extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_boot_ms").value(time_boot_ms);
+        writer.name("chan1_scaled").value(chan1_scaled);
+        writer.name("chan2_scaled").value(chan2_scaled);
+        writer.name("chan3_scaled").value(chan3_scaled);
+        writer.name("chan4_scaled").value(chan4_scaled);
+        writer.name("chan5_scaled").value(chan5_scaled);
+        writer.name("chan6_scaled").value(chan6_scaled);
+        writer.name("chan7_scaled").value(chan7_scaled);
+        writer.name("chan8_scaled").value(chan8_scaled);
+        writer.name("port").value(port);
+        writer.name("rssi").value(rssi);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_boot_ms":
+                this.time_boot_ms = reader.nextLong();
+                break;
+            case "chan1_scaled":
+                this.chan1_scaled = (short) reader.nextInt();
+                break;
+            case "chan2_scaled":
+                this.chan2_scaled = (short) reader.nextInt();
+                break;
+            case "chan3_scaled":
+                this.chan3_scaled = (short) reader.nextInt();
+                break;
+            case "chan4_scaled":
+                this.chan4_scaled = (short) reader.nextInt();
+                break;
+            case "chan5_scaled":
+                this.chan5_scaled = (short) reader.nextInt();
+                break;
+            case "chan6_scaled":
+                this.chan6_scaled = (short) reader.nextInt();
+                break;
+            case "chan7_scaled":
+                this.chan7_scaled = (short) reader.nextInt();
+                break;
+            case "chan8_scaled":
+                this.chan8_scaled = (short) reader.nextInt();
+                break;
+            case "port":
+                this.port = (short) reader.nextInt();
+                break;
+            case "rssi":
+                this.rssi = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
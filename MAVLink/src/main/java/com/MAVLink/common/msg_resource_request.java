@@ -6,12 +6,18 @@
 
 // MESSAGE RESOURCE_REQUEST PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The autopilot is requesting a resource (file, binary, other type of data)
+*
+* @see ResourceRequestView
 */
 public class msg_resource_request extends MAVLinkMessage{
 
@@ -106,6 +112,61 @@ public class msg_resource_request extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("request_id").value(request_id);
+        writer.name("uri_type").value(uri_type);
+        writer.name("uri").value(uri);
+        writer.name("transfer_type").value(transfer_type);
+        writer.name("storage").value(storage);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "request_id":
+                this.request_id = (short) reader.nextInt();
+                break;
+            case "uri_type":
+                this.uri_type = (short) reader.nextInt();
+                break;
+            case "uri":
+                reader.nextArray(this.uri);
+                break;
+            case "transfer_type":
+                this.transfer_type = (short) reader.nextInt();
+                break;
+            case "storage":
+                reader.nextArray(this.storage);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
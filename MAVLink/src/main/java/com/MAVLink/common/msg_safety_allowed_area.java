@@ -6,12 +6,18 @@
 
 // MESSAGE SAFETY_ALLOWED_AREA PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Read out the safety zone the MAV currently assumes.
+*
+* @see SafetyAllowedAreaView
 */
 public class msg_safety_allowed_area extends MAVLinkMessage{
 
@@ -108,6 +114,69 @@ public class msg_safety_allowed_area extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("p1x").value(p1x);
+        writer.name("p1y").value(p1y);
+        writer.name("p1z").value(p1z);
+        writer.name("p2x").value(p2x);
+        writer.name("p2y").value(p2y);
+        writer.name("p2z").value(p2z);
+        writer.name("frame").value(frame);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "p1x":
+                this.p1x = reader.nextFloat();
+                break;
+            case "p1y":
+                this.p1y = reader.nextFloat();
+                break;
+            case "p1z":
+                this.p1z = reader.nextFloat();
+                break;
+            case "p2x":
+                this.p2x = reader.nextFloat();
+                break;
+            case "p2y":
+                this.p2y = reader.nextFloat();
+                break;
+            case "p2z":
+                this.p2z = reader.nextFloat();
+                break;
+            case "frame":
+                this.frame = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE SAFETY_SET_ALLOWED_AREA PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Set a safety zone (volume), which is defined by two corners of a cube. This message can be used to tell the MAV which setpoints/MISSIONs to accept and which to reject. Safety areas are often enforced by national or competition regulations.
+*
+* @see SafetySetAllowedAreaView
 */
 public class msg_safety_set_allowed_area extends MAVLinkMessage{
 
@@ -126,6 +132,77 @@ public class msg_safety_set_allowed_area extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("p1x").value(p1x);
+        writer.name("p1y").value(p1y);
+        writer.name("p1z").value(p1z);
+        writer.name("p2x").value(p2x);
+        writer.name("p2y").value(p2y);
+        writer.name("p2z").value(p2z);
+        writer.name("target_system").value(target_system);
+        writer.name("target_component").value(target_component);
+        writer.name("frame").value(frame);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "p1x":
+                this.p1x = reader.nextFloat();
+                break;
+            case "p1y":
+                this.p1y = reader.nextFloat();
+                break;
+            case "p1z":
+                this.p1z = reader.nextFloat();
+                break;
+            case "p2x":
+                this.p2x = reader.nextFloat();
+                break;
+            case "p2y":
+                this.p2y = reader.nextFloat();
+                break;
+            case "p2z":
+                this.p2z = reader.nextFloat();
+                break;
+            case "target_system":
+                this.target_system = (short) reader.nextInt();
+                break;
+            case "target_component":
+                this.target_component = (short) reader.nextInt();
+                break;
+            case "frame":
+                this.frame = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
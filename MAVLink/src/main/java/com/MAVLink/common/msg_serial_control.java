@@ -6,12 +6,18 @@
 
 // MESSAGE SERIAL_CONTROL PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Control a serial port. This can be used for raw access to an onboard serial peripheral such as a GPS or telemetry radio. It is designed to make it possible to update the devices firmware via MAVLink messages or change the devices settings. A message with zero bytes can be used to change just the baudrate.
+*
+* @see SerialControlView
 */
 public class msg_serial_control extends MAVLinkMessage{
 
@@ -107,6 +113,65 @@ public class msg_serial_control extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("baudrate").value(baudrate);
+        writer.name("timeout").value(timeout);
+        writer.name("device").value(device);
+        writer.name("flags").value(flags);
+        writer.name("count").value(count);
+        writer.name("data").value(data);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "baudrate":
+                this.baudrate = reader.nextLong();
+                break;
+            case "timeout":
+                this.timeout = reader.nextInt();
+                break;
+            case "device":
+                this.device = (short) reader.nextInt();
+                break;
+            case "flags":
+                this.flags = (short) reader.nextInt();
+                break;
+            case "count":
+                this.count = (short) reader.nextInt();
+                break;
+            case "data":
+                reader.nextArray(this.data);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
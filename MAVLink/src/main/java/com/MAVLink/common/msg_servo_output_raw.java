@@ -6,12 +6,18 @@
 
 // MESSAGE SERVO_OUTPUT_RAW PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The RAW values of the servo outputs (for RC input from the remote, use the RC_CHANNELS messages). The standard PPM modulation is as follows: 1000 microseconds: 0%, 2000 microseconds: 100%.
+*
+* @see ServoOutputRawView
 */
 public class msg_servo_output_raw extends MAVLinkMessage{
 
@@ -135,6 +141,81 @@ public class msg_servo_output_raw extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").value(time_usec);
+        writer.name("servo1_raw").value(servo1_raw);
+        writer.name("servo2_raw").value(servo2_raw);
+        writer.name("servo3_raw").value(servo3_raw);
+        writer.name("servo4_raw").value(servo4_raw);
+        writer.name("servo5_raw").value(servo5_raw);
+        writer.name("servo6_raw").value(servo6_raw);
+        writer.name("servo7_raw").value(servo7_raw);
+        writer.name("servo8_raw").value(servo8_raw);
+        writer.name("port").value(port);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextLong();
+                break;
+            case "servo1_raw":
+                this.servo1_raw = reader.nextInt();
+                break;
+            case "servo2_raw":
+                this.servo2_raw = reader.nextInt();
+                break;
+            case "servo3_raw":
+                this.servo3_raw = reader.nextInt();
+                break;
+            case "servo4_raw":
+                this.servo4_raw = reader.nextInt();
+                break;
+            case "servo5_raw":
+                this.servo5_raw = reader.nextInt();
+                break;
+            case "servo6_raw":
+                this.servo6_raw = reader.nextInt();
+                break;
+            case "servo7_raw":
+                this.servo7_raw = reader.nextInt();
+                break;
+            case "servo8_raw":
+                this.servo8_raw = reader.nextInt();
+                break;
+            case "port":
+                this.port = (short) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE SIM_STATE PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Status of simulation environment, if used
+*
+* @see SimStateView
 */
 public class msg_sim_state extends MAVLinkMessage{
 
@@ -234,6 +240,125 @@ public class msg_sim_state extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("q1").value(q1);
+        writer.name("q2").value(q2);
+        writer.name("q3").value(q3);
+        writer.name("q4").value(q4);
+        writer.name("roll").value(roll);
+        writer.name("pitch").value(pitch);
+        writer.name("yaw").value(yaw);
+        writer.name("xacc").value(xacc);
+        writer.name("yacc").value(yacc);
+        writer.name("zacc").value(zacc);
+        writer.name("xgyro").value(xgyro);
+        writer.name("ygyro").value(ygyro);
+        writer.name("zgyro").value(zgyro);
+        writer.name("lat").value(lat);
+        writer.name("lon").value(lon);
+        writer.name("alt").value(alt);
+        writer.name("std_dev_horz").value(std_dev_horz);
+        writer.name("std_dev_vert").value(std_dev_vert);
+        writer.name("vn").value(vn);
+        writer.name("ve").value(ve);
+        writer.name("vd").value(vd);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "q1":
+                this.q1 = reader.nextFloat();
+                break;
+            case "q2":
+                this.q2 = reader.nextFloat();
+                break;
+            case "q3":
+                this.q3 = reader.nextFloat();
+                break;
+            case "q4":
+                this.q4 = reader.nextFloat();
+                break;
+            case "roll":
+                this.roll = reader.nextFloat();
+                break;
+            case "pitch":
+                this.pitch = reader.nextFloat();
+                break;
+            case "yaw":
+                this.yaw = reader.nextFloat();
+                break;
+            case "xacc":
+                this.xacc = reader.nextFloat();
+                break;
+            case "yacc":
+                this.yacc = reader.nextFloat();
+                break;
+            case "zacc":
+                this.zacc = reader.nextFloat();
+                break;
+            case "xgyro":
+                this.xgyro = reader.nextFloat();
+                break;
+            case "ygyro":
+                this.ygyro = reader.nextFloat();
+                break;
+            case "zgyro":
+                this.zgyro = reader.nextFloat();
+                break;
+            case "lat":
+                this.lat = reader.nextFloat();
+                break;
+            case "lon":
+                this.lon = reader.nextFloat();
+                break;
+            case "alt":
+                this.alt = reader.nextFloat();
+                break;
+            case "std_dev_horz":
+                this.std_dev_horz = reader.nextFloat();
+                break;
+            case "std_dev_vert":
+                this.std_dev_vert = reader.nextFloat();
+                break;
+            case "vn":
+                this.vn = reader.nextFloat();
+                break;
+            case "ve":
+                this.ve = reader.nextFloat();
+                break;
+            case "vd":
+                this.vd = reader.nextFloat();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,12 +6,18 @@
 
 // MESSAGE SYS_STATUS PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * The general system state. If the system is following the MAVLink standard, the system state is mainly defined by three orthogonal states/modes: The system mode, which is either LOCKED (motors shut down and locked), MANUAL (system under RC control), GUIDED (system with autonomous position control, position setpoint controlled manually) or AUTO (system guided by path/waypoint planner). The NAV_MODE defined the current flight state: LIFTOFF (often an open-loop maneuver), LANDING, WAYPOINTS or VECTOR. This represents the internal navigation state machine. The system status shows wether the system is currently active or not and if an emergency occured. During the CRITICAL and EMERGENCY states the MAV is still considered to be active, but should start emergency procedures autonomously. After a failure occured it should first move from active to critical to allow manual intervention and then move to emergency after a certain timeout.
+*
+* @see SysStatusView
 */
 public class msg_sys_status extends MAVLinkMessage{
 
@@ -162,6 +168,93 @@ public class msg_sys_status extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("onboard_control_sensors_present").value(onboard_control_sensors_present);
+        writer.name("onboard_control_sensors_enabled").value(onboard_control_sensors_enabled);
+        writer.name("onboard_control_sensors_health").value(onboard_control_sensors_health);
+        writer.name("load").value(load);
+        writer.name("voltage_battery").value(voltage_battery);
+        writer.name("current_battery").value(current_battery);
+        writer.name("drop_rate_comm").value(drop_rate_comm);
+        writer.name("errors_comm").value(errors_comm);
+        writer.name("errors_count1").value(errors_count1);
+        writer.name("errors_count2").value(errors_count2);
+        writer.name("errors_count3").value(errors_count3);
+        writer.name("errors_count4").value(errors_count4);
+        writer.name("battery_remaining").value(battery_remaining);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "onboard_control_sensors_present":
+                this.onboard_control_sensors_present = reader.nextLong();
+                break;
+            case "onboard_control_sensors_enabled":
+                this.onboard_control_sensors_enabled = reader.nextLong();
+                break;
+            case "onboard_control_sensors_health":
+                this.onboard_control_sensors_health = reader.nextLong();
+                break;
+            case "load":
+                this.load = reader.nextInt();
+                break;
+            case "voltage_battery":
+                this.voltage_battery = reader.nextInt();
+                break;
+            case "current_battery":
+                this.current_battery = (short) reader.nextInt();
+                break;
+            case "drop_rate_comm":
+                this.drop_rate_comm = reader.nextInt();
+                break;
+            case "errors_comm":
+                this.errors_comm = reader.nextInt();
+                break;
+            case "errors_count1":
+                this.errors_count1 = reader.nextInt();
+                break;
+            case "errors_count2":
+                this.errors_count2 = reader.nextInt();
+                break;
+            case "errors_count3":
+                this.errors_count3 = reader.nextInt();
+                break;
+            case "errors_count4":
+                this.errors_count4 = reader.nextInt();
+                break;
+            case "battery_remaining":
+                this.battery_remaining = (byte) reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
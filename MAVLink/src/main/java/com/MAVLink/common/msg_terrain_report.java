@@ -6,12 +6,18 @@
 
 // MESSAGE TERRAIN_REPORT PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Response from a TERRAIN_CHECK request
+*
+* @see TerrainReportView
 */
 public class msg_terrain_report extends MAVLinkMessage{
 
@@ -108,6 +114,69 @@ public class msg_terrain_report extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("lat").value(lat);
+        writer.name("lon").value(lon);
+        writer.name("terrain_height").value(terrain_height);
+        writer.name("current_height").value(current_height);
+        writer.name("spacing").value(spacing);
+        writer.name("pending").value(pending);
+        writer.name("loaded").value(loaded);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "lat":
+                this.lat = reader.nextInt();
+                break;
+            case "lon":
+                this.lon = reader.nextInt();
+                break;
+            case "terrain_height":
+                this.terrain_height = reader.nextFloat();
+                break;
+            case "current_height":
+                this.current_height = reader.nextFloat();
+                break;
+            case "spacing":
+                this.spacing = reader.nextInt();
+                break;
+            case "pending":
+                this.pending = reader.nextInt();
+                break;
+            case "loaded":
+                this.loaded = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
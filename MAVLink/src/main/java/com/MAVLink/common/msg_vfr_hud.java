@@ -6,12 +6,18 @@
 
 // MESSAGE VFR_HUD PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Metrics typically displayed on a HUD for fixed wing aircraft
+*
+* @see VfrHudView
 */
 public class msg_vfr_hud extends MAVLinkMessage{
 
@@ -99,6 +105,65 @@ public class msg_vfr_hud extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("airspeed").value(airspeed);
+        writer.name("groundspeed").value(groundspeed);
+        writer.name("alt").value(alt);
+        writer.name("climb").value(climb);
+        writer.name("heading").value(heading);
+        writer.name("throttle").value(throttle);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "airspeed":
+                this.airspeed = reader.nextFloat();
+                break;
+            case "groundspeed":
+                this.groundspeed = reader.nextFloat();
+                break;
+            case "alt":
+                this.alt = reader.nextFloat();
+                break;
+            case "climb":
+                this.climb = reader.nextFloat();
+                break;
+            case "heading":
+                this.heading = (short) reader.nextInt();
+                break;
+            case "throttle":
+                this.throttle = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
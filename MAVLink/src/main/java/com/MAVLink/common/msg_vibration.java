@@ -6,12 +6,18 @@
 
 // MESSAGE VIBRATION PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * Vibration levels and accelerometer clipping
+*
+* @see VibrationView
 */
 public class msg_vibration extends MAVLinkMessage{
 
@@ -108,6 +114,69 @@ public class msg_vibration extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("vibration_x").value(vibration_x);
+        writer.name("vibration_y").value(vibration_y);
+        writer.name("vibration_z").value(vibration_z);
+        writer.name("clipping_0").value(clipping_0);
+        writer.name("clipping_1").value(clipping_1);
+        writer.name("clipping_2").value(clipping_2);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "vibration_x":
+                this.vibration_x = reader.nextFloat();
+                break;
+            case "vibration_y":
+                this.vibration_y = reader.nextFloat();
+                break;
+            case "vibration_z":
+                this.vibration_z = reader.nextFloat();
+                break;
+            case "clipping_0":
+                this.clipping_0 = reader.nextLong();
+                break;
+            case "clipping_1":
+                this.clipping_1 = reader.nextLong();
+                break;
+            case "clipping_2":
+                this.clipping_2 = reader.nextLong();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
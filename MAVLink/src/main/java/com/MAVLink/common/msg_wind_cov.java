@@ -6,12 +6,18 @@
 
 // MESSAGE WIND_COV PACKING
 package com.MAVLink.common;
+import java.io.IOException;
+
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
 import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.Messages.MAVLinkPayload;
         
 /**
 * 
+*
+* @see WindCovView
 */
 public class msg_wind_cov extends MAVLinkMessage{
 
@@ -126,6 +132,77 @@ public class msg_wind_cov extends MAVLinkMessage{
         
     }
 
+    /**
+    * Write the message fields as a JSON object
+    *
+    * @param writer The JSON writer
+    */
+    public void writeJSON(MAVLinkJSONWriter writer) {
+        writer.beginObject();
+        writer.name("sysid").value(sysid);
+        writer.name("compid").value(compid);
+        writer.name("msgid").value(msgid);
+        writer.name("time_usec").unsignedValue(time_usec);
+        writer.name("wind_x").value(wind_x);
+        writer.name("wind_y").value(wind_y);
+        writer.name("wind_z").value(wind_z);
+        writer.name("var_horiz").value(var_horiz);
+        writer.name("var_vert").value(var_vert);
+        writer.name("wind_alt").value(wind_alt);
+        writer.name("horiz_accuracy").value(horiz_accuracy);
+        writer.name("vert_accuracy").value(vert_accuracy);
+        writer.endObject();
+    }
+
+    /**
+    * Read the message fields from a JSON object, unknown fields are skipped
+    *
+    * @param reader The JSON reader
+    */
+    public void readJSON(MAVLinkJSONReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "sysid":
+                this.sysid = reader.nextInt();
+                break;
+            case "compid":
+                this.compid = reader.nextInt();
+                break;
+            case "time_usec":
+                this.time_usec = reader.nextUnsignedLong();
+                break;
+            case "wind_x":
+                this.wind_x = reader.nextFloat();
+                break;
+            case "wind_y":
+                this.wind_y = reader.nextFloat();
+                break;
+            case "wind_z":
+                this.wind_z = reader.nextFloat();
+                break;
+            case "var_horiz":
+                this.var_horiz = reader.nextFloat();
+                break;
+            case "var_vert":
+                this.var_vert = reader.nextFloat();
+                break;
+            case "wind_alt":
+                this.wind_alt = reader.nextFloat();
+                break;
+            case "horiz_accuracy":
+                this.horiz_accuracy = reader.nextFloat();
+                break;
+            case "vert_accuracy":
+                this.vert_accuracy = reader.nextFloat();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
     /**
     * Constructor for a new message, just initializes the msgid
     */
@@ -6,17 +6,45 @@
 
 package com.MAVLink.standard;
 
+import java.nio.ByteBuffer;
+
 /**
 * X.25 CRC calculation for MAVlink messages. The checksum must be initialized,
 * updated with witch field of the message, and then finished with the message
 * id.
 *
+* The checksum (CRC-16/MCRF4XX) is calculated using 256-entry lookup tables.
+* Single bytes are hashed with one table lookup, arrays are hashed four bytes
+* at a time (slicing-by-4).
+*
 */
 public class CRC {
     private static final int[] MAVLINK_MESSAGE_CRCS = {50, 124, 137, 0, 237, 217, 104, 119, 0, 0, 0, 89, 0, 0, 0, 0, 0, 0, 0, 0, 214, 159, 220, 168, 24, 23, 170, 144, 67, 115, 39, 246, 185, 104, 237, 244, 222, 212, 9, 254, 230, 28, 28, 132, 221, 232, 11, 153, 41, 39, 78, 196, 0, 0, 15, 3, 0, 0, 0, 0, 0, 167, 183, 119, 191, 118, 148, 21, 0, 243, 124, 0, 0, 38, 20, 158, 152, 143, 0, 0, 0, 106, 49, 22, 143, 140, 5, 150, 0, 231, 183, 63, 54, 47, 0, 0, 0, 0, 0, 0, 175, 102, 158, 208, 56, 93, 138, 108, 32, 185, 84, 34, 174, 124, 237, 4, 76, 128, 56, 116, 134, 237, 203, 250, 87, 203, 220, 25, 226, 46, 29, 223, 85, 6, 229, 203, 1, 195, 109, 168, 181, 47, 72, 131, 127, 0, 103, 154, 178, 200, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 163, 105, 151, 35, 150, 0, 0, 0, 0, 0, 0, 90, 104, 85, 95, 130, 184, 81, 8, 204, 49, 170, 44, 83, 46, 0};
     private static final int CRC_INIT_VALUE = 0xffff;
+    private static final int CRC_POLYNOMIAL = 0x8408; // reflected 0x1021
+    private static final int[] CRC_TABLE = new int[256];
+    // CRC_TABLE_N[i] is CRC of byte i followed by N zero bytes
+    private static final int[] CRC_TABLE_1 = new int[256];
+    private static final int[] CRC_TABLE_2 = new int[256];
+    private static final int[] CRC_TABLE_3 = new int[256];
     private int crcValue;
 
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ CRC_POLYNOMIAL : crc >>> 1;
+            }
+            CRC_TABLE[i] = crc;
+        }
+
+        for (int i = 0; i < 256; i++) {
+            CRC_TABLE_1[i] = (CRC_TABLE[i] >>> 8) ^ CRC_TABLE[CRC_TABLE[i] & 0xff];
+            CRC_TABLE_2[i] = (CRC_TABLE_1[i] >>> 8) ^ CRC_TABLE[CRC_TABLE_1[i] & 0xff];
+            CRC_TABLE_3[i] = (CRC_TABLE_2[i] >>> 8) ^ CRC_TABLE[CRC_TABLE_2[i] & 0xff];
+        }
+    }
+
     /**
     * Accumulate the X.25 CRC by adding one char at a time.
     *
@@ -27,10 +55,56 @@ public class CRC {
     *            new char to hash
     **/
     public  void update_checksum(int data) {
-        data = data & 0xff; //cast because we want an unsigned type
-        int tmp = data ^ (crcValue & 0xff);
-        tmp ^= (tmp << 4) & 0xff;
-        crcValue = ((crcValue >> 8) & 0xff) ^ (tmp << 8) ^ (tmp << 3) ^ ((tmp >> 4) & 0xf);
+        crcValue = (crcValue >>> 8) ^ CRC_TABLE[(crcValue ^ data) & 0xff];
+    }
+
+    /**
+    * Accumulate the X.25 CRC of the specified bytes.
+    *
+    * @param data
+    *            array with bytes to hash
+    * @param off
+    *            offset of the first byte
+    * @param len
+    *            number of bytes to hash
+    */
+    public void update(byte[] data, int off, int len) {
+        int crc = crcValue;
+        int i = off;
+        final int end = off + len;
+
+        for (; i + 4 <= end; i += 4) {
+            int x = crc ^ ((data[i] & 0xff) | (data[i + 1] & 0xff) << 8);
+            crc = CRC_TABLE_3[x & 0xff] ^ CRC_TABLE_2[(x >>> 8) & 0xff] ^
+                  CRC_TABLE_1[data[i + 2] & 0xff] ^ CRC_TABLE[data[i + 3] & 0xff];
+        }
+
+        for (; i < end; i++) {
+            crc = (crc >>> 8) ^ CRC_TABLE[(crc ^ data[i]) & 0xff];
+        }
+
+        crcValue = crc;
+    }
+
+    /**
+    * Accumulate the X.25 CRC of the remaining bytes of the buffer. The buffer
+    * position is advanced to its limit.
+    *
+    * @param data
+    *            buffer with bytes to hash
+    */
+    public void update(ByteBuffer data) {
+        if (data.hasArray()) {
+            update(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        } else {
+            int crc = crcValue;
+            final int limit = data.limit();
+            for (int i = data.position(); i < limit; i++) {
+                crc = (crc >>> 8) ^ CRC_TABLE[(crc ^ data.get(i)) & 0xff];
+            }
+            crcValue = crc;
+        }
+        data.position(data.limit());
     }
 
     /**
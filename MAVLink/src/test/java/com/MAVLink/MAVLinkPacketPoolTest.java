@@ -0,0 +1,262 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.MAVLink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.MAVLink.common.msg_command_long;
+import com.MAVLink.common.msg_heartbeat;
+import com.MAVLink.common.msg_high_latency;
+import com.MAVLink.common.msg_param_set;
+
+public class MAVLinkPacketPoolTest {
+
+    private static final int PACKETS = 1000;
+
+    @Test
+    public void testPooledParser() throws IOException {
+        List<MAVLinkPacket> expected = new ArrayList<MAVLinkPacket>();
+        byte[] stream = recordStream(expected, true);
+
+        MAVLinkPacketPool pool = new MAVLinkPacketPool(4, true);
+        Parser parser = new Parser();
+        parser.setPacketPool(pool);
+
+        final List<byte[]> received = new ArrayList<byte[]>();
+        final List<MAVLinkPacket> instances = new ArrayList<MAVLinkPacket>();
+
+        for (int pos = 0; pos < stream.length; pos += 100) {
+            int n = Math.min(100, stream.length - pos);
+            parser.parse(ByteBuffer.wrap(stream, pos, n), new Parser.PacketHandler() {
+                @Override
+                public void onPacket(MAVLinkPacket packet) {
+                    received.add(packet.encodePacket());
+                    if (!instances.contains(packet)) {
+                        instances.add(packet);
+                    }
+                    packet.release();
+                }
+            });
+        }
+
+        assertSameFrames(expected, received);
+        assertEquals(1, instances.size());
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(0, pool.getOutstandingCount());
+    }
+
+    @Test
+    public void testBytewisePooledParser() throws IOException {
+        List<MAVLinkPacket> expected = new ArrayList<MAVLinkPacket>();
+        byte[] stream = recordStream(expected, false);
+
+        MAVLinkPacketPool pool = new MAVLinkPacketPool(4, true);
+        Parser parser = new Parser();
+        parser.setPacketPool(pool);
+
+        List<byte[]> received = new ArrayList<byte[]>();
+
+        for (byte b : stream) {
+            MAVLinkPacket packet = parser.mavlink_parse_char(b & 0xFF);
+            if (packet != null) {
+                received.add(packet.encodePacket());
+                packet.release();
+            }
+        }
+
+        assertSameFrames(expected, received);
+        assertEquals(0, pool.getOutstandingCount());
+    }
+
+    @Test
+    public void testZeroCopyParser() throws IOException {
+        List<MAVLinkPacket> expected = new ArrayList<MAVLinkPacket>();
+        byte[] stream = recordStream(expected, true);
+
+        Parser parser = new Parser();
+        parser.setZeroCopy(true);
+
+        final List<byte[]> received = new ArrayList<byte[]>();
+        final List<MAVLinkPacket> copies = new ArrayList<MAVLinkPacket>();
+        final MAVLinkPacket[] view = new MAVLinkPacket[1];
+
+        for (int pos = 0; pos < stream.length; pos += 77) {
+            int n = Math.min(77, stream.length - pos);
+            parser.parse(ByteBuffer.wrap(stream, pos, n), new Parser.PacketHandler() {
+                @Override
+                public void onPacket(MAVLinkPacket packet) {
+                    if (view[0] == null) {
+                        view[0] = packet;
+                    }
+                    assertSame(view[0], packet);
+                    received.add(packet.encodePacket());
+                    copies.add(packet.copy());
+                }
+            });
+        }
+
+        assertSameFrames(expected, received);
+
+        List<byte[]> copied = new ArrayList<byte[]>();
+        for (MAVLinkPacket packet : copies) {
+            assertNotSame(view[0], packet);
+            copied.add(packet.encodePacket());
+        }
+
+        assertSameFrames(expected, copied);
+
+        try {
+            parser.parse(ByteBuffer.wrap(stream));
+            fail("Zero-copy packets must not be collected.");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDoubleRelease() {
+        MAVLinkPacketPool pool = new MAVLinkPacketPool(4, false);
+        MAVLinkPacket packet = pool.acquire(10);
+        packet.release();
+
+        try {
+            packet.release();
+            fail("Double release must be rejected.");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+
+        assertEquals(1, pool.getIdleCount());
+        assertSame(packet, pool.acquire(20));
+        assertEquals(20, packet.len);
+        assertEquals(0, packet.payload.size());
+    }
+
+    @Test
+    public void testPoolCapacity() {
+        MAVLinkPacketPool pool = new MAVLinkPacketPool(2, false);
+        List<MAVLinkPacket> packets = new ArrayList<MAVLinkPacket>();
+
+        for (int i = 0; i < 5; i++) {
+            packets.add(pool.acquire(i));
+        }
+
+        for (MAVLinkPacket packet : packets) {
+            packet.release();
+        }
+
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(-1, pool.getOutstandingCount());
+    }
+
+    @Test
+    public void testLeakDetection() {
+        MAVLinkPacketPool pool = new MAVLinkPacketPool(4, true);
+        assertTrue(pool.isLeakDetectionEnabled());
+
+        MAVLinkPacket released = pool.acquire(1);
+        pool.acquire(2);
+        released.release();
+
+        assertEquals(1, pool.getOutstandingCount());
+        assertEquals(1, pool.getLeaks().size());
+        assertTrue(pool.getLeaks().get(0).getStackTrace().length > 0);
+
+        assertFalse(new MAVLinkPacketPool(4, false).isLeakDetectionEnabled());
+    }
+
+    private static byte[] recordStream(List<MAVLinkPacket> packets, boolean garbage) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        for (int i = 0; i < PACKETS; i++) {
+            MAVLinkPacket packet;
+
+            switch (i % 4) {
+            case 0: {
+                msg_high_latency msg = new msg_high_latency();
+                msg.latitude = i * 1000;
+                msg.longitude = -i * 1000;
+                packet = msg.pack();
+                break;
+            }
+            case 1: {
+                msg_command_long msg = new msg_command_long();
+                msg.command = i;
+                msg.param1 = i / 10.0f;
+                packet = msg.pack();
+                break;
+            }
+            case 2: {
+                msg_param_set msg = new msg_param_set();
+                msg.setParam_Id("PARAM_" + i);
+                msg.param_value = i;
+                packet = msg.pack();
+                break;
+            }
+            default:
+                packet = new msg_heartbeat().pack();
+            }
+
+            packet.seq = i & 0xFF;
+
+            if (garbage && i % 9 == 0) {
+                // Garbage that looks like a start of packet
+                stream.write(MAVLinkPacket.MAVLINK_STX);
+                stream.write(0x10);
+            }
+
+            stream.write(packet.encodePacket());
+            packets.add(packet);
+        }
+
+        // Flush a false start of packet waiting for more bytes
+        stream.write(new byte[MAVLinkPacket.MAX_PACKET_LENGTH]);
+
+        return stream.toByteArray();
+    }
+
+    private static void assertSameFrames(List<MAVLinkPacket> expected, List<byte[]> received) {
+        assertEquals(expected.size(), received.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue("Packet " + i, Arrays.equals(expected.get(i).encodePacket(), received.get(i)));
+        }
+    }
+
+}
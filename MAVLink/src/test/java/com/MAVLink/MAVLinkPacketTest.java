@@ -0,0 +1,180 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.MAVLink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPayload;
+import com.MAVLink.common.CommandLongView;
+import com.MAVLink.common.msg_command_long;
+import com.MAVLink.common.msg_heartbeat;
+import com.MAVLink.common.msg_mission_item_int;
+import com.MAVLink.common.msg_param_set;
+
+public class MAVLinkPacketTest {
+
+    @Test
+    public void testUnpackIsMemoized() {
+        msg_command_long msg = new msg_command_long();
+        msg.command = 400;
+        MAVLinkPacket packet = msg.pack();
+
+        MAVLinkMessage first = packet.unpack();
+        assertEquals(400, ((msg_command_long) first).command);
+        assertSame(first, packet.unpack());
+    }
+
+    @Test
+    public void testUnpackInvalidatedOnModification() {
+        msg_command_long msg = new msg_command_long();
+        msg.command = 400;
+        MAVLinkPacket packet = msg.pack();
+        MAVLinkMessage first = packet.unpack();
+
+        packet.sysid = 7;
+        MAVLinkMessage second = packet.unpack();
+        assertNotSame(first, second);
+        assertEquals(7, second.sysid);
+
+        msg.command = 500;
+        byte[] data = msg.pack().payload.getData().array();
+        packet.payload.clear();
+        packet.payload.getData().put(data, 0, msg_command_long.MAVLINK_MSG_LENGTH);
+        MAVLinkMessage third = packet.unpack();
+        assertNotSame(second, third);
+        assertEquals(500, ((msg_command_long) third).command);
+
+        packet.msgid = msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT;
+        assertEquals(msg_heartbeat.class, packet.unpack().getClass());
+    }
+
+    @Test
+    public void testUnpackAllMessageIds() {
+        int known = 0;
+
+        for (int msgid = 0; msgid < 256; msgid++) {
+            MAVLinkPacket packet = new MAVLinkPacket(MAVLinkPayload.MAX_PAYLOAD_SIZE);
+            packet.msgid = msgid;
+
+            MAVLinkMessage msg = packet.unpack();
+            if (msg != null) {
+                assertEquals(msgid, msg.msgid);
+                known++;
+            }
+        }
+
+        assertEquals(136, known);
+
+        MAVLinkPacket packet = new MAVLinkPacket(0);
+        packet.msgid = 1000;
+        assertNull(packet.unpack());
+        assertNotNull(new msg_heartbeat().pack().unpack());
+    }
+
+    @Test
+    public void testMavlink2Truncation() {
+        msg_param_set msg = new msg_param_set();
+        msg.setParam_Id("WP_RADIUS");
+        msg.param_value = 2.0f;
+        MAVLinkPacket packet = msg.pack();
+
+        MAVLinkPacket packet2 = packet.toMavlink2();
+        byte[] data = packet2.encodePacket();
+
+        assertEquals(MAVLinkPacket.MAVLINK_STX_MAVLINK2, data[0] & 0xFF);
+        // The padding of param_id and zero param_type are truncated
+        assertEquals(4 + 2 + "WP_RADIUS".length(), data[1] & 0xFF);
+        assertEquals(MAVLinkPacket.HEADER_LENGTH_MAVLINK2 + 15 + MAVLinkPacket.CHECKSUM_LENGTH, data.length);
+        assertEquals(data.length, packet2.getEncodedLength());
+        assertTrue(data.length < packet.getEncodedLength());
+
+        // The original packet is not changed
+        assertEquals(MAVLinkPacket.MAVLINK_STX, packet.encodePacket()[0] & 0xFF);
+    }
+
+    @Test
+    public void testMavlink2RoundTrip() {
+        MAVLinkPacket[] packets = new MAVLinkPacket[3];
+
+        msg_mission_item_int mission = new msg_mission_item_int();
+        mission.seq = 3;
+        mission.x = 473977420;
+        mission.y = 85455940;
+        packets[0] = mission.pack();
+
+        msg_param_set param = new msg_param_set();
+        param.setParam_Id("WP_RADIUS");
+        param.param_value = 2.0f;
+        packets[1] = param.pack();
+
+        // All zero payload is truncated to one byte
+        packets[2] = new msg_heartbeat().pack();
+
+        for (MAVLinkPacket packet : packets) {
+            packet.seq = 17;
+            packet.sysid = 1;
+            packet.compid = 1;
+
+            byte[] data = packet.toMavlink2().encodePacket();
+            Parser parser = new Parser();
+            List<MAVLinkPacket> received = parser.parse(ByteBuffer.wrap(data));
+
+            assertEquals(1, received.size());
+            MAVLinkPacket packet2 = received.get(0);
+            assertTrue(packet2.isMavlink2);
+            assertEquals(packet.msgid, packet2.msgid);
+            assertEquals(17, packet2.seq);
+            assertEquals(packet.unpack().getClass(), packet2.unpack().getClass());
+
+            // Translation back to MAVLink 1 restores the original frame
+            assertTrue(Arrays.equals(packet.encodePacket(), packet2.toMavlink1().encodePacket()));
+        }
+    }
+
+    @Test
+    public void testMavlink2Views() {
+        msg_command_long msg = new msg_command_long();
+        msg.command = 400;
+        MAVLinkPacket packet = msg.pack();
+
+        MAVLinkPacket packet2 = new Parser().parse(ByteBuffer.wrap(packet.toMavlink2().encodePacket())).get(0);
+        assertTrue(packet2.payload.size() < msg_command_long.MAVLINK_MSG_LENGTH);
+        assertEquals(400, CommandLongView.command(packet2.payload));
+        assertEquals(0, CommandLongView.confirmation(packet2.payload));
+    }
+
+}
@@ -0,0 +1,284 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.MAVLink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.MAVLink.common.msg_command_long;
+import com.MAVLink.common.msg_heartbeat;
+import com.MAVLink.common.msg_high_latency;
+import com.MAVLink.common.msg_param_set;
+
+public class ParserTest {
+
+    // HIGH_LATENCY message recorded from SPL RadioRoom
+    private static final String RECORDED_PACKET = "fe28010101ea04000000242c4f14d4f32cbac1fe78fe527d6829d301d4e5010081001700000000090400000000018099";
+
+    private static final int THREADS = 8;
+    private static final int PACKETS_PER_STREAM = 5000;
+
+    @Test
+    public void testParseRecordedPacket() {
+        Parser parser = new Parser();
+
+        List<MAVLinkPacket> packets = parser.parse(ByteBuffer.wrap(decodeHex(RECORDED_PACKET)));
+
+        assertEquals(1, packets.size());
+        assertEquals(msg_high_latency.MAVLINK_MSG_ID_HIGH_LATENCY, packets.get(0).msgid);
+        assertEquals(1, packets.get(0).sysid);
+    }
+
+    @Test
+    public void testParseSplitAndCorruptedStream() throws IOException {
+        Random random = new Random(1);
+        List<MAVLinkPacket> expected = new ArrayList<MAVLinkPacket>();
+        byte[] stream = recordStream(1, random, expected, true);
+
+        Parser parser = new Parser();
+        List<MAVLinkPacket> received = new ArrayList<MAVLinkPacket>();
+
+        int pos = 0;
+        while (pos < stream.length) {
+            int n = Math.min(stream.length - pos, 1 + random.nextInt(300));
+            received.addAll(parser.parse(ByteBuffer.wrap(stream, pos, n)));
+            pos += n;
+        }
+
+        assertSamePackets(expected, received);
+    }
+
+    /**
+     * Runs parsers in parallel threads over different streams and checks that
+     * each parser yields exactly the packets of its own stream.
+     */
+    @Test
+    public void testConcurrentParsers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS * 2);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> results = new ArrayList<Future<?>>();
+
+            for (int i = 0; i < THREADS * 2; i++) {
+                final int sysid = i + 1;
+                final boolean bytewise = i % 2 == 0;
+
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        List<MAVLinkPacket> expected = new ArrayList<MAVLinkPacket>();
+                        byte[] stream = recordStream(sysid, new Random(sysid), expected, false);
+
+                        start.await();
+
+                        Parser parser = new Parser();
+                        List<MAVLinkPacket> received = new ArrayList<MAVLinkPacket>();
+
+                        if (bytewise) {
+                            for (byte b : stream) {
+                                MAVLinkPacket packet = parser.mavlink_parse_char(b & 0xFF);
+                                if (packet != null) {
+                                    received.add(packet);
+                                }
+                            }
+                        } else {
+                            for (int pos = 0; pos < stream.length; pos += 64) {
+                                int n = Math.min(64, stream.length - pos);
+                                received.addAll(parser.parse(ByteBuffer.wrap(stream, pos, n)));
+                            }
+                        }
+
+                        assertSamePackets(expected, received);
+                        assertEquals(expected.size(), parser.stats.receivedPacketCount);
+                        return null;
+                    }
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parses mixed stream of MAVLink 1 and MAVLink 2 packets byte by byte and
+     * in chunks. Signed MAVLink 2 packets are dropped.
+     */
+    @Test
+    public void testParseMavlink2Stream() throws IOException {
+        Random random = new Random(2);
+        List<MAVLinkPacket> expected = new ArrayList<MAVLinkPacket>();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        for (int i = 0; i < 1000; i++) {
+            msg_command_long msg = new msg_command_long();
+            msg.command = random.nextInt(0xFFFF);
+            msg.param1 = random.nextFloat();
+            MAVLinkPacket packet = msg.pack();
+            packet.seq = i & 0xFF;
+
+            if (i % 2 == 0) {
+                packet = packet.toMavlink2();
+            }
+
+            if (i % 5 == 0) {
+                MAVLinkPacket signed = packet.toMavlink2().copy();
+                signed.incompatFlags = MAVLinkPacket.MAVLINK_IFLAG_SIGNED;
+                stream.write(signed.encodePacket());
+                stream.write(new byte[MAVLinkPacket.SIGNATURE_LENGTH]);
+            }
+
+            stream.write(packet.encodePacket());
+            expected.add(packet);
+        }
+
+        byte[] data = stream.toByteArray();
+
+        Parser parser = new Parser();
+        List<MAVLinkPacket> received = new ArrayList<MAVLinkPacket>();
+        for (int pos = 0; pos < data.length; pos += 100) {
+            received.addAll(parser.parse(ByteBuffer.wrap(data, pos, Math.min(100, data.length - pos))));
+        }
+
+        assertSamePackets(expected, received);
+
+        parser = new Parser();
+        received.clear();
+        for (byte b : data) {
+            MAVLinkPacket packet = parser.mavlink_parse_char(b & 0xFF);
+            if (packet != null) {
+                received.add(packet);
+            }
+        }
+
+        assertSamePackets(expected, received);
+    }
+
+    private static byte[] recordStream(int sysid, Random random, List<MAVLinkPacket> packets, boolean corrupt) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        for (int i = 0; i < PACKETS_PER_STREAM; i++) {
+            MAVLinkPacket packet;
+
+            switch (i % 4) {
+            case 0: {
+                msg_high_latency msg = new msg_high_latency();
+                msg.latitude = random.nextInt();
+                msg.longitude = random.nextInt();
+                packet = msg.pack();
+                break;
+            }
+            case 1: {
+                msg_command_long msg = new msg_command_long();
+                msg.command = random.nextInt(0xFFFF);
+                msg.param1 = random.nextFloat();
+                packet = msg.pack();
+                break;
+            }
+            case 2: {
+                msg_param_set msg = new msg_param_set();
+                msg.setParam_Id("PARAM_" + i);
+                msg.param_value = random.nextFloat();
+                packet = msg.pack();
+                break;
+            }
+            default:
+                packet = new msg_heartbeat().pack();
+            }
+
+            packet.sysid = sysid;
+            packet.seq = i & 0xFF;
+
+            byte[] data = packet.encodePacket();
+
+            if (corrupt && i % 7 == 0) {
+                // Garbage that looks like a start of packet
+                stream.write(MAVLinkPacket.MAVLINK_STX);
+                stream.write(random.nextInt(256));
+            }
+
+            if (corrupt && i % 11 == 0) {
+                // Packet with a broken checksum
+                byte[] broken = data.clone();
+                broken[broken.length - 3] ^= 0x01;
+                stream.write(broken);
+            }
+
+            stream.write(data);
+            packets.add(packet);
+        }
+
+        if (corrupt) {
+            // A false start of packet may wait for up to a full frame length
+            // of following bytes before its checksum is rejected.
+            stream.write(new byte[263]);
+        }
+
+        return stream.toByteArray();
+    }
+
+    private static void assertSamePackets(List<MAVLinkPacket> expected, List<MAVLinkPacket> received) {
+        assertEquals(expected.size(), received.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            MAVLinkPacket e = expected.get(i);
+            MAVLinkPacket r = received.get(i);
+            assertNotNull(r);
+            assertEquals(e.msgid, r.msgid);
+            assertEquals(e.sysid, r.sysid);
+            assertEquals(e.seq, r.seq);
+            assertEquals(ByteBuffer.wrap(e.encodePacket()), ByteBuffer.wrap(r.encodePacket()));
+        }
+    }
+
+    private static byte[] decodeHex(String hex) {
+        byte[] data = new byte[hex.length() / 2];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return data;
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.MAVLink.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
+import com.MAVLink.Messages.MAVLinkMessage;
+
+public class MessageJSONTest {
+
+    @Test
+    public void testHighLatencyJSON() throws IOException {
+        msg_high_latency msg = new msg_high_latency();
+        msg.sysid = 1;
+        msg.compid = 2;
+        msg.latitude = 473977420;
+        msg.longitude = -85455940;
+        msg.altitude_amsl = 584;
+        msg.airspeed = 12;
+
+        String json = MAVLinkJSONWriter.toJSON(msg);
+
+        assertTrue(json, json.startsWith("{\"sysid\":1,\"compid\":2,\"msgid\":234,"));
+        assertTrue(json, json.contains("\"latitude\":473977420,"));
+        assertTrue(json, json.contains("\"longitude\":-85455940,"));
+
+        msg_high_latency result = (msg_high_latency) MAVLinkJSONReader.fromJSON(msg_high_latency.MAVLINK_MSG_ID_HIGH_LATENCY, json);
+
+        assertEquals(1, result.sysid);
+        assertEquals(2, result.compid);
+        assertEquals(msg.latitude, result.latitude);
+        assertEquals(msg.longitude, result.longitude);
+        assertEquals(msg.altitude_amsl, result.altitude_amsl);
+        assertEquals(msg.airspeed, result.airspeed);
+    }
+
+    @Test
+    public void testStringsAndUnsignedValues() throws IOException {
+        msg_statustext text = new msg_statustext();
+        text.setText("Say \"hi\"\\\n");
+
+        String json = MAVLinkJSONWriter.toJSON(text);
+        assertTrue(json, json.contains("\"text\":\"Say \\\"hi\\\"\\\\\\n\""));
+
+        msg_statustext textResult = (msg_statustext) MAVLinkJSONReader.fromJSON(msg_statustext.MAVLINK_MSG_ID_STATUSTEXT, json);
+        assertEquals(text.getText(), textResult.getText());
+
+        msg_system_time time = new msg_system_time();
+        time.time_unix_usec = -1L;
+
+        json = MAVLinkJSONWriter.toJSON(time);
+        assertTrue(json, json.contains("\"time_unix_usec\":18446744073709551615"));
+
+        msg_system_time timeResult = (msg_system_time) MAVLinkJSONReader.fromJSON(msg_system_time.MAVLINK_MSG_ID_SYSTEM_TIME, json);
+        assertEquals(-1L, timeResult.time_unix_usec);
+    }
+
+    @Test
+    public void testReadJSON() throws IOException {
+        String json = " { \"unknown\" : { \"a\" : [1, 2.5e3, null, true] } , \"param_value\" : 1.5E2,"
+                    + " \"param_id\" : \"A\\u0042C\", \"param_type\" : null, \"param_count\" : 10.0 } ";
+
+        msg_param_value msg = (msg_param_value) MAVLinkJSONReader.fromJSON(msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE, json);
+
+        assertEquals(150.0f, msg.param_value, 0.0f);
+        assertEquals("ABC", msg.getParam_Id());
+        assertEquals(0, msg.param_type);
+        assertEquals(10, msg.param_count);
+
+        assertNull(MAVLinkJSONReader.fromJSON(3, "{}"));
+
+        Map<?, ?> map = (Map<?, ?>) new MAVLinkJSONReader(json).nextValue();
+        assertEquals(Arrays.asList(1L, 2500.0, null, true), ((Map<?, ?>) map.get("unknown")).get("a"));
+        assertEquals("ABC", map.get("param_id"));
+
+        try {
+            MAVLinkJSONReader.fromJSON(msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE, "{\"param_value\":}");
+            fail("Malformed JSON accepted.");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Checks that for every message writing the JSON of a message read from
+     * the JSON of a random message yields the same JSON.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        Random random = new Random(1);
+        int messages = 0;
+
+        for (int msgid = 0; msgid < 256; msgid++) {
+            int length = MAVLinkPacket.getMessageLength(msgid);
+            if (length < 0) {
+                continue;
+            }
+
+            MAVLinkPacket packet = new MAVLinkPacket(length);
+            packet.msgid = msgid;
+            packet.sysid = random.nextInt(256);
+            packet.compid = random.nextInt(256);
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            packet.payload.getData().put(data);
+
+            MAVLinkMessage msg = packet.unpack();
+            String json = MAVLinkJSONWriter.toJSON(msg);
+
+            MAVLinkMessage result = MAVLinkJSONReader.fromJSON(msgid, json);
+
+            assertEquals(msg.getClass(), result.getClass());
+            assertEquals(json, MAVLinkJSONWriter.toJSON(result));
+
+            messages++;
+        }
+
+        assertTrue(messages > 100);
+    }
+
+    @Test
+    public void testWriterReuse() {
+        MAVLinkJSONWriter writer = new MAVLinkJSONWriter();
+
+        new msg_heartbeat().writeJSON(writer);
+        String first = writer.toString();
+
+        writer.reset();
+        new msg_heartbeat().writeJSON(writer);
+
+        assertEquals(first, writer.toString());
+    }
+
+}
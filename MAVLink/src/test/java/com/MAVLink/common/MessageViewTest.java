@@ -0,0 +1,137 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.MAVLink.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.Messages.MAVLinkPayload;
+
+public class MessageViewTest {
+
+    @Test
+    public void testHighLatencyView() {
+        msg_high_latency msg = new msg_high_latency();
+        msg.latitude = 473977420;
+        msg.longitude = 85455940;
+        msg.heading = 35999;
+        msg.throttle = -5;
+        msg.wp_num = 12;
+
+        MAVLinkPayload payload = msg.pack().payload;
+
+        assertEquals(msg.latitude, HighLatencyView.latitude(payload));
+        assertEquals(msg.longitude, HighLatencyView.longitude(payload));
+        assertEquals(msg.heading, HighLatencyView.heading(payload));
+        assertEquals(msg.throttle, HighLatencyView.throttle(payload));
+        assertEquals(msg.wp_num, HighLatencyView.wp_num(payload));
+        assertEquals(0, payload.index);
+    }
+
+    @Test
+    public void testParamSetView() {
+        msg_param_set msg = new msg_param_set();
+        msg.setParam_Id("WPNAV_SPEED");
+        msg.param_value = 500.0f;
+
+        MAVLinkPayload payload = msg.pack().payload;
+
+        assertEquals("WPNAV_SPEED", ParamSetView.getParam_Id(payload));
+        assertEquals((byte) 'W', ParamSetView.param_id(payload, 0));
+        assertEquals(500.0f, ParamSetView.param_value(payload), 0.0f);
+    }
+
+    /**
+     * Checks that for every message each view accessor returns the same value
+     * as the corresponding field of the unpacked message.
+     */
+    @Test
+    public void testViewsMatchUnpack() throws Exception {
+        Random random = new Random(1);
+        int views = 0;
+
+        for (int msgid = 0; msgid < 256; msgid++) {
+            MAVLinkPacket probe = new MAVLinkPacket(MAVLinkPayload.MAX_PAYLOAD_SIZE);
+            probe.msgid = msgid;
+            if (probe.unpack() == null) {
+                continue;
+            }
+
+            Class<?> msgClass = probe.unpack().getClass();
+            int length = msgClass.getField("MAVLINK_MSG_LENGTH").getInt(null);
+
+            MAVLinkPacket packet = new MAVLinkPacket(length);
+            packet.msgid = msgid;
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            packet.payload.getData().put(data);
+
+            MAVLinkMessage msg = packet.unpack();
+            Class<?> viewClass = Class.forName(msgClass.getPackage().getName() + "." + viewName(msgClass));
+
+            for (Method method : viewClass.getDeclaredMethods()) {
+                if (!Modifier.isPublic(method.getModifiers()) || method.getName().startsWith("get")) {
+                    continue;
+                }
+
+                Object field = msgClass.getField(method.getName()).get(msg);
+
+                if (field.getClass().isArray()) {
+                    for (int i = 0; i < Array.getLength(field); i++) {
+                        assertEquals(viewClass.getSimpleName() + "." + method.getName() + "[" + i + "]",
+                                     Array.get(field, i), method.invoke(null, packet.payload, i));
+                    }
+                } else {
+                    assertEquals(viewClass.getSimpleName() + "." + method.getName(),
+                                 field, method.invoke(null, packet.payload));
+                }
+            }
+
+            views++;
+        }
+
+        assertTrue(views > 100);
+    }
+
+    private static String viewName(Class<?> msgClass) {
+        StringBuilder name = new StringBuilder();
+
+        for (String part : msgClass.getSimpleName().substring("msg_".length()).split("_")) {
+            name.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+        }
+
+        return name.append("View").toString();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.MAVLink.standard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CRCTest {
+
+    private static final int FRAME_LENGTH = 263;
+    private static final int FRAMES = 20000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    public void testCheckValue() {
+        // CRC-16/MCRF4XX check value of "123456789"
+        byte[] data = "123456789".getBytes();
+
+        CRC crc = new CRC();
+        crc.update(data, 0, data.length);
+
+        assertEquals(0x6F91, crc.getMSB() << 8 | crc.getLSB());
+    }
+
+    @Test
+    public void testUpdateMatchesBitwise() {
+        Random random = new Random(1);
+
+        for (int n = 0; n < 1000; n++) {
+            byte[] data = new byte[random.nextInt(FRAME_LENGTH)];
+            random.nextBytes(data);
+
+            CRC bytewise = new CRC();
+            for (byte b : data) {
+                bytewise.update_checksum(b);
+            }
+
+            CRC array = new CRC();
+            array.update(data, 0, data.length);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+            direct.put(data);
+            direct.flip();
+            CRC buffer = new CRC();
+            buffer.update(direct);
+
+            int expected = bitwise(data);
+            assertEquals(expected, value(bytewise));
+            assertEquals(expected, value(array));
+            assertEquals(expected, value(buffer));
+            assertEquals(0, direct.remaining());
+        }
+    }
+
+    /**
+     * Compares throughput of the table-driven CRC with the bit-twiddling 
+     * implementation it replaced.
+     * Runs only with -Dbenchmark=true.
+     */
+    @Test
+    public void benchmarkCRC() {
+        assumeTrue(Boolean.getBoolean("benchmark"));
+
+        byte[] frame = new byte[FRAME_LENGTH];
+        new Random(1).nextBytes(frame);
+
+        long bitwiseTime = Long.MAX_VALUE;
+        long tableTime = Long.MAX_VALUE;
+        int sink = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < FRAMES; i++) {
+                sink ^= bitwise(frame);
+            }
+            bitwiseTime = Math.min(bitwiseTime, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            CRC crc = new CRC();
+            for (int i = 0; i < FRAMES; i++) {
+                crc.start_checksum();
+                crc.update(frame, 0, frame.length);
+                sink ^= value(crc);
+            }
+            tableTime = Math.min(tableTime, System.nanoTime() - start);
+        }
+
+        double bytes = (double) FRAMES * FRAME_LENGTH;
+        System.out.printf("CRC BENCHMARK: bitwise %.1f MB/s, table %.1f MB/s, speedup %.2fx (%d)%n",
+                          bytes * 1000.0 / bitwiseTime, bytes * 1000.0 / tableTime,
+                          (double) bitwiseTime / tableTime, sink & 1);
+    }
+
+    private static int value(CRC crc) {
+        return crc.getMSB() << 8 | crc.getLSB();
+    }
+
+    // The original X.25 bit-twiddling implementation
+    private static int bitwise(byte[] data) {
+        int crcValue = 0xffff;
+        for (byte b : data) {
+            int tmp = (b & 0xff) ^ (crcValue & 0xff);
+            tmp ^= (tmp << 4) & 0xff;
+            crcValue = ((crcValue >> 8) & 0xff) ^ (tmp << 8) ^ (tmp << 3) ^ ((tmp >> 4) & 0xf);
+        }
+        return crcValue & 0xffff;
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.mavlink;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of direct byte buffers of the same capacity.
+ * 
+ * Buffers are borrowed for the duration of a single I/O operation and
+ * returned to the pool, so the number of allocated buffers is bounded by
+ * the number of concurrent operations instead of the number of connections.
+ */
+public class ByteBufferPool {
+
+    private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<ByteBuffer>();
+    private final AtomicInteger pooledCount = new AtomicInteger();
+    private final int bufferCapacity;
+    private final int maxPooledBuffers;
+
+    /**
+     * Constructs instance of ByteBufferPool.
+     * 
+     * @param bufferCapacity capacity of the pooled buffers in bytes
+     * @param maxPooledBuffers maximum number of idle buffers kept in the pool
+     */
+    public ByteBufferPool(int bufferCapacity, int maxPooledBuffers) {
+        this.bufferCapacity = bufferCapacity;
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    /**
+     * Takes a cleared buffer from the pool or allocates a new one if the pool is empty.
+     * 
+     * @return direct byte buffer
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferCapacity);
+        }
+
+        pooledCount.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Returns the buffer to the pool. The buffer must not be used after it is released.
+     * 
+     * @param buffer buffer acquired from this pool
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() != bufferCapacity) {
+            return;
+        }
+
+        buffer.clear();
+
+        if (pooledCount.incrementAndGet() <= maxPooledBuffers) {
+            buffers.offer(buffer);
+        } else {
+            pooledCount.decrementAndGet();
+        }
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.mavlink;
+
+import java.util.List;
+import java.util.concurrent.Future;
+
+import com.MAVLink.MAVLinkPacket;
+
+/**
+ * MAVLink channel that can send messages without blocking the caller until
+ * the messages are delivered.
+ */
+public interface MAVLinkAsyncChannel extends MAVLinkChannel {
+
+    /**
+     * Starts sending MAVLink messages to the channel preserving their order.
+     * 
+     * Blocks if the channel has the maximum number of sends in flight.
+     * 
+     * @param packets MAVLink message packets to send.
+     * @return future that completes when the messages are delivered or
+     *         fails with the delivery error
+     * @throws InterruptedException if interrupted while waiting for a free send slot
+     */
+    Future<Void> sendMessagesAsync(List<MAVLinkPacket> packets) throws InterruptedException;
+
+}
@@ -25,6 +25,7 @@ along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
 package com.envirover.mavlink;
 
 import java.io.IOException;
+import java.util.List;
 
 import com.MAVLink.MAVLinkPacket;
 
@@ -50,6 +51,22 @@ public interface MAVLinkChannel {
      */
     void sendMessage(MAVLinkPacket packet) throws IOException;
 
+    /**
+     * Sends a burst of MAVLink messages to the channel preserving their order.
+     * 
+     * @param packets MAVLink message packets to send.
+     * @throws IOException
+     */
+    void sendMessages(List<MAVLinkPacket> packets) throws IOException;
+
+    /**
+     * Sends pre-encoded MAVLink frames to the channel preserving their order.
+     * 
+     * @param frames MAVLink frames to send.
+     * @throws IOException
+     */
+    void sendFrames(MAVLinkFrames frames) throws IOException;
+
     /**
      * Closes the channel.
      */
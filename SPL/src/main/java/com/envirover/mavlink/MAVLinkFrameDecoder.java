@@ -0,0 +1,163 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.mavlink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Parser;
+import com.MAVLink.Messages.MAVLinkStats;
+
+/**
+ * Persistent per-connection MAVLink frame decoder.
+ * 
+ * Reads the connection in large chunks into a reusable buffer and decodes
+ * all the frames available in each chunk. Partially received frames and
+ * resynchronization state are kept between the calls, so no bytes are lost
+ * when a frame spans several reads.
+ * 
+ * The decoder is not thread-safe and must be used by one reader thread.
+ */
+public class MAVLinkFrameDecoder {
+
+    public final static int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final ReadableByteChannel in;
+    private final ByteBuffer buffer;
+    private final Parser parser = new Parser();
+    private final Queue<MAVLinkPacket> packets = new ArrayDeque<MAVLinkPacket>();
+
+    private final Parser.PacketHandler handler = new Parser.PacketHandler() {
+        @Override
+        public void onPacket(MAVLinkPacket packet) {
+            packets.add(packet);
+        }
+    };
+
+    /**
+     * Constructs instance of MAVLinkFrameDecoder that does not read from a
+     * channel. The bytes are read by the caller and passed to {@link #decode}.
+     */
+    public MAVLinkFrameDecoder() {
+        this.in = null;
+        this.buffer = null;
+    }
+
+    /**
+     * Constructs instance of MAVLinkFrameDecoder with default buffer size.
+     * 
+     * @param in channel to read from
+     */
+    public MAVLinkFrameDecoder(ReadableByteChannel in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs instance of MAVLinkFrameDecoder.
+     * 
+     * @param in channel to read from
+     * @param bufferSize size of the read buffer
+     */
+    public MAVLinkFrameDecoder(ReadableByteChannel in, int bufferSize) {
+        this.in = in;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Returns the next decoded packet, reading from the channel until a
+     * packet is completed. The channel must be in blocking mode.
+     * 
+     * @return decoded packet or null if the end of stream is reached
+     * @throws IOException if an I/O error occurs
+     */
+    public MAVLinkPacket receive() throws IOException {
+        MAVLinkPacket packet = packets.poll();
+
+        while (packet == null) {
+            if (read() < 0) {
+                return null;
+            }
+
+            packet = packets.poll();
+        }
+
+        return packet;
+    }
+
+    /**
+     * Reads one chunk of bytes available in the channel and decodes the
+     * frames completed by the chunk. The decoded packets are returned by
+     * {@link #poll()}.
+     * 
+     * @return number of bytes read, possibly zero for non-blocking channels,
+     *         or -1 if the end of stream is reached
+     * @throws IOException if an I/O error occurs
+     */
+    public int read() throws IOException {
+        buffer.clear();
+
+        int n = in.read(buffer);
+
+        if (n > 0) {
+            buffer.flip();
+            parser.parse(buffer, handler);
+        }
+
+        return n;
+    }
+
+    /**
+     * Decodes the frames completed by the bytes remaining in the buffer.
+     * Used when the bytes are read by the caller, for example into a buffer
+     * shared by all the connections of a selector thread. The decoded
+     * packets are returned by {@link #poll()}.
+     * 
+     * @param data bytes read from the connection
+     */
+    public void decode(ByteBuffer data) {
+        parser.parse(data, handler);
+    }
+
+    /**
+     * Returns the next packet decoded by the previous reads.
+     * 
+     * @return decoded packet or null if no packets are available
+     */
+    public MAVLinkPacket poll() {
+        return packets.poll();
+    }
+
+    /**
+     * Returns statistics of the decoded packets and checksum errors.
+     */
+    public MAVLinkStats getStats() {
+        return parser.stats;
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.mavlink;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.standard.CRC;
+
+/**
+ * Immutable sequence of MAVLink packets encoded once and sent to many channels.
+ * 
+ * Each channel only patches its own sequence number into the copied frames. 
+ * The X.25 checksum of a fixed length frame is an affine function of the 
+ * frame bits, so the checksum change caused by each bit of the sequence 
+ * number is precomputed when the frames are encoded and the checksum is 
+ * patched by XOR instead of being recalculated over the whole frame.
+ */
+public class MAVLinkFrames {
+
+    private final List<MAVLinkPacket> packets;
+    private final byte[] data;
+    private final int[] offsets;
+    private final int[] seqOffsets;
+
+    // Checksum changes caused by each of the 8 bits of the sequence number
+    private final int[] seqCrcDeltas;
+
+    /**
+     * Constructs instance of MAVLinkFrames and encodes the packets with zero
+     * sequence numbers.
+     * 
+     * @param packets MAVLink packets
+     */
+    public MAVLinkFrames(List<MAVLinkPacket> packets) {
+        List<MAVLinkPacket> copies = new ArrayList<MAVLinkPacket>(packets.size());
+
+        int length = 0;
+        for (MAVLinkPacket packet : packets) {
+            MAVLinkPacket copy = packet.copy();
+            copy.seq = 0;
+            copies.add(copy);
+            length += copy.getEncodedLength();
+        }
+
+        this.packets = Collections.unmodifiableList(copies);
+        this.data = new byte[length];
+        this.offsets = new int[copies.size() + 1];
+        this.seqOffsets = new int[copies.size()];
+        this.seqCrcDeltas = new int[copies.size() * 8];
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+
+        for (int i = 0; i < copies.size(); i++) {
+            MAVLinkPacket packet = copies.get(i);
+
+            offsets[i] = buffer.position();
+            packet.encodeTo(buffer);
+            offsets[i + 1] = buffer.position();
+
+            seqOffsets[i] = offsets[i] + (packet.isMavlink2 ? 4 : 2);
+
+            int crc = crc(i);
+            for (int bit = 0; bit < 8; bit++) {
+                data[seqOffsets[i]] = (byte) (1 << bit);
+                seqCrcDeltas[i * 8 + bit] = crc(i) ^ crc;
+            }
+            data[seqOffsets[i]] = 0;
+        }
+    }
+
+    /**
+     * Returns number of frames.
+     */
+    public int size() {
+        return packets.size();
+    }
+
+    /**
+     * Returns encoded length of the frame.
+     * 
+     * @param index frame index
+     */
+    public int getLength(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Returns encoded length of all the frames.
+     */
+    public int getLength() {
+        return data.length;
+    }
+
+    /**
+     * Copies the frame into the buffer and patches its sequence number and 
+     * checksum.
+     * 
+     * @param index frame index
+     * @param seq sequence number of the frame
+     * @param dst buffer to write the frame to
+     * @return number of bytes written
+     * @throws BufferOverflowException if the buffer does not have enough space remaining
+     */
+    public int encodeTo(int index, int seq, ByteBuffer dst) {
+        int offset = offsets[index];
+        int length = offsets[index + 1] - offset;
+
+        if (dst.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+
+        int crc = (data[offset + length - 2] & 0xFF) | (data[offset + length - 1] & 0xFF) << 8;
+
+        seq &= 0xFF;
+        for (int bit = 0; bit < 8; bit++) {
+            if ((seq & (1 << bit)) != 0) {
+                crc ^= seqCrcDeltas[index * 8 + bit];
+            }
+        }
+
+        int start = dst.position();
+        dst.put(data, offset, length);
+        dst.put(start + seqOffsets[index] - offset, (byte) seq);
+        dst.put(start + length - 2, (byte) crc);
+        dst.put(start + length - 1, (byte) (crc >>> 8));
+        return length;
+    }
+
+    /**
+     * Returns the packets the frames were encoded from. The packets are 
+     * shared and must not be modified.
+     */
+    public List<MAVLinkPacket> getPackets() {
+        return packets;
+    }
+
+    /**
+     * Returns copies of the packets for the channels that do not send 
+     * pre-encoded frames.
+     */
+    public List<MAVLinkPacket> toPackets() {
+        List<MAVLinkPacket> copies = new ArrayList<MAVLinkPacket>(packets.size());
+
+        for (MAVLinkPacket packet : packets) {
+            copies.add(packet.copy());
+        }
+
+        return copies;
+    }
+
+    // Calculates checksum of the encoded frame
+    private int crc(int index) {
+        CRC crc = new CRC();
+        crc.update(data, offsets[index] + 1, offsets[index + 1] - offsets[index] - 3);
+        crc.finish_checksum(packets.get(index).msgid);
+
+        return crc.getLSB() | crc.getMSB() << 8;
+    }
+
+}
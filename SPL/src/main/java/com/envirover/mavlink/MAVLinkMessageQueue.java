@@ -25,7 +25,15 @@ along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
 package com.envirover.mavlink;
 
 import java.io.IOException;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.log4j.Logger;
 
@@ -33,41 +41,341 @@ import com.MAVLink.MAVLinkPacket;
 
 /**
  * MAVLink message queue channel.
- *
+ * 
+ * Bounded lock-free ring buffer preallocated for the specified number of 
+ * messages. Many client sessions send messages to the queue concurrently and
+ * a message pump takes them. Each slot of the ring has a sequence number that
+ * tells the producers and the consumers whether the slot is free or filled,
+ * so sending and receiving take no locks. A lock is used only to park the 
+ * threads that wait for a message in {@link #take()} or for free space 
+ * with the BLOCK overflow policy.
+ * 
+ * The order of messages sent by the same thread is preserved.
  */
 public class MAVLinkMessageQueue implements MAVLinkChannel {
 
+    /**
+     * Policies applied when a message is sent to the full queue.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the oldest message in the queue.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Drop the sent message.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Wait until a message is taken from the queue.
+         */
+        BLOCK
+    }
+
     private final static Logger logger = Logger.getLogger(MAVLinkMessageQueue.class);
-    
-    private final ConcurrentLinkedQueue<MAVLinkPacket> queue = new ConcurrentLinkedQueue<MAVLinkPacket>(); 
-    private final int maxQueueSize;
+
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final AtomicReferenceArray<MAVLinkPacket> buffer;
+    private final AtomicLongArray sequences;
+
+    // Position of the next slot to take and of the next slot to fill
+    private final PaddedAtomicLong head = new PaddedAtomicLong();
+    private final PaddedAtomicLong tail = new PaddedAtomicLong();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile int highWaterMark = 0;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
 
     /**
-     * Constructs instance of MAVLinkMessageQueue.
+     * Constructs instance of MAVLinkMessageQueue that drops the oldest 
+     * message when the queue is full.
      * 
      * @param size maximum queue size
      */
     public MAVLinkMessageQueue(int size) {
-        this.maxQueueSize = size;
+        this(size, OverflowPolicy.DROP_OLDEST);
     }
 
+    /**
+     * Constructs instance of MAVLinkMessageQueue.
+     * 
+     * @param size maximum queue size
+     * @param policy policy applied when a message is sent to the full queue
+     */
+    public MAVLinkMessageQueue(int size, OverflowPolicy policy) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid queue size.");
+        }
+
+        this.capacity = size;
+        this.policy = policy;
+        this.buffer = new AtomicReferenceArray<MAVLinkPacket>(size);
+        this.sequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Returns the next message without waiting.
+     * 
+     * @return MAVLink message packet or null if the queue is empty
+     */
     @Override
-    public synchronized MAVLinkPacket receiveMessage() throws IOException {
-        return queue.poll();
+    public MAVLinkPacket receiveMessage() throws IOException {
+        return poll();
+    }
+
+    /**
+     * Waits up to the specified time for the next message.
+     * 
+     * @param timeout how long to wait
+     * @param unit unit of the timeout
+     * @return MAVLink message packet or null if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public MAVLinkPacket receiveMessage(long timeout, TimeUnit unit) throws InterruptedException {
+        MAVLinkPacket packet = poll();
+
+        if (packet != null) {
+            return packet;
+        }
+
+        long nanos = unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        waitingConsumers.incrementAndGet();
+
+        try {
+            while ((packet = poll()) == null) {
+                if (nanos <= 0) {
+                    return null;
+                }
+
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            return packet;
+        } finally {
+            waitingConsumers.decrementAndGet();
+            lock.unlock();
+        }
     }
 
+    /**
+     * Waits for the next message.
+     * 
+     * @return MAVLink message packet
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public MAVLinkPacket take() throws InterruptedException {
+        MAVLinkPacket packet = poll();
+
+        if (packet != null) {
+            return packet;
+        }
+
+        lock.lockInterruptibly();
+        waitingConsumers.incrementAndGet();
+
+        try {
+            while ((packet = poll()) == null) {
+                notEmpty.await();
+            }
+
+            return packet;
+        } finally {
+            waitingConsumers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the message to the queue. If the queue is full, the overflow 
+     * policy is applied.
+     */
     @Override
-    public synchronized void sendMessage(MAVLinkPacket packet) throws IOException {
-        if (queue.size() >= maxQueueSize) {
-            queue.poll();
+    public void sendMessage(MAVLinkPacket packet) throws IOException {
+        if (packet == null) {
+            return;
+        }
+
+        if (offer(packet)) {
+            return;
+        }
+
+        switch (policy) {
+        case DROP_NEWEST:
+            droppedCount.incrementAndGet();
             logger.warn("MAVLink message queue is longer than MaxQueueSize.");
+            break;
+        case BLOCK:
+            try {
+                put(packet);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for MAVLink message queue space.");
+            }
+            break;
+        default:
+            do {
+                if (poll() != null) {
+                    droppedCount.incrementAndGet();
+                    logger.warn("MAVLink message queue is longer than MaxQueueSize.");
+                }
+            } while (!offer(packet));
         }
+    }
+
+    @Override
+    public void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+        for (MAVLinkPacket packet : packets) {
+            sendMessage(packet);
+        }
+    }
+
+    @Override
+    public void sendFrames(MAVLinkFrames frames) throws IOException {
+        sendMessages(frames.toPackets());
+    }
 
-        queue.add(packet);
+    /**
+     * Returns number of messages in the queue.
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    /**
+     * Returns maximum queue size.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns number of messages added to the queue.
+     */
+    public long getEnqueuedCount() {
+        return tail.get();
+    }
+
+    /**
+     * Returns number of messages dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the maximum number of messages that were in the queue at once.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
     }
 
     @Override
     public void close() {
     }
 
+    private boolean offer(MAVLinkPacket packet) {
+        while (true) {
+            long pos = tail.get();
+            int index = (int) (pos % capacity);
+            long diff = sequences.get(index) - pos;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.set(index, packet);
+                    // Publishes the message to the consumers
+                    sequences.set(index, pos + 1);
+                    break;
+                }
+            } else if (diff < 0) {
+                // The slot is not taken yet after the previous round
+                return false;
+            }
+        }
+
+        int size = size();
+        if (size > highWaterMark) {
+            highWaterMark = size;
+        }
+
+        if (waitingConsumers.get() > 0) {
+            signal(notEmpty);
+        }
+
+        return true;
+    }
+
+    private MAVLinkPacket poll() {
+        while (true) {
+            long pos = head.get();
+            int index = (int) (pos % capacity);
+            long diff = sequences.get(index) - (pos + 1);
+
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    MAVLinkPacket packet = buffer.get(index);
+                    buffer.set(index, null);
+                    // Frees the slot for the next round of the producers
+                    sequences.set(index, pos + capacity);
+
+                    if (waitingProducers.get() > 0) {
+                        signal(notFull);
+                    }
+
+                    return packet;
+                }
+            } else if (diff < 0) {
+                // The slot is not filled yet
+                return null;
+            }
+        }
+    }
+
+    private void put(MAVLinkPacket packet) throws InterruptedException {
+        lock.lockInterruptibly();
+        waitingProducers.incrementAndGet();
+
+        try {
+            while (!offer(packet)) {
+                notFull.await();
+            }
+        } finally {
+            waitingProducers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    private void signal(Condition condition) {
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Counter that occupies its own cache line, so that the producers 
+     * updating the tail do not invalidate the cache line of the head read 
+     * by the consumer.
+     */
+    @SuppressWarnings("serial")
+    private final static class PaddedAtomicLong extends AtomicLong {
+        volatile long p1, p2, p3, p4, p5, p6 = 7L;
+    }
+
 }
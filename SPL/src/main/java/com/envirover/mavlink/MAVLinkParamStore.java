@@ -0,0 +1,207 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.mavlink;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import com.MAVLink.common.msg_param_value;
+
+/**
+ * Immutable on-board parameters store indexed by both parameter index and 
+ * parameter id. 
+ * 
+ * Parameter ids are matched ignoring case and leading and trailing whitespaces,
+ * the lookups take constant time and allocate nothing. Updates return a new 
+ * store that shares the id index with the original one, so a parameters dump
+ * streamed from an older store is not affected by concurrent updates.
+ */
+public final class MAVLinkParamStore {
+
+    private final msg_param_value[] params;
+
+    // Open addressing hash table of parameter indices + 1, 0 marks empty slot
+    private final int[] slots;
+
+    private final List<msg_param_value> list = new AbstractList<msg_param_value>() {
+        @Override
+        public msg_param_value get(int index) {
+            return params[index];
+        }
+
+        @Override
+        public int size() {
+            return params.length;
+        }
+    };
+
+    private MAVLinkParamStore(msg_param_value[] params, int[] slots) {
+        this.params = params;
+        this.slots = slots;
+    }
+
+    /**
+     * Creates store of the specified parameters. If several parameters have 
+     * the same id, lookups by id return the first one.
+     * 
+     * @param params parameters ordered by index
+     * @return parameters store
+     */
+    public static MAVLinkParamStore of(List<msg_param_value> params) {
+        msg_param_value[] array = params.toArray(new msg_param_value[params.size()]);
+
+        int capacity = 2;
+        while (capacity < array.length * 2) {
+            capacity <<= 1;
+        }
+
+        MAVLinkParamStore store = new MAVLinkParamStore(array, new int[capacity]);
+
+        for (int i = 0; i < array.length; i++) {
+            String id = array[i].getParam_Id().trim();
+            if (store.indexOf(id) < 0) {
+                int slot = hash(id, 0, id.length()) & (capacity - 1);
+                while (store.slots[slot] != 0) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                store.slots[slot] = i + 1;
+            }
+        }
+
+        return store;
+    }
+
+    public int size() {
+        return params.length;
+    }
+
+    /**
+     * Returns parameter with the specified index or null if the index is out of range.
+     */
+    public msg_param_value get(int index) {
+        return index >= 0 && index < params.length ? params[index] : null;
+    }
+
+    /**
+     * Returns parameter with the specified id or null if there is no such parameter.
+     */
+    public msg_param_value get(CharSequence paramId) {
+        int index = indexOf(paramId);
+        return index >= 0 ? params[index] : null;
+    }
+
+    /**
+     * Returns index of the parameter with the specified id.
+     * 
+     * @param paramId parameter id
+     * @return parameter index or -1 if there is no such parameter
+     */
+    public int indexOf(CharSequence paramId) {
+        int start = 0;
+        int end = paramId.length();
+
+        while (start < end && paramId.charAt(start) <= ' ') {
+            start++;
+        }
+
+        while (end > start && paramId.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        for (int slot = hash(paramId, start, end) & (slots.length - 1); slots[slot] != 0; slot = (slot + 1) & (slots.length - 1)) {
+            int index = slots[slot] - 1;
+            if (matches(params[index].param_id, paramId, start, end)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns store with the parameter at the specified index replaced.
+     * 
+     * @param index parameter index
+     * @param param new parameter with the same id
+     * @return new parameters store
+     */
+    public MAVLinkParamStore set(int index, msg_param_value param) {
+        msg_param_value[] copy = params.clone();
+        copy[index] = param;
+        return new MAVLinkParamStore(copy, slots);
+    }
+
+    /**
+     * Returns unmodifiable list view of the parameters ordered by index.
+     */
+    public List<msg_param_value> asList() {
+        return list;
+    }
+
+    private static int hash(CharSequence paramId, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + upper(paramId.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(byte[] id, CharSequence paramId, int start, int end) {
+        int from = 0;
+        int to = length(id);
+
+        while (from < to && (id[from] & 0xFF) <= ' ') {
+            from++;
+        }
+
+        while (to > from && (id[to - 1] & 0xFF) <= ' ') {
+            to--;
+        }
+
+        if (to - from != end - start) {
+            return false;
+        }
+
+        for (int i = 0; i < end - start; i++) {
+            if (upper((char) (id[from + i] & 0xFF)) != upper(paramId.charAt(start + i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int length(byte[] id) {
+        int length = 0;
+        while (length < id.length && id[length] != 0) {
+            length++;
+        }
+        return length;
+    }
+
+    private static char upper(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+}
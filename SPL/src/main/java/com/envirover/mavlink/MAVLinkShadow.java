@@ -29,9 +29,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkMessage;
 import com.MAVLink.common.msg_high_latency;
 import com.MAVLink.common.msg_mission_item;
 import com.MAVLink.common.msg_param_value;
@@ -44,41 +48,97 @@ import com.MAVLink.enums.MAV_PARAM_TYPE;
  * 
  * The actual state of the vehicle is updated during communication sessions. 
  * 
+ * The reported state is published as immutable {@link ReportedState} 
+ * snapshots. Readers get a consistent view of the state with a single 
+ * volatile read, updates are serialized and swap in a new snapshot.
+ * 
+ * Shadows of all the vehicles are kept by {@link MAVLinkShadowRegistry}.
  */
 public class MAVLinkShadow {
 
-    private static int SYS_ID = 1;
     private static int COMP_ID = 1;
 
     private static String HL_REPORT_PERIOD_PARAM = "HL_REPORT_PERIOD";
     private static float  DEFAULT_HL_REPORT_PERIOD = 300.0F;
 
-    private static MAVLinkShadow instance = null;
+    private final MAVLinkShadowRegistry registry;
+    private final int sysId;
+    private final String imei;
 
-    private final msg_high_latency msgHighLatency = new msg_high_latency();
-    private ArrayList<msg_param_value> params = new ArrayList<msg_param_value>();
-    private ArrayList<msg_mission_item> reportedMissions = new ArrayList<msg_mission_item>();
+    private volatile ReportedState reportedState;
+    // Parameter values reported by the vehicle in PARAM_VALUE messages
+    private final ConcurrentMap<String, Float> acknowledgedParams = new ConcurrentHashMap<String, Float>();
     private ArrayList<msg_mission_item> desiredMissions = new ArrayList<msg_mission_item>();    
     private int desiredMissionCount = 0;
 
-    protected MAVLinkShadow() {
-        msgHighLatency.sysid = SYS_ID;
+    MAVLinkShadow(MAVLinkShadowRegistry registry, String imei, int sysId) {
+        this.registry = registry;
+        this.imei = imei;
+        this.sysId = sysId;
+
+        msg_high_latency msgHighLatency = new msg_high_latency();
+        msgHighLatency.sysid = sysId;
         msgHighLatency.compid = COMP_ID;
+
+        // Parameters are copied from the registry default parameters on the first access
+        List<msg_mission_item> missions = Collections.emptyList();
+        reportedState = new ReportedState(0, msgHighLatency, null, missions);
     }
 
+    /**
+     * Returns shadow of the default vehicle or null if no vehicles are registered.
+     */
     public static MAVLinkShadow getInstance() {
-        if(instance == null) {
-           instance = new MAVLinkShadow();
+        return MAVLinkShadowRegistry.getInstance().getDefault();
+    }
+
+    /**
+     * Returns MAVLink system id of the vehicle.
+     */
+    public int getSystemId() {
+        return sysId;
+    }
+
+    /**
+     * Returns IMEI of the vehicle RockBLOCK.
+     */
+    public String getIMEI() {
+        return imei;
+    }
+
+    /**
+     * Returns the current snapshot of the reported state.
+     */
+    public ReportedState getReportedState() {
+        ReportedState state = reportedState;
+        return state.params != null ? state : initParams();
+    }
+
+    public synchronized void loadParams(InputStream stream) throws IOException {
+        List<msg_param_value> loaded = readParams(stream);
+
+        for (msg_param_value param : loaded) {
+            param.sysid = sysId;
         }
 
-        return instance;
+        ReportedState state = reportedState;
+        publish(state.highLatency, MAVLinkParamStore.of(loaded), state.missions);
     }
 
-    public void loadParams(InputStream stream) throws IOException {
+    /**
+     * Reads on-board parameters in QGroundControl format.
+     * 
+     * @param stream parameters stream
+     * @return parameters
+     * @throws IOException if the parameters cannot be read
+     */
+    static List<msg_param_value> readParams(InputStream stream) throws IOException {
         if (stream == null) {
             throw new IOException("Invalid parameters stream.");
         }
 
+        List<msg_param_value> params = new ArrayList<msg_param_value>();
+
         BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
         String str;
         int index = 0;
@@ -120,6 +180,8 @@ public class MAVLinkShadow {
         for (int i = 0; i < index; i++) {
             params.get(i).param_count = index;
         }
+
+        return params;
     }
 
     /**
@@ -130,41 +192,69 @@ public class MAVLinkShadow {
      * @return MAVLink packet with parameter value or null, if the parameter was not found.
      */
     public msg_param_value getParamValue(String paramId, short paramIndex) {
-        if (paramIndex >= 0) {
-            if (paramIndex >= params.size()) {
-               return null;
-            }
+        return getReportedState().getParamValue(paramId, paramIndex);
+    }
 
-            return params.get(paramIndex);
-        }
+    public synchronized void setParamValue(String paramId, Float value) {
+        ReportedState state = getReportedState();
+        int index = state.params.indexOf(paramId);
 
-        for (msg_param_value param : params) {
-            if (param.getParam_Id().equalsIgnoreCase(paramId.trim()))
-                return param;
+        if (index < 0) {
+            return;
         }
 
-        return null;
+        msg_param_value param = copy(state.params.get(index));
+        param.param_value = value;
+
+        publish(state.highLatency, state.params.set(index, param), state.missions);
+        journal(Collections.singletonList(param));
     }
 
-    public void setParamValue(String paramId, Float value) {
-        for (msg_param_value param : params) {
-            if (param.getParam_Id().equalsIgnoreCase(paramId.trim())) {
-                param.param_value = value;
-                break;
-            }
-        }
+    /**
+     * Updates the parameter value reported by the vehicle in PARAM_VALUE message.
+     * 
+     * @param paramId parameter id
+     * @param value parameter value reported by the vehicle
+     */
+    public synchronized void setAcknowledgedParamValue(String paramId, Float value) {
+        setParamValue(paramId, value);
+        acknowledgedParams.put(paramId.trim().toUpperCase(), value);
     }
-    
-    public int getDesiredMissionCount() {
+
+    /**
+     * Returns the last value of the parameter reported by the vehicle in 
+     * PARAM_VALUE message, or null if the vehicle did not report the 
+     * parameter since the start. Unlike the value returned by 
+     * getParamValue(), it does not include the default values and the values
+     * set by the ground control stations.
+     * 
+     * @param paramId parameter id
+     */
+    public Float getAcknowledgedParamValue(String paramId) {
+        return acknowledgedParams.get(paramId.trim().toUpperCase());
+    }
+
+    /**
+     * Forgets the value of the parameter reported by the vehicle. Called when
+     * a different value is sent to the vehicle, so the reported value no 
+     * longer tells the current value until the vehicle reports it again.
+     * 
+     * @param paramId parameter id
+     */
+    public void clearAcknowledgedParamValue(String paramId) {
+        acknowledgedParams.remove(paramId.trim().toUpperCase());
+    }
+
+    public synchronized int getDesiredMissionCount() {
         return desiredMissionCount;
     }
 
-    public void setDesiredMissionCount(int count) {
+    public synchronized void setDesiredMissionCount(int count) {
         desiredMissionCount = count;
         desiredMissions = new ArrayList<msg_mission_item>(count);
     }
 
-    public void setMissionItem(msg_mission_item mission) {
+    public synchronized void setMissionItem(msg_mission_item mission) {
         if (mission.seq >= desiredMissions.size()) {
             desiredMissions.add(mission.seq, mission); 
         } else {
@@ -173,35 +263,181 @@ public class MAVLinkShadow {
     }
 
     public int getReportedMissionCount() {
-    	return reportedMissions.size();
+        return getReportedState().getMissionCount();
     }
-    
+
+    /**
+     * Returns reported mission item with the specified index. The returned 
+     * item is shared by the snapshot and must not be modified.
+     */
     public msg_mission_item getReportedMissionItem(int index) {
-    	if (index >= reportedMissions.size()) {
-    		msg_mission_item mission = new msg_mission_item();
-    		mission.seq = index;
-    		return mission;
-    	}
-    	
-        return reportedMissions.get(index);
+        return getReportedState().getMissionItem(index);
     }
-    
-    public void missionAccepted() {
-    	reportedMissions = desiredMissions;
+
+    public synchronized void missionAccepted() {
+        setReportedMissions(desiredMissions);
+    }
+
+    synchronized void setReportedMissions(List<msg_mission_item> missions) {
+        ReportedState state = reportedState;
+        publish(state.highLatency, state.params, new ArrayList<msg_mission_item>(missions));
+        journal(MAVLinkShadowJournal.missionMessages(reportedState));
     }
 
-    public void updateReportedState(MAVLinkPacket packet) {
+    public synchronized void updateReportedState(MAVLinkPacket packet) {
         if (packet.msgid == msg_high_latency.MAVLINK_MSG_ID_HIGH_LATENCY) {
+            msg_high_latency msgHighLatency = new msg_high_latency();
             msgHighLatency.unpack(packet.payload);
+            msgHighLatency.sysid = sysId;
+            msgHighLatency.compid = COMP_ID;
+
+            ReportedState state = reportedState;
+            publish(msgHighLatency, state.params, state.missions);
+            journal(Collections.singletonList(msgHighLatency));
         }
     }
 
+    /**
+     * Returns version of the reported state. The version changes every time 
+     * a new snapshot of the reported state is published.
+     */
+    public long getReportedStateVersion() {
+        return getReportedState().getVersion();
+    }
+
+    /**
+     * Returns the reported HIGH_LATENCY message. The message is shared by 
+     * the snapshot and must not be modified.
+     */
     public msg_high_latency getHighLatencyMessage() {
-        return msgHighLatency;
+        return getReportedState().getHighLatencyMessage();
     }
     
     public List<msg_param_value> getParams() {
-        return params;
+        return getReportedState().getParams();
+    }
+
+    // Must be called holding the shadow lock
+    private void publish(msg_high_latency msgHighLatency, MAVLinkParamStore params, 
+                         List<msg_mission_item> missions) {
+        reportedState = new ReportedState(reportedState.version + 1, msgHighLatency, params,
+                                          Collections.unmodifiableList(missions));
+    }
+
+    // Must be called holding the shadow lock, so the journal records are in the order of the updates
+    private void journal(List<? extends MAVLinkMessage> msgs) {
+        MAVLinkShadowJournal journal = registry.getJournal();
+
+        if (journal != null) {
+            journal.append(sysId, msgs);
+        }
+    }
+
+    private synchronized ReportedState initParams() {
+        ReportedState state = reportedState;
+
+        if (state.params == null) {
+            List<msg_param_value> defaults = registry.getDefaultParams();
+            List<msg_param_value> params = new ArrayList<msg_param_value>(defaults.size());
+
+            for (msg_param_value param : defaults) {
+                msg_param_value copy = copy(param);
+                copy.sysid = sysId;
+                params.add(copy);
+            }
+
+            publish(state.highLatency, MAVLinkParamStore.of(params), state.missions);
+        }
+
+        return reportedState;
+    }
+
+    private static msg_param_value copy(msg_param_value param) {
+        msg_param_value copy = new msg_param_value();
+        copy.sysid = param.sysid;
+        copy.compid = param.compid;
+        copy.param_id = param.param_id.clone();
+        copy.param_index = param.param_index;
+        copy.param_count = param.param_count;
+        copy.param_value = param.param_value;
+        copy.param_type = param.param_type;
+        return copy;
+    }
+
+    /**
+     * Immutable snapshot of the reported state of the vehicle. 
+     * 
+     * The messages returned by the snapshot are shared by all the readers 
+     * and must not be modified.
+     */
+    public static final class ReportedState {
+
+        private final long version;
+        private final msg_high_latency highLatency;
+        private final MAVLinkParamStore params;
+        private final List<msg_mission_item> missions;
+
+        private ReportedState(long version, msg_high_latency highLatency, 
+                              MAVLinkParamStore params, List<msg_mission_item> missions) {
+            this.version = version;
+            this.highLatency = highLatency;
+            this.params = params;
+            this.missions = missions;
+        }
+
+        /**
+         * Returns version of the snapshot.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        public msg_high_latency getHighLatencyMessage() {
+            return highLatency;
+        }
+
+        /**
+         * Returns unmodifiable list of the on-board parameters.
+         */
+        public List<msg_param_value> getParams() {
+            return params.asList();
+        }
+
+        /**
+         * Returns the on-board parameters store.
+         */
+        public MAVLinkParamStore getParamStore() {
+            return params;
+        }
+
+        /**
+         * Returns PARAM_VALUE message for the specified parameter.
+         * 
+         * @param paramId on-board parameter id
+         * @param paramIndex parameter index or -1 to use paramId
+         * @return parameter value or null if the parameter was not found
+         */
+        public msg_param_value getParamValue(String paramId, short paramIndex) {
+            return paramIndex >= 0 ? params.get(paramIndex) : params.get(paramId);
+        }
+
+        public int getMissionCount() {
+            return missions.size();
+        }
+
+        /**
+         * Returns mission item with the specified index or an empty item
+         * if there is no such item.
+         */
+        public msg_mission_item getMissionItem(int index) {
+            if (index >= missions.size()) {
+                msg_mission_item mission = new msg_mission_item();
+                mission.seq = index;
+                return mission;
+            }
+
+            return missions.get(index);
+        }
     }
 
 }
@@ -0,0 +1,471 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.mavlink;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Parser;
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.common.MissionCountView;
+import com.MAVLink.common.ParamValueView;
+import com.MAVLink.common.msg_high_latency;
+import com.MAVLink.common.msg_mission_count;
+import com.MAVLink.common.msg_mission_item;
+import com.MAVLink.common.msg_param_value;
+
+/**
+ * Durable journal of the reported states of the vehicle shadows.
+ * 
+ * Updates of HIGH_LATENCY message, parameter values and accepted missions
+ * are appended to a memory-mapped journal file as MAVLink 1 frames. The 
+ * frames are written by a background thread, so the threads that update the
+ * shadows only enqueue the records. The writer collects the records enqueued
+ * during the commit interval after the first pending record, up to 
+ * MAX_BATCH_SIZE records, and commits them with a single force.
+ * 
+ * When the journal is half full, a compact snapshot of all the shadows is
+ * written and the journal is cleared. At startup the snapshot and the journal 
+ * are replayed to restore the reported states, a torn record at the end of 
+ * the journal is ignored.
+ */
+public class MAVLinkShadowJournal implements Closeable {
+
+    public final static int  DEFAULT_SIZE = 1024 * 1024;
+    public final static long DEFAULT_COMMIT_INTERVAL = 100;
+    public final static int  MIN_SIZE = 16 * 1024;
+
+    // Maximum number of records committed together
+    private final static int  MAX_BATCH_SIZE = 1024;
+    private final static long IDLE_POLL_TIMEOUT = 100;
+
+    private final static String JOURNAL_FILE  = "shadow.journal";
+    private final static String SNAPSHOT_FILE = "shadow.snapshot";
+
+    private final static Logger logger = Logger.getLogger(MAVLinkShadowJournal.class);
+
+    private final File dir;
+    private final int size;
+    private final long commitInterval;
+    private final BlockingQueue<Record> queue = new LinkedBlockingQueue<Record>();
+
+    private MAVLinkShadowRegistry registry = null;
+    private RandomAccessFile file = null;
+    private MappedByteBuffer journal = null;
+    private Thread writerThread = null;
+    private volatile boolean running = false;
+    private volatile long commitCount = 0;
+    private volatile long snapshotCount = 0;
+
+    /**
+     * Constructs journal in the specified directory.
+     * 
+     * @param dir journal directory
+     * @param size journal file size in bytes
+     * @param commitInterval time window in milliseconds during which the records
+     *        are collected into a single commit
+     */
+    public MAVLinkShadowJournal(File dir, int size, long commitInterval) {
+        if (size < MIN_SIZE) {
+            throw new IllegalArgumentException(MessageFormat.format("Journal size must be at least {0} bytes.", MIN_SIZE));
+        }
+
+        if (commitInterval < 0) {
+            throw new IllegalArgumentException("Commit interval must not be negative.");
+        }
+
+        this.dir = dir;
+        this.size = size;
+        this.commitInterval = commitInterval;
+    }
+
+    /**
+     * Restores reported states of the registered vehicles from the snapshot 
+     * and the journal, and starts journaling updates of the shadows.
+     * 
+     * @param registry shadows registry
+     * @throws IOException on I/O error
+     */
+    public synchronized void open(MAVLinkShadowRegistry registry) throws IOException {
+        if (running) {
+            throw new IllegalStateException("The journal is already open.");
+        }
+
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException(MessageFormat.format("Failed to create journal directory ''{0}''.", dir));
+        }
+
+        this.registry = registry;
+
+        File snapshotFile = new File(dir, SNAPSHOT_FILE);
+        if (snapshotFile.exists()) {
+            int records = replay(ByteBuffer.wrap(Files.readAllBytes(snapshotFile.toPath())), registry);
+            logger.info(MessageFormat.format("{0} records restored from shadow snapshot.", records));
+        }
+
+        file = new RandomAccessFile(new File(dir, JOURNAL_FILE), "rw");
+
+        if (file.length() > 0) {
+            ByteBuffer old = ByteBuffer.allocate((int) file.length());
+            file.getChannel().read(old, 0);
+            old.flip();
+            int records = replay(old, registry);
+            logger.info(MessageFormat.format("{0} records restored from shadow journal.", records));
+        }
+
+        // Start with an empty journal
+        writeSnapshot();
+        file.setLength(0);
+        file.setLength(size);
+        journal = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        running = true;
+        registry.setJournal(this);
+
+        writerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                write();
+            }
+        }, "shadow-journal");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Commits the pending records, writes snapshot of the shadows and 
+     * closes the journal.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!running) {
+            return;
+        }
+
+        registry.setJournal(null);
+        running = false;
+
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            writeSnapshot();
+            clear();
+        } finally {
+            file.close();
+        }
+    }
+
+    /**
+     * Returns the number of group commits.
+     */
+    public long getCommitCount() {
+        return commitCount;
+    }
+
+    /**
+     * Returns the number of snapshots written since the journal was opened.
+     */
+    public long getSnapshotCount() {
+        return snapshotCount;
+    }
+
+    /**
+     * Enqueues records of the shadow update. Called by the shadow holding its 
+     * lock, so the records are journaled in the order of the updates.
+     * 
+     * @param sysid system id of the vehicle
+     * @param msgs updated state
+     */
+    void append(int sysid, List<? extends MAVLinkMessage> msgs) {
+        // The messages are not modified after the update, so they are encoded by the writer thread
+        for (MAVLinkMessage msg : msgs) {
+            queue.add(new Record(sysid, msg));
+        }
+    }
+
+    private void write() {
+        List<Record> batch = new ArrayList<Record>();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Record record = queue.poll(IDLE_POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+
+                if (record == null) {
+                    continue;
+                }
+
+                batch.add(record);
+                collect(batch, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(commitInterval));
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException e) {
+                logger.error(MessageFormat.format("Failed to write shadow journal. {0}", e.getMessage()));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Collects the records enqueued until the end of the commit window or until the batch is full
+    private void collect(List<Record> batch, long deadline) throws InterruptedException {
+        queue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+
+        while (running && batch.size() < MAX_BATCH_SIZE) {
+            long timeout = deadline - System.nanoTime();
+
+            if (timeout <= 0) {
+                return;
+            }
+
+            // Wakes up periodically to end the window early when the journal is closed
+            Record record = queue.poll(Math.min(timeout, TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_TIMEOUT)), 
+                                       TimeUnit.NANOSECONDS);
+
+            if (record != null) {
+                batch.add(record);
+                queue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+            }
+        }
+    }
+
+    private void commit(List<Record> batch) throws IOException {
+        for (Record record : batch) {
+            byte[] frame = encode(record.sysid, record.msg);
+
+            if (journal.remaining() < frame.length) {
+                compact();
+            }
+
+            journal.put(frame);
+        }
+
+        journal.force();
+        commitCount++;
+
+        if (journal.position() > size / 2) {
+            compact();
+        }
+    }
+
+    private void compact() throws IOException {
+        // The snapshot includes all the records written to the journal
+        journal.force();
+        writeSnapshot();
+        clear();
+    }
+
+    // Writes snapshot of all the shadows and atomically replaces the previous one 
+    private void writeSnapshot() throws IOException {
+        File tmp = new File(dir, SNAPSHOT_FILE + ".tmp");
+        FileOutputStream stream = new FileOutputStream(tmp);
+
+        try {
+            BufferedOutputStream out = new BufferedOutputStream(stream);
+
+            for (MAVLinkShadow shadow : registry.getShadows()) {
+                MAVLinkShadow.ReportedState state = shadow.getReportedState();
+                int sysid = shadow.getSystemId();
+
+                out.write(encode(sysid, state.getHighLatencyMessage()));
+
+                for (msg_param_value param : state.getParams()) {
+                    out.write(encode(sysid, param));
+                }
+
+                for (MAVLinkMessage msg : missionMessages(state)) {
+                    out.write(encode(sysid, msg));
+                }
+            }
+
+            out.flush();
+            stream.getFD().sync();
+        } finally {
+            stream.close();
+        }
+
+        Files.move(tmp.toPath(), new File(dir, SNAPSHOT_FILE).toPath(), 
+                   StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        snapshotCount++;
+    }
+
+    // Zeroes the used part of the journal
+    private void clear() {
+        if (journal == null) {
+            return;
+        }
+
+        byte[] zeros = new byte[4096];
+        int used = journal.position();
+
+        journal.position(0);
+        while (journal.position() < used) {
+            journal.put(zeros, 0, Math.min(zeros.length, used - journal.position()));
+        }
+
+        journal.force();
+        journal.position(0);
+    }
+
+    /**
+     * Returns MISSION_COUNT message followed by MISSION_ITEM messages of 
+     * the reported mission.
+     */
+    static List<MAVLinkMessage> missionMessages(MAVLinkShadow.ReportedState state) {
+        List<MAVLinkMessage> msgs = new ArrayList<MAVLinkMessage>(state.getMissionCount() + 1);
+
+        msg_mission_count count = new msg_mission_count();
+        count.count = state.getMissionCount();
+        msgs.add(count);
+
+        for (int i = 0; i < state.getMissionCount(); i++) {
+            msgs.add(state.getMissionItem(i));
+        }
+
+        return msgs;
+    }
+
+    private static byte[] encode(int sysid, MAVLinkMessage msg) {
+        MAVLinkPacket packet = msg.pack();
+        packet.sysid = sysid;
+        packet.compid = 1;
+        return packet.encodePacket();
+    }
+
+    /**
+     * Applies the records to the shadows until the end of the records or the
+     * first invalid record.
+     * 
+     * @return the number of applied records
+     */
+    private static int replay(ByteBuffer buffer, MAVLinkShadowRegistry registry) {
+        Parser parser = new Parser();
+        Map<Integer, List<msg_mission_item>> missions = new HashMap<Integer, List<msg_mission_item>>();
+        Map<Integer, Integer> missionCounts = new HashMap<Integer, Integer>();
+        int records = 0;
+
+        while (buffer.remaining() >= MAVLinkPacket.HEADER_LENGTH + MAVLinkPacket.CHECKSUM_LENGTH) {
+            int start = buffer.position();
+
+            if ((buffer.get(start) & 0xFF) != MAVLinkPacket.MAVLINK_STX) {
+                break;
+            }
+
+            int length = MAVLinkPacket.HEADER_LENGTH + (buffer.get(start + 1) & 0xFF) + MAVLinkPacket.CHECKSUM_LENGTH;
+
+            if (length > buffer.remaining()) {
+                break;
+            }
+
+            ByteBuffer frame = buffer.slice();
+            frame.limit(length);
+
+            List<MAVLinkPacket> packets = parser.parse(frame);
+
+            if (packets.size() != 1) {
+                // Torn or corrupted record
+                break;
+            }
+
+            buffer.position(start + length);
+            records++;
+
+            MAVLinkPacket packet = packets.get(0);
+            MAVLinkShadow shadow = registry.getBySystemId(packet.sysid);
+
+            if (shadow == null) {
+                continue;
+            }
+
+            switch (packet.msgid) {
+            case msg_high_latency.MAVLINK_MSG_ID_HIGH_LATENCY:
+                shadow.updateReportedState(packet);
+                break;
+            case msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE:
+                shadow.setParamValue(ParamValueView.getParam_Id(packet.payload), ParamValueView.param_value(packet.payload));
+                break;
+            case msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT:
+                missions.put(packet.sysid, new ArrayList<msg_mission_item>());
+                missionCounts.put(packet.sysid, MissionCountView.count(packet.payload));
+                break;
+            case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM: {
+                List<msg_mission_item> items = missions.get(packet.sysid);
+                if (items != null) {
+                    items.add((msg_mission_item) packet.unpack());
+                }
+                break;
+            }
+            }
+
+            // Apply the mission when all its items are read
+            List<msg_mission_item> items = missions.get(packet.sysid);
+            if (items != null && items.size() == missionCounts.get(packet.sysid)) {
+                shadow.setReportedMissions(items);
+                missions.remove(packet.sysid);
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * Shadow update waiting to be committed.
+     */
+    private static class Record {
+        final int sysid;
+        final MAVLinkMessage msg;
+
+        Record(int sysid, MAVLinkMessage msg) {
+            this.sysid = sysid;
+            this.msg = msg;
+        }
+    }
+
+}
@@ -0,0 +1,256 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.mavlink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.common.CommandIntView;
+import com.MAVLink.common.CommandLongView;
+import com.MAVLink.common.MissionClearAllView;
+import com.MAVLink.common.MissionCountView;
+import com.MAVLink.common.MissionItemIntView;
+import com.MAVLink.common.MissionItemView;
+import com.MAVLink.common.MissionRequestListView;
+import com.MAVLink.common.MissionRequestView;
+import com.MAVLink.common.MissionSetCurrentView;
+import com.MAVLink.common.MissionWritePartialListView;
+import com.MAVLink.common.ParamRequestListView;
+import com.MAVLink.common.ParamRequestReadView;
+import com.MAVLink.common.ParamSetView;
+import com.MAVLink.common.SetHomePositionView;
+import com.MAVLink.common.SetModeView;
+import com.MAVLink.common.msg_command_int;
+import com.MAVLink.common.msg_command_long;
+import com.MAVLink.common.msg_mission_clear_all;
+import com.MAVLink.common.msg_mission_count;
+import com.MAVLink.common.msg_mission_item;
+import com.MAVLink.common.msg_mission_item_int;
+import com.MAVLink.common.msg_mission_request;
+import com.MAVLink.common.msg_mission_request_list;
+import com.MAVLink.common.msg_mission_set_current;
+import com.MAVLink.common.msg_mission_write_partial_list;
+import com.MAVLink.common.msg_param_request_list;
+import com.MAVLink.common.msg_param_request_read;
+import com.MAVLink.common.msg_param_set;
+import com.MAVLink.common.msg_param_value;
+import com.MAVLink.common.msg_set_home_position;
+import com.MAVLink.common.msg_set_mode;
+
+/**
+ * Registry of the shadows of all the vehicles served by the proxy.
+ * 
+ * The vehicles are identified by the IMEI of their RockBLOCK modems and by 
+ * their MAVLink system ids. Mobile-originated messages are routed to the 
+ * shadows by IMEI, messages of the ground control stations by target system.
+ * 
+ * Shadows of the idle vehicles are small, the on-board parameters are shared
+ * with the default parameters until the shadow parameters are requested.
+ */
+public class MAVLinkShadowRegistry {
+
+    private static MAVLinkShadowRegistry instance = null;
+
+    private final ConcurrentMap<String, MAVLinkShadow> byIMEI = new ConcurrentHashMap<String, MAVLinkShadow>();
+    private final ConcurrentMap<Integer, MAVLinkShadow> bySystemId = new ConcurrentHashMap<Integer, MAVLinkShadow>();
+
+    private volatile MAVLinkShadow defaultShadow = null;
+    private volatile List<msg_param_value> defaultParams = Collections.emptyList();
+    private volatile MAVLinkShadowJournal journal = null;
+
+    public static synchronized MAVLinkShadowRegistry getInstance() {
+        if (instance == null) {
+            instance = new MAVLinkShadowRegistry();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Loads default on-board parameters of the vehicles.
+     * 
+     * @param stream parameters in QGroundControl format
+     * @throws IOException if the parameters cannot be read
+     */
+    public void loadParams(InputStream stream) throws IOException {
+        defaultParams = Collections.unmodifiableList(MAVLinkShadow.readParams(stream));
+    }
+
+    /**
+     * Returns default on-board parameters of the vehicles.
+     */
+    public List<msg_param_value> getDefaultParams() {
+        return defaultParams;
+    }
+
+    /**
+     * Registers vehicle and returns its shadow.
+     * 
+     * @param imei IMEI of the vehicle RockBLOCK modem
+     * @param sysid MAVLink system id of the vehicle
+     * @return vehicle shadow
+     * @throws IllegalArgumentException if the system id is used by another vehicle
+     */
+    public synchronized MAVLinkShadow register(String imei, int sysid) {
+        MAVLinkShadow shadow = bySystemId.get(sysid);
+
+        if (shadow == null) {
+            shadow = new MAVLinkShadow(this, imei, sysid);
+            bySystemId.put(sysid, shadow);
+        } else if (!shadow.getIMEI().equals(imei)) {
+            throw new IllegalArgumentException(String.format("System id %d is used by vehicle %s.", sysid, shadow.getIMEI()));
+        }
+
+        byIMEI.put(imei, shadow);
+
+        if (defaultShadow == null) {
+            defaultShadow = shadow;
+        }
+
+        return shadow;
+    }
+
+    /**
+     * Returns shadow of the vehicle with the specified RockBLOCK IMEI.
+     * 
+     * @return vehicle shadow or null if the vehicle is not registered
+     */
+    public MAVLinkShadow getByIMEI(String imei) {
+        return imei != null ? byIMEI.get(imei) : null;
+    }
+
+    /**
+     * Returns shadow of the vehicle with the specified system id.
+     * 
+     * @return vehicle shadow or null if the vehicle is not registered
+     */
+    public MAVLinkShadow getBySystemId(int sysid) {
+        return bySystemId.get(sysid);
+    }
+
+    /**
+     * Returns shadow of the vehicle the message is addressed to. Messages 
+     * without target system and broadcast messages are addressed to the 
+     * default vehicle.
+     * 
+     * @param packet MAVLink message sent by a ground control station
+     * @return vehicle shadow or null if the target vehicle is not registered
+     *         or, for the messages addressed to the default vehicle, if no 
+     *         vehicles are registered
+     */
+    public MAVLinkShadow getShadow(MAVLinkPacket packet) {
+        int target = getTargetSystem(packet);
+        return target > 0 ? getBySystemId(target) : getDefault();
+    }
+
+    /**
+     * Returns shadow of the first registered vehicle.
+     * 
+     * @return vehicle shadow or null if no vehicles are registered
+     */
+    public MAVLinkShadow getDefault() {
+        return defaultShadow;
+    }
+
+    /**
+     * Returns shadows of all the registered vehicles ordered by system id.
+     */
+    public Collection<MAVLinkShadow> getShadows() {
+        List<MAVLinkShadow> shadows = new ArrayList<MAVLinkShadow>(bySystemId.size());
+
+        for (int sysid = 0; sysid <= 255; sysid++) {
+            MAVLinkShadow shadow = bySystemId.get(sysid);
+            if (shadow != null) {
+                shadows.add(shadow);
+            }
+        }
+
+        return shadows;
+    }
+
+    public int size() {
+        return bySystemId.size();
+    }
+
+    /**
+     * Returns journal of the shadows updates or null if the updates are not journaled.
+     */
+    MAVLinkShadowJournal getJournal() {
+        return journal;
+    }
+
+    void setJournal(MAVLinkShadowJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Returns target system of MAVLink message sent by a ground control station.
+     * 
+     * @return target system id or 0 if the message has no target system
+     */
+    public static int getTargetSystem(MAVLinkPacket packet) {
+        switch (packet.msgid) {
+        case msg_set_mode.MAVLINK_MSG_ID_SET_MODE:
+            return SetModeView.target_system(packet.payload);
+        case msg_param_set.MAVLINK_MSG_ID_PARAM_SET:
+            return ParamSetView.target_system(packet.payload);
+        case msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ:
+            return ParamRequestReadView.target_system(packet.payload);
+        case msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST:
+            return ParamRequestListView.target_system(packet.payload);
+        case msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG:
+            return CommandLongView.target_system(packet.payload);
+        case msg_command_int.MAVLINK_MSG_ID_COMMAND_INT:
+            return CommandIntView.target_system(packet.payload);
+        case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM:
+            return MissionItemView.target_system(packet.payload);
+        case msg_mission_item_int.MAVLINK_MSG_ID_MISSION_ITEM_INT:
+            return MissionItemIntView.target_system(packet.payload);
+        case msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT:
+            return MissionCountView.target_system(packet.payload);
+        case msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL:
+            return MissionClearAllView.target_system(packet.payload);
+        case msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST:
+            return MissionRequestView.target_system(packet.payload);
+        case msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST:
+            return MissionRequestListView.target_system(packet.payload);
+        case msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT:
+            return MissionSetCurrentView.target_system(packet.payload);
+        case msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST:
+            return MissionWritePartialListView.target_system(packet.payload);
+        case msg_set_home_position.MAVLINK_MSG_ID_SET_HOME_POSITION:
+            return SetHomePositionView.target_system(packet.payload);
+        default:
+            return 0;
+        }
+    }
+
+}
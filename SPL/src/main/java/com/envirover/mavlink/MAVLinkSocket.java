@@ -24,16 +24,19 @@ along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
 
 package com.envirover.mavlink;
 
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collections;
+import java.util.List;
 
 import org.apache.log4j.Level;
-import org.apache.log4j.Logger;
 
 import com.MAVLink.MAVLinkPacket;
-import com.MAVLink.Parser;
 
 /**
  * MAVLinkChannel implementation used to send and receive MAVLink messages
@@ -42,11 +45,13 @@ import com.MAVLink.Parser;
  */
 public class MAVLinkSocket implements MAVLinkChannel {
 
-    private final static Logger logger = Logger.getLogger(MAVLinkSocket.class);
+    // Outbound buffers fit a burst of 16 maximum size packets
+    private final static ByteBufferPool bufferPool = new ByteBufferPool(16 * MAVLinkPacket.MAX_PACKET_LENGTH, 64);
 
     private final Socket socket;
-    private final DataInputStream in;
-    private final DataOutputStream out;
+    private final ReadableByteChannel in;
+    private final WritableByteChannel out;
+    private final MAVLinkFrameDecoder decoder;
 
     private int seq = 0;
     private boolean is_open = true;
@@ -59,8 +64,9 @@ public class MAVLinkSocket implements MAVLinkChannel {
      */
     public MAVLinkSocket(Socket socket) throws IOException {
         this.socket = socket;
-        this.in = new DataInputStream(socket.getInputStream());
-        this.out = new DataOutputStream(socket.getOutputStream());
+        this.in = socket.getChannel() != null ? socket.getChannel() : Channels.newChannel(socket.getInputStream());
+        this.out = socket.getChannel() != null ? socket.getChannel() : Channels.newChannel(socket.getOutputStream());
+        this.decoder = new MAVLinkFrameDecoder(in);
     }
 
     @Override
@@ -69,47 +75,96 @@ public class MAVLinkSocket implements MAVLinkChannel {
             throw new IOException("Failed to receive message. The socket is closed.");
         }
 
-        Parser parser = new Parser();
+        MAVLinkPacket packet = decoder.receive();
 
-        MAVLinkPacket packet = null;
+        if (packet == null) {
+            throw new EOFException("The socket is closed by the peer.");
+        }
 
-        // The maximum size of MAVLink packet is 261 bytes.
-        for (int i = 0; i < 263 * 2; i++) {
-            try {
-                int c = in.readUnsignedByte();
-                packet = parser.mavlink_parse_char(c);
-            } catch (java.io.EOFException ex) {
-                return null;
-            }
+        MAVLinkLogger.log(Level.DEBUG, "<<", packet);
 
-            if (packet != null) {
-                MAVLinkLogger.log(Level.DEBUG, "<<", packet);
-                return packet;
-            }
+        return packet;
+    }
+
+    @Override
+    public void sendMessage(MAVLinkPacket packet) throws IOException {
+        if (packet == null)
+            return;
+
+        sendMessages(Collections.singletonList(packet));
+    }
+
+    /**
+     * Encodes the packets into a pooled outbound buffer and writes them
+     * to the socket with as few writes as the buffer capacity allows.
+     */
+    @Override
+    public synchronized void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+        if (!is_open) {
+            throw new IOException("Failed to send message. The socket is closed.");
         }
 
-        logger.warn("Failed to parse MAVLink message.");
+        ByteBuffer buffer = bufferPool.acquire();
+
+        try {
+            for (MAVLinkPacket packet : packets) {
+                if (packet == null)
+                    continue;
+
+                packet.seq = seq++;
+
+                if (buffer.remaining() < packet.getEncodedLength()) {
+                    write(buffer);
+                }
+
+                packet.encodeTo(buffer);
+            }
+
+            write(buffer);
+        } finally {
+            bufferPool.release(buffer);
+        }
 
-        return null;
+        for (MAVLinkPacket packet : packets) {
+            MAVLinkLogger.log(Level.DEBUG, ">>", packet);
+        }
     }
 
+    /**
+     * Copies the frames into a pooled outbound buffer patching the sequence
+     * numbers and writes them to the socket.
+     */
     @Override
-    public void sendMessage(MAVLinkPacket packet) throws IOException {
+    public synchronized void sendFrames(MAVLinkFrames frames) throws IOException {
         if (!is_open) {
             throw new IOException("Failed to send message. The socket is closed.");
         }
 
-        if (packet == null)
-            return;
+        ByteBuffer buffer = bufferPool.acquire();
 
-        packet.seq = seq++;
+        try {
+            for (int i = 0; i < frames.size(); i++) {
+                if (buffer.remaining() < frames.getLength(i)) {
+                    write(buffer);
+                }
 
-        byte[] data = packet.encodePacket();
+                frames.encodeTo(i, seq++, buffer);
+            }
 
-        out.write(data);
-        out.flush();
+            write(buffer);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
 
-        MAVLinkLogger.log(Level.DEBUG, ">>", packet);
+        buffer.clear();
     }
 
     @Override
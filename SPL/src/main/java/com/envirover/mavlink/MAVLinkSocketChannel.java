@@ -0,0 +1,340 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.mavlink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+import org.apache.log4j.Level;
+
+import com.MAVLink.MAVLinkPacket;
+
+/**
+ * MAVLinkChannel implementation over a non-blocking socket channel
+ * registered with a selector.
+ * 
+ * The selector thread reads the channel by {@link #read(ByteBuffer)} and
+ * takes the decoded packets by {@link #poll()}. Messages are sent from any
+ * thread without blocking: the bytes that the socket does not accept
+ * immediately are queued and written by the selector thread when the
+ * socket becomes writable.
+ */
+public class MAVLinkSocketChannel implements MAVLinkChannel {
+
+    /**
+     * Default limit of the bytes queued for a client that does not read
+     * fast enough. The channel is closed when the limit is exceeded.
+     */
+    public final static int DEFAULT_MAX_PENDING_BYTES = 1024 * 1024;
+
+    // Outbound buffers fit a burst of 16 maximum size packets
+    private final static ByteBufferPool bufferPool = new ByteBufferPool(16 * MAVLinkPacket.MAX_PACKET_LENGTH, 64);
+
+    private final SocketChannel channel;
+    private final MAVLinkFrameDecoder decoder = new MAVLinkFrameDecoder();
+    private final Queue<ByteBuffer> pending = new ArrayDeque<ByteBuffer>();
+    private final int maxPendingBytes;
+
+    private SelectionKey key = null;
+    private int pendingBytes = 0;
+    private int seq = 0;
+    private volatile boolean is_open = true;
+
+    /**
+     * Constructs instance of MAVLinkSocketChannel and switches the channel
+     * to non-blocking mode.
+     * 
+     * @param channel connected socket channel
+     * @throws IOException if an I/O error occurs
+     */
+    public MAVLinkSocketChannel(SocketChannel channel) throws IOException {
+        this(channel, DEFAULT_MAX_PENDING_BYTES);
+    }
+
+    /**
+     * Constructs instance of MAVLinkSocketChannel and switches the channel
+     * to non-blocking mode.
+     * 
+     * @param channel connected socket channel
+     * @param maxPendingBytes maximum number of bytes queued for the client
+     * @throws IOException if an I/O error occurs
+     */
+    public MAVLinkSocketChannel(SocketChannel channel, int maxPendingBytes) throws IOException {
+        this.channel = channel;
+        this.maxPendingBytes = maxPendingBytes;
+        channel.configureBlocking(false);
+    }
+
+    /**
+     * Registers the channel with the selector for reading. Must be called
+     * by the selector thread.
+     * 
+     * @param selector selector
+     * @param attachment selection key attachment
+     * @return selection key
+     * @throws ClosedChannelException if the channel is closed
+     */
+    public synchronized SelectionKey register(Selector selector, Object attachment) throws ClosedChannelException {
+        int ops = pending.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+        key = channel.register(selector, ops, attachment);
+        return key;
+    }
+
+    /**
+     * Reads the bytes available in the socket into the buffer and decodes
+     * the completed frames. Must be called by the selector thread.
+     * 
+     * @param buffer buffer for the bytes read, may be shared by the
+     *        channels of the selector thread
+     * @return number of bytes read or -1 if the end of stream is reached
+     * @throws IOException if an I/O error occurs
+     */
+    public int read(ByteBuffer buffer) throws IOException {
+        buffer.clear();
+
+        int n = channel.read(buffer);
+
+        if (n > 0) {
+            buffer.flip();
+            decoder.decode(buffer);
+        }
+
+        return n;
+    }
+
+    /**
+     * Returns the next packet decoded by the previous reads.
+     * 
+     * @return decoded packet or null if no packets are available
+     */
+    public MAVLinkPacket poll() {
+        MAVLinkPacket packet = decoder.poll();
+
+        if (packet != null) {
+            MAVLinkLogger.log(Level.DEBUG, "<<", packet);
+        }
+
+        return packet;
+    }
+
+    /**
+     * Received messages are delivered by the selector thread, so this method
+     * always returns null.
+     */
+    @Override
+    public MAVLinkPacket receiveMessage() throws IOException {
+        if (!is_open) {
+            throw new IOException("Failed to receive message. The socket is closed.");
+        }
+
+        return null;
+    }
+
+    @Override
+    public void sendMessage(MAVLinkPacket packet) throws IOException {
+        if (packet == null)
+            return;
+
+        sendMessages(Collections.singletonList(packet));
+    }
+
+    /**
+     * Encodes the packets into pooled outbound buffers and writes as much of
+     * them as the socket accepts without blocking. The rest is written by the
+     * selector thread.
+     */
+    @Override
+    public synchronized void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+        if (!is_open) {
+            throw new IOException("Failed to send message. The socket is closed.");
+        }
+
+        ByteBuffer buffer = bufferPool.acquire();
+
+        for (MAVLinkPacket packet : packets) {
+            if (packet == null)
+                continue;
+
+            packet.seq = seq++;
+
+            if (buffer.remaining() < packet.getEncodedLength()) {
+                enqueue(buffer);
+                buffer = bufferPool.acquire();
+            }
+
+            packet.encodeTo(buffer);
+        }
+
+        enqueue(buffer);
+        send();
+
+        for (MAVLinkPacket packet : packets) {
+            MAVLinkLogger.log(Level.DEBUG, ">>", packet);
+        }
+    }
+
+    /**
+     * Copies the frames into pooled outbound buffers patching the sequence
+     * numbers and writes as much of them as the socket accepts without
+     * blocking. The rest is written by the selector thread.
+     */
+    @Override
+    public synchronized void sendFrames(MAVLinkFrames frames) throws IOException {
+        if (!is_open) {
+            throw new IOException("Failed to send message. The socket is closed.");
+        }
+
+        ByteBuffer buffer = bufferPool.acquire();
+
+        for (int i = 0; i < frames.size(); i++) {
+            if (buffer.remaining() < frames.getLength(i)) {
+                enqueue(buffer);
+                buffer = bufferPool.acquire();
+            }
+
+            frames.encodeTo(i, seq++, buffer);
+        }
+
+        enqueue(buffer);
+        send();
+    }
+
+    /**
+     * Writes the queued bytes that the socket accepts without blocking and
+     * updates the selector interest in writability.
+     * 
+     * @return true if all the queued bytes are written
+     * @throws IOException if an I/O error occurs
+     */
+    public synchronized boolean flush() throws IOException {
+        while (!pending.isEmpty()) {
+            ByteBuffer buffer = pending.peek();
+
+            int n = channel.write(buffer);
+            pendingBytes -= n;
+
+            if (buffer.hasRemaining()) {
+                break;
+            }
+
+            bufferPool.release(pending.poll());
+        }
+
+        setWriteInterest(!pending.isEmpty());
+
+        return pending.isEmpty();
+    }
+
+    /**
+     * Returns number of bytes queued for writing.
+     */
+    public synchronized int getPendingBytes() {
+        return pendingBytes;
+    }
+
+    public boolean isOpen() {
+        return is_open;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (!is_open) {
+                return;
+            }
+
+            is_open = false;
+
+            if (key != null) {
+                key.cancel();
+            }
+
+            for (ByteBuffer buffer : pending) {
+                bufferPool.release(buffer);
+            }
+
+            pending.clear();
+            pendingBytes = 0;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // Writes the queued bytes and closes the channel if the client does not read them
+    private void send() throws IOException {
+        try {
+            flush();
+        } catch (IOException ex) {
+            close();
+            throw ex;
+        }
+
+        if (pendingBytes > maxPendingBytes) {
+            close();
+            throw new IOException("Failed to send message. The client does not read the socket.");
+        }
+    }
+
+    private void enqueue(ByteBuffer buffer) {
+        buffer.flip();
+
+        if (buffer.hasRemaining()) {
+            pending.add(buffer);
+            pendingBytes += buffer.remaining();
+        } else {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private void setWriteInterest(boolean write) {
+        if (key == null || !key.isValid()) {
+            return;
+        }
+
+        int ops = write ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+
+        try {
+            if (key.interestOps() != ops) {
+                key.interestOps(ops);
+                key.selector().wakeup();
+            }
+        } catch (CancelledKeyException e) {
+            // The channel is being closed
+        }
+    }
+
+}
@@ -2,7 +2,10 @@ package com.envirover.mavlink;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
 
+import javax.websocket.RemoteEndpoint;
 import javax.websocket.Session;
 
 import org.apache.log4j.Level;
@@ -13,6 +16,7 @@ import com.MAVLink.MAVLinkPacket;
 public class MAVLinkWebSocket implements MAVLinkChannel {
 
     private final static Logger logger = Logger.getLogger(MAVLinkWebSocket.class);
+    private final static ByteBufferPool bufferPool = new ByteBufferPool(MAVLinkPacket.MAX_PACKET_LENGTH_MAVLINK2, 64);
     private final Session session;
     private final Object sendLock = new Object();
 
@@ -32,28 +36,80 @@ public class MAVLinkWebSocket implements MAVLinkChannel {
         if (packet == null)
             return;
 
+        sendMessages(Collections.singletonList(packet));
+    }
+
+    /**
+     * Encodes the packets into a pooled outbound buffer and sends each packet
+     * as a separate binary message backed by the same buffer.
+     */
+    @Override
+    public void sendMessages(List<MAVLinkPacket> packets) throws IOException {
         if (session.isOpen()) {
             synchronized(sendLock) {
+                ByteBuffer buffer = bufferPool.acquire();
+
                 try {
-                    packet.seq = seq++;
+                    RemoteEndpoint.Basic remote = session.getBasicRemote();
+
+                    for (MAVLinkPacket packet : packets) {
+                        if (packet == null)
+                            continue;
+
+                        packet.seq = seq++;
 
-                    byte[] data = packet.encodePacket();
+                        buffer.clear();
+                        packet.encodeTo(buffer);
+                        buffer.flip();
 
-                    session.getBasicRemote().sendBinary(ByteBuffer.wrap(data));
+                        remote.sendBinary(buffer);
 
-                    MAVLinkLogger.log(Level.DEBUG, ">>", packet);
+                        MAVLinkLogger.log(Level.DEBUG, ">>", packet);
+                    }
                 } catch (IOException ex) {
                     logger.warn("Failed to send MAVLink message to socket. " + ex.getMessage());
+                } finally {
+                    bufferPool.release(buffer);
                 }
             }
         }
+    }
+
+    /**
+     * Sends each frame as a separate binary message.
+     */
+    @Override
+    public void sendFrames(MAVLinkFrames frames) throws IOException {
+        if (session.isOpen()) {
+            synchronized(sendLock) {
+                ByteBuffer buffer = bufferPool.acquire();
 
+                try {
+                    RemoteEndpoint.Basic remote = session.getBasicRemote();
+
+                    for (int i = 0; i < frames.size(); i++) {
+                        buffer.clear();
+                        frames.encodeTo(i, seq++, buffer);
+                        buffer.flip();
+
+                        remote.sendBinary(buffer);
+                    }
+                } catch (IOException ex) {
+                    logger.warn("Failed to send MAVLink message to socket. " + ex.getMessage());
+                } finally {
+                    bufferPool.release(buffer);
+                }
+            }
+        }
     }
 
     @Override
     public void close() {
-        // TODO Auto-generated method stub
-
+        try {
+            session.close();
+        } catch (IOException ex) {
+            logger.warn("Failed to close WebSocket session. " + ex.getMessage());
+        }
     }
 
 }
@@ -0,0 +1,120 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.rockblock;
+
+/**
+ * Circuit breaker stops calls to a failing service for a while, so the 
+ * callers fail fast instead of waiting for timeouts.
+ * 
+ * The circuit opens after the specified number of consecutive failures. 
+ * After the open time one trial call is allowed, the circuit closes if the 
+ * call succeeds and opens again if it fails.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openTime;
+
+    private State state = State.CLOSED;
+    private int failures = 0;
+    private long openedAt = 0;
+    private long openCount = 0;
+
+    /**
+     * Constructs instance of CircuitBreaker
+     * 
+     * @param failureThreshold number of consecutive failures that opens the circuit
+     * @param openTime time in milliseconds the circuit stays open
+     */
+    public CircuitBreaker(int failureThreshold, long openTime) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("Failure threshold must be positive.");
+        }
+
+        this.failureThreshold = failureThreshold;
+        this.openTime = openTime;
+    }
+
+    /**
+     * Returns true if a call is allowed.
+     */
+    public synchronized boolean allowRequest() {
+        switch (state) {
+        case CLOSED:
+            return true;
+        case OPEN:
+            if (System.currentTimeMillis() - openedAt >= openTime) {
+                // Allow one trial call
+                state = State.HALF_OPEN;
+                return true;
+            }
+            return false;
+        default:
+            // The trial call is in progress
+            return false;
+        }
+    }
+
+    /**
+     * Records successful call.
+     */
+    public synchronized void recordSuccess() {
+        failures = 0;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Records failed call.
+     */
+    public synchronized void recordFailure() {
+        failures++;
+
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            if (state != State.OPEN) {
+                openCount++;
+            }
+
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns number of times the circuit was opened.
+     */
+    public synchronized long getOpenCount() {
+        return openCount;
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.rockblock;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.MAVLink.MAVLinkPacket;
+
+/**
+ * Packs MAVLink packets into SBD mobile-terminated messages.
+ * 
+ * Each message is filled with as many whole MAVLink frames as fit into it.
+ * Frames are never split between messages and are packed in FIFO order, so
+ * the receiving side can parse the message as a stream of MAVLink frames.
+ */
+public class MTMessagePacker {
+
+    // Maximum size of SBD mobile-terminated message in bytes
+    public final static int MT_MESSAGE_MAX_SIZE = 270;
+
+    private final int maxSize;
+    private final boolean mavlink2;
+
+    /**
+     * Constructs instance of MTMessagePacker
+     * 
+     * @param mavlink2 If true, packets are translated to MAVLink 2
+     */
+    public MTMessagePacker(boolean mavlink2) {
+        this(MT_MESSAGE_MAX_SIZE, mavlink2);
+    }
+
+    /**
+     * Constructs instance of MTMessagePacker
+     * 
+     * @param maxSize maximum size of a message in bytes
+     * @param mavlink2 If true, packets are translated to MAVLink 2
+     */
+    public MTMessagePacker(int maxSize, boolean mavlink2) {
+        this.maxSize = maxSize;
+        this.mavlink2 = mavlink2;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Translates the packet to the MAVLink version used in MT messages.
+     */
+    public MAVLinkPacket translate(MAVLinkPacket packet) {
+        return mavlink2 ? packet.toMavlink2() : packet.toMavlink1();
+    }
+
+    /**
+     * Returns size of the packet frame in MT message.
+     */
+    public int getFrameLength(MAVLinkPacket packet) {
+        return translate(packet).getEncodedLength();
+    }
+
+    /**
+     * Packs the packets into as few messages as possible.
+     * 
+     * @param packets MAVLink packets
+     * @return list of the messages packets, each fits into one MT message
+     */
+    public List<List<MAVLinkPacket>> pack(List<MAVLinkPacket> packets) {
+        List<List<MAVLinkPacket>> messages = new ArrayList<List<MAVLinkPacket>>();
+
+        List<MAVLinkPacket> message = null;
+        int size = 0;
+
+        for (MAVLinkPacket packet : packets) {
+            int length = getFrameLength(packet);
+
+            if (message == null || size + length > maxSize) {
+                message = new ArrayList<MAVLinkPacket>();
+                messages.add(message);
+                size = 0;
+            }
+
+            message.add(packet);
+            size += length;
+        }
+
+        return messages;
+    }
+
+    /**
+     * Encodes the packets into one MT message.
+     * 
+     * @param packets MAVLink packets that fit into one message
+     * @return message data
+     */
+    public byte[] encode(List<MAVLinkPacket> packets) {
+        List<byte[]> frames = new ArrayList<byte[]>(packets.size());
+        int size = 0;
+
+        for (MAVLinkPacket packet : packets) {
+            byte[] frame = translate(packet).encodePacket();
+            frames.add(frame);
+            size += frame.length;
+        }
+
+        if (size > maxSize) {
+            throw new IllegalArgumentException("MAVLink frames do not fit into MT message.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (byte[] frame : frames) {
+            buffer.put(frame);
+        }
+
+        return buffer.array();
+    }
+
+}
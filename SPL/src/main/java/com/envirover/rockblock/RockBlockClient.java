@@ -21,36 +21,70 @@ GNU General Public License for more details.
 You should have received a copy of the GNU General Public License
 along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
 */
-
 package com.envirover.rockblock;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.ArrayList;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.URLEncoder;
+import java.net.UnknownHostException;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.codec.binary.Hex;
-import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
-import org.apache.http.NameValuePair;
 import org.apache.http.client.ClientProtocolException;
-import org.apache.http.client.HttpClient;
-import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
 import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
 
 import com.MAVLink.MAVLinkPacket;
-import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkAsyncChannel;
+import com.envirover.mavlink.MAVLinkFrames;
 import com.envirover.mavlink.MAVLinkLogger;
 
 /**
  * Client class for RockBLOCK Web Services API.
- *
+ * 
+ * Messages are posted by a pool of worker threads over pooled HTTP 
+ * connections, the number of requests in flight is bounded by the pool size.
+ * Messages to the same IMEI are posted one at a time in the order they were
+ * sent, so only messages to different RockBLOCKs are posted in parallel.
+ * 
+ * Failed requests that are known not to be delivered (connection failures, 
+ * HTTP 5xx errors and RockBLOCK system errors) are retried with exponential 
+ * backoff and random jitter. Requests that timed out after they were sent 
+ * may have been delivered, so they are not retried to avoid paying for 
+ * duplicate messages. After several consecutive failures the circuit breaker
+ * fails the requests fast for a while instead of waiting for the timeouts.
  */
-public class RockBlockClient implements MAVLinkChannel {
+public class RockBlockClient implements MAVLinkAsyncChannel {
     // HTTP POST request parameters
 
     // IMEI of the RockBLOCK
@@ -62,12 +96,36 @@ public class RockBlockClient implements MAVLinkChannel {
     // Hex-encoded message.
     private final static String PARAM_DATA = "data"; 
 
-    private final HttpClient httpclient = HttpClients.createDefault();
+    // RockBLOCK Web Services error code of internal errors that may succeed if repeated
+    private final static String ERROR_SYSTEM = "99";
+
+    public final static int  DEFAULT_TIMEOUT       = 30000;
+    public final static int  DEFAULT_MAX_IN_FLIGHT = 2;
+    public final static int  DEFAULT_MAX_RETRIES   = 3;
+    public final static long DEFAULT_RETRY_BACKOFF = 1000;
+    public final static int  DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 5;
+    public final static long DEFAULT_CIRCUIT_BREAKER_OPEN_TIME = 60000;
+
+    private final static long MAX_RETRY_BACKOFF = 60000;
+
+    private final static Logger logger = Logger.getLogger(RockBlockClient.class);
 
-    private final String imei;
-    private final String username;
-    private final String password; 
     private final String serviceURL;
+    private final MTMessagePacker packer;
+    private final int maxRetries;
+    private final long retryBackoff;
+    private final CircuitBreaker circuitBreaker;
+
+    // Encoded request parameters that do not change between requests
+    private final String credentials;
+    private final String formPrefix;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpclient;
+    private final RequestConfig requestConfig;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final ConcurrentMap<String, SerialExecutor> imeiExecutors = new ConcurrentHashMap<String, SerialExecutor>();
 
     /**
      * Constructs instance of RockBlockClient
@@ -78,10 +136,94 @@ public class RockBlockClient implements MAVLinkChannel {
      * @param serviceURL RockBLOCK Web Services URL
      */
     public RockBlockClient(String imei, String username, String password, String serviceURL) {
-        this.imei = imei;
-        this.username = username;
-        this.password = password;
+        this(imei, username, password, serviceURL, false);
+    }
+
+    /**
+     * Constructs instance of RockBlockClient
+     * 
+     * @param imei The unique IMEI of RockBLOCK
+     * @param username Rock 7 Core username
+     * @param password Rock 7 Core password
+     * @param serviceURL RockBLOCK Web Services URL
+     * @param mavlink2 If true, packets are translated to MAVLink 2 before sending
+     */
+    public RockBlockClient(String imei, String username, String password, String serviceURL, boolean mavlink2) {
+        this(imei, username, password, serviceURL, mavlink2, DEFAULT_TIMEOUT, DEFAULT_MAX_IN_FLIGHT,
+             DEFAULT_MAX_RETRIES, DEFAULT_RETRY_BACKOFF,
+             new CircuitBreaker(DEFAULT_CIRCUIT_BREAKER_THRESHOLD, DEFAULT_CIRCUIT_BREAKER_OPEN_TIME));
+    }
+
+    /**
+     * Constructs instance of RockBlockClient
+     * 
+     * @param imei The unique IMEI of RockBLOCK
+     * @param username Rock 7 Core username
+     * @param password Rock 7 Core password
+     * @param serviceURL RockBLOCK Web Services URL
+     * @param mavlink2 If true, packets are translated to MAVLink 2 before sending
+     * @param timeout connect and read timeout in milliseconds
+     * @param maxInFlight maximum number of requests in flight and sends queued
+     *        to the RockBLOCKs
+     * @param maxRetries maximum number of retries of a failed request
+     * @param retryBackoff initial backoff in milliseconds before retrying a failed request
+     * @param circuitBreaker circuit breaker of the requests
+     */
+    public RockBlockClient(String imei, String username, String password, String serviceURL, boolean mavlink2,
+                           int timeout, int maxInFlight, int maxRetries, long retryBackoff,
+                           CircuitBreaker circuitBreaker) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Invalid request timeout.");
+        }
+
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Invalid maximum number of requests in flight.");
+        }
+
+        if (maxRetries < 0 || retryBackoff < 0) {
+            throw new IllegalArgumentException("Invalid retry parameters.");
+        }
+
         this.serviceURL = serviceURL;
+        this.packer = new MTMessagePacker(mavlink2);
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.circuitBreaker = circuitBreaker;
+
+        credentials = "&" + PARAM_USERNAME + "=" + encode(username)
+                    + "&" + PARAM_PASSWORD + "=" + encode(password)
+                    + "&" + PARAM_DATA + "=";
+        formPrefix = getFormPrefix(imei);
+
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxInFlight);
+        connectionManager.setDefaultMaxPerRoute(maxInFlight);
+
+        requestConfig = RequestConfig.custom()
+                                     .setConnectTimeout(timeout)
+                                     .setSocketTimeout(timeout)
+                                     .setConnectionRequestTimeout(timeout)
+                                     .build();
+
+        // Failed requests are retried by the client with backoff
+        httpclient = HttpClients.custom()
+                                .setConnectionManager(connectionManager)
+                                .setDefaultRequestConfig(requestConfig)
+                                .disableAutomaticRetries()
+                                .build();
+
+        inFlight = new Semaphore(maxInFlight);
+
+        executor = Executors.newFixedThreadPool(maxInFlight, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "rockblock-client-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
     }
 
     /**
@@ -93,47 +235,359 @@ public class RockBlockClient implements MAVLinkChannel {
         if (packet == null)
             return;
 
-        HttpPost httppost = new HttpPost(serviceURL);
+        sendMessages(Collections.singletonList(packet));
+    }
+
+    /**
+     * Sends MAVLink packets to RockBLOCK and waits until they are delivered.
+     * 
+     * The packets are packed in FIFO order into as few MT messages as possible,
+     * each MT message is sent by a separate request. 
+     * 
+     * @param packets MAVLink packets to send.
+     */
+    @Override
+    public void sendMessages(List<MAVLinkPacket> packets) throws ClientProtocolException, IOException {
+        send(formPrefix, packets);
+    }
 
-        String data = Hex.encodeHexString(packet.encodePacket());
+    /**
+     * Starts sending MAVLink packets to RockBLOCK.
+     * 
+     * The packets are packed in FIFO order into as few MT messages as possible,
+     * the MT messages are sent one after another by a worker thread after the
+     * previously started sends to the same RockBLOCK complete. 
+     * 
+     * @param packets MAVLink packets to send.
+     * @return future that completes when all the MT messages are delivered 
+     * @throws InterruptedException if interrupted while waiting for a free worker
+     */
+    @Override
+    public Future<Void> sendMessagesAsync(List<MAVLinkPacket> packets) throws InterruptedException {
+        return sendAsync(formPrefix, packets);
+    }
 
-        // Request parameters and other properties.
-        List<NameValuePair> params = new ArrayList<NameValuePair>(2);
-        params.add(new BasicNameValuePair(PARAM_IMEI, imei));
-        params.add(new BasicNameValuePair(PARAM_USERNAME, username));
-        params.add(new BasicNameValuePair(PARAM_PASSWORD, password));
-        params.add(new BasicNameValuePair(PARAM_DATA, data));
-        httppost.setEntity(new UrlEncodedFormEntity(params, "UTF-8"));
+    @Override
+    public void sendFrames(MAVLinkFrames frames) throws ClientProtocolException, IOException {
+        sendMessages(frames.toPackets());
+    }
 
-        HttpResponse response = httpclient.execute(httppost);
+    @Override
+    public MAVLinkPacket receiveMessage() throws IOException {
+        throw new UnsupportedOperationException();
+    }
 
-        HttpEntity entity = response.getEntity();
+    /**
+     * Returns channel that sends messages to the RockBLOCK with the specified
+     * IMEI. The channel shares the connections, workers and the circuit 
+     * breaker of this client.
+     * 
+     * @param imei The unique IMEI of RockBLOCK
+     * @return MAVLink channel
+     */
+    public MAVLinkAsyncChannel getChannel(String imei) {
+        return new IMEIChannel(getFormPrefix(imei));
+    }
 
-        String responseString = null;
+    /**
+     * Returns circuit breaker of RockBLOCK Web Services requests.
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Closes the client. The sends that were not completed fail with IOException.
+     */
+    @Override
+    public void close() {
+        IOException closed = new IOException("RockBLOCK client is closed.");
+
+        for (SerialExecutor serial : imeiExecutors.values()) {
+            serial.fail(closed);
+        }
+
+        executor.shutdownNow();
+
+        try {
+            httpclient.close();
+        } catch (IOException e) {
+            logger.warn(e.getMessage());
+        }
+    }
+
+    private void send(String prefix, List<MAVLinkPacket> packets) throws IOException {
+        try {
+            sendAsync(prefix, packets).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Sending MT message interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private Future<Void> sendAsync(final String prefix, List<MAVLinkPacket> packets) throws InterruptedException {
+        final List<List<MAVLinkPacket>> messages = packer.pack(packets);
+
+        inFlight.acquire();
+
+        SendTask task = new SendTask(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                for (List<MAVLinkPacket> message : messages) {
+                    postWithRetries(prefix, packer.encode(message));
+
+                    for (MAVLinkPacket packet : message) {
+                        MAVLinkLogger.log(Level.INFO, "MT", packet);
+                    }
+                }
+
+                return null;
+            }
+        });
+
+        getExecutor(prefix).execute(task);
+
+        return task;
+    }
+
+    // Returns executor that runs the sends to the IMEI one at a time
+    private SerialExecutor getExecutor(String prefix) {
+        SerialExecutor serial = imeiExecutors.get(prefix);
+
+        if (serial == null) {
+            serial = new SerialExecutor();
+            SerialExecutor existing = imeiExecutors.putIfAbsent(prefix, serial);
+            if (existing != null) {
+                serial = existing;
+            }
+        }
+
+        return serial;
+    }
+
+    private void postWithRetries(String prefix, byte[] message) throws IOException, InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            if (!circuitBreaker.allowRequest()) {
+                throw new IOException("RockBLOCK Web Services requests are suspended after repeated failures.");
+            }
 
-        if (entity != null) {
-            InputStream responseStream = entity.getContent();
             try {
-                responseString = IOUtils.toString(responseStream);
-            } finally {
-                responseStream.close();
+                post(prefix, message);
+                circuitBreaker.recordSuccess();
+                return;
+            } catch (RockBlockException e) {
+                if (!e.isRetryable()) {
+                    // The service is up, it just rejected the message
+                    circuitBreaker.recordSuccess();
+                    throw e;
+                }
+
+                circuitBreaker.recordFailure();
+
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+            } catch (IOException e) {
+                circuitBreaker.recordFailure();
+
+                if (!isNotSent(e) || attempt >= maxRetries) {
+                    throw e;
+                }
             }
+
+            long delay = getBackoff(attempt);
+            logger.warn(MessageFormat.format("Failed to post MT message. Retrying in {0} ms.", delay));
+            Thread.sleep(delay);
         }
+    }
+
+    // Returns true if the request failed before it was sent to the service
+    private static boolean isNotSent(IOException e) {
+        return e instanceof ConnectException || e instanceof ConnectTimeoutException ||
+               e instanceof ConnectionPoolTimeoutException || e instanceof UnknownHostException;
+    }
+
+    // Exponential backoff with full jitter
+    private long getBackoff(int attempt) {
+        long max = Math.min(MAX_RETRY_BACKOFF, retryBackoff << Math.min(attempt, 20));
+        return max > 0 ? ThreadLocalRandom.current().nextLong(max + 1) : 0;
+    }
+
+    private void post(String prefix, byte[] message) throws ClientProtocolException, IOException {
+        HttpPost httppost = new HttpPost(serviceURL);
+        httppost.setConfig(requestConfig);
+        httppost.setEntity(new StringEntity(prefix + Hex.encodeHexString(message), 
+                                            ContentType.APPLICATION_FORM_URLENCODED));
 
-        if (responseString == null || responseString.startsWith("FAILED")) {
-            throw new IOException(String.format("Failed to post message to RockBLOCK API. %s", responseString));
+        CloseableHttpResponse response = httpclient.execute(httppost);
+
+        String responseString = null;
+        int status;
+
+        try {
+            status = response.getStatusLine().getStatusCode();
+
+            HttpEntity entity = response.getEntity();
+
+            if (entity != null) {
+                responseString = EntityUtils.toString(entity, "UTF-8");
+            }
+        } finally {
+            response.close();
+        }
+
+        if (status >= 500) {
+            throw new RockBlockException(String.format("RockBLOCK API HTTP error %d.", status), true);
+        }
+
+        if (responseString == null || status != 200) {
+            throw new RockBlockException(String.format("Failed to post message to RockBLOCK API. HTTP status %d.", status), false);
+        }
+
+        // Error response format is FAILED,<error code>,<error description>
+        if (responseString.startsWith("FAILED")) {
+            String[] fields = responseString.split(",", 3);
+            boolean retryable = fields.length > 1 && ERROR_SYSTEM.equals(fields[1].trim());
+            throw new RockBlockException(String.format("Failed to post message to RockBLOCK API. %s", responseString), retryable);
         }
+    }
 
-        MAVLinkLogger.log(Level.INFO, "MT", packet);
+    private String getFormPrefix(String imei) {
+        return PARAM_IMEI + "=" + encode(imei) + credentials;
     }
 
-    @Override
-    public MAVLinkPacket receiveMessage() throws IOException {
-        throw new UnsupportedOperationException();
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8");
+        } catch (IOException e) {
+            // UTF-8 is always supported
+            throw new IllegalStateException(e);
+        }
     }
 
-    @Override
-    public void close() {
+    /**
+     * Send of MT messages that releases its request in flight slot when it
+     * is completed in any way.
+     */
+    private class SendTask extends FutureTask<Void> {
+
+        SendTask(Callable<Void> callable) {
+            super(callable);
+        }
+
+        // Completes the send with the exception unless it is already completed
+        void fail(Throwable e) {
+            setException(e);
+        }
+
+        @Override
+        protected void done() {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Runs the tasks one at a time in the order they were submitted on the
+     * worker threads.
+     */
+    private class SerialExecutor {
+
+        private final Queue<SendTask> tasks = new ArrayDeque<SendTask>();
+        private SendTask active = null;
+
+        synchronized void execute(SendTask task) {
+            tasks.add(task);
+
+            if (active == null) {
+                scheduleNext();
+            }
+        }
+
+        /**
+         * Fails the active task and the tasks waiting for it.
+         */
+        synchronized void fail(IOException e) {
+            if (active != null) {
+                active.fail(e);
+            }
+
+            for (SendTask task : tasks) {
+                task.fail(e);
+            }
+
+            tasks.clear();
+        }
+
+        private synchronized void scheduleNext() {
+            while ((active = tasks.poll()) != null) {
+                final SendTask task = active;
+
+                try {
+                    executor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                task.run();
+                            } finally {
+                                scheduleNext();
+                            }
+                        }
+                    });
+                    return;
+                } catch (RejectedExecutionException e) {
+                    task.fail(new IOException("RockBLOCK client is closed."));
+                }
+            }
+        }
+    }
+
+    /**
+     * Channel to RockBLOCK with a different IMEI.
+     */
+    private class IMEIChannel implements MAVLinkAsyncChannel {
+
+        private final String prefix;
+
+        IMEIChannel(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public MAVLinkPacket receiveMessage() throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sendMessage(MAVLinkPacket packet) throws IOException {
+            if (packet != null) {
+                send(prefix, Collections.singletonList(packet));
+            }
+        }
+
+        @Override
+        public void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+            send(prefix, packets);
+        }
+
+        @Override
+        public void sendFrames(MAVLinkFrames frames) throws IOException {
+            send(prefix, frames.toPackets());
+        }
+
+        @Override
+        public Future<Void> sendMessagesAsync(List<MAVLinkPacket> packets) throws InterruptedException {
+            return sendAsync(prefix, packets);
+        }
+
+        @Override
+        public void close() {
+            // The connections are closed by the client
+        }
     }
 
 }
@@ -28,8 +28,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.codec.DecoderException;
@@ -45,6 +47,8 @@ import com.MAVLink.MAVLinkPacket;
 import com.MAVLink.Parser;
 import com.envirover.mavlink.MAVLinkChannel;
 import com.envirover.mavlink.MAVLinkLogger;
+import com.envirover.mavlink.MAVLinkShadow;
+import com.envirover.mavlink.MAVLinkShadowRegistry;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 
@@ -58,17 +62,21 @@ public class RockBlockHttpHandler implements HttpHandler {
     private final static Logger logger = Logger.getLogger(RockBlockHttpHandler.class);
 
     private final MAVLinkChannel dst;
-    private final String imei;
+    private final MAVLinkShadowRegistry registry;
 
     /**
      * Constructs instance of RockBlockHttpHandler.
      * 
+     * Messages are accepted from the RockBLOCKs of the vehicles registered 
+     * in the registry. The system id of the messages is set to the system id 
+     * of the vehicle with the message IMEI.
+     * 
      * @param dst MAVLink message handler
-     * @param imei RockBLOCK imei
+     * @param registry vehicle shadows registry
      */
-    public RockBlockHttpHandler(MAVLinkChannel dst, String imei) {
+    public RockBlockHttpHandler(MAVLinkChannel dst, MAVLinkShadowRegistry registry) {
         this.dst = dst;
-        this.imei = imei;
+        this.registry = registry;
     }
 
     @Override
@@ -87,13 +95,18 @@ public class RockBlockHttpHandler implements HttpHandler {
 
             if (message.data == null || message.data.isEmpty()) {
                 logger.info(MessageFormat.format("Empty MO message received ''{0}''.", message.toString()));
-            } else if (message.imei.equalsIgnoreCase(imei)) {
-                MAVLinkPacket packet = message.getPacket();
+            } else if (registry.getByIMEI(message.imei) != null) {
+                MAVLinkShadow shadow = registry.getByIMEI(message.imei);
+
+                List<MAVLinkPacket> packets = message.getPackets();
     
-                if (packet != null) {
-                    MAVLinkLogger.log(Level.INFO, "MO", packet);
+                if (!packets.isEmpty()) {
+                    for (MAVLinkPacket packet : packets) {
+                        packet.sysid = shadow.getSystemId();
+                        MAVLinkLogger.log(Level.INFO, "MO", packet);
+                    }
     
-                    dst.sendMessage(packet);
+                    dst.sendMessages(packets);
                 } else {
                     logger.warn(MessageFormat.format("Invalid MAVLink message ''{0}''.", message.toString()));
                 }
@@ -167,15 +180,22 @@ public class RockBlockHttpHandler implements HttpHandler {
             }
         }
 
-        public MAVLinkPacket getPacket() throws DecoderException {
+        /**
+         * Returns all MAVLink packets of the message in the order they were 
+         * packed. MAVLink 2 packets are translated to MAVLink 1 used by the 
+         * ground control stations.
+         */
+        public List<MAVLinkPacket> getPackets() throws DecoderException {
             Parser parser = new Parser();
-            MAVLinkPacket packet = null;
 
-            for (byte b : Hex.decodeHex(data.toCharArray())) {
-                packet = parser.mavlink_parse_char(b & 0xFF);
+            List<MAVLinkPacket> packets = parser.parse(ByteBuffer.wrap(Hex.decodeHex(data.toCharArray())));
+
+            List<MAVLinkPacket> result = new ArrayList<MAVLinkPacket>(packets.size());
+            for (MAVLinkPacket packet : packets) {
+                result.add(packet.toMavlink1());
             }
 
-            return packet;
+            return result;
         }
 
         @Override
@@ -27,6 +27,9 @@ package com.envirover.spl;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.commons.cli.BasicParser;
@@ -38,6 +41,9 @@ import org.apache.commons.cli.ParseException;
 
 import com.MAVLink.enums.MAV_AUTOPILOT;
 import com.MAVLink.enums.MAV_TYPE;
+import com.envirover.mavlink.MAVLinkMessageQueue;
+import com.envirover.mavlink.MAVLinkShadowJournal;
+import com.envirover.rockblock.RockBlockClient;
 
 /**
  * Provides access to configuration properties specified in app.properties file
@@ -48,15 +54,34 @@ public class Config {
     
     // Configuration properties
     private final static String PROP_QUEUE_SIZE         = "queue.size";
+    private final static String PROP_QUEUE_OVERFLOW     = "queue.overflow.policy";
     private final static String PROP_ROCKBLOCK_PORT     = "rockblock.port";
     private final static String PROP_MAVLINK_PORT       = "mavlink.port";
     private final static String PROP_SHADOW_PORT        = "shadow.port";
     private final static String PROP_WS_PORT            = "ws.port";
+    private final static String PROP_TCP_SELECTORS      = "tcp.selectors";
     private final static String PROP_ROCKBLOCK_URL      = "rockblock.url";
     private final static String PROP_ROCKBLOCK_IMEI     = "rockblock.imei";
     private final static String PROP_ROCKBLOCK_USERNAME = "rockblock.username";
     private final static String PROP_ROCKBLOCK_PASSWORD = "rockblock.password";
+    private final static String PROP_ROCKBLOCK_MAVLINK2 = "rockblock.mavlink2";
+    private final static String PROP_ROCKBLOCK_TIMEOUT  = "rockblock.timeout";
+    private final static String PROP_ROCKBLOCK_IN_FLIGHT = "rockblock.max.in.flight";
+    private final static String PROP_ROCKBLOCK_RETRIES  = "rockblock.max.retries";
+    private final static String PROP_ROCKBLOCK_BACKOFF  = "rockblock.retry.backoff";
+    private final static String PROP_MT_MAX_LATENCY     = "rockblock.mt.max.latency";
+    private final static String PROP_MT_SCHEDULING      = "rockblock.mt.scheduling";
+    private final static String PROP_MT_LANE_WEIGHTS    = "rockblock.mt.lane.weights";
     private final static String PROP_HEARTBEAT_INTERVAL = "heartbeat.interval";
+    private final static String PROP_PARAM_STREAM_RATE  = "param.stream.rate";
+    private final static String PROP_TIMER_THREADS      = "timer.dispatch.threads";
+    private final static String PROP_JOURNAL_DIR        = "shadow.journal.dir";
+    private final static String PROP_JOURNAL_SIZE       = "shadow.journal.size";
+    private final static String PROP_JOURNAL_COMMIT     = "shadow.journal.commit.interval";
+    private final static String PROP_MO_CLIENT_QUEUE    = "mo.client.queue.size";
+    private final static String PROP_MO_SLOW_CLIENT     = "mo.slow.client.policy";
+    private final static String PROP_MO_THREADS         = "mo.broadcast.threads";
+    private final static String PROP_MO_STALL_TIMEOUT   = "mo.client.stall.timeout";
     private final static String PROP_MAV_AUTOPILOT      = "mav.autopilot";
     private final static String PROP_MAV_TYPE           = "mav.type";
 
@@ -75,8 +100,26 @@ public class Config {
     private final static Integer DEFAULT_MAVLINK_PORT   = 5760;
     private final static Integer DEFAULT_SHADOW_PORT    = 5757;
     private final static Integer DEFAULT_WS_PORT        = 8000;
+    private final static Integer DEFAULT_TCP_SELECTORS  = 0;
     private final static Integer DEFAULT_QUEUE_SIZE     = 500;
+    private final static MAVLinkMessageQueue.OverflowPolicy DEFAULT_QUEUE_OVERFLOW = MAVLinkMessageQueue.OverflowPolicy.DROP_OLDEST;
     private final static Integer DEFAULT_HEARTBEAT_INT  = 1000;
+    private final static Integer DEFAULT_PARAM_STREAM_RATE = ParamStreamer.DEFAULT_RATE;
+    private final static Integer DEFAULT_TIMER_THREADS  = HashedWheelTimer.DEFAULT_DISPATCH_THREADS;
+    private final static Integer DEFAULT_MO_CLIENT_QUEUE = 100;
+    private final static MOMessageHub.SlowClientPolicy DEFAULT_MO_SLOW_CLIENT = MOMessageHub.SlowClientPolicy.DROP_OLDEST;
+    private final static Integer DEFAULT_MO_THREADS     = MOMessageHub.DEFAULT_THREADS;
+    private final static Long    DEFAULT_MO_STALL_TIMEOUT = MOMessageHub.DEFAULT_STALL_TIMEOUT;
+    private final static Boolean DEFAULT_MAVLINK2       = false;
+    private final static Integer DEFAULT_ROCKBLOCK_TIMEOUT   = RockBlockClient.DEFAULT_TIMEOUT;
+    private final static Integer DEFAULT_ROCKBLOCK_IN_FLIGHT = RockBlockClient.DEFAULT_MAX_IN_FLIGHT;
+    private final static Integer DEFAULT_ROCKBLOCK_RETRIES   = RockBlockClient.DEFAULT_MAX_RETRIES;
+    private final static Long    DEFAULT_ROCKBLOCK_BACKOFF   = RockBlockClient.DEFAULT_RETRY_BACKOFF;
+    private final static Integer DEFAULT_MT_MAX_LATENCY = 1000;
+    private final static MTMessageCoalescer.SchedulingPolicy DEFAULT_MT_SCHEDULING = MTMessageCoalescer.SchedulingPolicy.STRICT;
+    private final static int[]   DEFAULT_MT_LANE_WEIGHTS = {4, 2, 1};
+    private final static Integer DEFAULT_JOURNAL_SIZE   = MAVLinkShadowJournal.DEFAULT_SIZE;
+    private final static Long    DEFAULT_JOURNAL_COMMIT = MAVLinkShadowJournal.DEFAULT_COMMIT_INTERVAL;
     private final static Short   DEFAULT_AUTOPILOT      = MAV_AUTOPILOT.MAV_AUTOPILOT_ARDUPILOTMEGA;
     private final static Short   DEFAULT_MAV_TYPE       = MAV_TYPE.MAV_TYPE_GROUND_ROVER;
 
@@ -86,11 +129,31 @@ public class Config {
     private Integer mavlinkPort       = DEFAULT_MAVLINK_PORT;
     private Integer shadowPort        = DEFAULT_SHADOW_PORT;
     private Integer wsPort            = DEFAULT_WS_PORT;
+    private Integer tcpSelectors      = DEFAULT_TCP_SELECTORS;
     private Integer queueSize         = DEFAULT_QUEUE_SIZE;
+    private MAVLinkMessageQueue.OverflowPolicy queueOverflowPolicy = DEFAULT_QUEUE_OVERFLOW;
     private Integer heartbeatInterval = DEFAULT_HEARTBEAT_INT;
+    private Integer paramStreamRate   = DEFAULT_PARAM_STREAM_RATE;
+    private Integer timerThreads      = DEFAULT_TIMER_THREADS;
+    private Integer moClientQueueSize = DEFAULT_MO_CLIENT_QUEUE;
+    private MOMessageHub.SlowClientPolicy moSlowClientPolicy = DEFAULT_MO_SLOW_CLIENT;
+    private Integer moThreads         = DEFAULT_MO_THREADS;
+    private Long    moStallTimeout    = DEFAULT_MO_STALL_TIMEOUT;
     private String  imei              = null;
+    private Map<String, Integer> vehicles = new LinkedHashMap<String, Integer>();
     private String  username          = null;
     private String  password          = null;
+    private Boolean mavlink2          = DEFAULT_MAVLINK2;
+    private Integer rockblockTimeout  = DEFAULT_ROCKBLOCK_TIMEOUT;
+    private Integer rockblockInFlight = DEFAULT_ROCKBLOCK_IN_FLIGHT;
+    private Integer rockblockRetries  = DEFAULT_ROCKBLOCK_RETRIES;
+    private Long    rockblockBackoff  = DEFAULT_ROCKBLOCK_BACKOFF;
+    private Integer mtMaxLatency      = DEFAULT_MT_MAX_LATENCY;
+    private MTMessageCoalescer.SchedulingPolicy mtScheduling = DEFAULT_MT_SCHEDULING;
+    private int[]   mtLaneWeights     = DEFAULT_MT_LANE_WEIGHTS;
+    private String  journalDir        = null;
+    private Integer journalSize       = DEFAULT_JOURNAL_SIZE;
+    private Long    journalCommit     = DEFAULT_JOURNAL_COMMIT;
     private Short   autopilot         = DEFAULT_AUTOPILOT;
     private Short   mavType           = DEFAULT_MAV_TYPE;
 
@@ -152,19 +215,101 @@ public class Config {
         if (props.getProperty(PROP_QUEUE_SIZE) != null)
             queueSize = Integer.valueOf(props.getProperty(PROP_QUEUE_SIZE));
 
+        if (props.getProperty(PROP_QUEUE_OVERFLOW) != null) {
+            try {
+                queueOverflowPolicy = MAVLinkMessageQueue.OverflowPolicy.valueOf(props.getProperty(PROP_QUEUE_OVERFLOW).trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                System.out.println(MessageFormat.format("Invalid value of configuration property ''{0}''.", PROP_QUEUE_OVERFLOW));
+                return false;
+            }
+        }
+
         if (props.getProperty(PROP_HEARTBEAT_INTERVAL) != null)
             heartbeatInterval = Integer.valueOf(props.getProperty(PROP_HEARTBEAT_INTERVAL));
 
+        try {
+            loadLimits(props);
+        } catch (IllegalArgumentException ex) {
+            System.out.println(ex.getMessage());
+            return false;
+        }
+
+        if (props.getProperty(PROP_MO_SLOW_CLIENT) != null) {
+            try {
+                moSlowClientPolicy = MOMessageHub.SlowClientPolicy.valueOf(props.getProperty(PROP_MO_SLOW_CLIENT).trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                System.out.println(MessageFormat.format("Invalid value of configuration property ''{0}''.", PROP_MO_SLOW_CLIENT));
+                return false;
+            }
+        }
+
         if (props.getProperty(PROP_ROCKBLOCK_URL) != null)
             rockblockUrl = props.getProperty(PROP_ROCKBLOCK_URL);
 
+        if (props.getProperty(PROP_ROCKBLOCK_MAVLINK2) != null)
+            mavlink2 = Boolean.valueOf(props.getProperty(PROP_ROCKBLOCK_MAVLINK2));
+
+        if (props.getProperty(PROP_MT_SCHEDULING) != null) {
+            try {
+                mtScheduling = MTMessageCoalescer.SchedulingPolicy.valueOf(props.getProperty(PROP_MT_SCHEDULING).trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                System.out.println(MessageFormat.format("Invalid value of configuration property ''{0}''.", PROP_MT_SCHEDULING));
+                return false;
+            }
+        }
+
+        if (props.getProperty(PROP_MT_LANE_WEIGHTS) != null) {
+            String[] weights = props.getProperty(PROP_MT_LANE_WEIGHTS).split(",");
+
+            try {
+                if (weights.length != MTMessageCoalescer.Lane.values().length)
+                    throw new IllegalArgumentException();
+
+                mtLaneWeights = new int[weights.length];
+                for (int i = 0; i < weights.length; i++) {
+                    mtLaneWeights[i] = Integer.parseInt(weights[i].trim());
+
+                    if (mtLaneWeights[i] <= 0)
+                        throw new IllegalArgumentException();
+                }
+            } catch (IllegalArgumentException ex) {
+                System.out.println(MessageFormat.format("Invalid value of configuration property ''{0}''.", PROP_MT_LANE_WEIGHTS));
+                return false;
+            }
+        }
+
+        if (props.getProperty(PROP_JOURNAL_DIR) != null && !props.getProperty(PROP_JOURNAL_DIR).trim().isEmpty())
+            journalDir = props.getProperty(PROP_JOURNAL_DIR).trim();
+
         imei = cmd.getOptionValue(CLI_OPTION_IMEI, props.getProperty(PROP_ROCKBLOCK_IMEI)); 
 
-        if (imei == null || imei.isEmpty()) {
+        if (imei == null || imei.trim().isEmpty()) {
             System.out.println(MessageFormat.format("Required configuration property ''{0}'' is not set.", PROP_ROCKBLOCK_IMEI));
             return false;
         }
 
+        // Comma separated list of imei[:sysid] items
+        vehicles = new LinkedHashMap<String, Integer>();
+        try {
+            for (String vehicle : imei.split(",")) {
+                String[] tokens = vehicle.split(":");
+                String vehicleImei = tokens[0].trim();
+                int sysid = tokens.length > 1 ? Integer.parseInt(tokens[1].trim()) : vehicles.size() + 1;
+
+                if (vehicleImei.isEmpty() || tokens.length > 2 || sysid < 1 || sysid > 255 ||
+                    vehicles.containsKey(vehicleImei) || vehicles.containsValue(sysid)) {
+                    throw new IllegalArgumentException();
+                }
+
+                vehicles.put(vehicleImei, sysid);
+            }
+        } catch (IllegalArgumentException ex) {
+            System.out.println(MessageFormat.format("Invalid value of configuration property ''{0}''.", PROP_ROCKBLOCK_IMEI));
+            return false;
+        }
+
+        imei = vehicles.keySet().iterator().next();
+
         username = cmd.getOptionValue(CLI_OPTION_USERNAME, props.getProperty(PROP_ROCKBLOCK_USERNAME));
 
         if (username == null || username.isEmpty()) {
@@ -186,6 +331,75 @@ public class Config {
         return true;
     }
 
+    /**
+     * Loads the numeric limits of the server.
+     * 
+     * @throws IllegalArgumentException if a value is not a number or is out of range
+     */
+    private void loadLimits(Properties props) {
+        tcpSelectors      = getInt(props, PROP_TCP_SELECTORS, tcpSelectors, 0);
+        paramStreamRate   = getInt(props, PROP_PARAM_STREAM_RATE, paramStreamRate, 1);
+        timerThreads      = getInt(props, PROP_TIMER_THREADS, timerThreads, 1);
+        moClientQueueSize = getInt(props, PROP_MO_CLIENT_QUEUE, moClientQueueSize, 1);
+        moThreads         = getInt(props, PROP_MO_THREADS, moThreads, 1);
+        moStallTimeout    = getLong(props, PROP_MO_STALL_TIMEOUT, moStallTimeout, 1);
+        rockblockTimeout  = getInt(props, PROP_ROCKBLOCK_TIMEOUT, rockblockTimeout, 1);
+        rockblockInFlight = getInt(props, PROP_ROCKBLOCK_IN_FLIGHT, rockblockInFlight, 1);
+        rockblockRetries  = getInt(props, PROP_ROCKBLOCK_RETRIES, rockblockRetries, 0);
+        rockblockBackoff  = getLong(props, PROP_ROCKBLOCK_BACKOFF, rockblockBackoff, 0);
+        mtMaxLatency      = getInt(props, PROP_MT_MAX_LATENCY, mtMaxLatency, 0);
+        journalSize       = getInt(props, PROP_JOURNAL_SIZE, journalSize, MAVLinkShadowJournal.MIN_SIZE);
+        journalCommit     = getLong(props, PROP_JOURNAL_COMMIT, journalCommit, 0);
+    }
+
+    /**
+     * Returns value of the integer property or the default value if the property is not set.
+     * 
+     * @throws IllegalArgumentException if the value is not an integer or is less than min
+     */
+    private static int getInt(Properties props, String name, int defaultValue, int min) {
+        String value = props.getProperty(name);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            int result = Integer.parseInt(value.trim());
+
+            if (result >= min) {
+                return result;
+            }
+        } catch (NumberFormatException ex) {
+        }
+
+        throw new IllegalArgumentException(MessageFormat.format("Invalid value of configuration property ''{0}''.", name));
+    }
+
+    /**
+     * Returns value of the long property or the default value if the property is not set.
+     * 
+     * @throws IllegalArgumentException if the value is not an integer or is less than min
+     */
+    private static long getLong(Properties props, String name, long defaultValue, long min) {
+        String value = props.getProperty(name);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            long result = Long.parseLong(value.trim());
+
+            if (result >= min) {
+                return result;
+            }
+        } catch (NumberFormatException ex) {
+        }
+
+        throw new IllegalArgumentException(MessageFormat.format("Invalid value of configuration property ''{0}''.", name));
+    }
+
     public Integer getRockblockPort() {
         return rockblockPort;
     }
@@ -206,18 +420,88 @@ public class Config {
         return wsPort;
     }
 
+    /**
+     * Returns number of selector threads used by the TCP servers in event-driven
+     * mode, or 0 if each TCP client connection is served by its own thread.
+     */
+    public int getTcpSelectorThreads() {
+        return tcpSelectors;
+    }
+
     public Integer getQueueSize() {
         return queueSize;
     }
 
+    /**
+     * Returns policy applied when a message is sent to a full message queue.
+     */
+    public MAVLinkMessageQueue.OverflowPolicy getQueueOverflowPolicy() {
+        return queueOverflowPolicy;
+    }
+
     public Integer getHeartbeatInterval() {
         return heartbeatInterval;
     }
 
+    /**
+     * Returns maximum number of on-board parameters per second sent to a 
+     * client in response to PARAM_REQUEST_LIST.
+     */
+    public int getParamStreamRate() {
+        return paramStreamRate;
+    }
+
+    /**
+     * Returns number of threads that send heartbeats and on-board parameters 
+     * to the clients.
+     */
+    public int getTimerDispatchThreads() {
+        return timerThreads;
+    }
+
+    /**
+     * Returns capacity of the per-client ring buffers of MO messages.
+     */
+    public int getMOClientQueueSize() {
+        return moClientQueueSize;
+    }
+
+    /**
+     * Returns policy applied to the clients that do not read MO messages fast enough.
+     */
+    public MOMessageHub.SlowClientPolicy getMOSlowClientPolicy() {
+        return moSlowClientPolicy;
+    }
+
+    /**
+     * Returns number of threads that send MO messages to the clients.
+     */
+    public int getMOBroadcastThreads() {
+        return moThreads;
+    }
+
+    /**
+     * Returns time in milliseconds after which a client that does not complete
+     * MO message send is disconnected.
+     */
+    public long getMOClientStallTimeout() {
+        return moStallTimeout;
+    }
+
+    /**
+     * Returns IMEI of the first vehicle.
+     */
     public String getRockBlockIMEI() {
         return imei;
     }
 
+    /**
+     * Returns MAVLink system ids of the vehicles by the IMEIs of their RockBLOCKs.
+     */
+    public Map<String, Integer> getVehicles() {
+        return Collections.unmodifiableMap(vehicles);
+    }
+
     public String getRockBlockUsername() {
         return username;
     }
@@ -230,6 +514,89 @@ public class Config {
         return rockblockUrl;
     }
 
+    /**
+     * Returns true if MAVLink 2 is used for mobile-terminated messages sent
+     * to RockBLOCK. MAVLink 2 truncates trailing zero bytes of message payloads,
+     * which reduces the size of SBD messages.
+     */
+    public boolean isRockBlockMAVLink2() {
+        return mavlink2;
+    }
+
+    /**
+     * Returns connect and read timeout in milliseconds of RockBLOCK Web Services requests.
+     */
+    public int getRockBlockTimeout() {
+        return rockblockTimeout;
+    }
+
+    /**
+     * Returns maximum number of RockBLOCK Web Services requests in flight.
+     */
+    public int getRockBlockMaxInFlight() {
+        return rockblockInFlight;
+    }
+
+    /**
+     * Returns maximum number of retries of a failed RockBLOCK Web Services request.
+     */
+    public int getRockBlockMaxRetries() {
+        return rockblockRetries;
+    }
+
+    /**
+     * Returns initial backoff in milliseconds before retrying a failed 
+     * RockBLOCK Web Services request.
+     */
+    public long getRockBlockRetryBackoff() {
+        return rockblockBackoff;
+    }
+
+    /**
+     * Returns maximum time in milliseconds a mobile-terminated message waits
+     * for more messages to be packed with it into one SBD message.
+     */
+    public int getMTMaxLatency() {
+        return mtMaxLatency;
+    }
+
+    /**
+     * Returns policy used to choose the priority lane of the next mobile-terminated message.
+     */
+    public MTMessageCoalescer.SchedulingPolicy getMTSchedulingPolicy() {
+        return mtScheduling;
+    }
+
+    /**
+     * Returns weights of urgent, parameters and bulk mobile-terminated messages 
+     * lanes used by weighted scheduling.
+     */
+    public int[] getMTLaneWeights() {
+        return mtLaneWeights.clone();
+    }
+
+    /**
+     * Returns directory of the shadow journal or null if the shadow state is not persisted.
+     */
+    public String getShadowJournalDir() {
+        return journalDir;
+    }
+
+    /**
+     * Returns size in bytes of the shadow journal file.
+     */
+    public int getShadowJournalSize() {
+        return journalSize;
+    }
+
+    /**
+     * Returns time window in milliseconds during which shadow updates are 
+     * collected into a single journal commit.
+     */
+    public long getShadowJournalCommitInterval() {
+        return journalCommit;
+    }
+
     public short getAutopilot() {
         return autopilot;
     }
@@ -0,0 +1,538 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.spl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Hashed timing wheel that runs delayed and periodic tasks of all the client 
+ * sessions on a single thread.
+ * 
+ * Scheduling and cancellation take constant time. Timeouts are placed into 
+ * the wheel buckets by the worker thread and expire with the tick granularity.
+ * The worker thread waits without ticking while no timeouts are scheduled.
+ * 
+ * Tasks scheduled with schedule() and scheduleAtFixedRate() are executed on 
+ * the worker thread, so they must be short and must not block. Tasks that 
+ * write to client channels may block on a stalled client and are scheduled 
+ * with dispatchAtFixedRate(), which hands them to a bounded pool of dispatch 
+ * threads.
+ */
+public class HashedWheelTimer {
+
+    private final static Logger logger = Logger.getLogger(HashedWheelTimer.class);
+
+    private final static long DEFAULT_TICK_DURATION = 10;
+    private final static int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    public final static int DEFAULT_DISPATCH_THREADS = 8;
+
+    private final static int ST_SCHEDULED = 0;
+    private final static int ST_CANCELLED = 1;
+    private final static int ST_EXPIRED = 2;
+
+    private static HashedWheelTimer instance = null;
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final ConcurrentLinkedQueue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<Timeout>();
+    private final AtomicInteger timeoutCount = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Object idleLock = new Object();
+    private final Random random = new Random();
+    private final Thread workerThread;
+    private final ExecutorService dispatcher;
+    private final long startTime = System.nanoTime();
+
+    private volatile boolean stopped = false;
+
+    // Next tick to process, accessed only by the worker thread
+    private long tick = 0;
+
+    /**
+     * Returns the timer shared by all client sessions.
+     * 
+     * @return shared HashedWheelTimer instance
+     */
+    public static synchronized HashedWheelTimer getInstance() {
+        if (instance == null) {
+            instance = new HashedWheelTimer(DEFAULT_TICK_DURATION, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL,
+                                            Config.getInstance().getTimerDispatchThreads());
+        }
+
+        return instance;
+    }
+
+    /**
+     * Constructs instance of HashedWheelTimer.
+     * 
+     * @param tickDuration duration of one tick
+     * @param unit time unit of tickDuration
+     * @param ticksPerWheel number of buckets in the wheel, rounded up to a power of two
+     */
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        this(tickDuration, unit, ticksPerWheel, DEFAULT_DISPATCH_THREADS);
+    }
+
+    /**
+     * Constructs instance of HashedWheelTimer.
+     * 
+     * @param tickDuration duration of one tick
+     * @param unit time unit of tickDuration
+     * @param ticksPerWheel number of buckets in the wheel, rounded up to a power of two
+     * @param dispatchThreads number of threads that run the tasks scheduled with dispatchAtFixedRate()
+     */
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel, int dispatchThreads) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0 || dispatchThreads <= 0) {
+            throw new IllegalArgumentException("Invalid timer wheel parameters.");
+        }
+
+        int length = Integer.highestOneBit(ticksPerWheel);
+        if (length < ticksPerWheel) {
+            length <<= 1;
+        }
+
+        this.tickDuration = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[length];
+        this.mask = length - 1;
+
+        for (int i = 0; i < length; i++) {
+            wheel[i] = new Bucket();
+        }
+
+        workerThread = new Thread(new Worker(), "HashedWheelTimer");
+        workerThread.setDaemon(true);
+
+        dispatcher = Executors.newFixedThreadPool(dispatchThreads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "timer-dispatch-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Schedules one-time execution of the task.
+     * 
+     * @param task task to execute
+     * @param delay delay before the task is executed
+     * @param unit time unit of delay
+     * @return handle that can be used to cancel the task
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return add(new Timeout(task, System.nanoTime() + unit.toNanos(Math.max(delay, 0)), 0));
+    }
+
+    /**
+     * Schedules periodic execution of the task. 
+     * 
+     * The first execution is delayed by a random fraction of the period, so 
+     * that tasks scheduled at the same time by many sessions are spread 
+     * across the wheel instead of firing on the same tick.
+     * 
+     * @param task task to execute
+     * @param period period between successive executions
+     * @param unit time unit of period
+     * @return handle that can be used to cancel the task
+     */
+    public Timeout scheduleAtFixedRate(Runnable task, long period, TimeUnit unit) {
+        long periodNanos = unit.toNanos(period);
+
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Invalid period.");
+        }
+
+        long jitter;
+        synchronized (random) {
+            jitter = (long) (random.nextDouble() * periodNanos);
+        }
+
+        return add(new Timeout(task, System.nanoTime() + jitter, periodNanos));
+    }
+
+    /**
+     * Schedules periodic execution of the task with fixed initial delay.
+     * 
+     * @param task task to execute
+     * @param initialDelay delay before the first execution
+     * @param period period between successive executions
+     * @param unit time unit of initialDelay and period
+     * @return handle that can be used to cancel the task
+     */
+    public Timeout scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        long periodNanos = unit.toNanos(period);
+
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Invalid period.");
+        }
+
+        return add(new Timeout(task, System.nanoTime() + unit.toNanos(Math.max(initialDelay, 0)), periodNanos));
+    }
+
+    /**
+     * Schedules periodic execution of a task that may block.
+     * 
+     * The worker thread only hands the task to a dispatch thread. The 
+     * execution is skipped while the previous execution of the task is still 
+     * in progress, so a task blocked by a stalled client occupies at most one 
+     * dispatch thread and does not delay the other tasks of the timer. 
+     * An execution dispatched before the task is cancelled may still run.
+     * 
+     * The first execution is delayed by a random fraction of the period.
+     * 
+     * @param task task to execute
+     * @param period period between successive executions
+     * @param unit time unit of period
+     * @return handle that can be used to cancel the task
+     */
+    public Timeout dispatchAtFixedRate(Runnable task, long period, TimeUnit unit) {
+        return scheduleAtFixedRate(new Dispatch(task), period, unit);
+    }
+
+    /**
+     * Schedules periodic execution of a task that may block with fixed 
+     * initial delay. See dispatchAtFixedRate(Runnable, long, TimeUnit).
+     * 
+     * @param task task to execute
+     * @param initialDelay delay before the first execution
+     * @param period period between successive executions
+     * @param unit time unit of initialDelay and period
+     * @return handle that can be used to cancel the task
+     */
+    public Timeout dispatchAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return scheduleAtFixedRate(new Dispatch(task), initialDelay, period, unit);
+    }
+
+    /**
+     * Stops the worker thread. Scheduled tasks are not executed after the timer is stopped.
+     * 
+     * @throws InterruptedException if interrupted while waiting for the worker thread to stop
+     */
+    public void stop() throws InterruptedException {
+        stopped = true;
+
+        if (started.get()) {
+            workerThread.interrupt();
+            workerThread.join();
+        }
+
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Returns number of scheduled timeouts that are neither expired nor cancelled.
+     */
+    public int getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    private Timeout add(Timeout timeout) {
+        if (stopped) {
+            throw new IllegalStateException("Timer is stopped.");
+        }
+
+        if (started.compareAndSet(false, true)) {
+            workerThread.start();
+        }
+
+        pendingTimeouts.add(timeout);
+
+        if (timeoutCount.getAndIncrement() == 0) {
+            synchronized (idleLock) {
+                idleLock.notify();
+            }
+        }
+
+        return timeout;
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public final class Timeout {
+
+        private final Runnable task;
+        private final long period;
+        private final AtomicInteger state = new AtomicInteger(ST_SCHEDULED);
+
+        // Wheel state accessed only by the worker thread
+        private long deadline;
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline, long period) {
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        /**
+         * Cancels the task. The timeout is removed from the wheel when its 
+         * bucket is processed next time.
+         * 
+         * @return true if the task was cancelled by this call
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(ST_SCHEDULED, ST_CANCELLED)) {
+                timeoutCount.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        /**
+         * Returns true if one-time task was executed.
+         */
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+    }
+
+    /**
+     * Hands the task to a dispatch thread unless the previous execution of 
+     * the task is still in progress.
+     */
+    private final class Dispatch implements Runnable {
+
+        private final Runnable task;
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private final Runnable execution = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    logger.error("Timer task failed.", e);
+                } finally {
+                    running.set(false);
+                }
+            }
+        };
+
+        private Dispatch(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (!running.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                dispatcher.execute(execution);
+            } catch (RejectedExecutionException e) {
+                running.set(false);
+            }
+        }
+
+    }
+
+    /**
+     * Doubly linked list of timeouts.
+     */
+    private final static class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+
+            tail = timeout;
+        }
+
+        Timeout remove(Timeout timeout) {
+            Timeout next = timeout.next;
+
+            if (timeout.prev == null) {
+                head = next;
+            } else {
+                timeout.prev.next = next;
+            }
+
+            if (next == null) {
+                tail = timeout.prev;
+            } else {
+                next.prev = timeout.prev;
+            }
+
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+            return next;
+        }
+
+        /**
+         * Removes cancelled and expired timeouts from the bucket.
+         */
+        void expire(List<Timeout> expired) {
+            Timeout timeout = head;
+
+            while (timeout != null) {
+                if (timeout.isCancelled()) {
+                    timeout = remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    Timeout next = remove(timeout);
+                    expired.add(timeout);
+                    timeout = next;
+                } else {
+                    timeout.remainingRounds--;
+                    timeout = timeout.next;
+                }
+            }
+        }
+
+    }
+
+    private class Worker implements Runnable {
+
+        private final List<Timeout> expired = new ArrayList<Timeout>();
+
+        @Override
+        public void run() {
+            logger.debug("HashedWheelTimer started.");
+
+            try {
+                while (!stopped) {
+                    waitForTimeouts();
+                    waitForTick();
+
+                    transferPendingTimeouts();
+
+                    wheel[(int) (tick & mask)].expire(expired);
+
+                    for (Timeout timeout : expired) {
+                        execute(timeout);
+                    }
+
+                    expired.clear();
+                    tick++;
+                }
+            } catch (InterruptedException e) {
+                logger.debug("HashedWheelTimer interrupted.");
+            }
+        }
+
+        private void waitForTimeouts() throws InterruptedException {
+            if (timeoutCount.get() > 0) {
+                return;
+            }
+
+            synchronized (idleLock) {
+                while (timeoutCount.get() == 0 && !stopped) {
+                    idleLock.wait();
+                }
+            }
+
+            // Buckets skipped while idle may contain only cancelled timeouts
+            tick = Math.max(tick, (System.nanoTime() - startTime) / tickDuration);
+        }
+
+        // Waits for the end of the current tick
+        private void waitForTick() throws InterruptedException {
+            long sleepTime = startTime + (tick + 1) * tickDuration - System.nanoTime();
+
+            if (sleepTime > 0) {
+                TimeUnit.NANOSECONDS.sleep(sleepTime);
+            }
+        }
+
+        private void transferPendingTimeouts() {
+            Timeout timeout;
+
+            while ((timeout = pendingTimeouts.poll()) != null) {
+                if (!timeout.isCancelled()) {
+                    place(timeout, tick);
+                }
+            }
+        }
+
+        private void place(Timeout timeout, long minTick) {
+            long deadlineTick = Math.max((timeout.deadline - startTime) / tickDuration, minTick);
+
+            // Number of times the bucket is visited before the deadline tick,
+            // counting from the first tick the bucket can be processed at
+            timeout.remainingRounds = (deadlineTick - minTick) / wheel.length;
+            wheel[(int) (deadlineTick & mask)].add(timeout);
+        }
+
+        private void execute(Timeout timeout) {
+            if (timeout.period == 0) {
+                if (!timeout.state.compareAndSet(ST_SCHEDULED, ST_EXPIRED)) {
+                    return;
+                }
+                timeoutCount.decrementAndGet();
+            }
+
+            try {
+                timeout.task.run();
+            } catch (Throwable e) {
+                logger.error("Timer task failed.", e);
+            }
+
+            if (timeout.period > 0 && !timeout.isCancelled()) {
+                // Fixed rate keeps the tasks spread across the wheel
+                timeout.deadline += timeout.period;
+                place(timeout, tick + 1);
+            }
+        }
+
+    }
+
+}
@@ -26,22 +26,18 @@ package com.envirover.spl;
 
 import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 
 import com.MAVLink.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkMessage;
-import com.MAVLink.common.msg_attitude;
+import com.MAVLink.common.CommandIntView;
+import com.MAVLink.common.CommandLongView;
 import com.MAVLink.common.msg_command_ack;
 import com.MAVLink.common.msg_command_int;
 import com.MAVLink.common.msg_command_long;
-import com.MAVLink.common.msg_global_position_int;
-import com.MAVLink.common.msg_gps_raw_int;
-import com.MAVLink.common.msg_heartbeat;
-import com.MAVLink.common.msg_high_latency;
 import com.MAVLink.common.msg_mission_ack;
 import com.MAVLink.common.msg_mission_clear_all;
 import com.MAVLink.common.msg_mission_count;
@@ -52,22 +48,18 @@ import com.MAVLink.common.msg_mission_request;
 import com.MAVLink.common.msg_mission_request_list;
 import com.MAVLink.common.msg_mission_set_current;
 import com.MAVLink.common.msg_mission_write_partial_list;
-import com.MAVLink.common.msg_nav_controller_output;
 import com.MAVLink.common.msg_param_request_list;
 import com.MAVLink.common.msg_param_request_read;
 import com.MAVLink.common.msg_param_set;
-import com.MAVLink.common.msg_param_value;
 import com.MAVLink.common.msg_set_home_position;
 import com.MAVLink.common.msg_set_mode;
-import com.MAVLink.common.msg_sys_status;
-import com.MAVLink.common.msg_vfr_hud;
 import com.MAVLink.enums.MAV_CMD;
 import com.MAVLink.enums.MAV_MISSION_RESULT;
 import com.MAVLink.enums.MAV_RESULT;
-import com.MAVLink.enums.MAV_STATE;
 import com.envirover.mavlink.MAVLinkChannel;
 import com.envirover.mavlink.MAVLinkLogger;
 import com.envirover.mavlink.MAVLinkShadow;
+import com.envirover.mavlink.MAVLinkShadowRegistry;
 
 /*
  * TCP and WebSocket MAVLink client sessions that handle communications with GCS clients.
@@ -78,13 +70,15 @@ public class MAVLinkClientSession implements ClientSession {
     private final static Logger logger = Logger.getLogger(MAVLinkClientSession.class);
     private static final Config config = Config.getInstance();
 
-    private final Timer heartbeatTimer = new Timer();
+    private volatile HashedWheelTimer.Timeout heartbeatTimeout = null;
     private final MAVLinkChannel src;
+    private final ParamStreamer paramStreamer;
     private final MAVLinkChannel dst;
 
     public MAVLinkClientSession(MAVLinkChannel src, MAVLinkChannel mtMessageQueue) {
         this.src = src;
         this.dst = mtMessageQueue;
+        this.paramStreamer = new ParamStreamer(src, HashedWheelTimer.getInstance(), config.getParamStreamRate());
     }
 
     /* (non-Javadoc)
@@ -92,18 +86,21 @@ public class MAVLinkClientSession implements ClientSession {
      */
     @Override
     public void onOpen() {
-        TimerTask heartbeatTask = new TimerTask() {
+        Runnable heartbeatTask = new Runnable() {
             @Override
             public void run() {
                 try {
                     reportState();
                 } catch (IOException | InterruptedException e) {
-                    dst.close();
+                    src.close();
                 }
             }
         };
 
-        heartbeatTimer.schedule(heartbeatTask, 0, config.getHeartbeatInterval());
+        heartbeatTimeout = HashedWheelTimer.getInstance().dispatchAtFixedRate(heartbeatTask, 
+                config.getHeartbeatInterval(), TimeUnit.MILLISECONDS);
+
+        MOMessageHub.getInstance().subscribe(src);
     }
 
     /* (non-Javadoc)
@@ -111,7 +108,13 @@ public class MAVLinkClientSession implements ClientSession {
      */
     @Override
     public void onClose() throws InterruptedException {
-        heartbeatTimer.cancel();
+        if (heartbeatTimeout != null) {
+            heartbeatTimeout.cancel();
+        }
+
+        paramStreamer.cancel();
+
+        MOMessageHub.getInstance().unsubscribe(src);
 
         if (src != null) {
             src.close();
@@ -137,18 +140,18 @@ public class MAVLinkClientSession implements ClientSession {
             return;
         }
 
-        MAVLinkShadow shadow = MAVLinkShadow.getInstance();
+        MAVLinkShadow shadow = MAVLinkShadowRegistry.getInstance().getShadow(packet);
+
+        if (shadow == null) {
+            return;
+        }
 
         switch (packet.msgid) {
             case msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST: {
                 MAVLinkLogger.log(Level.INFO, "<<", packet);
 
-                for (msg_param_value param : shadow.getParams()) {
-                    sendToSource(param);
-                    Thread.sleep(10);
-                }
-
-                logger.info(MessageFormat.format("{0} on-board parameters sent to the MAVLink client.", shadow.getParams().size()));
+                // The reported parameters snapshot is not modified while streaming
+                paramStreamer.start(shadow.getParams());
                 break;
             }
             case msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ: {
@@ -174,7 +177,11 @@ public class MAVLinkClientSession implements ClientSession {
             return;
         }
 
-        MAVLinkShadow shadow = MAVLinkShadow.getInstance();
+        MAVLinkShadow shadow = MAVLinkShadowRegistry.getInstance().getShadow(packet);
+
+        if (shadow == null) {
+            return;
+        }
 
         switch (packet.msgid) {
             case msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST: {
@@ -192,7 +199,8 @@ public class MAVLinkClientSession implements ClientSession {
             case msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST: {
                 MAVLinkLogger.log(Level.INFO, "<<", packet);
                 msg_mission_request msg = (msg_mission_request)packet.unpack();
-                msg_mission_item mission = shadow.getReportedMissionItem(msg.seq);
+                // The reported mission items are shared by all the sessions
+                msg_mission_item mission = new msg_mission_item(shadow.getReportedMissionItem(msg.seq).pack());
                 mission.sysid = msg.target_system;
                 mission.compid = msg.target_component;
                 sendToSource(mission);
@@ -256,21 +264,19 @@ public class MAVLinkClientSession implements ClientSession {
 
         if (packet.msgid == msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG) {
             MAVLinkLogger.log(Level.INFO, "<<", packet);
-            msg_command_long msg = (msg_command_long)packet.unpack();
             msg_command_ack command_ack = new msg_command_ack();
-            command_ack.command = msg.command;
+            command_ack.command = CommandLongView.command(packet.payload);
             command_ack.result = MAV_RESULT.MAV_RESULT_ACCEPTED;
-            command_ack.sysid = msg.target_system;
-            command_ack.compid = msg.target_component;
+            command_ack.sysid = CommandLongView.target_system(packet.payload);
+            command_ack.compid = CommandLongView.target_component(packet.payload);
             sendToSource(command_ack);
         } else if (packet.msgid == msg_command_int.MAVLINK_MSG_ID_COMMAND_INT) {
             MAVLinkLogger.log(Level.INFO, "<<", packet);
-            msg_command_int msg = (msg_command_int)packet.unpack();
             msg_command_ack command_ack = new msg_command_ack();
-            command_ack.command = msg.command;
+            command_ack.command = CommandIntView.command(packet.payload);
             command_ack.result = MAV_RESULT.MAV_RESULT_ACCEPTED;
-            command_ack.sysid = msg.target_system;
-            command_ack.compid = msg.target_component;
+            command_ack.sysid = CommandIntView.target_system(packet.payload);
+            command_ack.compid = CommandIntView.target_component(packet.payload);
             sendToSource(command_ack);
         }
     }
@@ -278,7 +284,7 @@ public class MAVLinkClientSession implements ClientSession {
     //White list message filter
     private static boolean filter(MAVLinkPacket packet) {
         if (packet.msgid == msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG) {
-            int command = ((msg_command_long)packet.unpack()).command;
+            int command = CommandLongView.command(packet.payload);
             return command != MAV_CMD.MAV_CMD_REQUEST_AUTOPILOT_CAPABILITIES &&
                    command != 519  /* MAV_CMD_REQUEST_PROTOCOL_VERSION */;
         }
@@ -314,112 +320,27 @@ public class MAVLinkClientSession implements ClientSession {
             throw ex;
         }
     }
-    
+
     /**
      * Sends heartbeat and other status messages derived 
-     * from HIGH_LATENCY message to the specified client channel.
+     * from HIGH_LATENCY message of each vehicle to the specified client channel.
      *
      * @param dst destination channel
      * @throws IOException if a message sending failed
      * @throws InterruptedException 
      */
     private synchronized void reportState() throws IOException, InterruptedException {
-        msg_high_latency msgHighLatency = MAVLinkShadow.getInstance().getHighLatencyMessage();
-
-        sendToSource(getHeartbeatMsg(msgHighLatency));
-        sendToSource(getSysStatusMsg(msgHighLatency));
-        sendToSource(getGpsRawIntMsg(msgHighLatency));
-        sendToSource(getAttitudeMsg(msgHighLatency));
-        sendToSource(getGlobalPositionIntMsg(msgHighLatency));
-        sendToSource(getMissionCurrentMsg(msgHighLatency));
-        sendToSource(getNavControllerOutputMsg(msgHighLatency));
-        sendToSource(getVfrHudMsg(msgHighLatency));
-    }
-
-    private MAVLinkMessage getHeartbeatMsg(msg_high_latency msgHighLatency) {
-        msg_heartbeat msg = new msg_heartbeat();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.base_mode = msgHighLatency.base_mode;
-        msg.custom_mode = msgHighLatency.custom_mode;
-        msg.system_status = MAV_STATE.MAV_STATE_ACTIVE;
-        msg.autopilot = config.getAutopilot();
-        msg.type = config.getMavType();
-        return msg;
-    }
-
-    private MAVLinkMessage getSysStatusMsg(msg_high_latency msgHighLatency) {
-        msg_sys_status msg = new msg_sys_status();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.battery_remaining = (byte)msgHighLatency.battery_remaining;
-        msg.voltage_battery = msgHighLatency.temperature * 1000;
-        msg.current_battery = msgHighLatency.temperature_air < 0 ? 
-                -1 : (short)(msgHighLatency.temperature_air * 100);
-        return msg;
-    }
-
-    private MAVLinkMessage getGpsRawIntMsg(msg_high_latency msgHighLatency) {
-        msg_gps_raw_int msg = new msg_gps_raw_int();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.fix_type = msgHighLatency.gps_fix_type;
-        msg.satellites_visible = msgHighLatency.gps_nsat;
-        msg.lat = msgHighLatency.latitude;
-        msg.lon = msgHighLatency.longitude;
-        msg.alt = msgHighLatency.altitude_amsl;
-        return msg;
-    }
-
-    private MAVLinkMessage getAttitudeMsg(msg_high_latency msgHighLatency) {
-        msg_attitude msg = new msg_attitude();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.yaw = (float)Math.toRadians(msgHighLatency.heading / 100.0);
-        msg.pitch = (float)Math.toRadians(msgHighLatency.pitch / 100.0);
-        msg.roll = (float)Math.toRadians(msgHighLatency.roll / 100.0);
-        return msg;
-    }
-
-    private MAVLinkMessage getGlobalPositionIntMsg(msg_high_latency msgHighLatency) {
-        msg_global_position_int msg = new msg_global_position_int();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.alt = msgHighLatency.altitude_amsl;
-        msg.lat = msgHighLatency.latitude;
-        msg.lon = msgHighLatency.longitude;
-        msg.hdg = msgHighLatency.heading;
-        msg.relative_alt = msgHighLatency.altitude_sp;
-        return msg;
-    }
-
-    private MAVLinkMessage getMissionCurrentMsg(msg_high_latency msgHighLatency) {
-        msg_mission_current msg = new msg_mission_current();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.seq = msgHighLatency.wp_num;
-        return msg;
-    }
+        TelemetryCache cache = TelemetryCache.getInstance();
 
-    private MAVLinkMessage getNavControllerOutputMsg(msg_high_latency msgHighLatency) {
-        msg_nav_controller_output msg = new msg_nav_controller_output();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.nav_bearing = (short)(msgHighLatency.heading_sp / 100);
-        return msg;
-    }
- 
-    private MAVLinkMessage getVfrHudMsg(msg_high_latency msgHighLatency) {
-        msg_vfr_hud msg = new msg_vfr_hud();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.airspeed = msgHighLatency.airspeed;
-        msg.alt = msgHighLatency.altitude_amsl;
-        msg.climb = msgHighLatency.climb_rate;
-        msg.groundspeed = msgHighLatency.groundspeed;
-        msg.heading = (short)(msgHighLatency.heading / 100);
-        msg.throttle = msgHighLatency.throttle;
-        return msg;
+        try {
+            for (MAVLinkShadow shadow : MAVLinkShadowRegistry.getInstance().getShadows()) {
+                src.sendFrames(cache.getFrames(shadow));
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            onClose();
+            throw ex;
+        }
     }
 
 }
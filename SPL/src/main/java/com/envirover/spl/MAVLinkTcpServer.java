@@ -21,25 +21,43 @@ GNU General Public License for more details.
 You should have received a copy of the GNU General Public License
 along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
 */
-
 package com.envirover.spl;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.Logger;
 
 import com.MAVLink.MAVLinkPacket;
 import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkFrameDecoder;
 import com.envirover.mavlink.MAVLinkSocket;
+import com.envirover.mavlink.MAVLinkSocketChannel;
 
 /**
  * MAVLink TCP server that accepts connections from TCP clients.
  * {@link com.envirover.spl.MAVLinkClientSession} is created for each client connection. 
+ * 
+ * By default each client connection is served by its own thread. If the
+ * number of selector threads is positive, the server runs in event-driven
+ * mode: the connections are multiplexed over the selector threads and the
+ * received messages are passed to the sessions by a small pool of dispatcher
+ * threads, so the number of threads does not depend on the number of clients.
  *  
  * @author pavel
  *
@@ -48,22 +66,43 @@ public class MAVLinkTcpServer {
 
     private final static Logger logger = Logger.getLogger(MAVLinkTcpServer.class);
 
+    private final static int DISPATCHERS_PER_SELECTOR = 4;
+
     private final Integer port;
     private final MAVLinkChannel mtMessageQueue;
+    private final int selectorThreads;
     private final ExecutorService threadPool; 
+    private final AtomicInteger connectionCount = new AtomicInteger();
     private ServerSocket serverSocket;
     private Thread listenerThread;
+    private SelectorLoop[] selectors;
 
     /**
-     * Creates an instance of MAVLinkTcpServer 
+     * Creates an instance of MAVLinkTcpServer that serves each client connection
+     * by its own thread.
      * 
      * @param port TCP port used for MAVLink ground control stations connections 
      * @param mtMessageQueue Mobile-terminated messages queue
      */
     public MAVLinkTcpServer(Integer port, MAVLinkChannel mtMessageQueue) {
+        this(port, mtMessageQueue, 0);
+    }
+
+    /**
+     * Creates an instance of MAVLinkTcpServer 
+     * 
+     * @param port TCP port used for MAVLink ground control stations connections 
+     * @param mtMessageQueue Mobile-terminated messages queue
+     * @param selectorThreads number of selector threads in event-driven mode,
+     *        or 0 to serve each client connection by its own thread
+     */
+    public MAVLinkTcpServer(Integer port, MAVLinkChannel mtMessageQueue, int selectorThreads) {
         this.port = port;
         this.mtMessageQueue = mtMessageQueue;
-        this.threadPool = Executors.newCachedThreadPool();
+        this.selectorThreads = selectorThreads;
+        this.threadPool = selectorThreads > 0 ? 
+                Executors.newFixedThreadPool(selectorThreads * DISPATCHERS_PER_SELECTOR) : 
+                Executors.newCachedThreadPool();
     }
 
     /**
@@ -72,8 +111,25 @@ public class MAVLinkTcpServer {
      * @throws IOException Signals that an I/O exception of some sort has occurred.
      */
     public void start() throws IOException {
-        serverSocket = new ServerSocket(port);
-        listenerThread = new Thread(new ConnectionListener());
+        if (selectorThreads > 0) {
+            ServerSocketChannel serverChannel = ServerSocketChannel.open();
+            serverSocket = serverChannel.socket();
+            serverSocket.bind(new InetSocketAddress(port));
+
+            selectors = new SelectorLoop[selectorThreads];
+            for (int i = 0; i < selectorThreads; i++) {
+                selectors[i] = new SelectorLoop(Selector.open());
+                Thread thread = new Thread(selectors[i], "mavlink-selector-" + port + "-" + i);
+                thread.setDaemon(true);
+                thread.start();
+            }
+
+            listenerThread = new Thread(new ChannelListener(serverChannel));
+        } else {
+            serverSocket = new ServerSocket(port);
+            listenerThread = new Thread(new ConnectionListener());
+        }
+
         listenerThread.start();
     }
 
@@ -86,10 +142,30 @@ public class MAVLinkTcpServer {
         threadPool.shutdownNow();
         listenerThread.interrupt();
         serverSocket.close();
+
+        if (selectors != null) {
+            for (SelectorLoop selector : selectors) {
+                selector.close();
+            }
+        }
+    }
+
+    /**
+     * Returns the local port the server is listening on.
+     */
+    public int getLocalPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns number of open client connections.
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
     }
 
-    protected ClientSession createClientSession(MAVLinkSocket clientSocket) {
-        return new MAVLinkClientSession(clientSocket, mtMessageQueue);
+    protected ClientSession createClientSession(MAVLinkChannel clientChannel) {
+        return new MAVLinkClientSession(clientChannel, mtMessageQueue);
     }
 
     /**
@@ -138,6 +214,8 @@ public class MAVLinkTcpServer {
 
             @Override
             public void run() {
+                connectionCount.incrementAndGet();
+
                 while (true) {
                     try {
                         MAVLinkPacket packet = clientSocket.receiveMessage();
@@ -145,8 +223,6 @@ public class MAVLinkTcpServer {
                         if (packet != null) {
                             session.onMessage(packet);
                         }
-
-                        Thread.sleep(10);
                     } catch (InterruptedException | IOException e) {
                         try {
                             e.printStackTrace();
@@ -155,6 +231,8 @@ public class MAVLinkTcpServer {
                             e1.printStackTrace();
                         }
 
+                        connectionCount.decrementAndGet();
+
                         logger.info("TCP client disconnected.");
 
                         return;
@@ -164,4 +242,225 @@ public class MAVLinkTcpServer {
         }
     }
 
+    /**
+     * Accepts socket channel connections and distributes them between
+     * the selector threads in round-robin order.
+     */
+    class ChannelListener implements Runnable {
+
+        private final ServerSocketChannel serverChannel;
+
+        public ChannelListener(ServerSocketChannel serverChannel) {
+            this.serverChannel = serverChannel;
+        }
+
+        @Override
+        public void run() {
+            int next = 0;
+
+            while (serverChannel.isOpen()) {
+                try {
+                    SocketChannel socketChannel = serverChannel.accept();
+                    socketChannel.socket().setTcpNoDelay(true);
+
+                    MAVLinkSocketChannel clientChannel = new MAVLinkSocketChannel(socketChannel);
+                    ClientSession session = createClientSession(clientChannel);
+
+                    selectors[next].register(new Connection(clientChannel, session));
+                    next = (next + 1) % selectors.length;
+
+                    logger.info(MessageFormat.format("TCP client ''{0}'' connected.", socketChannel.socket().getInetAddress()));
+                } catch (IOException e) {
+                    if (serverChannel.isOpen()) {
+                        e.printStackTrace();
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Selector thread that reads and writes the registered client channels.
+     * Decoded messages are queued to the connections and passed to the
+     * sessions by the dispatcher threads.
+     */
+    class SelectorLoop implements Runnable {
+
+        private final Selector selector;
+        private final Queue<Connection> registrations = new ConcurrentLinkedQueue<Connection>();
+
+        // Read buffer shared by all the connections of the selector
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(MAVLinkFrameDecoder.DEFAULT_BUFFER_SIZE);
+
+        public SelectorLoop(Selector selector) {
+            this.selector = selector;
+        }
+
+        public void register(Connection connection) {
+            registrations.add(connection);
+            selector.wakeup();
+        }
+
+        public void close() throws IOException {
+            for (SelectionKey key : selector.keys()) {
+                ((Connection) key.attachment()).close();
+            }
+
+            selector.close();
+        }
+
+        @Override
+        public void run() {
+            while (selector.isOpen()) {
+                try {
+                    selector.select();
+
+                    Connection connection;
+                    while ((connection = registrations.poll()) != null) {
+                        connection.open(selector);
+                    }
+
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+
+                        connection = (Connection) key.attachment();
+
+                        try {
+                            if (key.isValid() && key.isWritable()) {
+                                connection.channel.flush();
+                            }
+
+                            if (key.isValid() && key.isReadable()) {
+                                connection.read(buffer);
+                            }
+                        } catch (IOException e) {
+                            connection.close();
+                        }
+                    }
+                } catch (IOException e) {
+                    if (selector.isOpen()) {
+                        e.printStackTrace();
+                    }
+                    return;
+                } catch (RuntimeException e) {
+                    // ClosedSelectorException when the server is stopped
+                    if (selector.isOpen()) {
+                        e.printStackTrace();
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Client connection served by a selector thread. Messages received from
+     * the client are passed to the session in order by one dispatcher thread
+     * at a time.
+     */
+    class Connection implements Runnable {
+
+        private final MAVLinkSocketChannel channel;
+        private final ClientSession session;
+        private final Queue<MAVLinkPacket> received = new ConcurrentLinkedQueue<MAVLinkPacket>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private volatile boolean eof = false;
+
+        public Connection(MAVLinkSocketChannel channel, ClientSession session) {
+            this.channel = channel;
+            this.session = session;
+        }
+
+        void open(Selector selector) {
+            try {
+                channel.register(selector, this);
+            } catch (IOException e) {
+                channel.close();
+                return;
+            }
+
+            connectionCount.incrementAndGet();
+            session.onOpen();
+        }
+
+        void read(ByteBuffer buffer) throws IOException {
+            int n;
+            do {
+                n = channel.read(buffer);
+
+                MAVLinkPacket packet;
+                while ((packet = channel.poll()) != null) {
+                    received.add(packet);
+                }
+            } while (n == buffer.capacity());
+
+            if (n < 0) {
+                close();
+            } else if (!received.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void close() {
+            eof = true;
+            channel.close();
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    threadPool.execute(this);
+                } catch (RuntimeException e) {
+                    // The server is stopped
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        /**
+         * Passes the received messages to the session. 
+         */
+        @Override
+        public void run() {
+            try {
+                MAVLinkPacket packet;
+                while ((packet = received.poll()) != null && !closed.get()) {
+                    session.onMessage(packet);
+                }
+            } catch (IOException e) {
+                channel.close();
+                eof = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                channel.close();
+                eof = true;
+            } finally {
+                scheduled.set(false);
+            }
+
+            if (eof) {
+                if (closed.compareAndSet(false, true)) {
+                    received.clear();
+
+                    try {
+                        session.onClose();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    connectionCount.decrementAndGet();
+
+                    logger.info("TCP client disconnected.");
+                }
+            } else if (!received.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
 }
@@ -26,10 +26,13 @@ package com.envirover.spl;
 
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.List;
 
 //import org.apache.log4j.Logger;
 
 import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.common.CommandAckView;
+import com.MAVLink.common.ParamValueView;
 import com.MAVLink.common.msg_command_ack;
 import com.MAVLink.common.msg_high_latency;
 import com.MAVLink.common.msg_mission_ack;
@@ -37,7 +40,9 @@ import com.MAVLink.common.msg_param_value;
 import com.MAVLink.common.msg_statustext;
 import com.MAVLink.enums.MAV_SEVERITY;
 import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkFrames;
 import com.envirover.mavlink.MAVLinkShadow;
+import com.envirover.mavlink.MAVLinkShadowRegistry;
 
 /**
  * MOMessageHandler handles mobile-originated MAVLink messages.
@@ -71,7 +76,17 @@ public class MOMessageHandler implements MAVLinkChannel {
             return;
         }
 
-        MAVLinkShadow shadow = MAVLinkShadow.getInstance();
+        MAVLinkShadow shadow = MAVLinkShadowRegistry.getInstance().getBySystemId(packet.sysid);
+
+        if (shadow == null) {
+            shadow = MAVLinkShadowRegistry.getInstance().getDefault();
+        }
+
+        if (shadow == null) {
+            // No vehicles are registered, there is no shadow to update
+            dst.sendMessage(packet);
+            return;
+        }
 
         switch (packet.msgid) {
         case msg_high_latency.MAVLINK_MSG_ID_HIGH_LATENCY:
@@ -82,8 +97,7 @@ public class MOMessageHandler implements MAVLinkChannel {
             sendCommandAck(packet);
             break;
         case msg_param_value.MAVLINK_MSG_ID_PARAM_VALUE:
-            msg_param_value paramValue = (msg_param_value) packet.unpack();
-            shadow.setParamValue(paramValue.getParam_Id(), paramValue.param_value);
+            shadow.setAcknowledgedParamValue(ParamValueView.getParam_Id(packet.payload), ParamValueView.param_value(packet.payload));
             break;
         case msg_mission_ack.MAVLINK_MSG_ID_MISSION_ACK:
             shadow.missionAccepted();
@@ -93,15 +107,26 @@ public class MOMessageHandler implements MAVLinkChannel {
         }
     }
 
+    @Override
+    public void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+        for (MAVLinkPacket packet : packets) {
+            sendMessage(packet);
+        }
+    }
+
+    @Override
+    public void sendFrames(MAVLinkFrames frames) throws IOException {
+        sendMessages(frames.toPackets());
+    }
+
     @Override
     public void close() {
     }
 
     private void sendCommandAck(MAVLinkPacket packet) throws IOException {
         // Replace COMMAND_ACK by STATUSTEXT message
-        msg_command_ack ack = (msg_command_ack) packet.unpack();
-
-        String text = MessageFormat.format("ACK: comand={0}, result={1}", ack.command, ack.result);
+        String text = MessageFormat.format("ACK: comand={0}, result={1}",
+                CommandAckView.command(packet.payload), CommandAckView.result(packet.payload));
 
         msg_statustext msg = new msg_statustext();
         msg.severity = MAV_SEVERITY.MAV_SEVERITY_INFO;
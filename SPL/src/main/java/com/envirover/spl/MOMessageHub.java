@@ -0,0 +1,372 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.spl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+
+import com.MAVLink.MAVLinkPacket;
+import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkFrames;
+
+/**
+ * Broadcasts mobile-originated (MO) messages to all the connected GCS clients.
+ * 
+ * Each MO packet is encoded once and queued to a bounded ring buffer of every
+ * subscribed client channel. The ring buffers are drained to the channels by 
+ * a fixed pool of threads, so a client that does not read its socket does 
+ * not delay the other clients. When the ring buffer of a client is full, the
+ * slow client policy decides what to do with the new message. 
+ * 
+ * A client whose send does not complete within the stall timeout holds a 
+ * pooled thread, so it is disconnected regardless of the policy. Closing the
+ * channel fails the blocked send and releases the thread.
+ */
+public class MOMessageHub implements MAVLinkChannel {
+
+    /**
+     * Policies applied when the ring buffer of a client is full.
+     */
+    public enum SlowClientPolicy {
+        /**
+         * Drop the oldest queued message.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Replace the queued message with the same system id and message id, 
+         * or drop the oldest queued message if there is no such message.
+         */
+        COALESCE,
+
+        /**
+         * Close the client channel.
+         */
+        DISCONNECT
+    }
+
+    public final static int  DEFAULT_THREADS = 8;
+    public final static long DEFAULT_STALL_TIMEOUT = 30000;
+
+    private final static Logger logger = Logger.getLogger(MOMessageHub.class);
+
+    private static MOMessageHub instance = null;
+
+    private final List<Client> clients = new CopyOnWriteArrayList<Client>();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final ExecutorService executor;
+    private final int queueSize;
+    private final SlowClientPolicy policy;
+    private final long stallTimeout;
+
+    /**
+     * Returns the hub configured by app.properties.
+     * 
+     * @return shared MOMessageHub instance
+     */
+    public static synchronized MOMessageHub getInstance() {
+        if (instance == null) {
+            Config config = Config.getInstance();
+            instance = new MOMessageHub(config.getMOClientQueueSize(), config.getMOSlowClientPolicy(),
+                                        config.getMOBroadcastThreads(), config.getMOClientStallTimeout());
+        }
+
+        return instance;
+    }
+
+    /**
+     * Constructs instance of MOMessageHub.
+     * 
+     * @param queueSize capacity of the client ring buffers
+     * @param policy policy applied when a client ring buffer is full
+     */
+    public MOMessageHub(int queueSize, SlowClientPolicy policy) {
+        this(queueSize, policy, DEFAULT_THREADS, DEFAULT_STALL_TIMEOUT);
+    }
+
+    /**
+     * Constructs instance of MOMessageHub.
+     * 
+     * @param queueSize capacity of the client ring buffers
+     * @param policy policy applied when a client ring buffer is full
+     * @param threads number of threads that drain the client ring buffers
+     * @param stallTimeout time in milliseconds after which a client with 
+     *        incomplete send is disconnected
+     */
+    public MOMessageHub(int queueSize, SlowClientPolicy policy, int threads, long stallTimeout) {
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("Invalid client queue size.");
+        }
+
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Invalid number of broadcast threads.");
+        }
+
+        this.queueSize = queueSize;
+        this.policy = policy;
+        this.stallTimeout = TimeUnit.MILLISECONDS.toNanos(stallTimeout);
+
+        executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "mo-broadcast-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Subscribes the client channel to MO messages.
+     * 
+     * @param channel client channel
+     */
+    public void subscribe(MAVLinkChannel channel) {
+        clients.add(new Client(channel));
+    }
+
+    /**
+     * Unsubscribes the client channel from MO messages. The queued messages 
+     * are discarded.
+     * 
+     * @param channel client channel
+     */
+    public void unsubscribe(MAVLinkChannel channel) {
+        for (Client client : clients) {
+            if (client.channel == channel) {
+                clients.remove(client);
+            }
+        }
+    }
+
+    /**
+     * Returns number of subscribed clients.
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Returns number of messages dropped or replaced in the client ring 
+     * buffers because the clients did not read them fast enough.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public MAVLinkPacket receiveMessage() throws IOException {
+        return null;
+    }
+
+    /**
+     * Queues the packet to all the subscribed clients.
+     */
+    @Override
+    public void sendMessage(MAVLinkPacket packet) throws IOException {
+        if (packet == null) {
+            return;
+        }
+
+        sendFrames(new MAVLinkFrames(Collections.singletonList(packet)));
+    }
+
+    @Override
+    public void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+        for (MAVLinkPacket packet : packets) {
+            sendMessage(packet);
+        }
+    }
+
+    /**
+     * Queues the frames to all the subscribed clients.
+     */
+    @Override
+    public void sendFrames(MAVLinkFrames frames) throws IOException {
+        for (Client client : clients) {
+            client.offer(frames);
+        }
+    }
+
+    /**
+     * Unsubscribes all the clients and stops the broadcast threads.
+     */
+    @Override
+    public void close() {
+        clients.clear();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Subscribed client channel with its ring buffer of pending messages.
+     */
+    private class Client implements Runnable {
+
+        private final MAVLinkChannel channel;
+        private final MAVLinkFrames[] ring = new MAVLinkFrames[queueSize];
+
+        private int head = 0;
+        private int count = 0;
+        private boolean draining = false;
+        private boolean sending = false;
+        private long sendStartTime = 0;
+
+        Client(MAVLinkChannel channel) {
+            this.channel = channel;
+        }
+
+        void offer(MAVLinkFrames frames) {
+            synchronized (this) {
+                if (sending && System.nanoTime() - sendStartTime > stallTimeout) {
+                    logger.warn("MO message send to the MAVLink client is stalled. Closing the client connection.");
+                    disconnect();
+                    return;
+                }
+
+                if (count == ring.length && !makeRoom(frames)) {
+                    return;
+                }
+
+                if (count < ring.length) {
+                    ring[(head + count) % ring.length] = frames;
+                    count++;
+                }
+
+                if (draining) {
+                    return;
+                }
+
+                draining = true;
+            }
+
+            executor.execute(this);
+        }
+
+        // Applies the slow client policy. Returns false if the frames must not be queued.
+        private boolean makeRoom(MAVLinkFrames frames) {
+            droppedCount.incrementAndGet();
+
+            switch (policy) {
+            case COALESCE: {
+                MAVLinkPacket packet = frames.getPackets().get(0);
+
+                for (int i = 0; i < count; i++) {
+                    int index = (head + i) % ring.length;
+                    MAVLinkPacket queued = ring[index].getPackets().get(0);
+
+                    // Messages of different vehicles never replace each other
+                    if (queued.msgid == packet.msgid && queued.sysid == packet.sysid) {
+                        ring[index] = frames;
+                        return false;
+                    }
+                }
+
+                poll();
+                return true;
+            }
+            case DISCONNECT:
+                logger.warn("MO messages are not read by the MAVLink client. Closing the client connection.");
+                disconnect();
+                return false;
+            default:
+                poll();
+                return true;
+            }
+        }
+
+        private void disconnect() {
+            clients.remove(this);
+            clear();
+            channel.close();
+        }
+
+        private void clear() {
+            Arrays.fill(ring, null);
+            head = 0;
+            count = 0;
+        }
+
+        private MAVLinkFrames poll() {
+            MAVLinkFrames frames = ring[head];
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+            count--;
+            return frames;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                MAVLinkFrames frames;
+
+                synchronized (this) {
+                    if (count == 0) {
+                        draining = false;
+                        return;
+                    }
+
+                    frames = poll();
+                    sending = true;
+                    sendStartTime = System.nanoTime();
+                }
+
+                try {
+                    channel.sendFrames(frames);
+                } catch (IOException ex) {
+                    logger.warn("Failed to send MO message to the MAVLink client. " + ex.getMessage());
+
+                    clients.remove(this);
+
+                    synchronized (this) {
+                        clear();
+                        sending = false;
+                        draining = false;
+                    }
+
+                    return;
+                }
+
+                synchronized (this) {
+                    sending = false;
+                }
+            }
+        }
+
+    }
+
+}
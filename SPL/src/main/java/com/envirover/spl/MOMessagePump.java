@@ -30,29 +30,27 @@ import org.apache.log4j.Logger;
 
 import com.MAVLink.MAVLinkPacket;
 import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkMessageQueue;
 
 /**
  * Mobile-originated (MO) message pump receives MAVLink messages from the 
- * specified source channel and forwards them to the specified destination
- * channel. 
+ * specified source queue and forwards them to the specified destination
+ * channel as soon as they arrive. 
  */
 class MOMessagePump implements Runnable {
 
-    private final static long MO_MESSAGE_PUMP_INTERVAL = 10;
-
     private final static Logger logger = Logger.getLogger(MOMessagePump.class);
 
-    private final MAVLinkChannel src;
+    private final MAVLinkMessageQueue src;
     private final MAVLinkChannel dst;
 
     /**
      * Constructs MOMessagePump instance. 
      * 
-     * @param src source channel
+     * @param src source queue
      * @param dst destination channel
-     * @param heartbeatInterval heartbeat interval in milliseconds
      */
-    public MOMessagePump(MAVLinkChannel src, MAVLinkChannel dst) {
+    public MOMessagePump(MAVLinkMessageQueue src, MAVLinkChannel dst) {
         this.src = src;
         this.dst = dst;
     }
@@ -63,11 +61,9 @@ class MOMessagePump implements Runnable {
 
         while (true) {
             try {
-                MAVLinkPacket packet = src.receiveMessage();
+                MAVLinkPacket packet = src.take();
 
                 dst.sendMessage(packet);
-
-                Thread.sleep(MO_MESSAGE_PUMP_INTERVAL);
             } catch (IOException ex) {
                 logger.error(ex.getMessage());
             } catch (InterruptedException e) {
@@ -0,0 +1,509 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.spl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.common.CommandIntView;
+import com.MAVLink.common.CommandLongView;
+import com.MAVLink.common.MissionClearAllView;
+import com.MAVLink.common.MissionCountView;
+import com.MAVLink.common.MissionItemIntView;
+import com.MAVLink.common.MissionItemView;
+import com.MAVLink.common.MissionSetCurrentView;
+import com.MAVLink.common.MissionWritePartialListView;
+import com.MAVLink.common.ParamSetView;
+import com.MAVLink.common.SetHomePositionView;
+import com.MAVLink.common.SetModeView;
+import com.MAVLink.common.msg_command_int;
+import com.MAVLink.common.msg_command_long;
+import com.MAVLink.common.msg_mission_clear_all;
+import com.MAVLink.common.msg_mission_count;
+import com.MAVLink.common.msg_mission_item;
+import com.MAVLink.common.msg_mission_item_int;
+import com.MAVLink.common.msg_mission_request;
+import com.MAVLink.common.msg_mission_request_list;
+import com.MAVLink.common.msg_mission_set_current;
+import com.MAVLink.common.msg_mission_write_partial_list;
+import com.MAVLink.common.msg_param_request_list;
+import com.MAVLink.common.msg_param_request_read;
+import com.MAVLink.common.msg_param_set;
+import com.MAVLink.common.msg_set_home_position;
+import com.MAVLink.common.msg_set_mode;
+import com.MAVLink.enums.MAV_CMD;
+import com.envirover.mavlink.MAVLinkShadow;
+import com.envirover.mavlink.MAVLinkShadowRegistry;
+
+/**
+ * Holds mobile-terminated messages waiting for transmission and collapses the
+ * messages superseded by newer ones.
+ * 
+ * A message replaces the unsent message with the same key and keeps its place
+ * in the queue. The keys are: parameter id for PARAM_SET, command id for 
+ * COMMAND_LONG and COMMAND_INT with the commands whose latest instance 
+ * supersedes the previous ones, mission item sequence number for MISSION_ITEM 
+ * and MISSION_ITEM_INT, and the target system for SET_MODE, 
+ * MISSION_SET_CURRENT and SET_HOME_POSITION. Other messages are never 
+ * collapsed. Servo, relay and speed commands are also keyed by their first 
+ * parameter, so commands for different servos, relays or speed types are 
+ * kept.
+ * 
+ * MISSION_COUNT and MISSION_CLEAR_ALL start a new mission upload, so they 
+ * remove all the pending mission messages for the same target system. 
+ * Items of the previous upload are never mixed with the new mission.
+ * 
+ * PARAM_SET messages that set the value the vehicle already reported in 
+ * PARAM_VALUE message are not sent. The default parameter values and the 
+ * values set by the ground control stations do not suppress PARAM_SET. 
+ * A PARAM_SET with a different value clears the reported value until the 
+ * vehicle reports the parameter again, so setting the value back is sent.
+ * 
+ * The messages are held in priority lanes, so urgent commands do not wait
+ * behind bulk mission uploads. Messages of the same lane are sent in FIFO 
+ * order, the lane of the next message is chosen by the scheduling policy. 
+ * Only safety and mode commands are urgent. Messages and commands that use 
+ * the mission, such as MISSION_SET_CURRENT and MAV_CMD_MISSION_START, share 
+ * the lane of the mission upload, so they never overtake it.
+ * 
+ * The coalescer is not thread-safe, it is used by the message pump thread only.
+ */
+public class MTMessageCoalescer {
+
+    /**
+     * Message lanes in the order of priority.
+     */
+    public enum Lane {
+        // Safety and mode commands
+        URGENT, 
+        // Parameter reads and writes and other messages
+        PARAMS, 
+        // Mission uploads and messages that use the mission
+        BULK
+    }
+
+    /**
+     * Chooses the lane of the next message.
+     */
+    public enum SchedulingPolicy {
+        // Always send the message from the highest priority non-empty lane
+        STRICT,
+        // Share transmissions between non-empty lanes in proportion to the lanes weights
+        WEIGHTED
+    }
+
+    private final static int[] DEFAULT_WEIGHTS = {4, 2, 1};
+
+    private final List<Map<Object, MAVLinkPacket>> lanes = new ArrayList<Map<Object, MAVLinkPacket>>();
+
+    private final SchedulingPolicy policy;
+    private final int[] weights;
+    private final int[] credits;
+    private final int[] maxDepths;
+    private final long[] sentCounts;
+
+    private long coalescedCount = 0;
+    private long suppressedCount = 0;
+
+    /**
+     * Constructs instance of MTMessageCoalescer with strict priority scheduling.
+     */
+    public MTMessageCoalescer() {
+        this(SchedulingPolicy.STRICT, DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * Constructs instance of MTMessageCoalescer
+     * 
+     * @param policy lanes scheduling policy
+     * @param weights positive weights of URGENT, PARAMS and BULK lanes used by 
+     *        weighted scheduling
+     */
+    public MTMessageCoalescer(SchedulingPolicy policy, int[] weights) {
+        if (weights.length != Lane.values().length) {
+            throw new IllegalArgumentException("Invalid number of lane weights.");
+        }
+
+        for (int weight : weights) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Lane weights must be positive.");
+            }
+        }
+
+        for (int i = 0; i < weights.length; i++) {
+            lanes.add(new LinkedHashMap<Object, MAVLinkPacket>());
+        }
+
+        this.policy = policy;
+        this.weights = weights.clone();
+        this.credits = new int[weights.length];
+        this.maxDepths = new int[weights.length];
+        this.sentCounts = new long[weights.length];
+    }
+
+    /**
+     * Adds the message to the pending messages.
+     * 
+     * @param packet MAVLink packet
+     */
+    public void add(MAVLinkPacket packet) {
+        if (packet == null) {
+            return;
+        }
+
+        int lane = lane(packet).ordinal();
+        Map<Object, MAVLinkPacket> pending = lanes.get(lane);
+
+        if (packet.msgid == msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT || 
+            packet.msgid == msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL) {
+            removeMissionUpload(pending, missionTarget(packet));
+        }
+
+        Object key = key(packet);
+
+        if (key == null) {
+            // Unique key
+            pending.put(new Object(), packet);
+        } else if (isApplied(packet)) {
+            if (pending.remove(key) != null) {
+                coalescedCount++;
+            }
+
+            suppressedCount++;
+            return;
+        } else {
+            clearApplied(packet);
+
+            if (pending.put(key, packet) != null) {
+                coalescedCount++;
+            }
+        }
+
+        maxDepths[lane] = Math.max(maxDepths[lane], pending.size());
+    }
+
+    // Removes pending mission messages superseded by a new mission upload
+    private void removeMissionUpload(Map<Object, MAVLinkPacket> pending, int target) {
+        Iterator<MAVLinkPacket> iter = pending.values().iterator();
+
+        while (iter.hasNext()) {
+            if (missionTarget(iter.next()) == target) {
+                iter.remove();
+                coalescedCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the message polled last to the head of its lane. Used when the 
+     * message does not fit into the MT message being sent, so it is sent 
+     * next in its lane, but does not overtake the messages of higher priority 
+     * lanes added in the meantime.
+     * 
+     * @param packet MAVLink packet returned by the last poll()
+     */
+    public void pushBack(MAVLinkPacket packet) {
+        int lane = lane(packet).ordinal();
+        Map<Object, MAVLinkPacket> pending = lanes.get(lane);
+        Object key = key(packet);
+
+        sentCounts[lane]--;
+
+        Map<Object, MAVLinkPacket> reordered = new LinkedHashMap<Object, MAVLinkPacket>();
+        reordered.put(key != null ? key : new Object(), packet);
+        reordered.putAll(pending);
+
+        pending.clear();
+        pending.putAll(reordered);
+    }
+
+    /**
+     * Removes and returns the next pending message that still needs to be sent.
+     * 
+     * @return MAVLink packet or null if there are no pending messages
+     */
+    public MAVLinkPacket poll() {
+        int lane;
+
+        while ((lane = nextLane()) >= 0) {
+            Iterator<MAVLinkPacket> iter = lanes.get(lane).values().iterator();
+
+            while (iter.hasNext()) {
+                MAVLinkPacket packet = iter.next();
+                iter.remove();
+
+                // The vehicle could have reported the value while the message was waiting
+                if (!isApplied(packet)) {
+                    sentCounts[lane]++;
+                    return packet;
+                }
+
+                suppressedCount++;
+            }
+        }
+
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<Object, MAVLinkPacket> pending : lanes) {
+            size += pending.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns number of pending messages in the lane.
+     */
+    public int getDepth(Lane lane) {
+        return lanes.get(lane.ordinal()).size();
+    }
+
+    /**
+     * Returns maximum number of pending messages in the lane.
+     */
+    public int getMaxDepth(Lane lane) {
+        return maxDepths[lane.ordinal()];
+    }
+
+    /**
+     * Returns number of messages polled from the lane.
+     */
+    public long getSentCount(Lane lane) {
+        return sentCounts[lane.ordinal()];
+    }
+
+    /**
+     * Returns number of messages replaced by newer messages with the same key
+     * or removed by a new mission upload.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Returns number of messages not sent because the vehicle already 
+     * reported the requested value.
+     */
+    public long getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    /**
+     * Returns total number of messages that were not sent.
+     */
+    public long getSavedCount() {
+        return coalescedCount + suppressedCount;
+    }
+
+    /**
+     * Returns index of the lane to poll the next message from or -1 if all 
+     * the lanes are empty. Weighted scheduling uses smooth weighted round-robin, 
+     * so the lanes messages are interleaved instead of sent in bursts.
+     */
+    private int nextLane() {
+        int next = -1;
+
+        if (policy == SchedulingPolicy.STRICT) {
+            for (int i = 0; i < lanes.size() && next < 0; i++) {
+                if (!lanes.get(i).isEmpty()) {
+                    next = i;
+                }
+            }
+            return next;
+        }
+
+        int total = 0;
+        for (int i = 0; i < lanes.size(); i++) {
+            if (lanes.get(i).isEmpty()) {
+                // Idle lanes do not accumulate credits
+                credits[i] = 0;
+                continue;
+            }
+
+            credits[i] += weights[i];
+            total += weights[i];
+
+            if (next < 0 || credits[i] > credits[next]) {
+                next = i;
+            }
+        }
+
+        if (next >= 0) {
+            credits[next] -= total;
+        }
+
+        return next;
+    }
+
+    private static Lane lane(MAVLinkPacket packet) {
+        switch (packet.msgid) {
+        case msg_set_mode.MAVLINK_MSG_ID_SET_MODE:
+            return Lane.URGENT;
+        case msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG:
+            return commandLane(CommandLongView.command(packet.payload));
+        case msg_command_int.MAVLINK_MSG_ID_COMMAND_INT:
+            return commandLane(CommandIntView.command(packet.payload));
+        case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM:
+        case msg_mission_item_int.MAVLINK_MSG_ID_MISSION_ITEM_INT:
+        case msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT:
+        case msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL:
+        case msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST:
+        case msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT:
+        case msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST:
+        case msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST:
+            return Lane.BULK;
+        case msg_param_set.MAVLINK_MSG_ID_PARAM_SET:
+        case msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ:
+        case msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST:
+        default:
+            return Lane.PARAMS;
+        }
+    }
+
+    // Returns lane of the command. Commands that use the mission wait for the mission upload.
+    private static Lane commandLane(int command) {
+        switch (command) {
+        case MAV_CMD.MAV_CMD_NAV_RETURN_TO_LAUNCH:
+        case MAV_CMD.MAV_CMD_DO_SET_MODE:
+        case MAV_CMD.MAV_CMD_DO_PAUSE_CONTINUE:
+            return Lane.URGENT;
+        case MAV_CMD.MAV_CMD_MISSION_START:
+        case MAV_CMD.MAV_CMD_DO_JUMP:
+            return Lane.BULK;
+        default:
+            return Lane.PARAMS;
+        }
+    }
+
+    private static Object key(MAVLinkPacket packet) {
+        switch (packet.msgid) {
+        case msg_param_set.MAVLINK_MSG_ID_PARAM_SET:
+            return "PARAM_SET/" + ParamSetView.target_system(packet.payload) + "/" 
+                    + ParamSetView.getParam_Id(packet.payload).trim().toUpperCase();
+        case msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG:
+            return commandKey(CommandLongView.target_system(packet.payload), 
+                              CommandLongView.target_component(packet.payload), 
+                              CommandLongView.command(packet.payload), 
+                              CommandLongView.param1(packet.payload));
+        case msg_command_int.MAVLINK_MSG_ID_COMMAND_INT:
+            return commandKey(CommandIntView.target_system(packet.payload), 
+                              CommandIntView.target_component(packet.payload), 
+                              CommandIntView.command(packet.payload), 
+                              CommandIntView.param1(packet.payload));
+        case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM:
+            return "MISSION_ITEM/" + MissionItemView.target_system(packet.payload) + "/" 
+                    + MissionItemView.seq(packet.payload);
+        case msg_mission_item_int.MAVLINK_MSG_ID_MISSION_ITEM_INT:
+            return "MISSION_ITEM/" + MissionItemIntView.target_system(packet.payload) + "/" 
+                    + MissionItemIntView.seq(packet.payload);
+        case msg_set_mode.MAVLINK_MSG_ID_SET_MODE:
+            return "SET_MODE/" + SetModeView.target_system(packet.payload);
+        case msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT:
+            return "MISSION_SET_CURRENT/" + MissionSetCurrentView.target_system(packet.payload);
+        case msg_set_home_position.MAVLINK_MSG_ID_SET_HOME_POSITION:
+            return "SET_HOME_POSITION/" + SetHomePositionView.target_system(packet.payload);
+        default:
+            return null;
+        }
+    }
+
+    // Returns key of the command or null if the command must not be collapsed
+    private static Object commandKey(int targetSystem, int targetComponent, int command, float param1) {
+        String key = "COMMAND/" + targetSystem + "/" + targetComponent + "/" + command;
+
+        switch (command) {
+        case MAV_CMD.MAV_CMD_NAV_RETURN_TO_LAUNCH:
+        case MAV_CMD.MAV_CMD_DO_SET_MODE:
+        case MAV_CMD.MAV_CMD_DO_SET_HOME:
+        case MAV_CMD.MAV_CMD_DO_PAUSE_CONTINUE:
+            return key;
+        case MAV_CMD.MAV_CMD_DO_CHANGE_SPEED:
+        case MAV_CMD.MAV_CMD_DO_SET_SERVO:
+        case MAV_CMD.MAV_CMD_DO_SET_RELAY:
+            // The first parameter is the speed type, servo or relay number
+            return key + "/" + param1;
+        default:
+            return null;
+        }
+    }
+
+    // Returns target system of the mission message or -1 for other messages
+    private static int missionTarget(MAVLinkPacket packet) {
+        switch (packet.msgid) {
+        case msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM:
+            return MissionItemView.target_system(packet.payload);
+        case msg_mission_item_int.MAVLINK_MSG_ID_MISSION_ITEM_INT:
+            return MissionItemIntView.target_system(packet.payload);
+        case msg_mission_count.MAVLINK_MSG_ID_MISSION_COUNT:
+            return MissionCountView.target_system(packet.payload);
+        case msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL:
+            return MissionClearAllView.target_system(packet.payload);
+        case msg_mission_write_partial_list.MAVLINK_MSG_ID_MISSION_WRITE_PARTIAL_LIST:
+            return MissionWritePartialListView.target_system(packet.payload);
+        default:
+            return -1;
+        }
+    }
+
+    // Returns true if the vehicle acknowledged the value set by the message
+    private static boolean isApplied(MAVLinkPacket packet) {
+        if (packet.msgid != msg_param_set.MAVLINK_MSG_ID_PARAM_SET) {
+            return false;
+        }
+
+        MAVLinkShadow shadow = MAVLinkShadowRegistry.getInstance().getShadow(packet);
+        if (shadow == null) {
+            return false;
+        }
+
+        Float value = shadow.getAcknowledgedParamValue(ParamSetView.getParam_Id(packet.payload));
+
+        return value != null && Float.floatToIntBits(value) == Float.floatToIntBits(ParamSetView.param_value(packet.payload));
+    }
+
+    // Forgets the acknowledged value changed by the message, so that setting 
+    // the value back before the vehicle reports the change is not suppressed
+    private static void clearApplied(MAVLinkPacket packet) {
+        if (packet.msgid != msg_param_set.MAVLINK_MSG_ID_PARAM_SET) {
+            return;
+        }
+
+        MAVLinkShadow shadow = MAVLinkShadowRegistry.getInstance().getShadow(packet);
+        if (shadow != null) {
+            shadow.clearAcknowledgedParamValue(ParamSetView.getParam_Id(packet.payload));
+        }
+    }
+
+}
@@ -25,15 +25,42 @@ along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
 package com.envirover.spl;
 
 import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.log4j.Logger;
 
 import com.MAVLink.MAVLinkPacket;
+import com.envirover.mavlink.MAVLinkAsyncChannel;
 import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkMessageQueue;
+import com.envirover.rockblock.MTMessagePacker;
 
 /**
  * Mobile-terminated message pump receives MAVLink messages from the specified 
- * source channel and forwards them to the specified destination channel. 
+ * source queue and forwards them to the specified destination channel. 
+ * 
+ * The pump blocks on the source queue, so a message is forwarded as soon as 
+ * it arrives unless the previous message was sent less than 
+ * MT_MESSAGE_PUMP_INTERVAL ago. Messages that arrive during the interval are
+ * collected by {@link MTMessageCoalescer}, so the messages superseded before
+ * they were sent do not take transmission slots.
+ * 
+ * Each transmission packs as many whole MAVLink frames as fit into one MT 
+ * message. If the message is not full, the pump waits for more messages 
+ * until the oldest pending message has waited for the max latency.
+ * 
+ * The pending messages are held in the coalescer priority lanes, so urgent 
+ * commands preempt the queued parameter writes and mission uploads.
+ * 
+ * If the destination channel is asynchronous, the pump does not wait for 
+ * the sent messages to be delivered, so a slow destination does not delay
+ * the next transmission slots. 
  */
 public class MTMessagePump implements Runnable {
 
@@ -41,35 +68,179 @@ public class MTMessagePump implements Runnable {
     // messages are received in FIFO order.
     private final static long MT_MESSAGE_PUMP_INTERVAL = 5000;
 
+    // How often the sends in flight are checked for completion while the pump is idle
+    private final static long IN_FLIGHT_CHECK_INTERVAL = 1000;
+
     private final static Logger logger = Logger.getLogger(MTMessagePump.class);
 
-    private final MAVLinkChannel src;
+    private final MAVLinkMessageQueue src;
     private final MAVLinkChannel dst;
+    private final long interval;
+    private final MTMessagePacker packer;
+    private final long maxLatency;
+    private final MTMessageCoalescer coalescer;
+    private final List<Future<Void>> inFlight = new ArrayList<Future<Void>>();
+
+    // True if the next pending packet did not fit into the MT message being filled
+    private boolean full = false;
+    // Time when the oldest pending message was received
+    private long pendingSince = 0;
+
+    /**
+     * Constructs instance of MTMessagePump
+     * 
+     * @param src source messages queue
+     * @param dst destination messages channel
+     */
+    public MTMessagePump(MAVLinkMessageQueue src, MAVLinkChannel dst) {
+        this(src, dst, MT_MESSAGE_PUMP_INTERVAL);
+    }
+
+    /**
+     * Constructs instance of MTMessagePump
+     * 
+     * @param src source messages queue
+     * @param dst destination messages channel
+     * @param interval minimum interval between sent messages in milliseconds
+     */
+    public MTMessagePump(MAVLinkMessageQueue src, MAVLinkChannel dst, long interval) {
+        this(src, dst, interval, new MTMessagePacker(false), 0, new MTMessageCoalescer());
+    }
+
+    /**
+     * Constructs instance of MTMessagePump
+     * 
+     * @param src source messages queue
+     * @param dst destination messages channel
+     * @param packer packer of MAVLink frames into MT messages
+     * @param maxLatency maximum time in milliseconds a message waits for more
+     *        messages to be packed with it
+     * @param coalescer holder of the pending messages
+     */
+    public MTMessagePump(MAVLinkMessageQueue src, MAVLinkChannel dst, MTMessagePacker packer, long maxLatency,
+                         MTMessageCoalescer coalescer) {
+        this(src, dst, MT_MESSAGE_PUMP_INTERVAL, packer, maxLatency, coalescer);
+    }
 
     /**
      * Constructs instance of MTMessagePump
      * 
-     * @param src source messages channel
+     * @param src source messages queue
      * @param dst destination messages channel
+     * @param interval minimum interval between sent messages in milliseconds
+     * @param packer packer of MAVLink frames into MT messages
+     * @param maxLatency maximum time in milliseconds a message waits for more
+     *        messages to be packed with it
+     * @param coalescer holder of the pending messages
      */
-    public MTMessagePump(MAVLinkChannel src, MAVLinkChannel dst) {
+    public MTMessagePump(MAVLinkMessageQueue src, MAVLinkChannel dst, long interval,
+                         MTMessagePacker packer, long maxLatency, MTMessageCoalescer coalescer) {
         this.src = src;
         this.dst = dst;
+        this.interval = interval;
+        this.packer = packer;
+        this.maxLatency = maxLatency;
+        this.coalescer = coalescer;
+    }
+
+    /**
+     * Returns number of messages that were not sent because they were 
+     * superseded or already applied.
+     */
+    public long getSavedCount() {
+        synchronized (coalescer) {
+            return coalescer.getSavedCount();
+        }
+    }
+
+    /**
+     * Returns number of messages waiting for transmission in the lane.
+     */
+    public int getLaneDepth(MTMessageCoalescer.Lane lane) {
+        synchronized (coalescer) {
+            return coalescer.getDepth(lane);
+        }
+    }
+
+    /**
+     * Returns maximum number of messages that waited for transmission in the lane.
+     */
+    public int getLaneMaxDepth(MTMessageCoalescer.Lane lane) {
+        synchronized (coalescer) {
+            return coalescer.getMaxDepth(lane);
+        }
+    }
+
+    /**
+     * Returns number of messages of the lane packed into MT messages.
+     */
+    public long getLaneSentCount(MTMessageCoalescer.Lane lane) {
+        synchronized (coalescer) {
+            return coalescer.getSentCount(lane);
+        }
     }
 
     @Override
     public void run() {
         logger.debug("MTMessagePump started.");
 
+        long lastSentTime = 0;
+
         while(true) {
             try {
-                MAVLinkPacket packet = src.receiveMessage();
+                if (isEmpty()) {
+                    if (inFlight.isEmpty()) {
+                        add(src.take());
+                    } else {
+                        add(src.receiveMessage(IN_FLIGHT_CHECK_INTERVAL, TimeUnit.MILLISECONDS));
+                        checkInFlight();
+                        continue;
+                    }
+                }
 
-                if (packet != null) {
-                    dst.sendMessage(packet);
+                // Collect the messages that arrive before the next transmission slot
+                long delay;
+                while ((delay = lastSentTime + interval - System.currentTimeMillis()) > 0) {
+                    add(src.receiveMessage(delay, TimeUnit.MILLISECONDS));
                 }
 
-                Thread.sleep(MT_MESSAGE_PUMP_INTERVAL);
+                MAVLinkPacket packet;
+                while ((packet = src.receiveMessage()) != null) {
+                    add(packet);
+                }
+
+                // Fill the MT message until it is full or the max latency deadline
+                long deadline = pendingSince + maxLatency;
+                List<MAVLinkPacket> message = new ArrayList<MAVLinkPacket>();
+                full = false;
+                int size = fill(message, 0);
+
+                while (!full && (delay = deadline - System.currentTimeMillis()) > 0) {
+                    add(src.receiveMessage(delay, TimeUnit.MILLISECONDS));
+                    size = fill(message, size);
+                }
+
+                if (!message.isEmpty()) {
+                    if (logger.isDebugEnabled()) {
+                        synchronized (coalescer) {
+                            logger.debug(MessageFormat.format(
+                                "{0} MAVLink messages ({1} bytes) packed into MT message. Pending: urgent {2}, params {3}, bulk {4}.",
+                                message.size(), size,
+                                coalescer.getDepth(MTMessageCoalescer.Lane.URGENT),
+                                coalescer.getDepth(MTMessageCoalescer.Lane.PARAMS),
+                                coalescer.getDepth(MTMessageCoalescer.Lane.BULK)));
+                        }
+                    }
+
+                    lastSentTime = System.currentTimeMillis();
+
+                    if (dst instanceof MAVLinkAsyncChannel) {
+                        checkInFlight();
+                        inFlight.add(((MAVLinkAsyncChannel) dst).sendMessagesAsync(message));
+                    } else {
+                        dst.sendMessages(message);
+                    }
+                }
             } catch(IOException ex) {
                 logger.error(ex.getMessage());
             } catch (InterruptedException e) {
@@ -79,4 +250,87 @@ public class MTMessagePump implements Runnable {
         }
     }
 
+    /**
+     * Removes the completed sends from the sends in flight and logs the failed ones.
+     */
+    private void checkInFlight() throws InterruptedException {
+        Iterator<Future<Void>> iter = inFlight.iterator();
+
+        while (iter.hasNext()) {
+            Future<Void> future = iter.next();
+
+            if (future.isDone()) {
+                iter.remove();
+
+                try {
+                    future.get();
+                } catch (ExecutionException ex) {
+                    logger.error(ex.getCause().getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves pending packets into the MT message while they fit into it. 
+     * The packet that does not fit is returned to the coalescer, so it 
+     * keeps its place in its lane, but does not overtake the higher priority 
+     * packets received before the next MT message.
+     * 
+     * @return size of the MT message in bytes
+     */
+    private int fill(List<MAVLinkPacket> message, int size) {
+        while (true) {
+            MAVLinkPacket packet;
+
+            synchronized (coalescer) {
+                packet = coalescer.poll();
+            }
+
+            if (packet == null) {
+                return size;
+            }
+
+            int length = packer.getFrameLength(packet);
+
+            if (!message.isEmpty() && size + length > packer.getMaxSize()) {
+                synchronized (coalescer) {
+                    coalescer.pushBack(packet);
+                }
+
+                full = true;
+                return size;
+            }
+
+            message.add(packet);
+            size += length;
+        }
+    }
+
+    private boolean isEmpty() {
+        synchronized (coalescer) {
+            return coalescer.isEmpty();
+        }
+    }
+
+    private void add(MAVLinkPacket packet) {
+        if (packet == null) {
+            return;
+        }
+
+        if (isEmpty()) {
+            pendingSince = System.currentTimeMillis();
+        }
+
+        synchronized (coalescer) {
+            long saved = coalescer.getSavedCount();
+            coalescer.add(packet);
+
+            if (coalescer.getSavedCount() > saved) {
+                logger.info(MessageFormat.format("Superseded MT message dropped. {0} satellite transmissions saved.",
+                        coalescer.getSavedCount()));
+            }
+        }
+    }
+
 }
@@ -0,0 +1,252 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.spl;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.log4j.Logger;
+
+import com.MAVLink.MAVLinkPacket;
+import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkFrames;
+import com.envirover.mavlink.MAVLinkMessageQueue;
+import com.envirover.mavlink.MAVLinkShadow;
+import com.envirover.mavlink.MAVLinkShadowRegistry;
+import com.envirover.rockblock.MTMessagePacker;
+import com.envirover.rockblock.RockBlockClient;
+
+/**
+ * Routes mobile-terminated messages of the ground control stations to the 
+ * target vehicles.
+ * 
+ * Each vehicle has its own MT message queue and pump, so the transmission
+ * slots of one vehicle do not delay messages to the others. The queue and 
+ * the pump are created when the first message to the vehicle is sent.
+ */
+public class MTMessageRouter implements MAVLinkChannel {
+
+    private final static Logger logger = Logger.getLogger(MTMessageRouter.class);
+    private static final Config config = Config.getInstance();
+
+    private final MAVLinkShadowRegistry registry;
+    private final RockBlockClient rockblock;
+    private final ConcurrentMap<Integer, Vehicle> vehicles = new ConcurrentHashMap<Integer, Vehicle>();
+
+    private volatile boolean closed = false;
+
+    /**
+     * Constructs instance of MTMessageRouter
+     * 
+     * @param registry vehicle shadows registry
+     * @param rockblock RockBLOCK Web Services client
+     */
+    public MTMessageRouter(MAVLinkShadowRegistry registry, RockBlockClient rockblock) {
+        this.registry = registry;
+        this.rockblock = rockblock;
+    }
+
+    @Override
+    public MAVLinkPacket receiveMessage() throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sendMessage(MAVLinkPacket packet) throws IOException {
+        if (packet == null) {
+            return;
+        }
+
+        MAVLinkShadow shadow = registry.getShadow(packet);
+
+        if (shadow == null || shadow.getIMEI() == null) {
+            logger.warn(MessageFormat.format("MT message to unknown system {0} dropped.", 
+                                             MAVLinkShadowRegistry.getTargetSystem(packet)));
+            return;
+        }
+
+        getVehicle(shadow).queue.sendMessage(packet);
+    }
+
+    @Override
+    public void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+        for (MAVLinkPacket packet : packets) {
+            sendMessage(packet);
+        }
+    }
+
+    @Override
+    public void sendFrames(MAVLinkFrames frames) throws IOException {
+        sendMessages(frames.toPackets());
+    }
+
+    /**
+     * Returns number of vehicles that have MT message pumps.
+     */
+    public int getActiveVehicleCount() {
+        return vehicles.size();
+    }
+
+    /**
+     * Returns number of MT messages to the vehicle waiting for transmission in the lane.
+     * 
+     * @param sysid system id of the vehicle
+     * @param lane priority lane
+     */
+    public int getLaneDepth(int sysid, MTMessageCoalescer.Lane lane) {
+        Vehicle vehicle = vehicles.get(sysid);
+        return vehicle != null ? vehicle.pump.getLaneDepth(lane) : 0;
+    }
+
+    /**
+     * Returns maximum number of MT messages to the vehicle that waited for 
+     * transmission in the lane.
+     * 
+     * @param sysid system id of the vehicle
+     * @param lane priority lane
+     */
+    public int getLaneMaxDepth(int sysid, MTMessageCoalescer.Lane lane) {
+        Vehicle vehicle = vehicles.get(sysid);
+        return vehicle != null ? vehicle.pump.getLaneMaxDepth(lane) : 0;
+    }
+
+    /**
+     * Returns number of MT messages to the vehicle of the lane that were sent.
+     * 
+     * @param sysid system id of the vehicle
+     * @param lane priority lane
+     */
+    public long getLaneSentCount(int sysid, MTMessageCoalescer.Lane lane) {
+        Vehicle vehicle = vehicles.get(sysid);
+        return vehicle != null ? vehicle.pump.getLaneSentCount(lane) : 0;
+    }
+
+    /**
+     * Returns number of MT messages to the vehicle that were not sent because
+     * they were superseded or already applied.
+     * 
+     * @param sysid system id of the vehicle
+     */
+    public long getSavedCount(int sysid) {
+        Vehicle vehicle = vehicles.get(sysid);
+        return vehicle != null ? vehicle.pump.getSavedCount() : 0;
+    }
+
+    /**
+     * Logs the MT messages lanes statistics of all the vehicles.
+     */
+    public void logStatistics() {
+        for (Map.Entry<Integer, Vehicle> entry : vehicles.entrySet()) {
+            MTMessagePump pump = entry.getValue().pump;
+            StringBuilder lanes = new StringBuilder();
+
+            for (MTMessageCoalescer.Lane lane : MTMessageCoalescer.Lane.values()) {
+                lanes.append(MessageFormat.format(" {0}: depth {1}, max depth {2}, sent {3};", 
+                                                  lane.name().toLowerCase(), pump.getLaneDepth(lane), 
+                                                  pump.getLaneMaxDepth(lane), pump.getLaneSentCount(lane)));
+            }
+
+            logger.info(MessageFormat.format("MT messages to system {0}:{1} saved {2}.", 
+                                             entry.getKey(), lanes, pump.getSavedCount()));
+        }
+    }
+
+    /**
+     * Does nothing. The router is shared by all the client sessions, so it is 
+     * not closed with a client channel. Use shutdown() to stop the router.
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Stops the MT message pumps of all the vehicles and logs their statistics.
+     */
+    public void shutdown() {
+        closed = true;
+
+        logStatistics();
+
+        for (Vehicle vehicle : vehicles.values()) {
+            vehicle.thread.interrupt();
+        }
+
+        for (Vehicle vehicle : vehicles.values()) {
+            try {
+                vehicle.thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Vehicle getVehicle(MAVLinkShadow shadow) throws IOException {
+        Vehicle vehicle = vehicles.get(shadow.getSystemId());
+
+        if (vehicle == null) {
+            synchronized (vehicles) {
+                if (closed) {
+                    throw new IOException("MT message router is closed.");
+                }
+
+                vehicle = vehicles.get(shadow.getSystemId());
+
+                if (vehicle == null) {
+                    vehicle = new Vehicle(shadow);
+                    vehicles.put(shadow.getSystemId(), vehicle);
+                    vehicle.thread.start();
+                }
+            }
+        }
+
+        return vehicle;
+    }
+
+    /**
+     * MT messages pipeline of a vehicle.
+     */
+    private class Vehicle {
+        final MAVLinkMessageQueue queue;
+        final MTMessagePump pump;
+        final Thread thread;
+
+        Vehicle(MAVLinkShadow shadow) {
+            queue = new MAVLinkMessageQueue(config.getQueueSize(), config.getQueueOverflowPolicy());
+
+            pump = new MTMessagePump(queue, rockblock.getChannel(shadow.getIMEI()),
+                                                   new MTMessagePacker(config.isRockBlockMAVLink2()),
+                                                   config.getMTMaxLatency(),
+                                                   new MTMessageCoalescer(config.getMTSchedulingPolicy(),
+                                                                          config.getMTLaneWeights()));
+
+            thread = new Thread(pump, "mt-message-pump-" + shadow.getSystemId());
+        }
+    }
+
+}
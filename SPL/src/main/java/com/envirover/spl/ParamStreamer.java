@@ -0,0 +1,199 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.spl;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.common.msg_param_value;
+import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkLogger;
+import com.envirover.mavlink.MAVLinkSocketChannel;
+
+/**
+ * Streams on-board parameters to a client channel in response to 
+ * PARAM_REQUEST_LIST message.
+ * 
+ * The parameters are sent in small bursts by a periodic task of the session
+ * timer, so other messages of the session are interleaved with the dump. 
+ * The output is paced by the configured rate, and a burst is postponed while 
+ * the client socket has too many bytes pending to be written. The bursts are 
+ * sent by the timer dispatch threads, and no burst is started while the 
+ * previous one is still being written to a blocking channel.
+ * 
+ * Starting a new dump or closing the session cancels the dump in progress.
+ */
+public class ParamStreamer {
+
+    public final static int DEFAULT_RATE = 200;
+
+    private final static Logger logger = Logger.getLogger(ParamStreamer.class);
+
+    // Period of the streaming task in milliseconds
+    private final static long INTERVAL = 20;
+
+    // Maximum number of bytes pending to be written to the client socket
+    private final static int MAX_PENDING_BYTES = 8 * 1024;
+
+    private final MAVLinkChannel dst;
+    private final HashedWheelTimer timer;
+    private final int burstSize;
+
+    private Stream stream = null;
+
+    /**
+     * Constructs instance of ParamStreamer.
+     * 
+     * @param dst client channel
+     * @param timer timer that runs the streaming task
+     * @param rate maximum number of parameters sent per second
+     */
+    public ParamStreamer(MAVLinkChannel dst, HashedWheelTimer timer, int rate) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Invalid parameters streaming rate.");
+        }
+
+        this.dst = dst;
+        this.timer = timer;
+        this.burstSize = (int) Math.max(1, rate * INTERVAL / 1000);
+    }
+
+    /**
+     * Starts streaming the parameters. The dump in progress is cancelled.
+     * 
+     * @param params parameters to send, the list must not be modified while streaming
+     */
+    public synchronized void start(List<msg_param_value> params) {
+        cancel();
+
+        stream = new Stream(params);
+        stream.timeout = timer.dispatchAtFixedRate(stream, 0, INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the dump in progress.
+     */
+    public synchronized void cancel() {
+        if (stream != null) {
+            stream.timeout.cancel();
+
+            logger.info(MessageFormat.format("Parameters streaming cancelled after {0} of {1} on-board parameters.", 
+                                             stream.next, stream.params.size()));
+            stream = null;
+        }
+    }
+
+    /**
+     * Returns true if a dump is in progress.
+     */
+    public synchronized boolean isStreaming() {
+        return stream != null;
+    }
+
+    private boolean isWritable() {
+        return !(dst instanceof MAVLinkSocketChannel) || 
+               ((MAVLinkSocketChannel) dst).getPendingBytes() <= MAX_PENDING_BYTES;
+    }
+
+    // Runs on a timer dispatch thread. Executions of the same stream do not
+    // overlap, and the lock is not held while writing to the channel, so
+    // start() and cancel() do not wait for a stalled client.
+    private void send(Stream s) {
+        List<MAVLinkPacket> packets;
+        boolean last;
+
+        synchronized (this) {
+            if (s != stream || !isWritable()) {
+                return;
+            }
+
+            int end = Math.min(s.next + burstSize, s.params.size());
+            packets = new ArrayList<MAVLinkPacket>(end - s.next);
+
+            for (msg_param_value param : s.params.subList(s.next, end)) {
+                MAVLinkPacket packet = param.pack();
+                packet.sysid = param.sysid;
+                packet.compid = 1;
+                packets.add(packet);
+            }
+
+            s.next = end;
+            last = s.next >= s.params.size();
+
+            if (last) {
+                s.timeout.cancel();
+                stream = null;
+            }
+        }
+
+        try {
+            dst.sendMessages(packets);
+        } catch (IOException ex) {
+            logger.warn(MessageFormat.format("Failed to send on-board parameters. {0}", ex.getMessage()));
+
+            synchronized (this) {
+                if (s == stream) {
+                    cancel();
+                }
+            }
+
+            dst.close();
+            return;
+        }
+
+        for (MAVLinkPacket packet : packets) {
+            MAVLinkLogger.log(Level.INFO, ">>", packet);
+        }
+
+        if (last) {
+            logger.info(MessageFormat.format("{0} on-board parameters sent to the MAVLink client.", s.params.size()));
+        }
+    }
+
+    /**
+     * Parameters dump in progress.
+     */
+    private class Stream implements Runnable {
+        final List<msg_param_value> params;
+        HashedWheelTimer.Timeout timeout = null;
+        int next = 0;
+
+        Stream(List<msg_param_value> params) {
+            this.params = params;
+        }
+
+        @Override
+        public void run() {
+            send(this);
+        }
+    }
+
+}
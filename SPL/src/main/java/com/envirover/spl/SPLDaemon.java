@@ -24,9 +24,12 @@ along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
 
 package com.envirover.spl;
 
+import java.io.File;
 import java.io.InputStream;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.daemon.Daemon;
 import org.apache.commons.daemon.DaemonContext;
@@ -35,7 +38,9 @@ import org.apache.log4j.Logger;
 import org.glassfish.tyrus.server.Server;
 
 import com.envirover.mavlink.MAVLinkMessageQueue;
-import com.envirover.mavlink.MAVLinkShadow;
+import com.envirover.mavlink.MAVLinkShadowJournal;
+import com.envirover.mavlink.MAVLinkShadowRegistry;
+import com.envirover.rockblock.CircuitBreaker;
 import com.envirover.rockblock.RockBlockClient;
 import com.envirover.rockblock.RockBlockHttpHandler;
 import com.sun.net.httpserver.HttpServer;
@@ -47,13 +52,20 @@ import com.sun.net.httpserver.HttpServer;
 public class SPLDaemon implements Daemon {
     private final static String DEFAULT_PARAMS_FILE = "default.params";
 
+    // Interval between logging MT messages statistics in milliseconds
+    private final static long MT_STATISTICS_INTERVAL = 60000;
+
     private final static Logger logger = Logger.getLogger(SPLDaemon.class);
 
     private final Config config = Config.getInstance();
     private MAVLinkTcpServer tcpServer = null;
     private ShadowTcpServer shadowServer = null;
     private HttpServer httpServer = null;
-    private Thread mtMsgPumpThread = null;
+    private RockBlockClient rockblock = null;
+    private MTMessageRouter mtMessageRouter = null;
+    private MAVLinkShadowJournal journal = null;
+    private Thread moMsgPumpThread = null;
+    private HashedWheelTimer.Timeout mtStatisticsTimeout = null;
     private Server wsServer;
 
     @Override
@@ -66,40 +78,58 @@ public class SPLDaemon implements Daemon {
         if (!config.init(context.getArguments()))
             throw new DaemonInitException("Invalid configuration.");
 
+        MAVLinkShadowRegistry registry = MAVLinkShadowRegistry.getInstance();
+
         ClassLoader loader = SPLDaemon.class.getClassLoader();
         InputStream params = loader.getResourceAsStream(DEFAULT_PARAMS_FILE);
         if (params != null) {
-            MAVLinkShadow.getInstance().loadParams(params);
+            registry.loadParams(params);
             params.close();
         } else {
             logger.warn("File 'default.params' with initial parameters values not found.");
         }
 
-        MAVLinkMessageQueue mtMessageQueue = new MAVLinkMessageQueue(config.getQueueSize());
-        tcpServer = new MAVLinkTcpServer(config.getMAVLinkPort(), mtMessageQueue);
+        for (Map.Entry<String, Integer> vehicle : config.getVehicles().entrySet()) {
+            registry.register(vehicle.getKey(), vehicle.getValue());
+        }
+
+        if (config.getShadowJournalDir() != null) {
+            journal = new MAVLinkShadowJournal(new File(config.getShadowJournalDir()),
+                                               config.getShadowJournalSize(),
+                                               config.getShadowJournalCommitInterval());
+            journal.open(registry);
+        }
+
+        rockblock = new RockBlockClient(config.getRockBlockIMEI(),
+                                        config.getRockBlockUsername(),
+                                        config.getRockBlockPassword(),
+                                        config.getRockBlockURL(),
+                                        config.isRockBlockMAVLink2(),
+                                        config.getRockBlockTimeout(),
+                                        config.getRockBlockMaxInFlight(),
+                                        config.getRockBlockMaxRetries(),
+                                        config.getRockBlockRetryBackoff(),
+                                        new CircuitBreaker(RockBlockClient.DEFAULT_CIRCUIT_BREAKER_THRESHOLD,
+                                                           RockBlockClient.DEFAULT_CIRCUIT_BREAKER_OPEN_TIME));
 
-        shadowServer = new ShadowTcpServer(config.getShadowPort());
+        mtMessageRouter = new MTMessageRouter(registry, rockblock);
+        tcpServer = new MAVLinkTcpServer(config.getMAVLinkPort(), mtMessageRouter, config.getTcpSelectorThreads());
 
-        MAVLinkMessageQueue moMessageQueue = new MAVLinkMessageQueue(config.getQueueSize());
+        shadowServer = new ShadowTcpServer(config.getShadowPort(), config.getTcpSelectorThreads());
+
+        MAVLinkMessageQueue moMessageQueue = new MAVLinkMessageQueue(config.getQueueSize(), config.getQueueOverflowPolicy());
 
         MOMessageHandler moHandler = new MOMessageHandler(moMessageQueue);
 
         httpServer = HttpServer.create(new InetSocketAddress(config.getRockblockPort()), 0);
         httpServer.createContext(config.getHttpContext(), 
-                             new RockBlockHttpHandler(moHandler, config.getRockBlockIMEI()));
+                             new RockBlockHttpHandler(moHandler, registry));
         httpServer.setExecutor(null);
 
-        // TODO: Broadcast MO messages to all the connected clients.
-
-        RockBlockClient rockblock = new RockBlockClient(config.getRockBlockIMEI(),
-                                                        config.getRockBlockUsername(),
-                                                        config.getRockBlockPassword(),
-                                                        config.getRockBlockURL());
+        MOMessagePump moMsgPump = new MOMessagePump(moMessageQueue, MOMessageHub.getInstance());
+        moMsgPumpThread = new Thread(moMsgPump, "mo-message-pump");
 
-        MTMessagePump mtMsgPump = new MTMessagePump(mtMessageQueue, rockblock);
-        mtMsgPumpThread = new Thread(mtMsgPump, "mt-message-pump");
-
-        WSEndpoint.setMTQueue(mtMessageQueue);
+        WSEndpoint.setMTQueue(mtMessageRouter);
         wsServer = new Server("localhost", config.getWSPort(), "/gcs", WSEndpoint.class);
     }
 
@@ -111,11 +141,18 @@ public class SPLDaemon implements Daemon {
         System.out.println();
 
         httpServer.start();
-        mtMsgPumpThread.start();
+        moMsgPumpThread.start();
         tcpServer.start();
         shadowServer.start();
         wsServer.start();
 
+        mtStatisticsTimeout = HashedWheelTimer.getInstance().dispatchAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                mtMessageRouter.logStatistics();
+            }
+        }, MT_STATISTICS_INTERVAL, TimeUnit.MILLISECONDS);
+
         Thread.sleep(1000);
 
         logger.info("SPL Ground Control server started.");
@@ -124,8 +161,15 @@ public class SPLDaemon implements Daemon {
     @Override
     public void stop() throws Exception {
 
-        mtMsgPumpThread.interrupt();
-        mtMsgPumpThread.join(1000);
+        if (mtStatisticsTimeout != null) {
+            mtStatisticsTimeout.cancel();
+        }
+
+        mtMessageRouter.shutdown();
+        rockblock.close();
+
+        moMsgPumpThread.interrupt();
+        moMsgPumpThread.join(1000);
 
         httpServer.stop(0);
 
@@ -133,6 +177,10 @@ public class SPLDaemon implements Daemon {
         tcpServer.stop();
         wsServer.stop();
 
+        if (journal != null) {
+            journal.close();
+        }
+
         Thread.sleep(1000);
 
         logger.info("SPL Ground Control server stopped.");
@@ -26,38 +26,27 @@ package com.envirover.spl;
 
 import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 
 import com.MAVLink.MAVLinkPacket;
 import com.MAVLink.Messages.MAVLinkMessage;
-import com.MAVLink.common.msg_attitude;
-import com.MAVLink.common.msg_global_position_int;
-import com.MAVLink.common.msg_gps_raw_int;
-import com.MAVLink.common.msg_heartbeat;
-import com.MAVLink.common.msg_high_latency;
 import com.MAVLink.common.msg_mission_ack;
 import com.MAVLink.common.msg_mission_clear_all;
 import com.MAVLink.common.msg_mission_count;
-import com.MAVLink.common.msg_mission_current;
 import com.MAVLink.common.msg_mission_item;
 import com.MAVLink.common.msg_mission_request;
 import com.MAVLink.common.msg_mission_request_list;
-import com.MAVLink.common.msg_nav_controller_output;
 import com.MAVLink.common.msg_param_request_list;
 import com.MAVLink.common.msg_param_request_read;
 import com.MAVLink.common.msg_param_set;
-import com.MAVLink.common.msg_param_value;
-import com.MAVLink.common.msg_sys_status;
-import com.MAVLink.common.msg_vfr_hud;
 import com.MAVLink.enums.MAV_MISSION_RESULT;
-import com.MAVLink.enums.MAV_STATE;
 import com.envirover.mavlink.MAVLinkChannel;
 import com.envirover.mavlink.MAVLinkLogger;
 import com.envirover.mavlink.MAVLinkShadow;
+import com.envirover.mavlink.MAVLinkShadowRegistry;
 
 /*
  * TCP and WebSocket MAVLink client sessions that handle communications with GCS clients
@@ -69,11 +58,13 @@ public class ShadowClientSession implements ClientSession {
     private final static Logger logger = Logger.getLogger(ShadowClientSession.class);
     private static final Config config = Config.getInstance();
 
-    private final Timer heartbeatTimer = new Timer();
+    private volatile HashedWheelTimer.Timeout heartbeatTimeout = null;
     private final MAVLinkChannel src;
+    private final ParamStreamer paramStreamer;
 
     public ShadowClientSession(MAVLinkChannel src) {
         this.src = src;
+        this.paramStreamer = new ParamStreamer(src, HashedWheelTimer.getInstance(), config.getParamStreamRate());
     }
 
     /* (non-Javadoc)
@@ -81,7 +72,7 @@ public class ShadowClientSession implements ClientSession {
      */
     @Override
     public void onOpen() {
-        TimerTask heartbeatTask = new TimerTask() {
+        Runnable heartbeatTask = new Runnable() {
             @Override
             public void run() {
                 try {
@@ -91,7 +82,8 @@ public class ShadowClientSession implements ClientSession {
             }
         };
 
-        heartbeatTimer.schedule(heartbeatTask, 0, config.getHeartbeatInterval());
+        heartbeatTimeout = HashedWheelTimer.getInstance().dispatchAtFixedRate(heartbeatTask, 
+                config.getHeartbeatInterval(), TimeUnit.MILLISECONDS);
     }
 
     /* (non-Javadoc)
@@ -99,7 +91,11 @@ public class ShadowClientSession implements ClientSession {
      */
     @Override
     public void onClose() throws InterruptedException {
-        heartbeatTimer.cancel();
+        if (heartbeatTimeout != null) {
+            heartbeatTimeout.cancel();
+        }
+
+        paramStreamer.cancel();
 
         if (src != null) {
             src.close();
@@ -120,18 +116,18 @@ public class ShadowClientSession implements ClientSession {
             return;
         }
 
-        MAVLinkShadow shadow = MAVLinkShadow.getInstance();
+        MAVLinkShadow shadow = MAVLinkShadowRegistry.getInstance().getShadow(packet);
+
+        if (shadow == null) {
+            return;
+        }
 
         switch (packet.msgid) {
             case msg_param_request_list.MAVLINK_MSG_ID_PARAM_REQUEST_LIST: {
                 MAVLinkLogger.log(Level.INFO, "<<", packet);
 
-                for (msg_param_value param : shadow.getParams()) {
-                    sendToSource(param);
-                    Thread.sleep(10);
-                }
-
-                logger.info(MessageFormat.format("{0} on-board parameters sent to the MAVLink client.", shadow.getParams().size()));
+                // The reported parameters snapshot is not modified while streaming
+                paramStreamer.start(shadow.getParams());
                 break;
             }
             case msg_param_request_read.MAVLINK_MSG_ID_PARAM_REQUEST_READ: {
@@ -158,7 +154,11 @@ public class ShadowClientSession implements ClientSession {
             return;
         }
 
-        MAVLinkShadow shadow = MAVLinkShadow.getInstance();
+        MAVLinkShadow shadow = MAVLinkShadowRegistry.getInstance().getShadow(packet);
+
+        if (shadow == null) {
+            return;
+        }
 
         switch (packet.msgid) {
             case msg_mission_request_list.MAVLINK_MSG_ID_MISSION_REQUEST_LIST: {
@@ -176,7 +176,8 @@ public class ShadowClientSession implements ClientSession {
             case msg_mission_request.MAVLINK_MSG_ID_MISSION_REQUEST: {
                 MAVLinkLogger.log(Level.INFO, "<<", packet);
                 msg_mission_request msg = (msg_mission_request)packet.unpack();
-                msg_mission_item mission = shadow.getReportedMissionItem(msg.seq);
+                // The reported mission items are shared by all the sessions
+                msg_mission_item mission = new msg_mission_item(shadow.getReportedMissionItem(msg.seq).pack());
                 mission.sysid = msg.target_system;
                 mission.compid = msg.target_component;
                 sendToSource(mission);
@@ -247,109 +248,24 @@ public class ShadowClientSession implements ClientSession {
 
     /**
      * Sends heartbeat and other status messages derived 
-     * from HIGH_LATENCY message to the specified client channel.
+     * from HIGH_LATENCY message of each vehicle to the specified client channel.
      *
      * @param dst destination channel
      * @throws IOException if a message sending failed
      * @throws InterruptedException 
      */
     private synchronized void reportState() throws IOException, InterruptedException {
-        msg_high_latency msgHighLatency = MAVLinkShadow.getInstance().getHighLatencyMessage();
-
-        sendToSource(getHeartbeatMsg(msgHighLatency));
-        sendToSource(getSysStatusMsg(msgHighLatency));
-        sendToSource(getGpsRawIntMsg(msgHighLatency));
-        sendToSource(getAttitudeMsg(msgHighLatency));
-        sendToSource(getGlobalPositionIntMsg(msgHighLatency));
-        sendToSource(getMissionCurrentMsg(msgHighLatency));
-        sendToSource(getNavControllerOutputMsg(msgHighLatency));
-        sendToSource(getVfrHudMsg(msgHighLatency));
-    }
-
-    private MAVLinkMessage getHeartbeatMsg(msg_high_latency msgHighLatency) {
-        msg_heartbeat msg = new msg_heartbeat();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.base_mode = msgHighLatency.base_mode;
-        msg.custom_mode = msgHighLatency.custom_mode;
-        msg.system_status = MAV_STATE.MAV_STATE_ACTIVE;
-        msg.autopilot = config.getAutopilot();
-        msg.type = config.getMavType();
-        return msg;
-    }
-
-    private MAVLinkMessage getSysStatusMsg(msg_high_latency msgHighLatency) {
-        msg_sys_status msg = new msg_sys_status();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.battery_remaining = (byte)msgHighLatency.battery_remaining;
-        msg.voltage_battery = msgHighLatency.temperature * 1000;
-        msg.current_battery = msgHighLatency.temperature_air < 0 ? 
-                -1 : (short)(msgHighLatency.temperature_air * 100);
-        return msg;
-    }
+        TelemetryCache cache = TelemetryCache.getInstance();
 
-    private MAVLinkMessage getGpsRawIntMsg(msg_high_latency msgHighLatency) {
-        msg_gps_raw_int msg = new msg_gps_raw_int();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.fix_type = msgHighLatency.gps_fix_type;
-        msg.satellites_visible = msgHighLatency.gps_nsat;
-        msg.lat = msgHighLatency.latitude;
-        msg.lon = msgHighLatency.longitude;
-        msg.alt = msgHighLatency.altitude_amsl;
-        return msg;
-    }
-
-    private MAVLinkMessage getAttitudeMsg(msg_high_latency msgHighLatency) {
-        msg_attitude msg = new msg_attitude();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.yaw = (float)Math.toRadians(msgHighLatency.heading / 100.0);
-        msg.pitch = (float)Math.toRadians(msgHighLatency.pitch / 100.0);
-        msg.roll = (float)Math.toRadians(msgHighLatency.roll / 100.0);
-        return msg;
-    }
-
-    private MAVLinkMessage getGlobalPositionIntMsg(msg_high_latency msgHighLatency) {
-        msg_global_position_int msg = new msg_global_position_int();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.alt = msgHighLatency.altitude_amsl;
-        msg.lat = msgHighLatency.latitude;
-        msg.lon = msgHighLatency.longitude;
-        msg.hdg = msgHighLatency.heading;
-        msg.relative_alt = msgHighLatency.altitude_sp;
-        return msg;
-    }
-
-    private MAVLinkMessage getMissionCurrentMsg(msg_high_latency msgHighLatency) {
-        msg_mission_current msg = new msg_mission_current();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.seq = msgHighLatency.wp_num;
-        return msg;
-    }
-
-    private MAVLinkMessage getNavControllerOutputMsg(msg_high_latency msgHighLatency) {
-        msg_nav_controller_output msg = new msg_nav_controller_output();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.nav_bearing = (short)(msgHighLatency.heading_sp / 100);
-        return msg;
-    }
- 
-    private MAVLinkMessage getVfrHudMsg(msg_high_latency msgHighLatency) {
-        msg_vfr_hud msg = new msg_vfr_hud();
-        msg.sysid = msgHighLatency.sysid;
-        msg.compid = msgHighLatency.compid;
-        msg.airspeed = msgHighLatency.airspeed;
-        msg.alt = msgHighLatency.altitude_amsl;
-        msg.climb = msgHighLatency.climb_rate;
-        msg.groundspeed = msgHighLatency.groundspeed;
-        msg.heading = (short)(msgHighLatency.heading / 100);
-        msg.throttle = msgHighLatency.throttle;
-        return msg;
+        try {
+            for (MAVLinkShadow shadow : MAVLinkShadowRegistry.getInstance().getShadows()) {
+                src.sendFrames(cache.getFrames(shadow));
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            onClose();
+            throw ex;
+        }
     }
 
 }
@@ -24,7 +24,7 @@ along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
 
 package com.envirover.spl;
 
-import com.envirover.mavlink.MAVLinkSocket;
+import com.envirover.mavlink.MAVLinkChannel;
 
 /**
  * TCP server that accepts connections from GCS clients to update on-board parameters
@@ -46,9 +46,20 @@ public class ShadowTcpServer extends MAVLinkTcpServer {
         super(port, null);
     }
 
+    /**
+     * Creates an instance of ShadowTcpServer 
+     * 
+     * @param port TCP port used for MAVLink ground control stations connections 
+     * @param selectorThreads number of selector threads in event-driven mode,
+     *        or 0 to serve each client connection by its own thread
+     */
+    public ShadowTcpServer(Integer port, int selectorThreads) {
+        super(port, null, selectorThreads);
+    }
+
     @Override
-    protected ClientSession createClientSession(MAVLinkSocket clientSocket) {
-        return new ShadowClientSession(clientSocket);
+    protected ClientSession createClientSession(MAVLinkChannel clientChannel) {
+        return new ShadowClientSession(clientChannel);
     }
 
 }
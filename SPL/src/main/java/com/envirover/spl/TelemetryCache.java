@@ -0,0 +1,230 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.spl;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.log4j.Level;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.common.msg_attitude;
+import com.MAVLink.common.msg_global_position_int;
+import com.MAVLink.common.msg_gps_raw_int;
+import com.MAVLink.common.msg_heartbeat;
+import com.MAVLink.common.msg_high_latency;
+import com.MAVLink.common.msg_mission_current;
+import com.MAVLink.common.msg_nav_controller_output;
+import com.MAVLink.common.msg_sys_status;
+import com.MAVLink.common.msg_vfr_hud;
+import com.MAVLink.enums.MAV_STATE;
+import com.envirover.mavlink.MAVLinkFrames;
+import com.envirover.mavlink.MAVLinkLogger;
+import com.envirover.mavlink.MAVLinkShadow;
+
+/**
+ * Cache of the heartbeat and other status messages derived from the 
+ * HIGH_LATENCY message reported by the vehicle.
+ * 
+ * The messages are built and encoded once per reported state update and the
+ * same frames are sent to all the client sessions. The cache takes no locks,
+ * so the sessions may report the state from many threads.
+ */
+public class TelemetryCache {
+
+    private static final Config config = Config.getInstance();
+
+    private static TelemetryCache instance = null;
+
+    private final ConcurrentMap<Integer, Entry> entries = new ConcurrentHashMap<Integer, Entry>();
+
+    public static synchronized TelemetryCache getInstance() {
+        if (instance == null) {
+            instance = new TelemetryCache();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns encoded status messages for the current reported state of the
+     * default vehicle or null if no vehicles are registered.
+     */
+    public MAVLinkFrames getFrames() {
+        MAVLinkShadow shadow = MAVLinkShadow.getInstance();
+        return shadow != null ? getFrames(shadow) : null;
+    }
+
+    /**
+     * Returns encoded status messages for the current reported state of the
+     * vehicle. The frames are rebuilt if the reported HIGH_LATENCY message has changed
+     * since the previous call.
+     * 
+     * @param shadow vehicle shadow
+     * @return encoded HEARTBEAT, SYS_STATUS, GPS_RAW_INT, ATTITUDE, 
+     *         GLOBAL_POSITION_INT, MISSION_CURRENT, NAV_CONTROLLER_OUTPUT 
+     *         and VFR_HUD messages
+     */
+    public MAVLinkFrames getFrames(MAVLinkShadow shadow) {
+        msg_high_latency msgHighLatency = shadow.getReportedState().getHighLatencyMessage();
+        Entry entry = entries.get(shadow.getSystemId());
+
+        if (entry != null && entry.msgHighLatency == msgHighLatency) {
+            return entry.frames;
+        }
+
+        MAVLinkFrames frames = new MAVLinkFrames(Arrays.asList(pack(getHeartbeatMsg(msgHighLatency)),
+                                                               pack(getSysStatusMsg(msgHighLatency)),
+                                                               pack(getGpsRawIntMsg(msgHighLatency)),
+                                                               pack(getAttitudeMsg(msgHighLatency)),
+                                                               pack(getGlobalPositionIntMsg(msgHighLatency)),
+                                                               pack(getMissionCurrentMsg(msgHighLatency)),
+                                                               pack(getNavControllerOutputMsg(msgHighLatency)),
+                                                               pack(getVfrHudMsg(msgHighLatency))));
+        Entry newEntry = new Entry(msgHighLatency, frames);
+
+        // Sessions racing to rebuild the frames build the same messages, 
+        // only the one that replaces the entry logs them.
+        boolean replaced = entry == null ? entries.putIfAbsent(shadow.getSystemId(), newEntry) == null 
+                                         : entries.replace(shadow.getSystemId(), entry, newEntry);
+
+        if (replaced) {
+            for (MAVLinkPacket packet : frames.getPackets()) {
+                MAVLinkLogger.log(Level.INFO, ">>", packet);
+            }
+        }
+
+        return frames;
+    }
+
+    private static MAVLinkPacket pack(MAVLinkMessage msg) {
+        MAVLinkPacket packet = msg.pack();
+        packet.sysid = msg.sysid;
+        packet.compid = 1;
+        return packet;
+    }
+
+    private MAVLinkMessage getHeartbeatMsg(msg_high_latency msgHighLatency) {
+        msg_heartbeat msg = new msg_heartbeat();
+        msg.sysid = msgHighLatency.sysid;
+        msg.compid = msgHighLatency.compid;
+        msg.base_mode = msgHighLatency.base_mode;
+        msg.custom_mode = msgHighLatency.custom_mode;
+        msg.system_status = MAV_STATE.MAV_STATE_ACTIVE;
+        msg.autopilot = config.getAutopilot();
+        msg.type = config.getMavType();
+        return msg;
+    }
+
+    private MAVLinkMessage getSysStatusMsg(msg_high_latency msgHighLatency) {
+        msg_sys_status msg = new msg_sys_status();
+        msg.sysid = msgHighLatency.sysid;
+        msg.compid = msgHighLatency.compid;
+        msg.battery_remaining = (byte)msgHighLatency.battery_remaining;
+        msg.voltage_battery = msgHighLatency.temperature * 1000;
+        msg.current_battery = msgHighLatency.temperature_air < 0 ? 
+                -1 : (short)(msgHighLatency.temperature_air * 100);
+        return msg;
+    }
+
+    private MAVLinkMessage getGpsRawIntMsg(msg_high_latency msgHighLatency) {
+        msg_gps_raw_int msg = new msg_gps_raw_int();
+        msg.sysid = msgHighLatency.sysid;
+        msg.compid = msgHighLatency.compid;
+        msg.fix_type = msgHighLatency.gps_fix_type;
+        msg.satellites_visible = msgHighLatency.gps_nsat;
+        msg.lat = msgHighLatency.latitude;
+        msg.lon = msgHighLatency.longitude;
+        msg.alt = msgHighLatency.altitude_amsl;
+        return msg;
+    }
+
+    private MAVLinkMessage getAttitudeMsg(msg_high_latency msgHighLatency) {
+        msg_attitude msg = new msg_attitude();
+        msg.sysid = msgHighLatency.sysid;
+        msg.compid = msgHighLatency.compid;
+        msg.yaw = (float)Math.toRadians(msgHighLatency.heading / 100.0);
+        msg.pitch = (float)Math.toRadians(msgHighLatency.pitch / 100.0);
+        msg.roll = (float)Math.toRadians(msgHighLatency.roll / 100.0);
+        return msg;
+    }
+
+    private MAVLinkMessage getGlobalPositionIntMsg(msg_high_latency msgHighLatency) {
+        msg_global_position_int msg = new msg_global_position_int();
+        msg.sysid = msgHighLatency.sysid;
+        msg.compid = msgHighLatency.compid;
+        msg.alt = msgHighLatency.altitude_amsl;
+        msg.lat = msgHighLatency.latitude;
+        msg.lon = msgHighLatency.longitude;
+        msg.hdg = msgHighLatency.heading;
+        msg.relative_alt = msgHighLatency.altitude_sp;
+        return msg;
+    }
+
+    private MAVLinkMessage getMissionCurrentMsg(msg_high_latency msgHighLatency) {
+        msg_mission_current msg = new msg_mission_current();
+        msg.sysid = msgHighLatency.sysid;
+        msg.compid = msgHighLatency.compid;
+        msg.seq = msgHighLatency.wp_num;
+        return msg;
+    }
+
+    private MAVLinkMessage getNavControllerOutputMsg(msg_high_latency msgHighLatency) {
+        msg_nav_controller_output msg = new msg_nav_controller_output();
+        msg.sysid = msgHighLatency.sysid;
+        msg.compid = msgHighLatency.compid;
+        msg.nav_bearing = (short)(msgHighLatency.heading_sp / 100);
+        return msg;
+    }
+ 
+    private MAVLinkMessage getVfrHudMsg(msg_high_latency msgHighLatency) {
+        msg_vfr_hud msg = new msg_vfr_hud();
+        msg.sysid = msgHighLatency.sysid;
+        msg.compid = msgHighLatency.compid;
+        msg.airspeed = msgHighLatency.airspeed;
+        msg.alt = msgHighLatency.altitude_amsl;
+        msg.climb = msgHighLatency.climb_rate;
+        msg.groundspeed = msgHighLatency.groundspeed;
+        msg.heading = (short)(msgHighLatency.heading / 100);
+        msg.throttle = msgHighLatency.throttle;
+        return msg;
+    }
+
+    /**
+     * Frames built from a reported HIGH_LATENCY message of a vehicle.
+     */
+    private static class Entry {
+        final msg_high_latency msgHighLatency;
+        final MAVLinkFrames frames;
+
+        Entry(msg_high_latency msgHighLatency, MAVLinkFrames frames) {
+            this.msgHighLatency = msgHighLatency;
+            this.frames = frames;
+        }
+    }
+
+}
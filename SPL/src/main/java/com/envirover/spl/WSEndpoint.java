@@ -1,7 +1,9 @@
 package com.envirover.spl;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.websocket.OnClose;
@@ -47,7 +49,9 @@ public class WSEndpoint {
         ClientSession clientSession = sessions.get(session.getId());
 
         if (clientSession != null) {
-            clientSession.onMessage(getPacket(message));
+            for (MAVLinkPacket packet : getPackets(message)) {
+                clientSession.onMessage(packet);
+            }
         }
     }
 
@@ -68,18 +72,10 @@ public class WSEndpoint {
         System.out.printf("webSocket %s session closed.", session.getId());
     }
 
-    private MAVLinkPacket getPacket(byte[] data) throws DecoderException {
+    private List<MAVLinkPacket> getPackets(byte[] data) throws DecoderException {
         Parser parser = new Parser();
-        MAVLinkPacket packet = null;
-
-        for (byte b : data) {
-            packet = parser.mavlink_parse_char(b & 0xFF);
-            if (packet != null) {
-                return packet;
-            }
-        }
 
-        return null;
+        return parser.parse(ByteBuffer.wrap(data));
     }
 
 }
@@ -0,0 +1,279 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.mavlink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Parser;
+import com.MAVLink.common.msg_command_long;
+import com.MAVLink.common.msg_param_set;
+
+public class MAVLinkFrameDecoderTest {
+
+    private static final int PACKETS = 2000;
+    private static final int BENCHMARK_PACKETS = 50000;
+
+    /**
+     * Frames split across reads of random size are decoded and garbage
+     * between frames is skipped.
+     */
+    @Test
+    public void testReceiveSplitFrames() throws IOException {
+        byte[] stream = recordStream(PACKETS, true);
+
+        MAVLinkFrameDecoder decoder = new MAVLinkFrameDecoder(new ChunkedChannel(stream, new Random(1)), 64);
+
+        for (int i = 0; i < PACKETS; i++) {
+            MAVLinkPacket packet = decoder.receive();
+            assertEquals(i & 0xFF, packet.seq);
+            assertEquals(i, packetNumber(packet));
+        }
+
+        assertNull(decoder.receive());
+    }
+
+    @Test
+    public void testNonBlockingRead() throws IOException {
+        byte[] stream = recordStream(PACKETS, false);
+
+        ChunkedChannel channel = new ChunkedChannel(stream, new Random(2));
+        channel.emptyReads = true;
+        MAVLinkFrameDecoder decoder = new MAVLinkFrameDecoder(channel);
+
+        int received = 0;
+        while (decoder.read() >= 0) {
+            MAVLinkPacket packet;
+            while ((packet = decoder.poll()) != null) {
+                assertEquals(received, packetNumber(packet));
+                received++;
+            }
+        }
+
+        assertEquals(PACKETS, received);
+        assertEquals(PACKETS, decoder.getStats().receivedPacketCount);
+    }
+
+    /**
+     * Compares receive throughput of MAVLinkFrameDecoder over a TCP socket
+     * with the previous implementation of MAVLinkSocket.receiveMessage()
+     * that read the socket byte by byte with a new parser for each packet.
+     * Runs only with -Dbenchmark=true.
+     */
+    @Test
+    public void benchmarkSocketReceive() throws Exception {
+        assumeTrue(Boolean.getBoolean("benchmark"));
+
+        final byte[] stream = recordStream(BENCHMARK_PACKETS, false);
+
+        // Warm up
+        receiveLegacy(stream);
+        receiveDecoder(stream);
+
+        long legacy = receiveLegacy(stream);
+        long decoder = receiveDecoder(stream);
+
+        System.out.println(String.format("SOCKET RECEIVE BENCHMARK: %d packets, legacy %.1f MB/s, decoder %.1f MB/s, speedup %.1fx",
+                BENCHMARK_PACKETS,
+                (double) stream.length / legacy,
+                (double) stream.length / decoder,
+                (double) legacy / decoder));
+    }
+
+    private static long receiveLegacy(byte[] stream) throws Exception {
+        ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        try {
+            Thread writer = startWriter(server, stream);
+            Socket socket = server.accept();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            long start = System.nanoTime();
+            int received = 0;
+            try {
+                while (true) {
+                    Parser parser = new Parser();
+                    MAVLinkPacket packet = null;
+                    for (int i = 0; i < 263 * 2 && packet == null; i++) {
+                        packet = parser.mavlink_parse_char(in.readUnsignedByte());
+                    }
+                    if (packet != null) {
+                        received++;
+                    }
+                }
+            } catch (EOFException ex) {
+                // end of stream
+            }
+            long time = System.nanoTime() - start;
+
+            socket.close();
+            writer.join();
+            assertEquals(BENCHMARK_PACKETS, received);
+            return Math.max(1, time / 1000);
+        } finally {
+            server.close();
+        }
+    }
+
+    private static long receiveDecoder(byte[] stream) throws Exception {
+        ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        try {
+            Thread writer = startWriter(server, stream);
+            Socket socket = server.accept();
+            MAVLinkFrameDecoder decoder = new MAVLinkFrameDecoder(Channels.newChannel(socket.getInputStream()));
+
+            long start = System.nanoTime();
+            int received = 0;
+            while (decoder.receive() != null) {
+                received++;
+            }
+            long time = System.nanoTime() - start;
+
+            socket.close();
+            writer.join();
+            assertEquals(BENCHMARK_PACKETS, received);
+            return Math.max(1, time / 1000);
+        } finally {
+            server.close();
+        }
+    }
+
+    private static Thread startWriter(final ServerSocket server, final byte[] stream) {
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Socket socket = new Socket(server.getInetAddress(), server.getLocalPort());
+                    OutputStream out = socket.getOutputStream();
+                    for (int pos = 0; pos < stream.length; pos += 4096) {
+                        out.write(stream, pos, Math.min(4096, stream.length - pos));
+                    }
+                    socket.shutdownOutput();
+                    socket.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        });
+        writer.start();
+        return writer;
+    }
+
+    private static int packetNumber(MAVLinkPacket packet) {
+        if (packet.msgid == msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG) {
+            return ((msg_command_long) packet.unpack()).command;
+        }
+        return (int) ((msg_param_set) packet.unpack()).param_value;
+    }
+
+    private static byte[] recordStream(int count, boolean garbage) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        Random random = new Random(count);
+
+        for (int i = 0; i < count; i++) {
+            MAVLinkPacket packet;
+
+            if (i % 2 == 0) {
+                msg_command_long msg = new msg_command_long();
+                msg.command = i;
+                packet = msg.pack();
+            } else {
+                msg_param_set msg = new msg_param_set();
+                msg.setParam_Id("PARAM_" + i);
+                msg.param_value = i;
+                packet = msg.pack();
+            }
+
+            packet.seq = i & 0xFF;
+
+            if (garbage && i % 13 == 0) {
+                stream.write(random.nextInt(256));
+                stream.write(random.nextInt(256));
+            }
+
+            stream.write(packet.encodePacket());
+        }
+
+        return stream.toByteArray();
+    }
+
+    /**
+     * Channel that returns the stream in chunks of random size.
+     */
+    private static class ChunkedChannel implements ReadableByteChannel {
+        private final ByteBuffer data;
+        private final Random random;
+        boolean emptyReads = false;
+
+        ChunkedChannel(byte[] stream, Random random) {
+            this.data = ByteBuffer.wrap(stream);
+            this.random = random;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (!data.hasRemaining()) {
+                return -1;
+            }
+
+            if (emptyReads && random.nextInt(4) == 0) {
+                return 0;
+            }
+
+            int n = Math.min(Math.min(dst.remaining(), data.remaining()), 1 + random.nextInt(300));
+            ByteBuffer chunk = data.duplicate();
+            chunk.limit(chunk.position() + n);
+            dst.put(chunk);
+            data.position(data.position() + n);
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+}
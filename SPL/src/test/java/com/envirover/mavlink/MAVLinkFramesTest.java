@@ -0,0 +1,84 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.mavlink;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.common.msg_attitude;
+import com.MAVLink.common.msg_heartbeat;
+import com.MAVLink.common.msg_vfr_hud;
+
+public class MAVLinkFramesTest {
+
+    /**
+     * Checks that the frames patched with every sequence number are the same
+     * as the packets encoded with that sequence number.
+     */
+    @Test
+    public void testPatchSequenceNumber() {
+        msg_heartbeat heartbeat = new msg_heartbeat();
+        heartbeat.custom_mode = 12345;
+
+        msg_attitude attitude = new msg_attitude();
+        attitude.roll = 0.5F;
+        attitude.yaw = -1.25F;
+
+        msg_vfr_hud vfrHud = new msg_vfr_hud();
+        vfrHud.groundspeed = 3.5F;
+
+        List<MAVLinkPacket> packets = Arrays.asList(heartbeat.pack(), attitude.pack(), vfrHud.pack().toMavlink2());
+        MAVLinkFrames frames = new MAVLinkFrames(packets);
+
+        assertEquals(packets.size(), frames.size());
+
+        ByteBuffer buffer = ByteBuffer.allocate(frames.getLength());
+
+        for (int seq = 0; seq < 300; seq++) {
+            buffer.clear();
+
+            for (int i = 0; i < frames.size(); i++) {
+                MAVLinkPacket packet = packets.get(i);
+                packet.seq = (seq + i) & 0xFF;
+
+                int start = buffer.position();
+                int length = frames.encodeTo(i, seq + i, buffer);
+
+                byte[] expected = packet.encodePacket();
+                byte[] actual = new byte[length];
+                ByteBuffer.wrap(buffer.array(), start, length).get(actual);
+
+                assertEquals(ByteBuffer.wrap(expected), ByteBuffer.wrap(actual));
+            }
+        }
+    }
+
+}
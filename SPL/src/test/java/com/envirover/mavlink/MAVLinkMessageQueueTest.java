@@ -0,0 +1,155 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.mavlink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.common.msg_heartbeat;
+
+public class MAVLinkMessageQueueTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int MESSAGES_PER_PRODUCER = 20000;
+
+    /**
+     * Sends messages from many threads to a small blocking queue and checks
+     * that the consumer receives all of them in the order of each producer.
+     */
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final MAVLinkMessageQueue queue = new MAVLinkMessageQueue(64, MAVLinkMessageQueue.OverflowPolicy.BLOCK);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> results = new ArrayList<Future<?>>();
+
+            for (int i = 0; i < PRODUCERS; i++) {
+                final int sysid = i + 1;
+
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        start.await();
+
+                        for (int seq = 0; seq < MESSAGES_PER_PRODUCER; seq++) {
+                            queue.sendMessage(packet(sysid, seq));
+                        }
+
+                        return null;
+                    }
+                }));
+            }
+
+            start.countDown();
+
+            int[] next = new int[PRODUCERS + 1];
+            for (int i = 0; i < PRODUCERS * MESSAGES_PER_PRODUCER; i++) {
+                MAVLinkPacket packet = queue.receiveMessage(10, TimeUnit.SECONDS);
+                assertNotNull(packet);
+                assertEquals(next[packet.sysid]++, packet.seq);
+            }
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+
+            assertNull(queue.receiveMessage());
+            assertEquals(PRODUCERS * MESSAGES_PER_PRODUCER, queue.getEnqueuedCount());
+            assertEquals(0, queue.getDroppedCount());
+            assertTrue(queue.getHighWaterMark() <= 64);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOverflowPolicies() throws Exception {
+        MAVLinkMessageQueue queue = new MAVLinkMessageQueue(3);
+
+        for (int seq = 0; seq < 5; seq++) {
+            queue.sendMessage(packet(1, seq));
+        }
+
+        assertEquals(3, queue.size());
+        assertEquals(2, queue.getDroppedCount());
+        assertEquals(3, queue.getHighWaterMark());
+        assertEquals(2, queue.receiveMessage().seq);
+
+        queue = new MAVLinkMessageQueue(3, MAVLinkMessageQueue.OverflowPolicy.DROP_NEWEST);
+
+        for (int seq = 0; seq < 5; seq++) {
+            queue.sendMessage(packet(1, seq));
+        }
+
+        assertEquals(2, queue.getDroppedCount());
+        assertEquals(0, queue.receiveMessage().seq);
+    }
+
+    @Test
+    public void testTake() throws Exception {
+        final MAVLinkMessageQueue queue = new MAVLinkMessageQueue(10);
+
+        assertNull(queue.receiveMessage(10, TimeUnit.MILLISECONDS));
+
+        Thread producer = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(50);
+                    queue.sendMessage(packet(1, 7));
+                } catch (Exception e) {
+                }
+            }
+        };
+        producer.start();
+
+        assertEquals(7, queue.take().seq);
+        producer.join();
+    }
+
+    private static MAVLinkPacket packet(int sysid, int seq) {
+        MAVLinkPacket packet = new msg_heartbeat().pack();
+        packet.sysid = sysid;
+        packet.seq = seq;
+        return packet;
+    }
+
+}
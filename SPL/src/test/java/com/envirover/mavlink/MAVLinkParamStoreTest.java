@@ -0,0 +1,170 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.mavlink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.MAVLink.common.msg_param_value;
+
+public class MAVLinkParamStoreTest {
+
+    private static final int BENCHMARK_ROUNDS = 200;
+
+    @Test
+    public void testLookup() throws IOException {
+        List<msg_param_value> params = loadDefaultParams();
+        MAVLinkParamStore store = MAVLinkParamStore.of(params);
+
+        assertEquals(params.size(), store.size());
+
+        for (msg_param_value param : params) {
+            String id = param.getParam_Id();
+            assertSame(param, store.get(param.param_index));
+            assertSame(param, store.get(id));
+            assertSame(param, store.get(" " + id.toLowerCase() + "\t"));
+            assertEquals(param.param_index, store.indexOf(id));
+        }
+
+        assertNull(store.get("NO_SUCH_PARAM"));
+        assertNull(store.get(""));
+        assertNull(store.get(-1));
+        assertNull(store.get(params.size()));
+        assertEquals(-1, store.indexOf("WP_SPEED_"));
+    }
+
+    @Test
+    public void testSet() throws IOException {
+        MAVLinkParamStore store = MAVLinkParamStore.of(loadDefaultParams());
+
+        msg_param_value old = store.get("CRUISE_SPEED");
+        msg_param_value param = new msg_param_value();
+        param.setParam_Id("CRUISE_SPEED");
+        param.param_index = old.param_index;
+        param.param_value = old.param_value + 1;
+
+        MAVLinkParamStore updated = store.set(old.param_index, param);
+
+        assertSame(old, store.get("CRUISE_SPEED"));
+        assertSame(param, updated.get("cruise_speed"));
+        assertSame(param, updated.asList().get(old.param_index));
+        assertEquals(store.size(), updated.size());
+    }
+
+    /**
+     * Compares lookups of all the default parameters by id with linear 
+     * search the shadow used before.
+     * Runs only with -Dbenchmark=true.
+     */
+    @Test
+    public void benchmarkLookup() throws IOException {
+        assumeTrue(Boolean.getBoolean("benchmark"));
+
+        List<msg_param_value> params = loadDefaultParams();
+        MAVLinkParamStore store = MAVLinkParamStore.of(params);
+
+        String[] ids = new String[params.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = params.get(i).getParam_Id();
+        }
+
+        // Warm up
+        lookupLinear(params, ids);
+        lookupStore(store, ids);
+
+        long linear = lookupLinear(params, ids);
+        long indexed = lookupStore(store, ids);
+
+        long lookups = (long) BENCHMARK_ROUNDS * ids.length;
+        System.out.println(String.format("PARAM LOOKUP BENCHMARK: %d params, linear %.0f ns/lookup, indexed %.0f ns/lookup, speedup %.1fx",
+                ids.length,
+                (double) linear / lookups,
+                (double) indexed / lookups,
+                (double) linear / indexed));
+    }
+
+    private static long lookupLinear(List<msg_param_value> params, String[] ids) {
+        long start = System.nanoTime();
+        int found = 0;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            for (String id : ids) {
+                for (msg_param_value param : params) {
+                    if (param.getParam_Id().equalsIgnoreCase(id.trim())) {
+                        found++;
+                        break;
+                    }
+                }
+            }
+        }
+
+        long time = System.nanoTime() - start;
+        assertEquals(BENCHMARK_ROUNDS * ids.length, found);
+        return time;
+    }
+
+    private static long lookupStore(MAVLinkParamStore store, String[] ids) {
+        long start = System.nanoTime();
+        int found = 0;
+
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            for (String id : ids) {
+                if (store.get(id) != null) {
+                    found++;
+                }
+            }
+        }
+
+        long time = System.nanoTime() - start;
+        assertEquals(BENCHMARK_ROUNDS * ids.length, found);
+        return time;
+    }
+
+    private static List<msg_param_value> loadDefaultParams() throws IOException {
+        InputStream stream = MAVLinkParamStoreTest.class.getClassLoader().getResourceAsStream("default.params");
+
+        if (stream == null) {
+            File file = new File("../conf/default.params");
+            stream = new FileInputStream(file.exists() ? file : new File("conf/default.params"));
+        }
+
+        try {
+            return new ArrayList<msg_param_value>(MAVLinkShadow.readParams(stream));
+        } finally {
+            stream.close();
+        }
+    }
+
+}
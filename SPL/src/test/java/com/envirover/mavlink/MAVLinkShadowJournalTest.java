@@ -0,0 +1,309 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.mavlink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.common.msg_high_latency;
+import com.MAVLink.common.msg_mission_item;
+
+public class MAVLinkShadowJournalTest {
+
+    private static final String PARAMS = "1\t1\tWP_SPEED\t2.5\t9\n1\t1\tCRUISE_SPEED\t3\t9\n";
+
+    private static final int BENCHMARK_UPDATES = 100000;
+
+    private File dir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("shadow").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void testRestoreAfterStop() throws IOException {
+        MAVLinkShadowRegistry registry = createRegistry();
+        MAVLinkShadowJournal journal = new MAVLinkShadowJournal(dir, MAVLinkShadowJournal.DEFAULT_SIZE, 10);
+        journal.open(registry);
+
+        updateShadows(registry);
+
+        journal.close();
+
+        assertRestored(restore());
+    }
+
+    /**
+     * The state is restored from the journal if the process was killed.
+     */
+    @Test
+    public void testRestoreAfterCrash() throws Exception {
+        MAVLinkShadowRegistry registry = createRegistry();
+        MAVLinkShadowJournal journal = new MAVLinkShadowJournal(dir, MAVLinkShadowJournal.DEFAULT_SIZE, 10);
+        journal.open(registry);
+
+        updateShadows(registry);
+        waitForCommit(journal);
+
+        assertRestored(restore());
+
+        journal.close();
+    }
+
+    @Test
+    public void testTornRecord() throws Exception {
+        MAVLinkShadowRegistry registry = createRegistry();
+        MAVLinkShadowJournal journal = new MAVLinkShadowJournal(dir, MAVLinkShadowJournal.DEFAULT_SIZE, 10);
+        journal.open(registry);
+
+        updateShadows(registry);
+        waitForCommit(journal);
+
+        // Partially written HIGH_LATENCY record at the end of the journal
+        MAVLinkPacket packet = highLatency(1000).pack();
+        packet.sysid = 2;
+        byte[] frame = packet.encodePacket();
+
+        RandomAccessFile file = new RandomAccessFile(new File(dir, "shadow.journal"), "rw");
+        try {
+            file.seek(journalEnd(file));
+            file.write(frame, 0, frame.length - 5);
+        } finally {
+            file.close();
+        }
+
+        assertRestored(restore());
+
+        journal.close();
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        MAVLinkShadowRegistry registry = createRegistry();
+        MAVLinkShadowJournal journal = new MAVLinkShadowJournal(dir, 16 * 1024, 1);
+        journal.open(registry);
+
+        MAVLinkShadow shadow = registry.getBySystemId(2);
+        for (int i = 1; i <= 5000; i++) {
+            shadow.updateReportedState(highLatency(i).pack());
+        }
+
+        journal.close();
+
+        assertTrue(journal.getSnapshotCount() > 2);
+        assertEquals(5000, restore().getBySystemId(2).getHighLatencyMessage().latitude);
+    }
+
+    /**
+     * Updates made during the commit interval are committed together.
+     */
+    @Test
+    public void testGroupCommit() throws IOException {
+        MAVLinkShadowRegistry registry = createRegistry();
+        MAVLinkShadowJournal journal = new MAVLinkShadowJournal(dir, MAVLinkShadowJournal.DEFAULT_SIZE, 1000);
+        journal.open(registry);
+
+        MAVLinkShadow shadow = registry.getBySystemId(2);
+        for (int i = 1; i <= 100; i++) {
+            shadow.updateReportedState(highLatency(i).pack());
+        }
+
+        journal.close();
+
+        assertEquals(1, journal.getCommitCount());
+        assertEquals(100, restore().getBySystemId(2).getHighLatencyMessage().latitude);
+    }
+
+    /**
+     * A full batch is committed before the end of the commit interval.
+     */
+    @Test
+    public void testMaxBatchSize() throws IOException {
+        MAVLinkShadowRegistry registry = createRegistry();
+        MAVLinkShadowJournal journal = new MAVLinkShadowJournal(dir, MAVLinkShadowJournal.DEFAULT_SIZE, 60000);
+        journal.open(registry);
+
+        MAVLinkShadow shadow = registry.getBySystemId(2);
+        for (int i = 1; i <= 3000; i++) {
+            shadow.updateReportedState(highLatency(i).pack());
+        }
+
+        journal.close();
+
+        assertEquals(3, journal.getCommitCount());
+        assertEquals(3000, restore().getBySystemId(2).getHighLatencyMessage().latitude);
+    }
+
+    /**
+     * Compares the time of shadow updates with and without journal.
+     * Runs only with -Dbenchmark=true.
+     */
+    @Test
+    public void benchmarkUpdateLatency() throws IOException {
+        assumeTrue(Boolean.getBoolean("benchmark"));
+
+        MAVLinkShadowRegistry registry = createRegistry();
+        MAVLinkShadow shadow = registry.getBySystemId(1);
+        MAVLinkPacket packet = highLatency(1).pack();
+
+        // Warm up
+        update(shadow, packet);
+
+        long memory = update(shadow, packet);
+
+        MAVLinkShadowJournal journal = new MAVLinkShadowJournal(dir, MAVLinkShadowJournal.DEFAULT_SIZE, 
+                                                                MAVLinkShadowJournal.DEFAULT_COMMIT_INTERVAL);
+        journal.open(registry);
+
+        long journaled;
+        try {
+            journaled = update(shadow, packet);
+        } finally {
+            journal.close();
+        }
+
+        assertTrue(journal.getCommitCount() < BENCHMARK_UPDATES);
+
+        System.out.println(String.format("SHADOW JOURNAL BENCHMARK: %d updates, memory %.0f ns/update, journaled %.0f ns/update, %d commits",
+                BENCHMARK_UPDATES,
+                (double) memory / BENCHMARK_UPDATES,
+                (double) journaled / BENCHMARK_UPDATES,
+                journal.getCommitCount()));
+    }
+
+    private static long update(MAVLinkShadow shadow, MAVLinkPacket packet) {
+        long start = System.nanoTime();
+
+        for (int i = 0; i < BENCHMARK_UPDATES; i++) {
+            shadow.updateReportedState(packet);
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private MAVLinkShadowRegistry restore() throws IOException {
+        MAVLinkShadowRegistry registry = createRegistry();
+        MAVLinkShadowJournal journal = new MAVLinkShadowJournal(dir, MAVLinkShadowJournal.DEFAULT_SIZE, 10);
+        journal.open(registry);
+        journal.close();
+        return registry;
+    }
+
+    private static MAVLinkShadowRegistry createRegistry() throws IOException {
+        MAVLinkShadowRegistry registry = new MAVLinkShadowRegistry();
+        registry.loadParams(new ByteArrayInputStream(PARAMS.getBytes()));
+        registry.register("300234010753370", 1);
+        registry.register("300234010753371", 2);
+        return registry;
+    }
+
+    private static void updateShadows(MAVLinkShadowRegistry registry) {
+        MAVLinkShadow shadow = registry.getBySystemId(2);
+
+        shadow.updateReportedState(highLatency(10).pack());
+        shadow.updateReportedState(highLatency(20).pack());
+        shadow.setParamValue("CRUISE_SPEED", 5.0F);
+
+        shadow.setDesiredMissionCount(2);
+        for (int i = 0; i < 2; i++) {
+            msg_mission_item mission = new msg_mission_item();
+            mission.seq = i;
+            mission.x = i + 0.5F;
+            shadow.setMissionItem(mission);
+        }
+        shadow.missionAccepted();
+
+        // Mission upload in progress is not persisted
+        shadow.setDesiredMissionCount(3);
+    }
+
+    private static void assertRestored(MAVLinkShadowRegistry registry) {
+        MAVLinkShadow shadow1 = registry.getBySystemId(1);
+        MAVLinkShadow shadow2 = registry.getBySystemId(2);
+
+        assertEquals(0, shadow1.getHighLatencyMessage().latitude);
+        assertEquals(3.0F, shadow1.getParamValue("CRUISE_SPEED", (short) -1).param_value, 0);
+        assertEquals(0, shadow1.getReportedMissionCount());
+
+        assertEquals(20, shadow2.getHighLatencyMessage().latitude);
+        assertEquals(2, shadow2.getHighLatencyMessage().sysid);
+        assertEquals(5.0F, shadow2.getParamValue("CRUISE_SPEED", (short) -1).param_value, 0);
+        assertEquals(2.5F, shadow2.getParamValue("WP_SPEED", (short) -1).param_value, 0);
+        assertEquals(2, shadow2.getReportedMissionCount());
+        assertEquals(1.5F, shadow2.getReportedMissionItem(1).x, 0);
+    }
+
+    private static void waitForCommit(MAVLinkShadowJournal journal) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        long commits = -1;
+
+        // Waits until no more commits happen after the records were enqueued
+        while (journal.getCommitCount() != commits && System.currentTimeMillis() < deadline) {
+            commits = journal.getCommitCount();
+            Thread.sleep(100);
+        }
+    }
+
+    // Returns position of the first byte after the journal records
+    private static long journalEnd(RandomAccessFile file) throws IOException {
+        long pos = 0;
+
+        file.seek(0);
+        while (file.read() == MAVLinkPacket.MAVLINK_STX) {
+            pos += MAVLinkPacket.HEADER_LENGTH + file.read() + MAVLinkPacket.CHECKSUM_LENGTH;
+            file.seek(pos);
+        }
+
+        return pos;
+    }
+
+    private static msg_high_latency highLatency(int value) {
+        msg_high_latency msg = new msg_high_latency();
+        msg.latitude = value;
+        msg.longitude = value;
+        return msg;
+    }
+
+}
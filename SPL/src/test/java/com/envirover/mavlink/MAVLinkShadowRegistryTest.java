@@ -0,0 +1,122 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.mavlink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.MAVLink.common.msg_heartbeat;
+import com.MAVLink.common.msg_param_request_list;
+import com.MAVLink.common.msg_param_value;
+import com.MAVLink.common.msg_set_mode;
+
+public class MAVLinkShadowRegistryTest {
+
+    private static final String PARAMS = "1\t1\tWP_SPEED\t2.5\t9\n1\t1\tCRUISE_SPEED\t3\t9\n";
+
+    @Test
+    public void testRouting() {
+        MAVLinkShadowRegistry registry = new MAVLinkShadowRegistry();
+
+        MAVLinkShadow rover1 = registry.register("300234010753370", 1);
+        MAVLinkShadow rover2 = registry.register("300234010753371", 7);
+
+        assertEquals(2, registry.size());
+        assertSame(rover1, registry.getDefault());
+        assertSame(rover2, registry.getByIMEI("300234010753371"));
+        assertSame(rover2, registry.getBySystemId(7));
+        assertNull(registry.getByIMEI("300234010753372"));
+
+        msg_set_mode msg = new msg_set_mode();
+        msg.target_system = 7;
+        assertSame(rover2, registry.getShadow(msg.pack()));
+
+        msg.target_system = 3;
+        assertNull(registry.getShadow(msg.pack()));
+
+        // Messages without target system are addressed to the default vehicle
+        assertSame(rover1, registry.getShadow(new msg_heartbeat().pack()));
+
+        assertEquals(7, rover2.getHighLatencyMessage().sysid);
+        assertEquals(2, registry.getShadows().size());
+    }
+
+    @Test
+    public void testNoDefaultVehicle() {
+        MAVLinkShadowRegistry registry = new MAVLinkShadowRegistry();
+
+        // No vehicle is created before one is registered
+        assertNull(registry.getDefault());
+        assertNull(registry.getShadow(new msg_heartbeat().pack()));
+        assertEquals(0, registry.size());
+
+        MAVLinkShadow rover = registry.register("300234010753370", 7);
+
+        assertSame(rover, registry.getDefault());
+        assertNull(registry.getBySystemId(1));
+        assertEquals(1, registry.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateSystemId() {
+        MAVLinkShadowRegistry registry = new MAVLinkShadowRegistry();
+
+        registry.register("300234010753370", 1);
+        registry.register("300234010753371", 1);
+    }
+
+    @Test
+    public void testSharedDefaultParams() throws IOException {
+        MAVLinkShadowRegistry registry = new MAVLinkShadowRegistry();
+        registry.loadParams(new ByteArrayInputStream(PARAMS.getBytes()));
+
+        MAVLinkShadow rover1 = registry.register("300234010753370", 1);
+        MAVLinkShadow rover2 = registry.register("300234010753371", 2);
+
+        rover1.setParamValue("WP_SPEED", 4.0F);
+
+        assertEquals(4.0F, rover1.getParamValue("WP_SPEED", (short) -1).param_value, 0);
+        assertEquals(2.5F, rover2.getParamValue("WP_SPEED", (short) -1).param_value, 0);
+        assertEquals(2.5F, registry.getDefaultParams().get(0).param_value, 0);
+
+        // HL_REPORT_PERIOD parameter is added to the default parameters
+        assertEquals(3, rover2.getParams().size());
+        for (msg_param_value param : rover2.getParams()) {
+            assertEquals(2, param.sysid);
+            assertEquals(3, param.param_count);
+        }
+
+        msg_param_request_list request = new msg_param_request_list();
+        request.target_system = 2;
+        assertTrue(registry.getShadow(request.pack()).getParams().size() == 3);
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.mavlink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import com.MAVLink.common.msg_high_latency;
+import com.MAVLink.common.msg_mission_item;
+
+public class MAVLinkShadowTest {
+
+    private static final int READERS = 4;
+    private static final int UPDATES = 100000;
+
+    @Test
+    public void testSnapshotIsImmutable() throws IOException {
+        MAVLinkShadowRegistry registry = new MAVLinkShadowRegistry();
+        registry.loadParams(new ByteArrayInputStream("1\t1\tWP_SPEED\t2.5\t9\n".getBytes()));
+        MAVLinkShadow shadow = registry.register("300234010753370", 1);
+
+        MAVLinkShadow.ReportedState before = shadow.getReportedState();
+
+        shadow.setParamValue("WP_SPEED", 4.0F);
+        shadow.updateReportedState(highLatency(10).pack());
+
+        msg_mission_item mission = new msg_mission_item();
+        shadow.setDesiredMissionCount(1);
+        shadow.setMissionItem(mission);
+        shadow.missionAccepted();
+
+        MAVLinkShadow.ReportedState after = shadow.getReportedState();
+
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals(2.5F, before.getParamValue("WP_SPEED", (short) -1).param_value, 0);
+        assertEquals(4.0F, after.getParamValue("WP_SPEED", (short) -1).param_value, 0);
+        assertEquals(0, before.getHighLatencyMessage().latitude);
+        assertEquals(10, after.getHighLatencyMessage().latitude);
+        assertEquals(1, after.getHighLatencyMessage().sysid);
+        assertEquals(0, before.getMissionCount());
+        assertEquals(1, after.getMissionCount());
+        assertSame(mission, after.getMissionItem(0));
+
+        // Unchanged parts of the state are shared by the snapshots
+        assertSame(after.getParams(), shadow.getReportedState().getParams());
+        assertNotSame(before.getParams(), after.getParams());
+    }
+
+    /**
+     * Readers must never see a partially updated HIGH_LATENCY message.
+     */
+    @Test
+    public void testConcurrentReaders() throws Exception {
+        final MAVLinkShadow shadow = new MAVLinkShadowRegistry().register("300234010753370", 1);
+        final AtomicBoolean done = new AtomicBoolean(false);
+
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+
+        try {
+            List<Future<Long>> results = new ArrayList<Future<Long>>();
+
+            for (int i = 0; i < READERS; i++) {
+                results.add(executor.submit(new Callable<Long>() {
+                    @Override
+                    public Long call() {
+                        long reads = 0;
+                        long version = -1;
+
+                        while (!done.get()) {
+                            MAVLinkShadow.ReportedState state = shadow.getReportedState();
+                            msg_high_latency msg = state.getHighLatencyMessage();
+
+                            assertEquals(msg.latitude, msg.longitude);
+                            assertEquals(msg.latitude % 10000, -msg.altitude_amsl);
+                            assertTrue(state.getVersion() >= version);
+
+                            version = state.getVersion();
+                            reads++;
+                        }
+
+                        return reads;
+                    }
+                }));
+            }
+
+            for (int i = 1; i <= UPDATES; i++) {
+                shadow.updateReportedState(highLatency(i).pack());
+            }
+
+            done.set(true);
+
+            for (Future<Long> result : results) {
+                assertTrue(result.get() > 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(UPDATES, shadow.getHighLatencyMessage().latitude);
+    }
+
+    private static msg_high_latency highLatency(int value) {
+        msg_high_latency msg = new msg_high_latency();
+        msg.latitude = value;
+        msg.longitude = value;
+        msg.altitude_amsl = (short) -(value % 10000);
+        return msg;
+    }
+
+}
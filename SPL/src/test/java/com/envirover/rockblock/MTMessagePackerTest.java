@@ -0,0 +1,120 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.rockblock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Parser;
+import com.MAVLink.common.msg_command_long;
+import com.MAVLink.common.msg_mission_item;
+
+public class MTMessagePackerTest {
+
+    @Test
+    public void testPackPreservesOrder() {
+        MTMessagePacker packer = new MTMessagePacker(false);
+
+        List<MAVLinkPacket> packets = new ArrayList<MAVLinkPacket>();
+        for (int i = 0; i < 20; i++) {
+            packets.add(missionItem(i));
+        }
+
+        List<List<MAVLinkPacket>> messages = packer.pack(packets);
+
+        // MISSION_ITEM MAVLink 1 frame is 45 bytes, 6 frames fit into 270 bytes
+        assertEquals(45, packer.getFrameLength(packets.get(0)));
+        assertEquals(4, messages.size());
+        assertEquals(6, messages.get(0).size());
+        assertEquals(2, messages.get(3).size());
+
+        int seq = 0;
+        for (List<MAVLinkPacket> message : messages) {
+            byte[] data = packer.encode(message);
+            assertTrue(data.length <= MTMessagePacker.MT_MESSAGE_MAX_SIZE);
+
+            for (MAVLinkPacket packet : new Parser().parse(ByteBuffer.wrap(data))) {
+                assertEquals(msg_mission_item.MAVLINK_MSG_ID_MISSION_ITEM, packet.msgid);
+                assertEquals(seq++, ((msg_mission_item) packet.unpack()).seq);
+            }
+        }
+
+        assertEquals(packets.size(), seq);
+    }
+
+    @Test
+    public void testPackMavlink2() {
+        MTMessagePacker packer = new MTMessagePacker(true);
+
+        List<MAVLinkPacket> packets = new ArrayList<MAVLinkPacket>();
+        for (int i = 0; i < 20; i++) {
+            msg_command_long msg = new msg_command_long();
+            msg.param1 = i + 1;
+            packets.add(msg.pack());
+        }
+
+        // Truncated zero payload bytes let more frames fit into one message
+        List<List<MAVLinkPacket>> messages = packer.pack(packets);
+        assertEquals(16, packer.getFrameLength(packets.get(0)));
+        assertEquals(2, messages.size());
+        assertEquals(16, messages.get(0).size());
+
+        List<MAVLinkPacket> received = new ArrayList<MAVLinkPacket>();
+        for (List<MAVLinkPacket> message : messages) {
+            received.addAll(new Parser().parse(ByteBuffer.wrap(packer.encode(message))));
+        }
+
+        assertEquals(packets.size(), received.size());
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(i + 1, ((msg_command_long) received.get(i).toMavlink1().unpack()).param1, 0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEncodeTooLarge() {
+        MTMessagePacker packer = new MTMessagePacker(100, false);
+
+        List<MAVLinkPacket> packets = new ArrayList<MAVLinkPacket>();
+        packets.add(missionItem(0));
+        packets.add(missionItem(1));
+        packets.add(missionItem(2));
+
+        packer.encode(packets);
+    }
+
+    private static MAVLinkPacket missionItem(int seq) {
+        msg_mission_item msg = new msg_mission_item();
+        msg.seq = seq;
+        msg.x = seq;
+        return msg.pack();
+    }
+
+}
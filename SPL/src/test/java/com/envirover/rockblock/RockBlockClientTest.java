@@ -0,0 +1,332 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.rockblock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Parser;
+import com.MAVLink.common.msg_mission_item;
+
+public class RockBlockClientTest {
+
+    private RockBlockServiceStub service;
+
+    @Before
+    public void setUp() throws IOException {
+        service = new RockBlockServiceStub();
+        service.start();
+    }
+
+    @After
+    public void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    public void testSendMessages() throws IOException {
+        RockBlockClient client = client(1000, 2, 0, 0, new CircuitBreaker(5, 60000));
+
+        try {
+            client.sendMessages(missionItems(10));
+        } finally {
+            client.close();
+        }
+
+        // 6 MISSION_ITEM frames fit into one MT message
+        List<byte[]> messages = service.getMessages();
+        assertEquals(2, messages.size());
+
+        int seq = 0;
+        for (byte[] message : messages) {
+            for (MAVLinkPacket packet : new Parser().parse(ByteBuffer.wrap(message))) {
+                assertEquals(seq++, ((msg_mission_item) packet.unpack()).seq);
+            }
+        }
+
+        assertEquals(10, seq);
+    }
+
+    /**
+     * Slow requests to different RockBLOCKs are sent in parallel up to the 
+     * maximum number of requests in flight.
+     */
+    @Test
+    public void testRequestsInFlight() throws Exception {
+        service.setLatency(300);
+
+        RockBlockClient client = client(5000, 3, 0, 0, new CircuitBreaker(5, 60000));
+
+        try {
+            long start = System.currentTimeMillis();
+
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(client.getChannel("30023401075337" + (i % 3)).sendMessagesAsync(missionItems(1)));
+            }
+
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertEquals(6, service.getMessages().size());
+            assertEquals(3, service.getMaxConcurrency());
+            assertTrue("Elapsed " + elapsed + " ms", elapsed < 6 * 300);
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Messages to the same RockBLOCK are sent one at a time in FIFO order,
+     * even if an earlier message is retried.
+     */
+    @Test
+    public void testSameIMEIInOrder() throws Exception {
+        service.failNext(1, "FAILED,99,System error");
+
+        RockBlockClient client = client(5000, 3, 3, 200, new CircuitBreaker(5, 60000));
+
+        try {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(client.sendMessagesAsync(Collections.singletonList(missionItem(i))));
+            }
+
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            client.close();
+        }
+
+        List<byte[]> messages = service.getMessages();
+        assertEquals(3, messages.size());
+        assertEquals(1, service.getMaxConcurrency());
+
+        for (int i = 0; i < messages.size(); i++) {
+            MAVLinkPacket packet = new Parser().parse(ByteBuffer.wrap(messages.get(i))).get(0);
+            assertEquals(i, ((msg_mission_item) packet.unpack()).seq);
+        }
+    }
+
+    /**
+     * Closing the client fails the sends in progress and the sends waiting 
+     * for them instead of leaving their futures incomplete.
+     */
+    @Test
+    public void testCloseFailsPendingSends() throws Exception {
+        service.setLatency(1000);
+
+        RockBlockClient client = client(5000, 3, 0, 0, new CircuitBreaker(5, 60000));
+
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(client.sendMessagesAsync(Collections.singletonList(missionItem(i))));
+        }
+
+        Thread.sleep(100);
+        client.close();
+
+        for (Future<Void> future : futures) {
+            try {
+                future.get(1, TimeUnit.SECONDS);
+                fail("Send was not failed.");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+        }
+
+        try {
+            client.sendMessagesAsync(missionItems(1)).get(1, TimeUnit.SECONDS);
+            fail("Send to closed client was not failed.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void testRetrySystemError() throws Exception {
+        service.failNext(2, "FAILED,99,System error");
+
+        RockBlockClient client = client(1000, 1, 3, 10, new CircuitBreaker(5, 60000));
+
+        try {
+            client.sendMessagesAsync(missionItems(1)).get();
+        } finally {
+            client.close();
+        }
+
+        assertEquals(3, service.getRequestCount());
+        assertEquals(1, service.getMessages().size());
+    }
+
+    @Test
+    public void testNonRetryableError() throws Exception {
+        service.failNext(1, "FAILED,10,Invalid login credentials");
+
+        CircuitBreaker breaker = new CircuitBreaker(1, 60000);
+        RockBlockClient client = client(1000, 1, 3, 10, breaker);
+
+        try {
+            client.sendMessagesAsync(missionItems(1)).get();
+            fail("Rejected message was sent.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RockBlockException);
+            assertFalse(((RockBlockException) e.getCause()).isRetryable());
+        } finally {
+            client.close();
+        }
+
+        assertEquals(1, service.getRequestCount());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    /**
+     * Timed out requests may have been delivered, so they are not retried. 
+     * They open the circuit breaker and the following requests fail fast.
+     */
+    @Test
+    public void testTimeoutOpensCircuitBreaker() throws Exception {
+        service.setLatency(1000);
+
+        CircuitBreaker breaker = new CircuitBreaker(1, 60000);
+        RockBlockClient client = client(100, 1, 1, 10, breaker);
+
+        try {
+            try {
+                client.sendMessage(missionItems(1).get(0));
+                fail("Timed out message was sent.");
+            } catch (IOException e) {
+                assertEquals(1, service.getRequestCount());
+                assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+            }
+
+            long start = System.currentTimeMillis();
+
+            try {
+                client.sendMessage(missionItems(1).get(0));
+                fail("Message was sent with open circuit breaker.");
+            } catch (IOException e) {
+                assertTrue(System.currentTimeMillis() - start < 100);
+                assertEquals(1, service.getRequestCount());
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Requests that failed to connect were not delivered and are retried.
+     */
+    @Test
+    public void testRetryConnectFailure() throws Exception {
+        ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        int port = socket.getLocalPort();
+        socket.close();
+
+        CircuitBreaker breaker = new CircuitBreaker(3, 60000);
+        RockBlockClient client = new RockBlockClient("300234010753370", "user", "pass", 
+                                                     "http://localhost:" + port + "/rockblock/MT", false,
+                                                     1000, 1, 2, 10, breaker);
+
+        try {
+            client.sendMessage(missionItems(1).get(0));
+            fail("Message was sent to closed port.");
+        } catch (IOException e) {
+            // The first attempt and two retries failed
+            assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testCircuitBreakerHalfOpen() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(2, 50);
+
+        breaker.recordFailure();
+        assertTrue(breaker.allowRequest());
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+
+        Thread.sleep(60);
+
+        // Only one trial request is allowed
+        assertTrue(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(60);
+
+        assertTrue(breaker.allowRequest());
+        breaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(2, breaker.getOpenCount());
+    }
+
+    private RockBlockClient client(int timeout, int maxInFlight, int maxRetries, long retryBackoff,
+                                   CircuitBreaker breaker) {
+        return new RockBlockClient("300234010753370", "user", "pass word", service.getURL(), false,
+                                   timeout, maxInFlight, maxRetries, retryBackoff, breaker);
+    }
+
+    private static List<MAVLinkPacket> missionItems(int count) {
+        List<MAVLinkPacket> packets = new ArrayList<MAVLinkPacket>();
+        for (int i = 0; i < count; i++) {
+            packets.add(missionItem(i));
+        }
+        return packets;
+    }
+
+    private static MAVLinkPacket missionItem(int seq) {
+        msg_mission_item msg = new msg_mission_item();
+        msg.seq = seq;
+        return msg.pack();
+    }
+
+}
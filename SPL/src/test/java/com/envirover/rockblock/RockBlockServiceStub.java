@@ -0,0 +1,172 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.rockblock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for RockBLOCK Web Services MT endpoint with latency and
+ * failure injection.
+ */
+@SuppressWarnings("restriction")
+public class RockBlockServiceStub implements HttpHandler {
+
+    private final static String CONTEXT = "/rockblock/MT";
+
+    private final HttpServer server;
+    private final List<byte[]> messages = new ArrayList<byte[]>();
+    private final Queue<String> failures = new LinkedList<String>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger concurrency = new AtomicInteger();
+    private final AtomicInteger maxConcurrency = new AtomicInteger();
+
+    private volatile long latency = 0;
+
+    public RockBlockServiceStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(CONTEXT, this);
+        server.setExecutor(Executors.newCachedThreadPool());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public String getURL() {
+        return "http://localhost:" + server.getAddress().getPort() + CONTEXT;
+    }
+
+    /**
+     * Sets delay in milliseconds before the responses.
+     */
+    public void setLatency(long latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Responds to the next requests with the specified error responses.
+     */
+    public synchronized void failNext(int count, String response) {
+        for (int i = 0; i < count; i++) {
+            failures.add(response);
+        }
+    }
+
+    /**
+     * Returns data of the accepted messages.
+     */
+    public synchronized List<byte[]> getMessages() {
+        return new ArrayList<byte[]>(messages);
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns maximum number of concurrently handled requests.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency.get();
+    }
+
+    @Override
+    public void handle(HttpExchange t) throws IOException {
+        requestCount.incrementAndGet();
+
+        int current = concurrency.incrementAndGet();
+        while (true) {
+            int max = maxConcurrency.get();
+            if (current <= max || maxConcurrency.compareAndSet(max, current)) {
+                break;
+            }
+        }
+
+        try {
+            InputStream is = t.getRequestBody();
+            StringWriter writer = new StringWriter();
+            IOUtils.copy(is, writer, "UTF-8");
+
+            List<NameValuePair> params = URLEncodedUtils.parse(writer.toString(), Charset.forName("UTF-8"));
+
+            if (latency > 0) {
+                Thread.sleep(latency);
+            }
+
+            String response;
+
+            synchronized (this) {
+                response = failures.poll();
+
+                if (response == null) {
+                    for (NameValuePair param : params) {
+                        if ("data".equals(param.getName())) {
+                            messages.add(Hex.decodeHex(param.getValue().toCharArray()));
+                        }
+                    }
+
+                    response = "OK," + messages.size();
+                }
+            }
+
+            byte[] body = response.getBytes("UTF-8");
+            t.sendResponseHeaders(200, body.length);
+            OutputStream os = t.getResponseBody();
+            os.write(body);
+            os.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DecoderException e) {
+            throw new IOException(e.getMessage());
+        } finally {
+            concurrency.decrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.spl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.common.msg_heartbeat;
+import com.envirover.mavlink.MAVLinkSocket;
+
+public class HashedWheelTimerTest {
+
+    private static final int SESSIONS = 1000;
+    private static final long PERIOD = 200;
+
+    @Test
+    public void testScheduleAndCancel() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(5, TimeUnit.MILLISECONDS, 8);
+
+        try {
+            final CountDownLatch fired = new CountDownLatch(1);
+            final AtomicInteger cancelledRuns = new AtomicInteger();
+
+            long start = System.nanoTime();
+
+            // Delay longer than one rotation of the wheel
+            HashedWheelTimer.Timeout timeout = timer.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    fired.countDown();
+                }
+            }, 100, TimeUnit.MILLISECONDS);
+
+            HashedWheelTimer.Timeout cancelled = timer.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    cancelledRuns.incrementAndGet();
+                }
+            }, 50, TimeUnit.MILLISECONDS);
+
+            assertTrue(cancelled.cancel());
+
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertTrue(timeout.isExpired());
+            assertFalse(timeout.cancel());
+
+            Thread.sleep(100);
+            assertEquals(0, cancelledRuns.get());
+            assertEquals(0, timer.getTimeoutCount());
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Schedules periodic tasks for many sessions at once and checks that they
+     * run on a single thread and fire on different ticks.
+     */
+    @Test
+    public void testPeriodicTasksAreSpread() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 512);
+
+        try {
+            final Set<Long> fireTimes = new HashSet<Long>();
+            final Set<Thread> threads = new HashSet<Thread>();
+            final CountDownLatch runs = new CountDownLatch(SESSIONS * 3);
+
+            HashedWheelTimer.Timeout[] timeouts = new HashedWheelTimer.Timeout[SESSIONS];
+
+            for (int i = 0; i < SESSIONS; i++) {
+                timeouts[i] = timer.scheduleAtFixedRate(new Runnable() {
+                    @Override
+                    public void run() {
+                        fireTimes.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+                        threads.add(Thread.currentThread());
+                        runs.countDown();
+                    }
+                }, PERIOD, TimeUnit.MILLISECONDS);
+            }
+
+            assertTrue(runs.await(10, TimeUnit.SECONDS));
+
+            System.out.println(String.format("HASHED WHEEL TIMER TEST: %d periodic tasks fired in %d distinct milliseconds",
+                    SESSIONS, fireTimes.size()));
+
+            assertEquals(1, threads.size());
+            assertTrue(fireTimes.size() > PERIOD / 2);
+
+            for (HashedWheelTimer.Timeout timeout : timeouts) {
+                timeout.cancel();
+            }
+
+            assertEquals(0, timer.getTimeoutCount());
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Heartbeats sent to a client that does not read its blocking socket must 
+     * not delay the heartbeats of the other clients and the other timer tasks.
+     */
+    @Test
+    public void testStalledBlockingClient() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 64, 2);
+
+        ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        Socket client = new Socket(server.getInetAddress(), server.getLocalPort());
+        final MAVLinkSocket stalled = new MAVLinkSocket(server.accept());
+
+        try {
+            final MAVLinkPacket heartbeat = new msg_heartbeat().pack();
+            final AtomicInteger stalledRuns = new AtomicInteger();
+            final AtomicInteger healthyRuns = new AtomicInteger();
+            final AtomicInteger timerRuns = new AtomicInteger();
+
+            timer.dispatchAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    stalledRuns.incrementAndGet();
+
+                    try {
+                        // The client never reads, so the write blocks once the socket buffers are full
+                        while (true) {
+                            stalled.sendMessage(heartbeat);
+                        }
+                    } catch (IOException e) {
+                    }
+                }
+            }, 10, TimeUnit.MILLISECONDS);
+
+            timer.dispatchAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    healthyRuns.incrementAndGet();
+                }
+            }, 10, TimeUnit.MILLISECONDS);
+
+            timer.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    timerRuns.incrementAndGet();
+                }
+            }, 10, TimeUnit.MILLISECONDS);
+
+            Thread.sleep(1000);
+
+            assertEquals(1, stalledRuns.get());
+            assertTrue(healthyRuns.get() > 50);
+            assertTrue(timerRuns.get() > 50);
+        } finally {
+            timer.stop();
+            stalled.close();
+            client.close();
+            server.close();
+        }
+    }
+
+}
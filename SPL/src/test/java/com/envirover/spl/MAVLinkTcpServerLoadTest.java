@@ -0,0 +1,223 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.spl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Parser;
+import com.MAVLink.common.msg_command_ack;
+import com.MAVLink.common.msg_command_long;
+import com.MAVLink.common.msg_heartbeat;
+import com.MAVLink.enums.MAV_CMD;
+import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkMessageQueue;
+
+public class MAVLinkTcpServerLoadTest {
+
+    private static final int CLIENTS = 2000;
+    private static final int ACTIVE_CLIENTS = 200;
+    private static final int SELECTOR_THREADS = 2;
+    private static final long TIMEOUT = 30000;
+
+    /**
+     * Opens thousands of mostly idle client connections to the server in
+     * event-driven mode and checks that the number of server threads does
+     * not grow with the number of connections.
+     */
+    @Test
+    public void testThousandsOfIdleConnections() throws Exception {
+        final AtomicInteger received = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+
+        MAVLinkTcpServer server = new MAVLinkTcpServer(0, null, SELECTOR_THREADS) {
+            @Override
+            protected ClientSession createClientSession(final MAVLinkChannel clientChannel) {
+                return new EchoSession(clientChannel, received, closed);
+            }
+        };
+
+        server.start();
+
+        List<Socket> clients = new ArrayList<Socket>();
+
+        try {
+            System.gc();
+            int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+            long memoryBefore = usedMemory();
+
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort()));
+            }
+
+            waitFor(server, CLIENTS);
+
+            System.gc();
+            int threadsAfter = ManagementFactory.getThreadMXBean().getThreadCount();
+            long memoryAfter = usedMemory();
+
+            // Some of the clients send a message and wait for the echo
+            Random random = new Random(1);
+            for (int i = 0; i < ACTIVE_CLIENTS; i++) {
+                Socket client = clients.get(random.nextInt(CLIENTS));
+                client.getOutputStream().write(new msg_heartbeat().pack().encodePacket());
+                assertEquals(msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT, receive(client).msgid);
+            }
+
+            assertEquals(ACTIVE_CLIENTS, received.get());
+
+            System.out.println(String.format("TCP SERVER LOAD TEST: %d connections, %d selector threads, threads %d -> %d, heap %d KB -> %d KB",
+                    CLIENTS, SELECTOR_THREADS, threadsBefore, threadsAfter, 
+                    memoryBefore / 1024, memoryAfter / 1024));
+
+            // No threads are started for the connections
+            assertTrue(threadsAfter <= threadsBefore + 1);
+        } finally {
+            for (Socket client : clients) {
+                client.close();
+            }
+        }
+
+        waitFor(server, 0);
+        assertEquals(CLIENTS, closed.get());
+
+        server.stop();
+    }
+
+    /**
+     * Checks that MAVLinkClientSession served in event-driven mode receives
+     * commands and sends acknowledgments and heartbeats.
+     */
+    @Test
+    public void testClientSession() throws Exception {
+        MAVLinkMessageQueue mtMessageQueue = new MAVLinkMessageQueue(10);
+        MAVLinkTcpServer server = new MAVLinkTcpServer(0, mtMessageQueue, 1);
+        server.start();
+
+        Socket client = new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort());
+
+        try {
+            msg_command_long command = new msg_command_long();
+            command.command = MAV_CMD.MAV_CMD_NAV_RETURN_TO_LAUNCH;
+            client.getOutputStream().write(command.pack().encodePacket());
+
+            boolean heartbeat = false;
+            boolean ack = false;
+            while (!heartbeat || !ack) {
+                MAVLinkPacket packet = receive(client);
+                heartbeat |= packet.msgid == msg_heartbeat.MAVLINK_MSG_ID_HEARTBEAT;
+                ack |= packet.msgid == msg_command_ack.MAVLINK_MSG_ID_COMMAND_ACK;
+            }
+
+            long deadline = System.currentTimeMillis() + TIMEOUT;
+            MAVLinkPacket packet;
+            while ((packet = mtMessageQueue.receiveMessage()) == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG, packet.msgid);
+        } finally {
+            client.close();
+        }
+
+        waitFor(server, 0);
+        server.stop();
+    }
+
+    private static MAVLinkPacket receive(Socket client) throws IOException {
+        client.setSoTimeout((int) TIMEOUT);
+        InputStream in = client.getInputStream();
+        Parser parser = new Parser();
+
+        MAVLinkPacket packet = null;
+        while (packet == null) {
+            int c = in.read();
+            if (c < 0) {
+                throw new IOException("Connection closed by the server.");
+            }
+            packet = parser.mavlink_parse_char(c);
+        }
+
+        return packet;
+    }
+
+    private static void waitFor(MAVLinkTcpServer server, int connections) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (server.getConnectionCount() != connections && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(connections, server.getConnectionCount());
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Session that sends back heartbeat for each received message.
+     */
+    static class EchoSession implements ClientSession {
+
+        private final MAVLinkChannel channel;
+        private final AtomicInteger received;
+        private final AtomicInteger closed;
+
+        EchoSession(MAVLinkChannel channel, AtomicInteger received, AtomicInteger closed) {
+            this.channel = channel;
+            this.received = received;
+            this.closed = closed;
+        }
+
+        @Override
+        public void onOpen() {
+        }
+
+        @Override
+        public void onClose() throws InterruptedException {
+            closed.incrementAndGet();
+            channel.close();
+        }
+
+        @Override
+        public void onMessage(MAVLinkPacket packet) throws IOException, InterruptedException {
+            received.incrementAndGet();
+            channel.sendMessage(new msg_heartbeat().pack());
+        }
+    }
+
+}
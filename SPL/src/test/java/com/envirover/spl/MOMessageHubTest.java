@@ -0,0 +1,332 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.spl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.common.msg_attitude;
+import com.MAVLink.common.msg_heartbeat;
+import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkFrames;
+
+public class MOMessageHubTest {
+
+    private static final int QUEUE_SIZE = 8;
+    private static final int MESSAGES = 100;
+    private static final long TIMEOUT = 10000;
+
+    /**
+     * Checks that a stalled client does not delay the other clients and that
+     * only the newest messages are kept for it.
+     */
+    @Test
+    public void testDropOldest() throws Exception {
+        MOMessageHub hub = new MOMessageHub(QUEUE_SIZE, MOMessageHub.SlowClientPolicy.DROP_OLDEST);
+
+        try {
+            TestChannel fast = new TestChannel(null);
+            TestChannel stalled = new TestChannel(new CountDownLatch(1));
+            hub.subscribe(fast);
+            hub.subscribe(stalled);
+
+            hub.sendMessage(heartbeat(0));
+            stalled.waitForSend();
+
+            // The fast client receives each message while the stalled client is blocked
+            for (int i = 1; i < MESSAGES; i++) {
+                fast.waitFor(i);
+                hub.sendMessage(heartbeat(i));
+            }
+
+            fast.waitFor(MESSAGES);
+            for (int i = 0; i < MESSAGES; i++) {
+                assertEquals(i, id(fast.received.get(i)));
+            }
+
+            stalled.resume.countDown();
+
+            // One message was taken by the stalled send, the ring buffer keeps the newest ones
+            stalled.waitFor(QUEUE_SIZE + 1);
+            Thread.sleep(100);
+            assertEquals(QUEUE_SIZE + 1, stalled.received.size());
+            assertEquals(0, id(stalled.received.get(0)));
+            assertEquals(MESSAGES - QUEUE_SIZE, id(stalled.received.get(1)));
+            assertEquals(MESSAGES - QUEUE_SIZE - 1, hub.getDroppedCount());
+        } finally {
+            hub.close();
+        }
+    }
+
+    @Test
+    public void testCoalesce() throws Exception {
+        MOMessageHub hub = new MOMessageHub(QUEUE_SIZE, MOMessageHub.SlowClientPolicy.COALESCE);
+
+        try {
+            TestChannel stalled = new TestChannel(new CountDownLatch(1));
+            hub.subscribe(stalled);
+
+            hub.sendMessage(heartbeat(0));
+            stalled.waitForSend();
+
+            hub.sendMessage(attitude(0));
+            for (int i = 1; i < QUEUE_SIZE; i++) {
+                hub.sendMessage(heartbeat(i));
+            }
+
+            // Ring buffer is full, the newest ATTITUDE replaces the queued one 
+            hub.sendMessage(attitude(1));
+            hub.sendMessage(attitude(2));
+            hub.sendMessage(attitude(3));
+
+            stalled.resume.countDown();
+            stalled.waitFor(QUEUE_SIZE + 1);
+            Thread.sleep(100);
+
+            assertEquals(QUEUE_SIZE + 1, stalled.received.size());
+            assertEquals(3, hub.getDroppedCount());
+
+            // The queued ATTITUDE message keeps its place in the queue
+            assertEquals(msg_attitude.MAVLINK_MSG_ID_ATTITUDE, stalled.received.get(1).msgid);
+            assertEquals(3, id(stalled.received.get(1)));
+            assertEquals(QUEUE_SIZE - 1, id(stalled.received.get(QUEUE_SIZE)));
+        } finally {
+            hub.close();
+        }
+    }
+
+    /**
+     * Messages of different vehicles with the same message id are not coalesced.
+     */
+    @Test
+    public void testCoalescePerVehicle() throws Exception {
+        MOMessageHub hub = new MOMessageHub(QUEUE_SIZE, MOMessageHub.SlowClientPolicy.COALESCE);
+
+        try {
+            TestChannel stalled = new TestChannel(new CountDownLatch(1));
+            hub.subscribe(stalled);
+
+            hub.sendMessage(heartbeat(0));
+            stalled.waitForSend();
+
+            for (int i = 0; i < QUEUE_SIZE; i++) {
+                hub.sendMessage(attitude(i, 1));
+            }
+
+            // Ring buffer is full, ATTITUDE of vehicle 2 drops the oldest message
+            // and the next one replaces it
+            hub.sendMessage(attitude(100, 2));
+            hub.sendMessage(attitude(101, 2));
+
+            stalled.resume.countDown();
+            stalled.waitFor(QUEUE_SIZE + 1);
+            Thread.sleep(100);
+
+            assertEquals(QUEUE_SIZE + 1, stalled.received.size());
+            assertEquals(2, hub.getDroppedCount());
+            assertEquals(1, id(stalled.received.get(1)));
+            assertEquals(QUEUE_SIZE - 1, id(stalled.received.get(QUEUE_SIZE - 1)));
+            assertEquals(2, stalled.received.get(QUEUE_SIZE).sysid);
+            assertEquals(101, id(stalled.received.get(QUEUE_SIZE)));
+        } finally {
+            hub.close();
+        }
+    }
+
+    @Test
+    public void testDisconnect() throws Exception {
+        MOMessageHub hub = new MOMessageHub(QUEUE_SIZE, MOMessageHub.SlowClientPolicy.DISCONNECT);
+
+        try {
+            TestChannel fast = new TestChannel(null);
+            TestChannel stalled = new TestChannel(new CountDownLatch(1));
+            hub.subscribe(fast);
+            hub.subscribe(stalled);
+
+            for (int i = 0; i < MESSAGES; i++) {
+                fast.waitFor(i);
+                hub.sendMessage(heartbeat(i));
+            }
+
+            fast.waitFor(MESSAGES);
+
+            assertTrue(stalled.closed);
+            assertEquals(1, hub.getClientCount());
+
+            stalled.resume.countDown();
+        } finally {
+            hub.close();
+        }
+    }
+
+    /**
+     * A client whose send never returns is disconnected after the stall 
+     * timeout, releasing the broadcast thread for the other clients.
+     */
+    @Test
+    public void testStalledSend() throws Exception {
+        MOMessageHub hub = new MOMessageHub(QUEUE_SIZE, MOMessageHub.SlowClientPolicy.DROP_OLDEST, 1, 200);
+
+        try {
+            TestChannel stalled = new TestChannel(new CountDownLatch(1));
+            TestChannel fast = new TestChannel(null);
+            hub.subscribe(stalled);
+            hub.subscribe(fast);
+
+            // The stalled client holds the only broadcast thread
+            hub.sendMessage(heartbeat(0));
+            stalled.waitForSend();
+            Thread.sleep(300);
+
+            hub.sendMessage(heartbeat(1));
+
+            fast.waitFor(2);
+            assertEquals(0, id(fast.received.get(0)));
+            assertEquals(1, id(fast.received.get(1)));
+            assertTrue(stalled.closed);
+            assertEquals(1, hub.getClientCount());
+        } finally {
+            hub.close();
+        }
+    }
+
+    private static MAVLinkPacket heartbeat(int id) {
+        msg_heartbeat msg = new msg_heartbeat();
+        msg.custom_mode = id;
+        return msg.pack();
+    }
+
+    private static MAVLinkPacket attitude(int id) {
+        return attitude(id, 1);
+    }
+
+    private static MAVLinkPacket attitude(int id, int sysid) {
+        msg_attitude msg = new msg_attitude();
+        msg.time_boot_ms = id;
+        MAVLinkPacket packet = msg.pack();
+        packet.sysid = sysid;
+        return packet;
+    }
+
+    private static long id(MAVLinkPacket packet) {
+        MAVLinkMessage msg = packet.unpack();
+
+        if (msg instanceof msg_heartbeat) {
+            return ((msg_heartbeat) msg).custom_mode;
+        }
+
+        return ((msg_attitude) msg).time_boot_ms;
+    }
+
+    /**
+     * Channel that records the received packets and optionally blocks the
+     * first send until resumed or closed.
+     */
+    static class TestChannel implements MAVLinkChannel {
+
+        final List<MAVLinkPacket> received = new ArrayList<MAVLinkPacket>();
+        final CountDownLatch resume;
+        final CountDownLatch sending = new CountDownLatch(1);
+        volatile boolean closed = false;
+
+        TestChannel(CountDownLatch resume) {
+            this.resume = resume;
+        }
+
+        @Override
+        public MAVLinkPacket receiveMessage() throws IOException {
+            return null;
+        }
+
+        @Override
+        public void sendMessage(MAVLinkPacket packet) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sendFrames(MAVLinkFrames frames) throws IOException {
+            sending.countDown();
+
+            if (resume != null) {
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+
+            if (closed) {
+                throw new IOException("Channel closed.");
+            }
+
+            synchronized (received) {
+                received.addAll(frames.getPackets());
+                received.notifyAll();
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+
+            if (resume != null) {
+                resume.countDown();
+            }
+        }
+
+        void waitForSend() throws InterruptedException {
+            assertTrue(sending.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        }
+
+        void waitFor(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TIMEOUT;
+
+            synchronized (received) {
+                while (received.size() < count && System.currentTimeMillis() < deadline) {
+                    received.wait(100);
+                }
+
+                assertTrue(received.size() >= count);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,410 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+
+package com.envirover.spl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.common.CommandLongView;
+import com.MAVLink.common.ParamSetView;
+import com.MAVLink.common.msg_command_long;
+import com.MAVLink.common.msg_mission_clear_all;
+import com.MAVLink.common.msg_mission_count;
+import com.MAVLink.common.msg_mission_item;
+import com.MAVLink.common.msg_mission_set_current;
+import com.MAVLink.common.msg_param_request_list;
+import com.MAVLink.common.msg_param_set;
+import com.MAVLink.common.msg_set_mode;
+import com.MAVLink.enums.MAV_CMD;
+import com.envirover.mavlink.MAVLinkShadow;
+import com.envirover.mavlink.MAVLinkShadowRegistry;
+
+public class MTMessageCoalescerTest {
+
+    @Test
+    public void testCoalesce() {
+        MTMessageCoalescer coalescer = new MTMessageCoalescer();
+
+        coalescer.add(commandLong(MAV_CMD.MAV_CMD_NAV_RETURN_TO_LAUNCH, 1));
+        coalescer.add(paramSet("WP_SPEED", 1.0F));
+        coalescer.add(new msg_mission_clear_all().pack());
+        coalescer.add(new msg_mission_clear_all().pack());
+        coalescer.add(setMode(3));
+        coalescer.add(commandLong(MAV_CMD.MAV_CMD_NAV_RETURN_TO_LAUNCH, 2));
+        coalescer.add(paramSet("wp_speed", 2.0F));
+        coalescer.add(setMode(4));
+
+        assertEquals(4, coalescer.size());
+        assertEquals(4, coalescer.getCoalescedCount());
+        assertEquals(4, coalescer.getSavedCount());
+
+        // The newest messages take the places of the replaced ones
+        // in the urgent, params and bulk lanes
+        MAVLinkPacket packet = coalescer.poll();
+        assertEquals(msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG, packet.msgid);
+        assertEquals(2, CommandLongView.param1(packet.payload), 0);
+
+        packet = coalescer.poll();
+        assertEquals(msg_set_mode.MAVLINK_MSG_ID_SET_MODE, packet.msgid);
+        assertEquals(4, ((msg_set_mode) packet.unpack()).custom_mode);
+
+        packet = coalescer.poll();
+        assertEquals(msg_param_set.MAVLINK_MSG_ID_PARAM_SET, packet.msgid);
+        assertEquals(2.0F, ParamSetView.param_value(packet.payload), 0);
+
+        assertEquals(msg_mission_clear_all.MAVLINK_MSG_ID_MISSION_CLEAR_ALL, coalescer.poll().msgid);
+
+        assertNull(coalescer.poll());
+        assertTrue(coalescer.isEmpty());
+    }
+
+    /**
+     * Commands for different servos are kept, commands that are not known to
+     * be superseded by the next one are never collapsed.
+     */
+    @Test
+    public void testCoalesceCommands() {
+        MTMessageCoalescer coalescer = new MTMessageCoalescer();
+
+        coalescer.add(commandLong(MAV_CMD.MAV_CMD_DO_SET_SERVO, 5, 1000));
+        coalescer.add(commandLong(MAV_CMD.MAV_CMD_DO_SET_SERVO, 6, 1500));
+        coalescer.add(commandLong(MAV_CMD.MAV_CMD_COMPONENT_ARM_DISARM, 1));
+        coalescer.add(commandLong(MAV_CMD.MAV_CMD_COMPONENT_ARM_DISARM, 1));
+        coalescer.add(commandLong(MAV_CMD.MAV_CMD_DO_SET_SERVO, 5, 2000));
+
+        assertEquals(4, coalescer.size());
+        assertEquals(1, coalescer.getCoalescedCount());
+
+        MAVLinkPacket packet = coalescer.poll();
+        assertEquals(5, CommandLongView.param1(packet.payload), 0);
+        assertEquals(2000, CommandLongView.param2(packet.payload), 0);
+
+        packet = coalescer.poll();
+        assertEquals(6, CommandLongView.param1(packet.payload), 0);
+        assertEquals(1500, CommandLongView.param2(packet.payload), 0);
+
+        assertEquals(MAV_CMD.MAV_CMD_COMPONENT_ARM_DISARM, CommandLongView.command(coalescer.poll().payload));
+        assertEquals(MAV_CMD.MAV_CMD_COMPONENT_ARM_DISARM, CommandLongView.command(coalescer.poll().payload));
+    }
+
+    /**
+     * A mission uploaded before the previous upload was sent replaces it.
+     */
+    @Test
+    public void testMissionReupload() {
+        MTMessageCoalescer coalescer = new MTMessageCoalescer();
+
+        coalescer.add(missionCount(1, 5));
+        for (int i = 0; i < 5; i++) {
+            coalescer.add(missionItem(1, i, 1.0F));
+        }
+
+        // Mission upload of another vehicle is not affected
+        coalescer.add(missionCount(2, 1));
+        coalescer.add(missionItem(2, 0, 3.0F));
+
+        coalescer.add(missionCount(1, 3));
+        for (int i = 0; i < 3; i++) {
+            coalescer.add(missionItem(1, i, 2.0F));
+        }
+
+        assertEquals(6, coalescer.getCoalescedCount());
+
+        MAVLinkPacket packet = coalescer.poll();
+        assertEquals(2, ((msg_mission_count) packet.unpack()).target_system);
+        assertEquals(3.0F, ((msg_mission_item) coalescer.poll().unpack()).x, 0);
+
+        packet = coalescer.poll();
+        assertEquals(1, ((msg_mission_count) packet.unpack()).target_system);
+        assertEquals(3, ((msg_mission_count) packet.unpack()).count);
+
+        for (int i = 0; i < 3; i++) {
+            msg_mission_item item = (msg_mission_item) coalescer.poll().unpack();
+            assertEquals(i, item.seq);
+            assertEquals(2.0F, item.x, 0);
+        }
+
+        assertNull(coalescer.poll());
+    }
+
+    @Test
+    public void testSuppressAppliedParams() throws Exception {
+        MAVLinkShadow shadow = registerVehicle();
+        shadow.loadParams(new ByteArrayInputStream("1\t190\tMT_COALESCE_TEST\t5\t9\n".getBytes()));
+
+        MTMessageCoalescer coalescer = new MTMessageCoalescer();
+
+        coalescer.add(paramSet("MT_COALESCE_TEST", 6.0F));
+        coalescer.add(paramSet("MT_COALESCE_TEST", 5.0F));
+
+        // Neither the default value nor the value set by a GCS were acknowledged by the vehicle
+        shadow.setParamValue("MT_COALESCE_TEST", 5.0F);
+        assertEquals(5.0F, ParamSetView.param_value(coalescer.poll().payload), 0);
+
+        shadow.setAcknowledgedParamValue("mt_coalesce_test", 7.0F);
+        coalescer.add(paramSet("MT_COALESCE_TEST", 7.0F));
+
+        // The value set by the pending message was reported before it was sent
+        coalescer.add(paramSet("MT_COALESCE_TEST", 8.0F));
+        shadow.setAcknowledgedParamValue("MT_COALESCE_TEST", 8.0F);
+
+        assertNull(coalescer.poll());
+        assertEquals(1, coalescer.getCoalescedCount());
+        assertEquals(2, coalescer.getSuppressedCount());
+    }
+
+    /**
+     * Setting the acknowledged value back is not suppressed after a different
+     * value was set, whether or not the different value was already sent.
+     */
+    @Test
+    public void testRevertAcknowledgedParam() throws Exception {
+        MAVLinkShadow shadow = registerVehicle();
+        shadow.loadParams(new ByteArrayInputStream("1\t190\tMT_REVERT_TEST\t5\t9\n".getBytes()));
+
+        MTMessageCoalescer coalescer = new MTMessageCoalescer();
+
+        shadow.setAcknowledgedParamValue("MT_REVERT_TEST", 1.0F);
+        coalescer.add(paramSet("MT_REVERT_TEST", 2.0F));
+        assertEquals(2.0F, ParamSetView.param_value(coalescer.poll().payload), 0);
+
+        coalescer.add(paramSet("MT_REVERT_TEST", 1.0F));
+        assertEquals(1.0F, ParamSetView.param_value(coalescer.poll().payload), 0);
+
+        shadow.setAcknowledgedParamValue("MT_REVERT_TEST", 1.0F);
+        coalescer.add(paramSet("MT_REVERT_TEST", 2.0F));
+        coalescer.add(paramSet("MT_REVERT_TEST", 1.0F));
+        assertEquals(1.0F, ParamSetView.param_value(coalescer.poll().payload), 0);
+
+        assertNull(coalescer.poll());
+        assertEquals(0, coalescer.getSuppressedCount());
+    }
+
+    /**
+     * Urgent commands issued during a mission upload are sent next with
+     * strict scheduling and within a few transmissions with weighted one.
+     */
+    @Test
+    public void testUrgentPreemptsMissionUpload() {
+        for (MTMessageCoalescer.SchedulingPolicy policy : MTMessageCoalescer.SchedulingPolicy.values()) {
+            MTMessageCoalescer coalescer = new MTMessageCoalescer(policy, new int[] {4, 2, 1});
+
+            for (int i = 0; i < 100; i++) {
+                coalescer.add(missionItem(i));
+            }
+
+            // Upload is in progress
+            assertEquals(0, ((msg_mission_item) coalescer.poll().unpack()).seq);
+            assertEquals(1, ((msg_mission_item) coalescer.poll().unpack()).seq);
+
+            coalescer.add(paramSet("WP_SPEED", 3.0F));
+            coalescer.add(setMode(11));
+
+            assertEquals(98, coalescer.getDepth(MTMessageCoalescer.Lane.BULK));
+            assertEquals(100, coalescer.getMaxDepth(MTMessageCoalescer.Lane.BULK));
+            assertEquals(1, coalescer.getDepth(MTMessageCoalescer.Lane.URGENT));
+            assertEquals(1, coalescer.getDepth(MTMessageCoalescer.Lane.PARAMS));
+
+            int modePosition = -1;
+            int paramPosition = -1;
+            int seq = 2;
+
+            for (int i = 0; !coalescer.isEmpty(); i++) {
+                MAVLinkPacket packet = coalescer.poll();
+
+                if (packet.msgid == msg_set_mode.MAVLINK_MSG_ID_SET_MODE) {
+                    modePosition = i;
+                } else if (packet.msgid == msg_param_set.MAVLINK_MSG_ID_PARAM_SET) {
+                    paramPosition = i;
+                } else {
+                    // Mission items stay in order
+                    assertEquals(seq++, ((msg_mission_item) packet.unpack()).seq);
+                }
+            }
+
+            assertEquals(100, seq);
+            assertEquals(0, modePosition);
+
+            if (policy == MTMessageCoalescer.SchedulingPolicy.STRICT) {
+                assertEquals(1, paramPosition);
+            } else {
+                assertTrue(paramPosition <= 3);
+            }
+
+            assertEquals(100, coalescer.getSentCount(MTMessageCoalescer.Lane.BULK));
+        }
+    }
+
+    /**
+     * Only safety and mode commands are urgent, the messages that use the 
+     * mission do not overtake the mission upload.
+     */
+    @Test
+    public void testMissionCommandsWaitForUpload() {
+        MTMessageCoalescer coalescer = new MTMessageCoalescer();
+
+        for (int i = 0; i < 5; i++) {
+            coalescer.add(missionItem(i));
+        }
+
+        msg_mission_set_current setCurrent = new msg_mission_set_current();
+        setCurrent.target_system = 1;
+        setCurrent.seq = 3;
+
+        coalescer.add(setCurrent.pack());
+        coalescer.add(commandLong(MAV_CMD.MAV_CMD_MISSION_START, 0));
+        coalescer.add(commandLong(MAV_CMD.MAV_CMD_NAV_RETURN_TO_LAUNCH, 0));
+
+        assertEquals(1, coalescer.getDepth(MTMessageCoalescer.Lane.URGENT));
+        assertEquals(0, coalescer.getDepth(MTMessageCoalescer.Lane.PARAMS));
+        assertEquals(7, coalescer.getDepth(MTMessageCoalescer.Lane.BULK));
+
+        assertEquals(MAV_CMD.MAV_CMD_NAV_RETURN_TO_LAUNCH, CommandLongView.command(coalescer.poll().payload));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, ((msg_mission_item) coalescer.poll().unpack()).seq);
+        }
+
+        assertEquals(msg_mission_set_current.MAVLINK_MSG_ID_MISSION_SET_CURRENT, coalescer.poll().msgid);
+        assertEquals(MAV_CMD.MAV_CMD_MISSION_START, CommandLongView.command(coalescer.poll().payload));
+        assertNull(coalescer.poll());
+    }
+
+    /**
+     * A message returned to the coalescer is sent next in its lane, after
+     * the higher priority messages added in the meantime.
+     */
+    @Test
+    public void testPushBack() {
+        MTMessageCoalescer coalescer = new MTMessageCoalescer();
+
+        for (int i = 0; i < 3; i++) {
+            coalescer.add(missionItem(i));
+        }
+
+        MAVLinkPacket carried = coalescer.poll();
+        coalescer.add(setMode(4));
+        coalescer.pushBack(carried);
+
+        assertEquals(msg_set_mode.MAVLINK_MSG_ID_SET_MODE, coalescer.poll().msgid);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, ((msg_mission_item) coalescer.poll().unpack()).seq);
+        }
+
+        assertNull(coalescer.poll());
+        assertEquals(3, coalescer.getSentCount(MTMessageCoalescer.Lane.BULK));
+    }
+
+    /**
+     * Weighted scheduling shares transmissions between busy lanes and does not starve the bulk lane.
+     */
+    @Test
+    public void testWeightedScheduling() {
+        MTMessageCoalescer coalescer = new MTMessageCoalescer(MTMessageCoalescer.SchedulingPolicy.WEIGHTED, new int[] {4, 2, 1});
+
+        for (int i = 0; i < 70; i++) {
+            coalescer.add(setMode(i + 1, 4));
+            coalescer.add(new msg_param_request_list().pack());
+            coalescer.add(missionItem(i));
+        }
+
+        for (int i = 0; i < 70; i++) {
+            coalescer.poll();
+        }
+
+        assertEquals(40, coalescer.getSentCount(MTMessageCoalescer.Lane.URGENT));
+        assertEquals(20, coalescer.getSentCount(MTMessageCoalescer.Lane.PARAMS));
+        assertEquals(10, coalescer.getSentCount(MTMessageCoalescer.Lane.BULK));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWeights() {
+        new MTMessageCoalescer(MTMessageCoalescer.SchedulingPolicy.WEIGHTED, new int[] {1, 0, 1});
+    }
+
+    private static MAVLinkPacket missionItem(int seq) {
+        return missionItem(1, seq, 0.0F);
+    }
+
+    private static MAVLinkPacket missionItem(int target, int seq, float x) {
+        msg_mission_item msg = new msg_mission_item();
+        msg.target_system = (short) target;
+        msg.seq = seq;
+        msg.x = x;
+        return msg.pack();
+    }
+
+    private static MAVLinkPacket missionCount(int target, int count) {
+        msg_mission_count msg = new msg_mission_count();
+        msg.target_system = (short) target;
+        msg.count = count;
+        return msg.pack();
+    }
+
+    private static MAVLinkPacket commandLong(int command, float param1) {
+        return commandLong(command, param1, 0);
+    }
+
+    private static MAVLinkPacket commandLong(int command, float param1, float param2) {
+        msg_command_long msg = new msg_command_long();
+        msg.target_system = 1;
+        msg.command = command;
+        msg.param1 = param1;
+        msg.param2 = param2;
+        return msg.pack();
+    }
+
+    // Registers the vehicle the PARAM_SET messages are addressed to
+    private static MAVLinkShadow registerVehicle() {
+        return MAVLinkShadowRegistry.getInstance().register("300234010753001", 1);
+    }
+
+    private static MAVLinkPacket paramSet(String paramId, float value) {
+        msg_param_set msg = new msg_param_set();
+        msg.target_system = 1;
+        msg.setParam_Id(paramId);
+        msg.param_value = value;
+        return msg.pack();
+    }
+
+    private static MAVLinkPacket setMode(long customMode) {
+        return setMode(1, customMode);
+    }
+
+    private static MAVLinkPacket setMode(int target, long customMode) {
+        msg_set_mode msg = new msg_set_mode();
+        msg.target_system = (short) target;
+        msg.custom_mode = customMode;
+        return msg.pack();
+    }
+
+}
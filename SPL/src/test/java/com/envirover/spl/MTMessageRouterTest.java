@@ -0,0 +1,175 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.spl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.Parser;
+import com.MAVLink.common.msg_command_long;
+import com.MAVLink.enums.MAV_CMD;
+import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkFrames;
+import com.envirover.mavlink.MAVLinkShadowRegistry;
+import com.envirover.rockblock.RockBlockClient;
+import com.envirover.rockblock.RockBlockServiceStub;
+
+public class MTMessageRouterTest {
+
+    private static final long TIMEOUT = 10000;
+
+    private RockBlockServiceStub service;
+    private RockBlockClient rockblock;
+    private MTMessageRouter router;
+
+    @Before
+    public void setUp() throws IOException {
+        service = new RockBlockServiceStub();
+        service.start();
+
+        // Client sessions report state of the vehicles of the shared registry
+        MAVLinkShadowRegistry registry = MAVLinkShadowRegistry.getInstance();
+        registry.register("300234010753201", 201);
+        registry.register("300234010753202", 202);
+
+        rockblock = new RockBlockClient("300234010753201", "user", "pass", service.getURL());
+        router = new MTMessageRouter(registry, rockblock);
+    }
+
+    @After
+    public void tearDown() {
+        router.shutdown();
+        rockblock.close();
+        service.stop();
+    }
+
+    /**
+     * A client session that fails to send heartbeat closes its own channel, 
+     * and MT messages of the other clients are still sent to the vehicles.
+     */
+    @Test
+    public void testHeartbeatFailure() throws Exception {
+        FailingChannel client = new FailingChannel();
+        MAVLinkClientSession session = new MAVLinkClientSession(client, router);
+
+        session.onOpen();
+
+        try {
+            assertTrue(client.closed.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        } finally {
+            session.onClose();
+        }
+
+        msg_command_long command = new msg_command_long();
+        command.target_system = 202;
+        command.command = MAV_CMD.MAV_CMD_NAV_RETURN_TO_LAUNCH;
+        router.sendMessage(command.pack());
+
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (service.getMessages().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        List<byte[]> messages = service.getMessages();
+        assertEquals(1, messages.size());
+
+        List<MAVLinkPacket> packets = new Parser().parse(ByteBuffer.wrap(messages.get(0)));
+        assertEquals(1, packets.size());
+        assertEquals(msg_command_long.MAVLINK_MSG_ID_COMMAND_LONG, packets.get(0).msgid);
+    }
+
+    /**
+     * Lanes statistics of the vehicles are available from the router.
+     */
+    @Test
+    public void testLaneStatistics() throws Exception {
+        msg_command_long command = new msg_command_long();
+        command.target_system = 201;
+        command.command = MAV_CMD.MAV_CMD_NAV_RETURN_TO_LAUNCH;
+        router.sendMessage(command.pack());
+
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (router.getLaneSentCount(201, MTMessageCoalescer.Lane.URGENT) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, router.getActiveVehicleCount());
+        assertEquals(1, router.getLaneSentCount(201, MTMessageCoalescer.Lane.URGENT));
+        assertEquals(0, router.getLaneSentCount(201, MTMessageCoalescer.Lane.BULK));
+        assertEquals(0, router.getLaneDepth(201, MTMessageCoalescer.Lane.URGENT));
+        assertEquals(1, router.getLaneMaxDepth(201, MTMessageCoalescer.Lane.URGENT));
+        assertEquals(0, router.getSavedCount(201));
+
+        // Vehicle without MT messages
+        assertEquals(0, router.getLaneSentCount(202, MTMessageCoalescer.Lane.URGENT));
+
+        router.logStatistics();
+    }
+
+    /**
+     * Client channel that fails to send messages.
+     */
+    static class FailingChannel implements MAVLinkChannel {
+
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public MAVLinkPacket receiveMessage() throws IOException {
+            return null;
+        }
+
+        @Override
+        public void sendMessage(MAVLinkPacket packet) throws IOException {
+            throw new IOException("Connection reset.");
+        }
+
+        @Override
+        public void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+            throw new IOException("Connection reset.");
+        }
+
+        @Override
+        public void sendFrames(MAVLinkFrames frames) throws IOException {
+            throw new IOException("Connection reset.");
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+    }
+
+}
@@ -0,0 +1,306 @@
+/*
+This file is part of SPLGroundControl application.
+
+SPLGroundControl is a MAVLink proxy server for ArduPilot rovers with
+RockBLOCK satellite communication.
+
+See http://www.rock7mobile.com/downloads/RockBLOCK-Web-Services-User-Guide.pdf
+
+Copyright (C) 2017 Envirover
+
+SPLGroundControl is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+SPLGroundControl is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with SPLGroundControl.  If not, see <http://www.gnu.org/licenses/>.
+*/
+package com.envirover.spl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.MAVLink.MAVLinkPacket;
+import com.MAVLink.common.ParamValueView;
+import com.MAVLink.common.msg_param_value;
+import com.envirover.mavlink.MAVLinkChannel;
+import com.envirover.mavlink.MAVLinkFrames;
+import com.envirover.mavlink.MAVLinkSocketChannel;
+
+public class ParamStreamerTest {
+
+    private static final long TIMEOUT = 10000;
+
+    private HashedWheelTimer timer;
+
+    @Before
+    public void setUp() {
+        timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 64);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        timer.stop();
+    }
+
+    @Test
+    public void testPacedStreaming() throws Exception {
+        TestChannel channel = new TestChannel();
+        ParamStreamer streamer = new ParamStreamer(channel, timer, 500);
+
+        long start = System.nanoTime();
+        streamer.start(createParams(100, 1));
+
+        // The other messages of the session are not blocked by the dump
+        channel.sendMessage(new msg_param_value().pack());
+        assertTrue(streamer.isStreaming());
+
+        channel.waitFor(101);
+        long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue("Dump of 100 parameters at 500 per second took " + time + " ms", time >= 150);
+        assertFalse(streamer.isStreaming());
+
+        List<MAVLinkPacket> params = channel.getParams(1);
+        assertEquals(100, params.size());
+        for (int i = 0; i < params.size(); i++) {
+            assertEquals(i, ParamValueView.param_index(params.get(i).payload));
+        }
+    }
+
+    @Test
+    public void testRestartCancelsDump() throws Exception {
+        TestChannel channel = new TestChannel();
+        ParamStreamer streamer = new ParamStreamer(channel, timer, 100);
+
+        streamer.start(createParams(1000, 1));
+        Thread.sleep(100);
+        streamer.start(createParams(10, 2));
+
+        channel.waitFor(1);
+        while (channel.getParams(2).size() < 10) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(channel.getParams(1).size() < 1000);
+        assertFalse(streamer.isStreaming());
+
+        int sent = channel.getParams(1).size();
+        Thread.sleep(100);
+        assertEquals(sent, channel.getParams(1).size());
+    }
+
+    /**
+     * Streaming is held back while the client does not read the socket.
+     */
+    @Test
+    public void testSocketBackpressure() throws Exception {
+        final int count = 20000;
+
+        ServerSocketChannel server = ServerSocketChannel.open();
+        server.socket().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+
+        SocketChannel client = SocketChannel.open();
+        client.socket().setReceiveBufferSize(4096);
+        client.connect(server.socket().getLocalSocketAddress());
+
+        SocketChannel accepted = server.accept();
+        accepted.socket().setSendBufferSize(4096);
+        MAVLinkSocketChannel channel = new MAVLinkSocketChannel(accepted);
+
+        try {
+            ParamStreamer streamer = new ParamStreamer(channel, timer, 100000);
+            streamer.start(createParams(count, 1));
+
+            Thread.sleep(500);
+
+            assertTrue(channel.isOpen());
+            assertTrue(streamer.isStreaming());
+            assertTrue(channel.getPendingBytes() < 256 * 1024);
+
+            // Read the whole dump
+            long expected = (long) count * (MAVLinkPacket.HEADER_LENGTH + msg_param_value.MAVLINK_MSG_LENGTH + MAVLinkPacket.CHECKSUM_LENGTH);
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            long received = 0;
+            long deadline = System.currentTimeMillis() + TIMEOUT;
+
+            client.configureBlocking(false);
+            while (received < expected && System.currentTimeMillis() < deadline) {
+                buffer.clear();
+                int n = client.read(buffer);
+                if (n > 0) {
+                    received += n;
+                } else {
+                    // Nobody selects the server channel in this test
+                    channel.flush();
+                    Thread.sleep(1);
+                }
+            }
+
+            assertEquals(expected, received);
+            assertFalse(streamer.isStreaming());
+        } finally {
+            channel.close();
+            client.close();
+            server.close();
+        }
+    }
+
+    /**
+     * A write stalled on a blocking channel holds back the dump, but does not 
+     * block the timer and the session.
+     */
+    @Test
+    public void testStalledBlockingChannel() throws Exception {
+        final CountDownLatch resume = new CountDownLatch(1);
+        final AtomicInteger writes = new AtomicInteger();
+        final AtomicInteger timerRuns = new AtomicInteger();
+
+        TestChannel channel = new TestChannel() {
+            @Override
+            public void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+                writes.incrementAndGet();
+
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+
+                super.sendMessages(packets);
+            }
+        };
+
+        timer.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                timerRuns.incrementAndGet();
+            }
+        }, 10, TimeUnit.MILLISECONDS);
+
+        ParamStreamer streamer = new ParamStreamer(channel, timer, 500);
+        streamer.start(createParams(100, 1));
+
+        Thread.sleep(500);
+
+        assertEquals(1, writes.get());
+        assertTrue(timerRuns.get() > 20);
+
+        long start = System.nanoTime();
+        streamer.start(createParams(10, 2));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100));
+
+        resume.countDown();
+
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (channel.getParams(2).size() < 10 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(10, channel.getParams(2).size());
+        assertEquals(10, channel.getParams(1).size());
+        assertFalse(streamer.isStreaming());
+    }
+
+    private static List<msg_param_value> createParams(int count, int sysid) {
+        List<msg_param_value> params = new ArrayList<msg_param_value>(count);
+
+        for (int i = 0; i < count; i++) {
+            msg_param_value param = new msg_param_value();
+            param.sysid = sysid;
+            param.setParam_Id("PARAM_" + i);
+            param.param_index = i;
+            param.param_count = count;
+            params.add(param);
+        }
+
+        return params;
+    }
+
+    static class TestChannel implements MAVLinkChannel {
+
+        private final List<MAVLinkPacket> received = new ArrayList<MAVLinkPacket>();
+
+        @Override
+        public MAVLinkPacket receiveMessage() throws IOException {
+            return null;
+        }
+
+        @Override
+        public void sendMessage(MAVLinkPacket packet) throws IOException {
+            synchronized (received) {
+                received.add(packet);
+                received.notifyAll();
+            }
+        }
+
+        @Override
+        public void sendMessages(List<MAVLinkPacket> packets) throws IOException {
+            synchronized (received) {
+                received.addAll(packets);
+                received.notifyAll();
+            }
+        }
+
+        @Override
+        public void sendFrames(MAVLinkFrames frames) throws IOException {
+            sendMessages(frames.getPackets());
+        }
+
+        @Override
+        public void close() {
+        }
+
+        List<MAVLinkPacket> getParams(int sysid) {
+            List<MAVLinkPacket> params = new ArrayList<MAVLinkPacket>();
+
+            synchronized (received) {
+                for (MAVLinkPacket packet : received) {
+                    if (packet.sysid == sysid) {
+                        params.add(packet);
+                    }
+                }
+            }
+
+            return params;
+        }
+
+        void waitFor(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TIMEOUT;
+
+            synchronized (received) {
+                while (received.size() < count && System.currentTimeMillis() < deadline) {
+                    received.wait(100);
+                }
+
+                assertTrue(received.size() >= count);
+            }
+        }
+
+    }
+
+}
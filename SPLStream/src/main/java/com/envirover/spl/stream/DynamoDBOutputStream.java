@@ -26,11 +26,9 @@ import java.text.MessageFormat;
 import java.util.Date;
 import java.util.logging.Logger;
 
-import org.codehaus.jackson.map.ObjectMapper;
-
 import com.MAVLink.MAVLinkPacket;
-import com.MAVLink.common.msg_high_latency;
-import com.amazonaws.protocol.json.SdkJsonGenerator.JsonGenerationException;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
+import com.MAVLink.Messages.MAVLinkMessage;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
 import com.amazonaws.services.dynamodbv2.document.DynamoDB;
@@ -44,7 +42,6 @@ import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughput;
 import com.amazonaws.services.dynamodbv2.model.ScalarAttributeType;
 import com.amazonaws.services.dynamodbv2.util.TableUtils;
 import com.amazonaws.services.dynamodbv2.util.TableUtils.TableNeverTransitionedToStateException;
-import com.fasterxml.jackson.databind.JsonMappingException;
 
 /**
  * Writes MAVLink message to DynamoDB table.
@@ -63,8 +60,6 @@ public class DynamoDBOutputStream implements MAVLinkOutputStream {
     private static final Long READ_CAPACITY    = 5L;
     private static final Long WRITE_CAPACITY   = 5L;
 
-    private static final ObjectMapper mapper   = new ObjectMapper();
-
     private static final Logger logger = Logger.getLogger(DynamoDBOutputStream.class.getName());
     
     private static String tableName            = "MAVLinkMessages";
@@ -125,18 +120,14 @@ public class DynamoDBOutputStream implements MAVLinkOutputStream {
                 .withJSON(ATTR_MESSAGE, toJSON(packet)));
     }
 
-    private String toJSON(MAVLinkPacket packet) throws JsonGenerationException, JsonMappingException, IOException {
-        if (packet == null) {
-            return "{}";
-        }
-
-        if (packet.msgid == msg_high_latency.MAVLINK_MSG_ID_HIGH_LATENCY) {
-            msg_high_latency msg = (msg_high_latency) packet.unpack();
+    private String toJSON(MAVLinkPacket packet) {
+        MAVLinkMessage msg = packet.unpack();
 
-            return mapper.writeValueAsString(msg);
+        if (msg == null) {
+            return "{}";
         }
 
-        return "{}";
+        return MAVLinkJSONWriter.toJSON(msg);
     }
 
 }
@@ -22,9 +22,11 @@ along with SPLStream.  If not, see <http://www.gnu.org/licenses/>.
 package com.envirover.spl.stream;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javax.ws.rs.FormParam;
@@ -121,13 +123,9 @@ public class RockBlockService {
 
         Parser parser = new Parser();
 
-        MAVLinkPacket packet = null;
+        List<MAVLinkPacket> packets = parser.parse(ByteBuffer.wrap(Hex.decodeHex(data.toCharArray())));
 
-        for (byte b : Hex.decodeHex(data.toCharArray())) {
-            packet = parser.mavlink_parse_char(b & 0xFF);
-        }
-
-        return packet;
+        return packets.isEmpty() ? null : packets.get(packets.size() - 1);
     }
 
 }
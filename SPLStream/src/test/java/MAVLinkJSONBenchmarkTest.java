@@ -0,0 +1,154 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Test;
+
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkJSONWriter;
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.common.msg_attitude;
+import com.MAVLink.common.msg_high_latency;
+import com.MAVLink.common.msg_param_value;
+
+/**
+ * Compares throughput of the generated MAVLink JSON codecs with Jackson
+ * ObjectMapper used by SPLStream and SPLTracks before.
+ */
+public class MAVLinkJSONBenchmarkTest {
+
+    private static final int MESSAGES = 10000;
+    private static final int ROUNDS = 30;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testGeneratedCodecsMatchJackson() throws IOException {
+        for (MAVLinkMessage msg : sampleMessages()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> expected = mapper.readValue(mapper.writeValueAsString(msg), Map.class);
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> actual = mapper.readValue(MAVLinkJSONWriter.toJSON(msg), Map.class);
+
+            for (Map.Entry<String, Object> entry : actual.entrySet()) {
+                if (entry.getValue() instanceof Number && expected.get(entry.getKey()) instanceof Number) {
+                    assertEquals(entry.getKey(), ((Number) expected.get(entry.getKey())).doubleValue(),
+                                 ((Number) entry.getValue()).doubleValue(), 0.0);
+                }
+            }
+
+            MAVLinkMessage result = MAVLinkJSONReader.fromJSON(msg.msgid, MAVLinkJSONWriter.toJSON(msg));
+            assertEquals(MAVLinkJSONWriter.toJSON(msg), MAVLinkJSONWriter.toJSON(result));
+
+            // Records written by Jackson can be read by the generated readers
+            if (msg.msgid == msg_high_latency.MAVLINK_MSG_ID_HIGH_LATENCY) {
+                result = MAVLinkJSONReader.fromJSON(msg.msgid, mapper.writeValueAsString(msg));
+                assertEquals(MAVLinkJSONWriter.toJSON(msg), MAVLinkJSONWriter.toJSON(result));
+            }
+        }
+    }
+
+    /**
+     * Runs only with -Dbenchmark=true.
+     */
+    @Test
+    public void benchmarkJSON() throws IOException {
+        assumeTrue(Boolean.getBoolean("benchmark"));
+
+        List<MAVLinkMessage> messages = sampleMessages();
+        List<String> json = new ArrayList<String>();
+        for (MAVLinkMessage msg : messages) {
+            json.add(MAVLinkJSONWriter.toJSON(msg));
+        }
+
+        long jacksonWrite = Long.MAX_VALUE;
+        long jacksonRead = Long.MAX_VALUE;
+        long generatedWrite = Long.MAX_VALUE;
+        long generatedRead = Long.MAX_VALUE;
+        long bytes = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (MAVLinkMessage msg : messages) {
+                bytes += mapper.writeValueAsString(msg).length();
+            }
+            jacksonWrite = Math.min(jacksonWrite, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (String s : json) {
+                bytes += mapper.readValue(s, Map.class).size();
+            }
+            jacksonRead = Math.min(jacksonRead, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            MAVLinkJSONWriter writer = new MAVLinkJSONWriter();
+            for (MAVLinkMessage msg : messages) {
+                writer.reset();
+                msg.writeJSON(writer);
+                bytes += writer.getBuffer().length();
+            }
+            generatedWrite = Math.min(generatedWrite, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < json.size(); i++) {
+                bytes += MAVLinkJSONReader.fromJSON(messages.get(i).msgid, json.get(i)).msgid;
+            }
+            generatedRead = Math.min(generatedRead, System.nanoTime() - start);
+        }
+
+        assertTrue(bytes > 0);
+
+        System.out.println(String.format("JSON BENCHMARK: Jackson write %,d, generated write %,d, Jackson read %,d, generated read %,d messages/s",
+                rate(jacksonWrite), rate(generatedWrite), rate(jacksonRead), rate(generatedRead)));
+    }
+
+    private static long rate(long nanos) {
+        return MESSAGES * 1000000000L / Math.max(nanos, 1);
+    }
+
+    private static List<MAVLinkMessage> sampleMessages() {
+        Random random = new Random(1);
+        List<MAVLinkMessage> messages = new ArrayList<MAVLinkMessage>();
+
+        for (int i = 0; i < MESSAGES; i++) {
+            switch (i % 3) {
+            case 0: {
+                msg_high_latency msg = new msg_high_latency();
+                msg.latitude = random.nextInt();
+                msg.longitude = random.nextInt();
+                msg.altitude_amsl = (short) random.nextInt();
+                msg.custom_mode = random.nextInt() & 0xFFFFFFFFL;
+                messages.add(msg);
+                break;
+            }
+            case 1: {
+                msg_param_value msg = new msg_param_value();
+                msg.setParam_Id("PARAM_" + i);
+                msg.param_value = random.nextFloat();
+                msg.param_index = i;
+                messages.add(msg);
+                break;
+            }
+            default: {
+                msg_attitude msg = new msg_attitude();
+                msg.time_boot_ms = i;
+                msg.roll = random.nextFloat();
+                msg.pitch = random.nextFloat();
+                msg.yaw = random.nextFloat();
+                messages.add(msg);
+            }
+            }
+        }
+
+        return messages;
+    }
+
+}
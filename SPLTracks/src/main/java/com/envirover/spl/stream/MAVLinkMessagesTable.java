@@ -118,7 +118,7 @@ public class MAVLinkMessagesTable implements MAVLinkInputStream {
             public MAVLinkRecord next() {
                 Item item = itemIterator.next();
 
-                return new MAVLinkRecord(item.getString(ATTR_DEVICE_ID), new Date(item.getLong(ATTR_TIME)), item.getInt(ATTR_MSG_ID), item.getMap(ATTR_MESSAGE));
+                return new MAVLinkRecord(item.getString(ATTR_DEVICE_ID), new Date(item.getLong(ATTR_TIME)), item.getInt(ATTR_MSG_ID), item.getJSON(ATTR_MESSAGE));
             }
 
             @Override
@@ -21,10 +21,15 @@ along with SPLStream.  If not, see <http://www.gnu.org/licenses/>.
 
 package com.envirover.spl.stream;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Map;
 
+import com.MAVLink.Messages.MAVLinkJSONReader;
+import com.MAVLink.Messages.MAVLinkMessage;
+import com.MAVLink.common.msg_high_latency;
+
 public class MAVLinkRecord {
 
     private String deviceId;
@@ -33,13 +38,15 @@ public class MAVLinkRecord {
 
     private Integer msgId;
 
-    private Map<String, Object> packet;
+    private String json;
+
+    private MAVLinkMessage message;
 
-    public MAVLinkRecord(String deviceId, Date time, Integer msgId, Map<String, Object> packet) {
+    public MAVLinkRecord(String deviceId, Date time, Integer msgId, String json) {
         this.deviceId = deviceId;
         this.time = time;
         this.msgId = msgId;
-        this.packet = packet;
+        this.json = json;
     }
 
     public String getDeviceId() {
@@ -54,20 +61,48 @@ public class MAVLinkRecord {
         return msgId;
     }
 
-    public Double getLatitude() {
-        return ((BigDecimal)packet.get("latitude")).doubleValue() / 10000000.0;
+    public Double getLatitude() throws IOException {
+        msg_high_latency msg = getHighLatency();
+        return msg != null ? msg.latitude / 10000000.0 : 0.0;
+    }
+
+    public Double getLongitude() throws IOException {
+        msg_high_latency msg = getHighLatency();
+        return msg != null ? msg.longitude / 10000000.0 : 0.0;
     }
 
-    public Double getLongitude() {
-        return ((BigDecimal)packet.get("longitude")).doubleValue() / 10000000.0;
+    public Double getAltitude() throws IOException {
+        msg_high_latency msg = getHighLatency();
+        return msg != null ? msg.altitude_amsl / 1.0 : 0.0;
     }
 
-    public Double getAltitude() {
-        return ((BigDecimal)packet.get("altitude_amsl")).doubleValue() / 1.0;
+    /**
+     * Returns MAVLink message decoded from the record JSON or null if the
+     * message type is not supported.
+     */
+    public MAVLinkMessage getMessage() throws IOException {
+        if (message == null && json != null && msgId != null) {
+            message = MAVLinkJSONReader.fromJSON(msgId, json);
+        }
+
+        return message;
+    }
+
+    /**
+     * Returns the message fields as untyped map.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getPacket() throws IOException {
+        if (json == null) {
+            return Collections.emptyMap();
+        }
+
+        return (Map<String, Object>) new MAVLinkJSONReader(json).nextValue();
     }
 
-    public Map<String, Object> getPacket() {
-        return packet;
+    private msg_high_latency getHighLatency() throws IOException {
+        MAVLinkMessage msg = getMessage();
+        return msg instanceof msg_high_latency ? (msg_high_latency) msg : null;
     }
 
 }